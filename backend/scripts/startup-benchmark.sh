@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+# =============================================================================
+# CoachDiff.ai - Startup benchmark: plain image vs fast-startup image
+# =============================================================================
+#
+# Builds both Docker targets and starts each one RUNS times against the
+# docker compose PostgreSQL and Redis, measuring:
+#
+#   context → "Started Application in X seconds" (Spring's own measure,
+#             from JVM start to the context refreshed). Logged BEFORE the
+#             ApplicationRunners, so it leaves out the startup warm-up
+#   ready   → wall clock from "docker run" to the first
+#             GET /actuator/health/readiness answering 200: context, warm-up
+#             and all, i.e. when a load balancer would send traffic
+#
+# USAGE (from backend/):
+#   docker compose -f ../docker-compose.yml up -d postgres redis
+#   scripts/startup-benchmark.sh            # 5 runs per image
+#   RUNS=10 scripts/startup-benchmark.sh
+#
+# OUTPUT (medians):
+#   image                 context (s)   ready (s)
+#   coachdiff-backend     ...         ...
+#   coachdiff-backend:fast ...        ...
+#
+# Same CPU/memory limits for both images: autoscaled pods are small, and
+# startup on a constrained CPU is what we want to compare.
+# =============================================================================
+
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+CPUS=${CPUS:-2}
+MEMORY=${MEMORY:-1g}
+POSTGRES_CONTAINER=${POSTGRES_CONTAINER:-coachdiff-postgres}
+REDIS_CONTAINER=${REDIS_CONTAINER:-coachdiff-redis}
+TIMEOUT_SECONDS=120
+
+cd "$(dirname "$0")/.."
+
+# Network of the compose services, so the app reaches them by container name
+NETWORK=$(docker inspect "$POSTGRES_CONTAINER" \
+    -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}')
+
+echo "Building images..."
+docker build -q --target runtime -t coachdiff-backend:plain . > /dev/null
+docker build -q --target runtime-fast -t coachdiff-backend:fast . > /dev/null
+
+# Prints "<context seconds> <ready seconds>" for one cold start
+measure() {
+    local image=$1 name=coachdiff-startup-bench
+    docker rm -f "$name" > /dev/null 2>&1 || true
+
+    local start end context
+    start=$(date +%s.%N)
+    docker run -d --name "$name" --network "$NETWORK" -p "$PORT:8080" \
+        --cpus "$CPUS" --memory "$MEMORY" \
+        -e POSTGRES_HOST="$POSTGRES_CONTAINER" \
+        -e REDIS_HOST="$REDIS_CONTAINER" \
+        -e COACHDIFF_RIOT_API_KEY=benchmark \
+        -e COACHDIFF_RIOT_GAME_NAME=benchmark \
+        -e COACHDIFF_RIOT_TAG_LINE=benchmark \
+        -e COACHDIFF_OPENAI_API_KEY=benchmark \
+        "$image" > /dev/null
+
+    # -f: 503 while the warm-up runs (readiness REFUSING_TRAFFIC)
+    until curl -fs -o /dev/null "http://localhost:$PORT/actuator/health/readiness" 2>/dev/null; do
+        if (( $(echo "$(date +%s.%N) - $start > $TIMEOUT_SECONDS" | bc) )); then
+            echo "timeout waiting for $image" >&2
+            docker logs "$name" | tail -20 >&2
+            docker rm -f "$name" > /dev/null
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s.%N)
+
+    context=$(docker logs "$name" 2>&1 | sed -n 's/.*Started Application in \([0-9.]*\) seconds.*/\1/p')
+    docker rm -f "$name" > /dev/null
+    echo "$context $(echo "$end - $start" | bc)"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+printf "\n%-24s %12s %10s\n" "image" "context (s)" "ready (s)"
+for image in coachdiff-backend:plain coachdiff-backend:fast; do
+    results=()
+    for ((i = 1; i <= RUNS; i++)); do
+        results+=("$(measure "$image")")
+    done
+    context=$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)
+    ready=$(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median)
+    printf "%-24s %12.2f %10.2f\n" "$image" "$context" "$ready"
+done
@@ -0,0 +1,208 @@
+package com.coachdiff.application.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Small in-process read-through cache: LRU-bounded, with a TTL, evicted on change.
+ *
+ * <h2>Why the TTL can be long</h2>
+ * <p>
+ * Entries are not trusted to expire in time: they are evicted as soon as
+ * the underlying row changes ({@link #evict}, driven by database change
+ * notifications). The TTL is only a safety net, e.g. for a missed notification.
+ * </p>
+ *
+ * <h2>Stale-load race</h2>
+ * <pre>
+ * reader:  load from DB (old row) ───────────────────────── put old row ✗
+ * writer:              commit new row → notification → evict
+ * </pre>
+ * <p>
+ * A value loaded before an eviction must not be stored after it. Every
+ * eviction bumps a counter; a load only stores its value if the counter did
+ * not move while it was loading. Any concurrent eviction (even of another
+ * key) just skips one store, never serves stale data.
+ * </p>
+ *
+ * <h2>Disabled</h2>
+ * <p>
+ * While change notifications can't be received, the cache is disabled:
+ * every read goes to the loader and nothing is stored.
+ * </p>
+ *
+ * @param <K> Key type
+ * @param <V> Value type (a null from the loader is returned but not cached)
+ */
+public final class ReadCache<K, V> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Entry<V>> entries;
+    private final long ttlNanos;
+
+    // Guarded by lock
+    private long evictions;
+    private boolean enabled;
+
+    /**
+     * @param maxEntries Least recently used entries are dropped beyond this
+     * @param ttl        Safety-net lifetime of an entry
+     * @param unit       Unit of {@code ttl}
+     * @param enabled    Whether the cache starts enabled
+     */
+    public ReadCache(int maxEntries, long ttl, TimeUnit unit, boolean enabled) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be >= 1");
+        }
+        // Access order: get() moves an entry to the end, the eldest is the LRU
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.ttlNanos = unit.toNanos(ttl);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the cached value, or loads and caches it.
+     * <p>
+     * The loader runs outside the lock: two readers missing the same key may
+     * both load it (same result, last store wins).
+     * </p>
+     *
+     * @param key    Key
+     * @param loader Loads the value on a miss (may return null: not cached)
+     * @return The value, null if the loader returned null
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long seen;
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.expiresAt < 0) {
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+            seen = evictions;
+        } finally {
+            lock.unlock();
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            lock.lock();
+            try {
+                if (enabled && evictions == seen) {
+                    entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes one key; loads already running won't store their (older) value.
+     *
+     * @param key Key whose underlying data changed
+     */
+    public void evict(K key) {
+        lock.lock();
+        try {
+            evictions++;
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Transforms the cached value of a key, keeping its expiry; nothing
+     * happens if it isn't cached. Counts as an eviction for loads already
+     * running: their value predates the change.
+     *
+     * @param key      Key whose underlying data changed
+     * @param function New value from the cached one (not null)
+     */
+    public void update(K key, UnaryOperator<V> function) {
+        lock.lock();
+        try {
+            evictions++;
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                entries.put(key, new Entry<>(function.apply(entry.value), entry.expiresAt));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces a cached value with one derived from it, unless it changed meanwhile.
+     * <p>
+     * For values extended incrementally outside the lock: if the entry was
+     * evicted, updated or reset since {@code expected} was read, the newer
+     * state wins and {@code value} is only returned to its caller.
+     * </p>
+     *
+     * @param key      Key
+     * @param expected Value the new one was derived from (compared by identity)
+     * @param value    New value
+     * @return true if stored
+     */
+    public boolean replace(K key, V expected, V value) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (!enabled || entry == null || entry.value != expected) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes everything, then enables or disables the cache.
+     *
+     * @param enabled false: read-through only until enabled again
+     */
+    public void reset(boolean enabled) {
+        lock.lock();
+        try {
+            evictions++;
+            entries.clear();
+            this.enabled = enabled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of cached entries (expired ones included until read).
+     *
+     * @return Entry count
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
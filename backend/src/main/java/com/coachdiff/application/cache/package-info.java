@@ -0,0 +1,14 @@
+/**
+ * CACHING SUPPORT for application services.
+ *
+ * <p>
+ * Pure Java helpers (no Spring) for in-process caches of read use cases.
+ * Invalidation is driven from outside (database change notifications),
+ * so entries can live long without being served stale.
+ * </p>
+ *
+ * <pre>
+ * ReadCache - LRU + TTL read-through cache, race-safe eviction, can be disabled
+ * </pre>
+ */
+package com.coachdiff.application.cache;
@@ -0,0 +1,150 @@
+package com.coachdiff.application.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * A small structured-concurrency scope: subtasks forked in a scope never
+ * outlive it.
+ *
+ * <h2>Why not StructuredTaskScope?</h2>
+ * <p>
+ * {@code java.util.concurrent.StructuredTaskScope} is still a preview API in
+ * Java 21 and would force {@code --enable-preview} on the compiler, the tests
+ * and the runtime image. This class gives the same guarantees on stable APIs:
+ * </p>
+ * <ul>
+ *   <li>One virtual thread per subtask</li>
+ *   <li>Subtasks are joined (or cancelled) before the scope is closed</li>
+ *   <li>Closing the scope interrupts anything still running, so a failure,
+ *       a timeout or an exception in the owner cancels the whole tree
+ *       (nested scopes included)</li>
+ * </ul>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * try (TaskScope scope = new TaskScope()) {
+ *     Future<Summoner> summoner = scope.fork(() -> riotApi.getSummonerByPuuid(puuid, region));
+ *     Future<List<String>> ids = scope.fork(() -> riotApi.getMatchIds(puuid, region, 20));
+ *     scope.join(deadline);          // fail-fast: first failure cancels the other
+ *     return combine(summoner.resultNow(), ids.resultNow());
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Like {@code StructuredTaskScope}, only the thread that created the scope
+ * may call {@link #fork}, {@link #join} and {@link #joinEach}.
+ * </p>
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final BlockingQueue<Future<?>> completed = new LinkedBlockingQueue<>();
+    private final List<Future<?>> subtasks = new ArrayList<>();
+    private int joined;
+
+    /**
+     * Starts a subtask in its own virtual thread.
+     *
+     * @param task Work to run
+     * @return Handle to the subtask result
+     */
+    public <T> Future<T> fork(Callable<T> task) {
+        FutureTask<T> subtask = new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                completed.add(this);
+            }
+        };
+        subtasks.add(subtask);
+        executor.execute(subtask);
+        return subtask;
+    }
+
+    /**
+     * Waits for all subtasks, failing fast.
+     * <p>
+     * The first subtask to fail cancels all the others and its exception is
+     * rethrown. If the deadline expires first, everything is cancelled.
+     * </p>
+     *
+     * @param deadline Instant after which remaining subtasks are cancelled
+     * @throws ExecutionException   if a subtask failed (cause = subtask exception)
+     * @throws TimeoutException     if the deadline expired
+     * @throws InterruptedException if the owner thread was interrupted
+     */
+    public void join(Instant deadline) throws ExecutionException, TimeoutException, InterruptedException {
+        while (joined < subtasks.size()) {
+            Future<?> next = poll(deadline);
+            if (next == null) {
+                cancelAll();
+                throw new TimeoutException("Deadline expired with "
+                        + (subtasks.size() - joined) + " subtasks still running");
+            }
+            joined++;
+            if (next.state() == Future.State.FAILED) {
+                cancelAll();
+                throw new ExecutionException(next.exceptionNow());
+            }
+        }
+    }
+
+    /**
+     * Hands each subtask to {@code onComplete} as it completes, in completion order.
+     * <p>
+     * Failed subtasks are delivered too (check {@link Future#state()}): one
+     * failure doesn't stop the others. If the deadline expires, all remaining
+     * subtasks are cancelled and the method returns false.
+     * </p>
+     *
+     * @param deadline   Instant after which remaining subtasks are cancelled
+     * @param onComplete Called on the owner thread for every completed subtask
+     * @return true if every subtask completed before the deadline
+     * @throws InterruptedException if the owner thread was interrupted
+     */
+    public boolean joinEach(Instant deadline, Consumer<Future<?>> onComplete) throws InterruptedException {
+        while (joined < subtasks.size()) {
+            Future<?> next = poll(deadline);
+            if (next == null) {
+                cancelAll();
+                return false;
+            }
+            joined++;
+            onComplete.accept(next);
+        }
+        return true;
+    }
+
+    /**
+     * Cancels (interrupts) every subtask still running and waits for them to stop.
+     */
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private Future<?> poll(Instant deadline) throws InterruptedException {
+        long waitNanos = Duration.between(Instant.now(), deadline).toNanos();
+        return waitNanos > 0 ? completed.poll(waitNanos, TimeUnit.NANOSECONDS) : completed.poll();
+    }
+
+    private void cancelAll() {
+        for (Future<?> subtask : subtasks) {
+            subtask.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * CONCURRENCY SUPPORT for application services.
+ *
+ * <p>
+ * Pure Java helpers (no Spring) used by use cases that fan out work,
+ * e.g. fetching 20 matches or a whole roster in parallel on virtual threads.
+ * </p>
+ *
+ * <pre>
+ * TaskScope - Structured fork/join scope with deadline and cancellation
+ * </pre>
+ */
+package com.coachdiff.application.concurrent;
@@ -0,0 +1,12 @@
+package com.coachdiff.application.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A refresh's matches turned into analyses, main role and rolling metrics.
+ */
+@Name("com.coachdiff.Aggregate")
+@Label("Profile Aggregate")
+public final class AggregateEvent extends PipelineEvent {
+}
@@ -0,0 +1,24 @@
+package com.coachdiff.application.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Matches decoded into {@code MatchDetails}, with canonical strings.
+ */
+@Name("com.coachdiff.Decode")
+@Label("Match Decode")
+public final class DecodeEvent extends PipelineEvent {
+
+    @Label("Source")
+    @Description("riot (Match-V5 DTO) or cache (JSON read from Redis)")
+    final String source;
+
+    /**
+     * @param source riot or cache
+     */
+    public DecodeEvent(String source) {
+        this.source = source;
+    }
+}
@@ -0,0 +1,22 @@
+package com.coachdiff.application.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One suggestion request to the LLM (ambiguous profiles only).
+ */
+@Name("com.coachdiff.LlmCall")
+@Label("LLM Call")
+public final class LlmCallEvent extends PipelineEvent {
+
+    @Label("Model")
+    final String model;
+
+    /**
+     * @param model Model asked
+     */
+    public LlmCallEvent(String model) {
+        this.model = model;
+    }
+}
@@ -0,0 +1,29 @@
+package com.coachdiff.application.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Profiles and their matches written to the database.
+ */
+@Name("com.coachdiff.Persist")
+@Label("Profile Persist")
+public final class PersistEvent extends PipelineEvent {
+
+    @Label("Path")
+    @Description("flush (write-behind batch) or direct (written by the caller)")
+    final String path;
+
+    @Label("Profiles")
+    int profiles;
+
+    /**
+     * @param path     flush or direct
+     * @param profiles Profiles in the write
+     */
+    public PersistEvent(String path, int profiles) {
+        this.path = path;
+        this.profiles = profiles;
+    }
+}
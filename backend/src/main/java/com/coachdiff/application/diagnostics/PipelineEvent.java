@@ -0,0 +1,49 @@
+package com.coachdiff.application.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * A timed stage of the profile pipeline, for one player or one batch.
+ *
+ * <p>
+ * Stack traces are off: the stage is the location. Begin, run the stage,
+ * then {@link #commit(String, int)}.
+ * </p>
+ */
+@Category({"Coach Diff", "Pipeline"})
+@StackTrace(false)
+public abstract class PipelineEvent extends Event {
+
+    /** Every stage event, for recordings that configure them together. */
+    public static final List<Class<? extends PipelineEvent>> TYPES = List.of(
+            RiotCallEvent.class, DecodeEvent.class, AggregateEvent.class, PersistEvent.class, LlmCallEvent.class);
+
+    @Label("PUUID")
+    @Description("Player the stage ran for (null for batches of several players)")
+    String puuid;
+
+    @Label("Match Count")
+    @Description("Matches handled by the stage (0 where it doesn't apply)")
+    int matchCount;
+
+    /**
+     * Ends the event and writes it if enabled and over its threshold.
+     *
+     * @param puuid      Player, or null
+     * @param matchCount Matches handled
+     */
+    public void commit(String puuid, int matchCount) {
+        end();
+        if (shouldCommit()) {
+            this.puuid = puuid;
+            this.matchCount = matchCount;
+            commit();
+        }
+    }
+}
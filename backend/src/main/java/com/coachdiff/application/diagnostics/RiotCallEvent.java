@@ -0,0 +1,44 @@
+package com.coachdiff.application.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One Riot API call, 429 retries and rate-limit waits included.
+ */
+@Name("com.coachdiff.RiotCall")
+@Label("Riot API Call")
+public final class RiotCallEvent extends PipelineEvent {
+
+    @Label("Endpoint")
+    @Description("account, summoner, league, ladder, match-ids or match")
+    final String endpoint;
+
+    @Label("Attempts")
+    @Description("1, plus one per 429 retry")
+    int attempts;
+
+    @Label("Rate Limit Wait")
+    @Description("Time spent waiting for rate limiter permits")
+    @Timespan(Timespan.NANOSECONDS)
+    long rateLimitWait;
+
+    /**
+     * @param endpoint Short name of the Riot endpoint
+     */
+    public RiotCallEvent(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Records one attempt and the permit wait before it.
+     *
+     * @param waitNanos Time spent in the rate limiter
+     */
+    public void attempt(long waitNanos) {
+        attempts++;
+        rateLimitWait += waitNanos;
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * DIAGNOSTICS - JDK Flight Recorder events of the profile pipeline.
+ *
+ * <p>
+ * Pure Java ({@code jdk.jfr}, no Spring): application services and
+ * adapters fire them around each stage of a refresh. A disabled event
+ * costs a field check; an enabled one a timestamp pair and, if it passes
+ * its threshold, one write to a thread-local buffer.
+ * </p>
+ *
+ * <pre>
+ * PipelineEvent  - Base: puuid + match count, category "Coach Diff / Pipeline"
+ * RiotCallEvent  - One Riot API call (endpoint, attempts, rate-limit wait)
+ * DecodeEvent    - Riot DTOs or cached JSON → MatchDetails
+ * AggregateEvent - Matches → analyses, main role, rolling metrics
+ * PersistEvent   - Profiles and matches written (write-behind flush or direct)
+ * LlmCallEvent   - One suggestion request to the LLM
+ * </pre>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * DecodeEvent event = new DecodeEvent("riot");
+ * event.begin();
+ * MatchDetails match = toMatchDetails(dto);
+ * event.commit(null, 1);   // ends, and writes only if enabled and over the threshold
+ * }</pre>
+ * <p>
+ * Read them in JDK Mission Control or {@code jfr print --events 'com.coachdiff.*'}
+ * on a dump from {@code /actuator/jfr}.
+ * </p>
+ */
+package com.coachdiff.application.diagnostics;
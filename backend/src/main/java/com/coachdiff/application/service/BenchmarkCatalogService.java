@@ -0,0 +1,64 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.BenchmarkTable;
+import com.coachdiff.domain.model.RankBenchmark;
+import com.coachdiff.domain.port.in.RefreshBenchmarksPort;
+import com.coachdiff.domain.port.out.BenchmarkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Holds the current {@link BenchmarkTable} for the comparison hot path.
+ *
+ * <h2>Reload</h2>
+ * <p>
+ * A reload builds a complete new table off to the side and publishes it with
+ * one volatile write. Readers never lock and never see a half-built table:
+ * they keep using the old one until the swap.
+ * </p>
+ * <pre>
+ * reader:  catalog.current().median(GOLD, SUPPORT, 412, VISION_PER_MIN)
+ *          └── one volatile read, then plain array reads
+ * </pre>
+ */
+@Service
+public class BenchmarkCatalogService implements RefreshBenchmarksPort {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkCatalogService.class);
+
+    private final BenchmarkRepository benchmarkRepository;
+    private final int minRolePlayers;
+    private final int minChampionPlayers;
+
+    private volatile BenchmarkTable table = BenchmarkTable.EMPTY;
+
+    public BenchmarkCatalogService(BenchmarkRepository benchmarkRepository,
+                                   @Value("${coach-diff.benchmarks.min-role-players:50}") int minRolePlayers,
+                                   @Value("${coach-diff.benchmarks.min-champion-players:30}") int minChampionPlayers) {
+        this.benchmarkRepository = benchmarkRepository;
+        this.minRolePlayers = minRolePlayers;
+        this.minChampionPlayers = minChampionPlayers;
+    }
+
+    /**
+     * Returns the table currently in use.
+     *
+     * @return Latest loaded table ({@link BenchmarkTable#EMPTY} before the first load)
+     */
+    public BenchmarkTable current() {
+        return table;
+    }
+
+    @Override
+    public int refreshBenchmarks() {
+        List<RankBenchmark> rows = benchmarkRepository.findAll();
+        BenchmarkTable next = BenchmarkTable.build(rows, minRolePlayers, minChampionPlayers);
+        table = next;
+        log.info("Loaded {} benchmarks ({} champions)", rows.size(), next.championCount());
+        return rows.size();
+    }
+}
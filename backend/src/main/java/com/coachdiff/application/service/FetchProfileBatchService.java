@@ -0,0 +1,116 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.application.concurrent.TaskScope;
+import com.coachdiff.domain.exception.PlayerNotFoundException;
+import com.coachdiff.domain.model.ProfileBatchResult;
+import com.coachdiff.domain.model.ProfileBatchResult.Status;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.in.FetchProfileBatchPort;
+import com.coachdiff.domain.port.in.FetchProfilePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Fetches a whole roster concurrently and streams results as they complete.
+ *
+ * <h2>Concurrency model</h2>
+ * <pre>
+ * batch scope (deadline)
+ *   ├── player 1 → FetchProfileService (its own scope: identity + 8 to 20 matches)
+ *   ├── player 2 → ...
+ *   └── player N
+ * </pre>
+ * <ul>
+ *   <li>Every player runs at the same time on virtual threads: a 5-player team
+ *       takes about as long as its slowest player, not 5× one player</li>
+ *   <li>All Riot calls share the same rate limiter, so the batch can't exceed
+ *       the application budget</li>
+ *   <li>A player failing only produces an error line for that player (and
+ *       cancels that player's own in-flight calls)</li>
+ *   <li>At the deadline, everything still running is cancelled and reported
+ *       as TIMEOUT</li>
+ * </ul>
+ */
+@Service
+public class FetchProfileBatchService implements FetchProfileBatchPort {
+
+    private static final Logger log = LoggerFactory.getLogger(FetchProfileBatchService.class);
+
+    private final FetchProfilePort fetchProfile;
+    private final Duration timeout;
+
+    public FetchProfileBatchService(FetchProfilePort fetchProfile,
+                                    @Value("${coach-diff.profile-batch.timeout:60s}") Duration timeout) {
+        this.fetchProfile = fetchProfile;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void fetchProfiles(List<RiotId> players, Consumer<ProfileBatchResult> onResult) {
+        Instant deadline = Instant.now().plus(timeout);
+        long start = System.nanoTime();
+
+        try (TaskScope scope = new TaskScope()) {
+            // Owner-thread only: maps each subtask back to its player
+            Map<Future<?>, RiotId> pending = new LinkedHashMap<>();
+            for (RiotId player : players.stream().distinct().toList()) {
+                pending.put(scope.fork(() -> fetchOne(player)), player);
+            }
+
+            scope.joinEach(deadline, done -> {
+                RiotId player = pending.remove(done);
+                onResult.accept(toResult(done, player, start));
+            });
+
+            // Whatever is left was cancelled by the deadline
+            for (RiotId player : pending.values()) {
+                onResult.accept(ProfileBatchResult.failed(player, Status.TIMEOUT,
+                        "Batch deadline of " + timeout.toSeconds() + "s expired", elapsedMillis(start)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Batch profile fetch interrupted");
+        }
+    }
+
+    private ProfileBatchResult fetchOne(RiotId player) {
+        long start = System.nanoTime();
+        try {
+            SummonerProfile profile = fetchProfile.fetchProfile(player.gameName(), player.tagLine(), player.region());
+            return ProfileBatchResult.ok(player, profile, elapsedMillis(start));
+        } catch (PlayerNotFoundException e) {
+            return ProfileBatchResult.failed(player, Status.NOT_FOUND, e.getMessage(), elapsedMillis(start));
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Batch fetch failed for {}: {}", player.fullRiotId(), e.getMessage());
+            return ProfileBatchResult.failed(player, Status.FAILED, e.getMessage(), elapsedMillis(start));
+        }
+    }
+
+    private static ProfileBatchResult toResult(Future<?> done, RiotId player, long start) {
+        return switch (done.state()) {
+            case SUCCESS -> (ProfileBatchResult) done.resultNow();
+            case FAILED -> ProfileBatchResult.failed(player, Status.FAILED,
+                    String.valueOf(done.exceptionNow().getMessage()), elapsedMillis(start));
+            default -> ProfileBatchResult.failed(player, Status.TIMEOUT, "Cancelled", elapsedMillis(start));
+        };
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,236 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.application.concurrent.TaskScope;
+import com.coachdiff.application.diagnostics.AggregateEvent;
+import com.coachdiff.domain.model.LeagueEntry;
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchSamplingPolicy;
+import com.coachdiff.domain.model.MatchSummary;
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.ProfileWrite;
+import com.coachdiff.domain.model.RankInfo;
+import com.coachdiff.domain.model.RiotAccount;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Summoner;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.model.Tier;
+import com.coachdiff.domain.port.in.FetchProfilePort;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import com.coachdiff.domain.port.out.RiotApiPort;
+import com.coachdiff.domain.service.GapConvergence;
+import com.coachdiff.domain.service.RoleDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches a player's profile from Riot, returns it and queues its storage.
+ *
+ * <h2>Call graph</h2>
+ * <pre>
+ * account (Account-V1)
+ *   ├── summoner (Summoner-V4) → rank (League-V4)          ┐
+ *   ├── match ids (Match-V5) → waves of matches (Match-V5) │ in parallel (a wave too)
+ *   └── stored window (newest WINDOW_SIZE stored matches)  ┘
+ * </pre>
+ * <p>
+ * Match details come from the match cache when possible
+ * ({@link MatchHistoryLoader}): only misses are fetched from Riot.
+ * </p>
+ *
+ * <h2>Adaptive sample size</h2>
+ * <pre>
+ * ids     max-matches IDs, one call
+ * wave 1  min-matches matches                    (in parallel with the rank)
+ * then    GapConvergence on what we have, vs the medians of the player's tier
+ *           top gaps settled → stop
+ *           else             → next wave-size matches, up to max-matches
+ * </pre>
+ * <p>
+ * A consistent player is settled after the first wave and costs
+ * min-matches fetches instead of max-matches; a noisy one gets the full
+ * window. Unranked players have nothing to compare with: first wave only.
+ * </p>
+ *
+ * <p>
+ * Branches run in a {@link TaskScope}: if any call fails or the deadline
+ * expires, every other in-flight call of this player is cancelled.
+ * </p>
+ *
+ * <h2>Metrics and writes</h2>
+ * <p>
+ * The answer is computed in memory ({@link ProfileMetrics#of}, the formulas
+ * of the database aggregates) and returned right away. It covers the sampled
+ * matches merged with the player's stored window, the rows the trigger
+ * windows once they are stored: both give the same metrics, even when fewer
+ * matches were sampled than the window holds. Profile, analyzed
+ * matches and the matches fetched from Riot go to {@link ProfileWriteBehind}:
+ * stored a moment later, in a batch, where the rolling aggregates are
+ * updated as before. Nothing is written on the request thread. The in-memory step is a
+ * {@code com.coachdiff.Aggregate} flight recorder event.
+ * </p>
+ */
+@Service
+public class FetchProfileService implements FetchProfilePort {
+
+    private static final Logger log = LoggerFactory.getLogger(FetchProfileService.class);
+
+    private final RiotApiPort riotApi;
+    private final MatchAnalysisRepository matchRepository;
+    private final ProfileWriteBehind writeBehind;
+    private final MatchHistoryLoader matchHistoryLoader;
+    private final BenchmarkCatalogService benchmarks;
+    private final RoleDetector roleDetector = new RoleDetector();
+    private final GapConvergence convergence = new GapConvergence();
+    private final MatchSamplingPolicy sampling;
+    private final Duration timeout;
+
+    public FetchProfileService(RiotApiPort riotApi,
+                               MatchAnalysisRepository matchRepository,
+                               ProfileWriteBehind writeBehind,
+                               MatchHistoryLoader matchHistoryLoader,
+                               BenchmarkCatalogService benchmarks,
+                               @Value("${coach-diff.profile.sampling.min-matches:8}") int minMatches,
+                               @Value("${coach-diff.profile.sampling.max-matches:20}") int maxMatches,
+                               @Value("${coach-diff.profile.sampling.wave-size:4}") int waveSize,
+                               @Value("${coach-diff.profile.sampling.top-gaps:3}") int topGaps,
+                               @Value("${coach-diff.profile.sampling.tolerance:0.15}") double tolerance,
+                               @Value("${coach-diff.profile.fetch-timeout:60s}") Duration timeout) {
+        this.riotApi = riotApi;
+        this.matchRepository = matchRepository;
+        this.writeBehind = writeBehind;
+        this.matchHistoryLoader = matchHistoryLoader;
+        this.benchmarks = benchmarks;
+        this.sampling = new MatchSamplingPolicy(minMatches, maxMatches, waveSize, topGaps, tolerance);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public SummonerProfile fetchProfile(String gameName, String tagLine, String region) {
+        return fetchProfile(riotApi.getAccountByRiotId(gameName, tagLine, region), region);
+    }
+
+    @Override
+    public SummonerProfile fetchProfileByPuuid(String puuid, String region) {
+        return fetchProfile(riotApi.getAccountByPuuid(puuid, region), region);
+    }
+
+    private SummonerProfile fetchProfile(RiotAccount account, String region) {
+        Instant deadline = Instant.now().plus(timeout);
+        String puuid = account.puuid();
+
+        // Filled by the match branch, read once the scope joined it
+        List<MatchDetails> fetched = new ArrayList<>();
+        try (TaskScope scope = new TaskScope()) {
+            Future<Identity> identity = scope.fork(() -> fetchIdentity(puuid, region));
+            Future<List<MatchDetails>> matches = scope.fork(() -> fetchRecentMatches(puuid, region, identity,
+                    fetched, deadline));
+            Future<List<MatchSummary>> stored = scope.fork(() -> matchRepository.findHistory(puuid, null,
+                    ProfileMetrics.WINDOW_SIZE));
+            scope.join(deadline);
+
+            List<MatchDetails> recent = matches.resultNow();
+            AggregateEvent aggregate = new AggregateEvent();
+            aggregate.begin();
+            List<MatchAnalysis> analyses = toAnalyses(recent, puuid);
+            SummonerProfile profile = new SummonerProfile(
+                    puuid,
+                    account.gameName(),
+                    account.tagLine(),
+                    region,
+                    identity.resultNow().summoner().summonerId(),
+                    identity.resultNow().rank(),
+                    roleDetector.mainRole(recent, puuid).orElse(null),
+                    ProfileMetrics.of(withStored(analyses, stored.resultNow(), puuid)),
+                    Instant.now());
+            aggregate.commit(puuid, recent.size());
+            writeBehind.submit(new ProfileWrite(profile, analyses, fetched));
+            return profile;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CompletionException("Timed out fetching profile of " + account.fullRiotId(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while fetching profile of " + account.fullRiotId());
+        }
+    }
+
+    private Identity fetchIdentity(String puuid, String region) {
+        Summoner summoner = riotApi.getSummonerByPuuid(puuid, region);
+        RankInfo rank = riotApi.getLeagueEntries(summoner.summonerId(), region).stream()
+                .filter(LeagueEntry::isSoloQueue)
+                .findFirst()
+                .map(RankInfo::from)
+                .orElse(null);
+        return new Identity(summoner, rank);
+    }
+
+    /**
+     * @param fetched Receives the matches fetched from Riot: stored with the profile, not here
+     */
+    private List<MatchDetails> fetchRecentMatches(String puuid, String region, Future<Identity> identity,
+                                                  List<MatchDetails> fetched, Instant deadline)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        List<String> ids = riotApi.getMatchIds(puuid, region, sampling.maxMatches());
+        List<MatchDetails> matches = new ArrayList<>(matchHistoryLoader.load(
+                ids.subList(0, Math.min(sampling.minMatches(), ids.size())), region, deadline, fetched::addAll));
+        if (matches.size() == ids.size()) {
+            return matches;
+        }
+
+        // Ready long before the first wave: two calls against up to min-matches
+        RankInfo rank = identity.get().rank();
+        Tier tier = rank == null ? null : Tier.fromName(rank.tier());
+        while (tier != null && matches.size() < ids.size()) {
+            Role role = Role.fromName(roleDetector.mainRole(matches, puuid).orElse(null));
+            List<GapConvergence.GapEstimate> gaps = convergence.estimate(matches, puuid, tier, role,
+                    benchmarks.current());
+            if (convergence.settled(gaps, sampling)) {
+                break;
+            }
+            int next = Math.min(matches.size() + sampling.waveSize(), ids.size());
+            matches.addAll(matchHistoryLoader.load(ids.subList(matches.size(), next), region, deadline,
+                    fetched::addAll));
+        }
+        log.debug("Sampled {} of {} recent matches of {}", matches.size(), ids.size(), puuid);
+        return matches;
+    }
+
+    /**
+     * Summoner and solo queue rank (null if unranked).
+     */
+    private record Identity(Summoner summoner, RankInfo rank) {
+    }
+
+    /**
+     * Sampled analyses over the stored window: what the trigger will window.
+     */
+    private static List<MatchAnalysis> withStored(List<MatchAnalysis> sampled, List<MatchSummary> stored,
+                                                  String puuid) {
+        Map<String, MatchAnalysis> all = new LinkedHashMap<>();
+        stored.forEach(s -> all.put(s.matchId(), MatchAnalysis.of(puuid, s)));
+        sampled.forEach(a -> all.put(a.matchId(), a));
+        return new ArrayList<>(all.values());
+    }
+
+    private static List<MatchAnalysis> toAnalyses(List<MatchDetails> matches, String puuid) {
+        return matches.stream()
+                .flatMap(m -> m.findParticipant(puuid).map(p -> MatchAnalysis.of(m, p)).stream())
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.GapRecomputeReport;
+import com.coachdiff.domain.model.ProfileMetricColumns;
+import com.coachdiff.domain.port.in.RecomputeGapsPort;
+import com.coachdiff.domain.port.out.ProfileGapRepository;
+import com.coachdiff.domain.service.BulkRankComparator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Recomputes every player's gaps after a median refresh.
+ *
+ * <pre>
+ * 1. Reload the benchmark table (the crawl just rewrote the medians)
+ * 2. Load all ranked profiles as primitive columns (one cursor scan)
+ * 3. BulkRankComparator: gaps + hash of every profile, fork-join on all cores
+ * 4. Write back only the profiles whose hash changed
+ * </pre>
+ * <p>
+ * Runs on the node that refreshed the medians, right after the crawl.
+ * </p>
+ */
+@Service
+public class GapRecomputeService implements RecomputeGapsPort {
+
+    private static final Logger log = LoggerFactory.getLogger(GapRecomputeService.class);
+
+    private final ProfileGapRepository gapRepository;
+    private final BenchmarkCatalogService benchmarkCatalog;
+    private final BulkRankComparator comparator = new BulkRankComparator(ForkJoinPool.commonPool());
+
+    public GapRecomputeService(ProfileGapRepository gapRepository, BenchmarkCatalogService benchmarkCatalog) {
+        this.gapRepository = gapRepository;
+        this.benchmarkCatalog = benchmarkCatalog;
+    }
+
+    @Override
+    public GapRecomputeReport recomputeGaps() {
+        long start = System.nanoTime();
+        benchmarkCatalog.refreshBenchmarks();
+
+        ProfileMetricColumns columns = gapRepository.loadMetricColumns();
+        long loaded = System.nanoTime();
+        BulkRankComparator.Result result = comparator.compare(columns, benchmarkCatalog.current());
+        long compared = System.nanoTime();
+        int written = gapRepository.saveAll(result.changed());
+
+        log.debug("Gap recompute: load {} ms, compare {} ms, write {} ms",
+                (loaded - start) / 1_000_000, (compared - loaded) / 1_000_000,
+                (System.nanoTime() - compared) / 1_000_000);
+        return new GapRecomputeReport(result.profiles(), written, Duration.ofNanos(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,155 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.exception.PlayerNotFoundException;
+import com.coachdiff.domain.model.IngestionJob;
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.port.in.FetchProfilePort;
+import com.coachdiff.domain.port.in.GetProfilePort;
+import com.coachdiff.domain.port.in.ProcessIngestionJobPort;
+import com.coachdiff.domain.port.in.RequestProfileRefreshPort;
+import com.coachdiff.domain.port.out.IngestionQueuePort;
+import com.coachdiff.domain.port.out.MatchCachePort;
+import com.coachdiff.domain.port.out.RiotApiPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background ingestion: queues refreshes and runs queued jobs.
+ *
+ * <h2>Why a queue</h2>
+ * <p>
+ * A refresh run inside an HTTP request is bound to the node that received it.
+ * Queued, it runs on whichever worker node is free, so adding nodes adds
+ * ingestion throughput.
+ * </p>
+ *
+ * <h2>Profile refresh</h2>
+ * <pre>
+ * PROFILE_REFRESH (first pass)
+ *   first-wave match IDs (sampling.min-matches) → cache lookup
+ *     all cached  → refresh now
+ *     N missing   → enqueue N × MATCH_FETCH, then this refresh again (deferred)
+ *
+ * MATCH_FETCH × N      spread over every worker of every node → match cache
+ *                      each completed fetch releases the barrier; the last
+ *                      one enqueues the deferred refresh
+ *
+ * PROFILE_REFRESH (deferred)
+ *   refresh: matches come from the cache, stragglers are fetched inline
+ * </pre>
+ * <p>
+ * A job names the player by PUUID, never by Riot ID: the refresh fetches the
+ * account by PUUID, so a player who renamed since is refreshed under the new
+ * name instead of failing Account-V1. The PUUID is resolved like a profile
+ * read ({@link GetProfilePort}), so a player whose first fetch is still in
+ * the write-behind buffer can already be refreshed.
+ * </p>
+ * <p>
+ * The deferred refresh is NOT enqueued alongside the fetches: a worker runs
+ * its whole batch in parallel, so it would start with them, find a cold
+ * cache and fetch every match a second time.
+ * </p>
+ * <p>
+ * Only the first wave is fanned out: whether the refresh needs more matches
+ * depends on them (adaptive sample size, see {@link FetchProfileService}).
+ * </p>
+ * <p>
+ * A refresh is deferred at most {@value #MAX_DEFERRALS} time: if some match
+ * fetches are slow or failing, the refresh does not wait for them forever.
+ * </p>
+ */
+@Service
+public class IngestionService implements RequestProfileRefreshPort, ProcessIngestionJobPort {
+
+    static final int MAX_DEFERRALS = 1;
+
+    private final RiotApiPort riotApi;
+    private final GetProfilePort getProfile;
+    private final MatchCachePort matchCache;
+    private final MatchHistoryLoader matchHistoryLoader;
+    private final FetchProfilePort fetchProfile;
+    private final IngestionQueuePort queue;
+    private final int prefetchMatches;
+    private final Duration timeout;
+
+    public IngestionService(RiotApiPort riotApi,
+                            GetProfilePort getProfile,
+                            MatchCachePort matchCache,
+                            MatchHistoryLoader matchHistoryLoader,
+                            FetchProfilePort fetchProfile,
+                            IngestionQueuePort queue,
+                            @Value("${coach-diff.profile.sampling.min-matches:8}") int prefetchMatches,
+                            @Value("${coach-diff.profile.fetch-timeout:60s}") Duration timeout) {
+        this.riotApi = riotApi;
+        this.getProfile = getProfile;
+        this.matchCache = matchCache;
+        this.matchHistoryLoader = matchHistoryLoader;
+        this.fetchProfile = fetchProfile;
+        this.queue = queue;
+        this.prefetchMatches = prefetchMatches;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public IngestionJob requestRefresh(RiotId riotId) {
+        String puuid = getProfile.findProfileVersion(riotId)
+                .map(ProfileVersion::puuid)
+                .orElseThrow(() -> new PlayerNotFoundException("No stored profile for " + riotId.fullRiotId()));
+        IngestionJob job = IngestionJob.profileRefresh(puuid, riotId.region());
+        queue.enqueue(job);
+        return job;
+    }
+
+    @Override
+    public void process(IngestionJob job) {
+        switch (job.type()) {
+            case PROFILE_REFRESH -> refreshProfile(job);
+            case MATCH_FETCH -> fetchMatch(job);
+        }
+    }
+
+    private void refreshProfile(IngestionJob job) {
+        if (job.deferred() < MAX_DEFERRALS) {
+            List<String> ids = riotApi.getMatchIds(job.key(), job.region(), prefetchMatches);
+            Set<String> cached = matchCache.getAll(ids).keySet();
+            List<IngestionJob> fetches = new ArrayList<>();
+            for (String id : ids) {
+                if (!cached.contains(id)) {
+                    fetches.add(IngestionJob.matchFetch(id, job.region()));
+                }
+            }
+            if (!fetches.isEmpty()) {
+                // Back in the queue once the last of its fetches completed
+                queue.enqueueThen(fetches, job.defer());
+                return;
+            }
+        }
+        fetchProfile.fetchProfileByPuuid(job.key(), job.region());
+    }
+
+    private void fetchMatch(IngestionJob job) {
+        try {
+            // Cache first: a match already fetched by another job costs one MGET
+            matchHistoryLoader.load(List.of(job.key()), job.region(), Instant.now().plus(timeout));
+            queue.complete(job);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CompletionException("Timed out fetching match " + job.key(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while fetching match " + job.key());
+        }
+    }
+}
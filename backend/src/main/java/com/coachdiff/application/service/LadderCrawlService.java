@@ -0,0 +1,226 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.application.concurrent.TaskScope;
+import com.coachdiff.domain.model.LadderCrawlPlan;
+import com.coachdiff.domain.model.LadderCrawlReport;
+import com.coachdiff.domain.model.LadderCursor;
+import com.coachdiff.domain.model.LadderEntry;
+import com.coachdiff.domain.model.LadderPlayer;
+import com.coachdiff.domain.model.LadderSample;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.port.in.CrawlLadderPort;
+import com.coachdiff.domain.port.out.LadderRepository;
+import com.coachdiff.domain.port.out.MatchStoreRepository;
+import com.coachdiff.domain.port.out.RiotApiPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Crawls the ranked ladder to build real per-tier samples, then recomputes
+ * {@code rank_metrics} medians from them.
+ *
+ * <h2>Run phases</h2>
+ * <pre>
+ * 1. Ladder   31 divisions × platforms, all in parallel
+ *             each division reads its pages in order, checkpointing every page
+ * 2. Samples  one subtask per player: recent match IDs → unseen matches → samples
+ *             unseen matches come from the match store when possible; only
+ *             Riot fetches spend the match budget (and land in the store)
+ * 3. Medians  refresh_rank_metrics(): median player per tier → rank_metrics
+ *             refresh_rank_benchmarks(): per tier × role (× champion) → rank_benchmarks
+ * </pre>
+ *
+ * <h2>Throughput</h2>
+ * <p>
+ * Every subtask is a virtual thread and every Riot call goes through the shared
+ * rate limiter: there are always more requests ready than the budget allows,
+ * so the crawl runs exactly at the rate limit, never slower because of paging.
+ * </p>
+ *
+ * <h2>Resuming</h2>
+ * <ul>
+ *   <li>Division cursors move one page at a time, in the same transaction as the page</li>
+ *   <li>A player is marked sampled only once all its matches are stored: a player
+ *       cut by the budget or a restart is simply picked up again next run</li>
+ *   <li>Fetched match IDs are stored, so no match is ever fetched twice</li>
+ * </ul>
+ */
+@Service
+public class LadderCrawlService implements CrawlLadderPort {
+
+    private static final Logger log = LoggerFactory.getLogger(LadderCrawlService.class);
+
+    private final RiotApiPort riotApi;
+    private final LadderRepository ladderRepository;
+    private final MatchStoreRepository matchStore;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    public LadderCrawlService(RiotApiPort riotApi, LadderRepository ladderRepository,
+                              MatchStoreRepository matchStore) {
+        this.riotApi = riotApi;
+        this.ladderRepository = ladderRepository;
+        this.matchStore = matchStore;
+    }
+
+    @Override
+    public Optional<LadderCrawlReport> crawl(LadderCrawlPlan plan) {
+        if (!ladderRepository.tryAcquireLease(owner, plan.maxRunTime())) {
+            log.debug("Ladder crawl already running on another node, skipping");
+            return Optional.empty();
+        }
+        Instant start = Instant.now();
+        Instant deadline = start.plus(plan.maxRunTime());
+        Progress progress = new Progress();
+        try {
+            crawlLadder(plan, deadline, progress);
+            sampleMatches(plan, deadline, progress);
+            Instant since = Instant.now().minus(plan.sampleMaxAge());
+            int tiers = ladderRepository.refreshRankMetrics(plan.minSamplePlayers(), since);
+            int benchmarks = ladderRepository.refreshRankBenchmarks(since);
+            return Optional.of(progress.report(tiers, benchmarks, Duration.between(start, Instant.now())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Ladder crawl interrupted");
+        } finally {
+            ladderRepository.releaseLease(owner);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Phase 1: ladder pages
+    // -------------------------------------------------------------------------
+
+    private void crawlLadder(LadderCrawlPlan plan, Instant deadline, Progress progress)
+            throws InterruptedException {
+        List<LadderCursor> cursors = ladderRepository.openCursors(plan.platforms(), plan.queue(),
+                plan.recrawlAfter());
+        try (TaskScope scope = new TaskScope()) {
+            for (LadderCursor cursor : cursors) {
+                scope.fork(() -> crawlDivision(cursor, plan, progress));
+            }
+            if (!scope.joinEach(deadline, done -> { })) {
+                log.info("Ladder crawl deadline reached, resuming from checkpoints next run");
+            }
+        }
+    }
+
+    private Void crawlDivision(LadderCursor cursor, LadderCrawlPlan plan, Progress progress) {
+        try {
+            for (int page = cursor.nextPage(); page <= plan.maxPagesPerDivision(); page++) {
+                List<LadderEntry> entries = cursor.isApex()
+                        ? riotApi.getApexLadder(cursor.platform(), cursor.queue(), cursor.tier())
+                        : riotApi.getLadderPage(cursor.platform(), cursor.queue(), cursor.tier(),
+                                cursor.division(), page);
+
+                // Apex tiers are a single list; other divisions end on an empty page
+                boolean last = cursor.isApex() || entries.isEmpty() || page == plan.maxPagesPerDivision();
+                int added = ladderRepository.savePage(cursor, page, entries, last);
+
+                progress.pages.incrementAndGet();
+                progress.playersSeen.addAndGet(entries.size());
+                progress.newPlayers.addAndGet(added);
+                if (last) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // The checkpoint keeps what was done; other divisions go on
+            log.warn("Ladder crawl of {} stopped: {}", cursor.label(), e.getMessage());
+        }
+        return null;
+    }
+
+    // -------------------------------------------------------------------------
+    // Phase 2: match samples
+    // -------------------------------------------------------------------------
+
+    private void sampleMatches(LadderCrawlPlan plan, Instant deadline, Progress progress)
+            throws InterruptedException {
+        if (plan.matchBudget() == 0) {
+            return;
+        }
+        // Enough players to spend the budget, assuming no shared matches
+        int playerLimit = Math.ceilDiv(plan.matchBudget(), plan.matchesPerPlayer());
+        List<LadderPlayer> players = ladderRepository.findPlayersToSample(plan.platforms(),
+                plan.recrawlAfter(), playerLimit);
+
+        AtomicInteger budget = new AtomicInteger(plan.matchBudget());
+        // Matches being fetched right now by another player of this run
+        Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+        try (TaskScope scope = new TaskScope()) {
+            for (LadderPlayer player : players) {
+                scope.fork(() -> samplePlayer(player, plan, budget, inFlight, progress));
+            }
+            if (!scope.joinEach(deadline, done -> { })) {
+                log.info("Ladder sampling deadline reached, resuming next run");
+            }
+        }
+    }
+
+    private Void samplePlayer(LadderPlayer player, LadderCrawlPlan plan, AtomicInteger budget,
+                              Set<String> inFlight, Progress progress) {
+        if (budget.get() <= 0) {
+            return null;
+        }
+        try {
+            List<String> matchIds = riotApi.getMatchIds(player.puuid(), player.platform(),
+                    plan.matchesPerPlayer());
+            Set<String> fetched = ladderRepository.findFetchedMatchIds(matchIds);
+            List<String> unseen = matchIds.stream()
+                    .filter(id -> !fetched.contains(id) && inFlight.add(id))
+                    .toList();
+            Map<String, MatchDetails> stored = matchStore.findAll(unseen);
+
+            for (String matchId : unseen) {
+                MatchDetails match = stored.get(matchId);
+                if (match == null) {
+                    if (budget.getAndDecrement() <= 0) {
+                        // Not marked sampled: picked up again next run
+                        return null;
+                    }
+                    match = riotApi.getMatch(matchId, player.platform());
+                    // Tracked players in this match get their history row too
+                    matchStore.saveAll(List.of(match));
+                    progress.matches.incrementAndGet();
+                }
+                int samples = ladderRepository.saveMatch(match, player.platform(), LadderSample.fromMatch(match));
+                progress.samples.addAndGet(samples);
+            }
+            ladderRepository.markSampled(player.puuid());
+            progress.playersSampled.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.debug("Sampling of {} failed: {}", player.puuid(), e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Counters shared by all subtasks of a run.
+     */
+    private static final class Progress {
+        final AtomicInteger pages = new AtomicInteger();
+        final AtomicInteger playersSeen = new AtomicInteger();
+        final AtomicInteger newPlayers = new AtomicInteger();
+        final AtomicInteger matches = new AtomicInteger();
+        final AtomicInteger samples = new AtomicInteger();
+        final AtomicInteger playersSampled = new AtomicInteger();
+
+        LadderCrawlReport report(int tiersUpdated, int benchmarksUpdated, Duration elapsed) {
+            return new LadderCrawlReport(pages.get(), playersSeen.get(), newPlayers.get(), matches.get(),
+                    samples.get(), playersSampled.get(), tiersUpdated, benchmarksUpdated, elapsed);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.port.in.ExportMatchHistoryPort;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Streams a player's whole match history from storage to the caller's sink.
+ *
+ * <p>
+ * Nothing is buffered here: each row goes from the database cursor to the
+ * sink (e.g., an HTTP response) before the next one is read.
+ * </p>
+ */
+@Service
+public class MatchHistoryExportService implements ExportMatchHistoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchHistoryExportService.class);
+
+    private final MatchAnalysisRepository matchRepository;
+
+    public MatchHistoryExportService(MatchAnalysisRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    @Override
+    public int exportMatchHistory(String puuid, Consumer<MatchAnalysis> sink) {
+        long start = System.nanoTime();
+        int rows = matchRepository.streamAll(puuid, sink);
+        log.debug("Exported {} matches of {} in {} ms", rows, puuid, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+}
@@ -0,0 +1,151 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.application.concurrent.TaskScope;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.port.out.MatchCachePort;
+import com.coachdiff.domain.port.out.MatchStoreRepository;
+import com.coachdiff.domain.port.out.RiotApiPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Loads match details for a list of match IDs, cache first, then the match store.
+ *
+ * <h2>Steps</h2>
+ * <pre>
+ * 1. Cache   one bulk read for all IDs                 1 round trip
+ * 2. Store   cache misses, one query                   1 round trip
+ * 3. Riot    what neither has, all in parallel         (rate limited)
+ * 4. Store   what was fetched: all ten participants,   1 transaction
+ *            and a history row for every tracked player in it
+ * 5. Cache   one bulk write of store hits and fetches  1 round trip
+ * </pre>
+ * <p>
+ * A profile fetch answers an HTTP request: it hands step 4 to its caller,
+ * which stores the fetched matches with the profile, in the write-behind
+ * flush ({@link ProfileWriteBehind}). Background match fetches store them
+ * right away.
+ * </p>
+ * <p>
+ * A match is fetched from Riot once, whoever asks first: a duo partner or
+ * an opponent who is also tracked gets it from the store (or already has
+ * the row, written at step 4).
+ * </p>
+ *
+ * <h2>Metrics</h2>
+ * <pre>
+ * coachdiff.matches.loaded{source=cache|store|riot}   where each match came from
+ * coachdiff.matches.shared                            rows given to tracked participants
+ * </pre>
+ * <p>
+ * Riot calls saved = {@code loaded{source=cache} + loaded{source=store}}.
+ * </p>
+ */
+@Component
+public class MatchHistoryLoader {
+
+    private final RiotApiPort riotApi;
+    private final MatchCachePort matchCache;
+    private final MatchStoreRepository matchStore;
+    private final Counter fromCache;
+    private final Counter fromStore;
+    private final Counter fromRiot;
+    private final Counter shared;
+
+    public MatchHistoryLoader(RiotApiPort riotApi, MatchCachePort matchCache, MatchStoreRepository matchStore,
+                              MeterRegistry registry) {
+        this.riotApi = riotApi;
+        this.matchCache = matchCache;
+        this.matchStore = matchStore;
+        this.fromCache = loaded(registry, "cache");
+        this.fromStore = loaded(registry, "store");
+        this.fromRiot = loaded(registry, "riot");
+        this.shared = Counter.builder("coachdiff.matches.shared")
+                .description("Match history rows written for tracked participants of a stored match")
+                .register(registry);
+    }
+
+    /**
+     * Returns the details of every match, in the order of {@code matchIds}.
+     *
+     * @param matchIds Match IDs (e.g., from Match-V5 by-puuid)
+     * @param region   Platform, to route Riot calls
+     * @param deadline Give up on Riot calls still running after this instant
+     * @return Match details, same order as the IDs
+     * @throws ExecutionException   A Riot call failed (the others are cancelled)
+     * @throws TimeoutException     The deadline expired
+     * @throws InterruptedException The calling thread was interrupted
+     */
+    public List<MatchDetails> load(List<String> matchIds, String region, Instant deadline)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        return load(matchIds, region, deadline, this::store);
+    }
+
+    /**
+     * Same as {@link #load(List, String, Instant)}, but the matches fetched
+     * from Riot are handed to {@code storeFetched} instead of being stored.
+     * They are cached either way.
+     *
+     * @param storeFetched Receives what was fetched from Riot (not called if nothing was)
+     */
+    public List<MatchDetails> load(List<String> matchIds, String region, Instant deadline,
+                                   Consumer<List<MatchDetails>> storeFetched)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        Map<String, MatchDetails> cached = matchCache.getAll(matchIds);
+        fromCache.increment(cached.size());
+        if (cached.size() == matchIds.size()) {
+            return matchIds.stream().map(cached::get).toList();
+        }
+
+        Map<String, MatchDetails> found = new HashMap<>(cached);
+        List<String> misses = matchIds.stream().filter(id -> !cached.containsKey(id)).toList();
+        Map<String, MatchDetails> stored = matchStore.findAll(misses);
+        fromStore.increment(stored.size());
+        found.putAll(stored);
+
+        List<MatchDetails> fetched = new ArrayList<>();
+        try (TaskScope scope = new TaskScope()) {
+            List<Future<MatchDetails>> calls = new ArrayList<>();
+            for (String id : misses) {
+                if (!stored.containsKey(id)) {
+                    calls.add(scope.fork(() -> riotApi.getMatch(id, region)));
+                }
+            }
+            scope.join(deadline);
+            calls.forEach(f -> fetched.add(f.resultNow()));
+        }
+        fromRiot.increment(fetched.size());
+        if (!fetched.isEmpty()) {
+            storeFetched.accept(fetched);
+        }
+        fetched.forEach(m -> found.put(m.matchId(), m));
+
+        List<MatchDetails> warm = new ArrayList<>(stored.values());
+        warm.addAll(fetched);
+        matchCache.putAll(warm);
+
+        return matchIds.stream().map(found::get).toList();
+    }
+
+    private void store(List<MatchDetails> fetched) {
+        shared.increment(matchStore.saveAll(fetched));
+    }
+
+    private static Counter loaded(MeterRegistry registry, String source) {
+        return Counter.builder("coachdiff.matches.loaded")
+                .description("Match details loaded, by where they came from")
+                .tag("source", source)
+                .register(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.exception.InvalidRequestException;
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchHistoryPage;
+import com.coachdiff.domain.port.in.GetMatchHistoryPort;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pages through stored match history with keyset cursors.
+ *
+ * <p>
+ * Reads {@code size + 1} rows: the extra one only tells whether a next
+ * page exists, so the last page never needs an empty round trip.
+ * </p>
+ */
+@Service
+public class MatchHistoryQueryService implements GetMatchHistoryPort {
+
+    private final MatchAnalysisRepository matchRepository;
+
+    public MatchHistoryQueryService(MatchAnalysisRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    @Override
+    public MatchHistoryPage getMatchHistory(String puuid, MatchCursor after, int size) {
+        if (size < 1 || size > MatchHistoryPage.MAX_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MatchHistoryPage.MAX_SIZE);
+        }
+        return MatchHistoryPage.of(matchRepository.findHistory(puuid, after, size + 1), size);
+    }
+}
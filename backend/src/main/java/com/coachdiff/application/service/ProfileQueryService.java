@@ -0,0 +1,79 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.in.FetchProfilePort;
+import com.coachdiff.domain.port.in.GetProfilePort;
+import com.coachdiff.domain.port.out.SummonerProfileRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Reads stored profiles; falls back to a Riot fetch for unknown players.
+ *
+ * <p>
+ * Reads go through {@link ReadCacheService}: a warm poll resolves the Riot ID
+ * and the profile version from memory. A refresh not stored yet is answered
+ * from {@link ProfileWriteBehind}: newer than anything cached or stored.
+ * </p>
+ * <p>
+ * A cached Riot ID → PUUID entry outlives a rename (only the profile is
+ * evicted on change), so a hit is checked against the profile's current
+ * name: on a mismatch the Riot ID is resolved again.
+ * </p>
+ */
+@Service
+public class ProfileQueryService implements GetProfilePort {
+
+    private final SummonerProfileRepository profileRepository;
+    private final FetchProfilePort fetchProfile;
+    private final ReadCacheService caches;
+    private final ProfileWriteBehind writeBehind;
+
+    public ProfileQueryService(SummonerProfileRepository profileRepository, FetchProfilePort fetchProfile,
+                               ReadCacheService caches, ProfileWriteBehind writeBehind) {
+        this.profileRepository = profileRepository;
+        this.fetchProfile = fetchProfile;
+        this.caches = caches;
+        this.writeBehind = writeBehind;
+    }
+
+    @Override
+    public Optional<ProfileVersion> findProfileVersion(RiotId riotId) {
+        return findCached(riotId).map(ProfileVersion::of);
+    }
+
+    @Override
+    public SummonerProfile getProfile(RiotId riotId) {
+        return findCached(riotId)
+                .orElseGet(() -> fetchProfile.fetchProfile(riotId.gameName(), riotId.tagLine(), riotId.region()));
+    }
+
+    private Optional<SummonerProfile> findCached(RiotId riotId) {
+        Optional<SummonerProfile> pending = writeBehind.pending(riotId);
+        if (pending.isPresent()) {
+            return pending;
+        }
+        String key = ReadCacheService.riotIdKey(riotId);
+        SummonerProfile profile = findCached(key, riotId);
+        if (profile != null && !key.equals(ReadCacheService.riotIdKey(profile))) {
+            // Renamed since its Riot ID was cached: the old name resolves afresh (maybe to someone else)
+            caches.riotIds().evict(key);
+            profile = findCached(key, riotId);
+        }
+        return Optional.ofNullable(profile);
+    }
+
+    private SummonerProfile findCached(String key, RiotId riotId) {
+        String puuid = caches.riotIds().get(key, k -> profileRepository
+                .findVersion(riotId.gameName(), riotId.tagLine(), riotId.region())
+                .map(ProfileVersion::puuid)
+                .orElse(null));
+        if (puuid == null) {
+            return null;
+        }
+        return caches.profiles().get(puuid, id -> profileRepository.findByPuuid(id).orElse(null));
+    }
+}
@@ -0,0 +1,546 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.application.diagnostics.PersistEvent;
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.ProfileWrite;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import com.coachdiff.domain.port.out.MatchStoreRepository;
+import com.coachdiff.domain.port.out.SummonerProfileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for profile refreshes: the caller gets its answer, the
+ * database gets the writes a moment later, in batches.
+ *
+ * <h2>Flow</h2>
+ * <pre>
+ * submit(write)
+ *   same PUUID queued  → coalesced into it (newest profile, union of matches)
+ *   room in the buffer → queued
+ *   buffer full        → caller waits up to offer-timeout (backpressure),
+ *                        then writes itself, synchronously
+ *   same PUUID flushing → queued behind it, even over capacity
+ *
+ * flusher (one virtual thread)
+ *   batch-size writes queued, or the oldest waited flush-interval
+ *     → saveAll(profiles)   one JDBC batch
+ *     → saveAll(matches)    one INSERT: the V4 trigger runs once for the batch
+ *     → match store         matches fetched from Riot, shared with the
+ *                           tracked players in them (V11)
+ * </pre>
+ *
+ * <h2>Read your writes</h2>
+ * <p>
+ * Until a write is committed, {@link #pending(RiotId)} returns its profile:
+ * a player who just refreshed never sees the previous version, and a new
+ * player is not fetched a second time.
+ * </p>
+ *
+ * <h2>Ordering</h2>
+ * <p>
+ * The upsert has no version check: the last commit wins. All writes of a
+ * PUUID the buffer still holds go through the one flusher, so they commit
+ * in submit order. A caller never writes directly while an older write of
+ * the same player is queued or being flushed.
+ * </p>
+ *
+ * <h2>Durability</h2>
+ * <ul>
+ *   <li>A failed batch goes back to the buffer (coalesced with anything newer),
+ *       up to {@link #MAX_ATTEMPTS} flushes, then is dropped and logged</li>
+ *   <li>After a failed flush, the running flusher waits before the next one:
+ *       flush-interval, doubled on each failure in a row (up to
+ *       2<sup>{@value #MAX_BACKOFF_SHIFT}</sup>×). A database that is down is
+ *       not hammered, and a retry gets a chance to succeed</li>
+ *   <li>On shutdown the buffer is drained within drain-timeout, after the web
+ *       server and the ingestion worker have stopped producing</li>
+ *   <li>A crash loses what was queued: at most flush-interval of refreshes,
+ *       which the next refresh of those players fetches again</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * <pre>
+ * coachdiff.writebehind.writes{path=queued|coalesced|direct}   how each write went in
+ * coachdiff.writebehind.flush                                    batch write time
+ * coachdiff.writebehind.pending                                  writes waiting
+ * coachdiff.writebehind.dropped                                  given up after MAX_ATTEMPTS
+ * </pre>
+ * <p>
+ * Every batch (and direct write) is also a {@code com.coachdiff.Persist}
+ * flight recorder event.
+ * </p>
+ */
+@Service
+public class ProfileWriteBehind implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileWriteBehind.class);
+
+    /** Flushes of the same write before it is dropped. */
+    static final int MAX_ATTEMPTS = 3;
+
+    /** Backoff after failed flushes: flush-interval × 2^min(failures - 1, this). */
+    static final int MAX_BACKOFF_SHIFT = 6;
+
+    /**
+     * Stops after the web server (graceful shutdown phase is
+     * {@code DEFAULT_PHASE - 1024}) and the ingestion worker: nothing is
+     * submitted anymore while the buffer drains.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final SummonerProfileRepository profileRepository;
+    private final MatchAnalysisRepository matchRepository;
+    private final MatchStoreRepository matchStore;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration drainTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition flushDue = lock.newCondition();
+    /** Queued writes by PUUID, oldest first. */
+    private final LinkedHashMap<String, Queued> queued = new LinkedHashMap<>();
+    /** Writes taken by the flusher, not committed yet. */
+    private final Map<String, Queued> flushing = new HashMap<>();
+    /** Riot ID key → PUUID of every queued or flushing write. */
+    private final Map<String, String> riotIds = new HashMap<>();
+
+    private final Counter queuedWrites;
+    private final Counter coalescedWrites;
+    private final Counter directWrites;
+    private final Counter dropped;
+    private final Counter shared;
+    private final Timer flushTimer;
+
+    private boolean running;
+    /** Set once the flusher exited: nothing queued is flushed anymore. */
+    private boolean flusherDone;
+    /** Failed flushes in a row, and when (nanoTime) the next flush may start. */
+    private int failures;
+    private long backoffUntil;
+    private Thread flusher;
+
+    public ProfileWriteBehind(SummonerProfileRepository profileRepository,
+                              MatchAnalysisRepository matchRepository,
+                              MatchStoreRepository matchStore,
+                              MeterRegistry registry,
+                              @Value("${coach-diff.write-behind.enabled:true}") boolean enabled,
+                              @Value("${coach-diff.write-behind.capacity:1024}") int capacity,
+                              @Value("${coach-diff.write-behind.batch-size:64}") int batchSize,
+                              @Value("${coach-diff.write-behind.flush-interval:500ms}") Duration flushInterval,
+                              @Value("${coach-diff.write-behind.offer-timeout:2s}") Duration offerTimeout,
+                              @Value("${coach-diff.write-behind.drain-timeout:10s}") Duration drainTimeout) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Write-behind capacity and batch size must be >= 1");
+        }
+        this.profileRepository = profileRepository;
+        this.matchRepository = matchRepository;
+        this.matchStore = matchStore;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.drainTimeout = drainTimeout;
+
+        this.queuedWrites = written(registry, "queued");
+        this.coalescedWrites = written(registry, "coalesced");
+        this.directWrites = written(registry, "direct");
+        this.dropped = Counter.builder("coachdiff.writebehind.dropped")
+                .description("Profile writes given up after repeated flush failures")
+                .register(registry);
+        // Same meter as MatchHistoryLoader: rows shared when a match is stored, whoever stores it
+        this.shared = Counter.builder("coachdiff.matches.shared")
+                .description("Match history rows written for tracked participants of a stored match")
+                .register(registry);
+        this.flushTimer = Timer.builder("coachdiff.writebehind.flush")
+                .description("Time to write one batch of profile refreshes")
+                .register(registry);
+        Gauge.builder("coachdiff.writebehind.pending", this, ProfileWriteBehind::size)
+                .description("Profile writes queued or being flushed")
+                .register(registry);
+    }
+
+    /**
+     * Queues a write; returns once it is queued, not stored.
+     * <p>
+     * Written synchronously instead when write-behind is off or stopped, or
+     * when the buffer stayed full for offer-timeout.
+     * </p>
+     *
+     * @param write Profile and matches of one refresh
+     */
+    public void submit(ProfileWrite write) {
+        lock.lock();
+        try {
+            if (running && enqueue(write)) {
+                return;
+            }
+            if (!flusherDone && holds(write.puuid())) {
+                // A direct write could commit before the older one in flight,
+                // then be overwritten by it: behind it instead, over capacity
+                if (!coalesce(write)) {
+                    admit(write);
+                }
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        directWrites.increment();
+        store("direct", List.of(write));
+    }
+
+    /**
+     * Profile of a write not committed yet, for read-your-writes.
+     *
+     * @param riotId Riot ID, any case
+     * @return The queued (or flushing) profile, empty if nothing is pending
+     */
+    public Optional<SummonerProfile> pending(RiotId riotId) {
+        lock.lock();
+        try {
+            if (riotIds.isEmpty()) {
+                return Optional.empty();
+            }
+            String puuid = riotIds.get(ReadCacheService.riotIdKey(riotId));
+            Queued write = puuid == null ? null : queued.getOrDefault(puuid, flushing.get(puuid));
+            return Optional.ofNullable(write).map(q -> q.write().profile());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            if (!enabled || running) {
+                return;
+            }
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+        flusher = Thread.ofVirtual().name("profile-write-behind").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            flushDue.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (flusher == null) {
+            return;
+        }
+        try {
+            // The flusher drains on its own; past the deadline, whatever is left is lost
+            if (!flusher.join(drainTimeout.plusSeconds(1))) {
+                flusher.interrupt();
+                log.error("Write-behind not drained in {}: {} profile writes lost", drainTimeout, size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * @return Writes queued or being flushed
+     */
+    int size() {
+        lock.lock();
+        try {
+            return queued.size() + flushing.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Coalesces or queues, waiting for room if needed. Called with the lock held.
+     *
+     * @return False if there was no room within offer-timeout, or the buffer stopped
+     */
+    private boolean enqueue(ProfileWrite write) {
+        if (coalesce(write)) {
+            return true;
+        }
+        long waitNanos = offerTimeout.toNanos();
+        try {
+            while (queued.size() >= capacity) {
+                if (waitNanos <= 0 || !running) {
+                    return false;
+                }
+                waitNanos = notFull.awaitNanos(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        admit(write);
+        return true;
+    }
+
+    /**
+     * Merges a write into the queued one of the same player, if any. Called with the lock held.
+     *
+     * @return False if nothing of that player is queued
+     */
+    private boolean coalesce(ProfileWrite write) {
+        Queued current = queued.get(write.puuid());
+        if (current == null) {
+            return false;
+        }
+        // Keeps its place and age: coalescing never delays a flush
+        queued.put(write.puuid(), current.coalesce(write));
+        riotIds.remove(riotIdKey(current.write().profile()));
+        track(write.profile());
+        coalescedWrites.increment();
+        return true;
+    }
+
+    /**
+     * Queues a write, whatever the capacity. Called with the lock held.
+     */
+    private void admit(ProfileWrite write) {
+        queued.put(write.puuid(), new Queued(write, System.nanoTime(), 0));
+        track(write.profile());
+        queuedWrites.increment();
+        if (queued.size() >= batchSize) {
+            flushDue.signal();
+        }
+    }
+
+    /**
+     * @return Whether a write of this player is queued or being flushed
+     */
+    private boolean holds(String puuid) {
+        return queued.containsKey(puuid) || flushing.containsKey(puuid);
+    }
+
+    private void run() {
+        long drainDeadline = 0;
+        while (true) {
+            List<Queued> batch;
+            lock.lock();
+            try {
+                if (running) {
+                    batch = awaitBatch();
+                } else {
+                    if (drainDeadline == 0) {
+                        drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+                    }
+                    if (queued.isEmpty() || System.nanoTime() - drainDeadline >= 0) {
+                        break;
+                    }
+                    batch = take();
+                }
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                lock.unlock();
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+        lock.lock();
+        try {
+            flusherDone = true;
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Write-behind flusher stopped, {} profile writes left", size());
+    }
+
+    /**
+     * Waits for a full batch or for the oldest write to be due, and for the
+     * backoff of a failed flush to be over. Called with the lock held.
+     *
+     * @return The batch, empty if the buffer stopped meanwhile
+     */
+    private List<Queued> awaitBatch() throws InterruptedException {
+        while (running) {
+            long backoffNanos = backoffUntil - System.nanoTime();
+            if (failures > 0 && backoffNanos > 0) {
+                flushDue.awaitNanos(backoffNanos);
+                continue;
+            }
+            if (queued.size() >= batchSize) {
+                return take();
+            }
+            if (queued.isEmpty()) {
+                flushDue.await();
+                continue;
+            }
+            long oldest = queued.firstEntry().getValue().queuedAt();
+            long waitNanos = oldest + flushInterval.toNanos() - System.nanoTime();
+            if (waitNanos <= 0) {
+                return take();
+            }
+            flushDue.awaitNanos(waitNanos);
+        }
+        return List.of();
+    }
+
+    /**
+     * Moves up to batch-size of the oldest writes to {@code flushing}. Called with the lock held.
+     */
+    private List<Queued> take() {
+        List<Queued> batch = new ArrayList<>(Math.min(batchSize, queued.size()));
+        Iterator<Queued> it = queued.values().iterator();
+        while (it.hasNext() && batch.size() < batchSize) {
+            Queued next = it.next();
+            it.remove();
+            flushing.put(next.write().puuid(), next);
+            batch.add(next);
+        }
+        notFull.signalAll();
+        return batch;
+    }
+
+    private void flush(List<Queued> batch) {
+        boolean stored = false;
+        try {
+            flushTimer.record(() -> store("flush", batch.stream().map(Queued::write).toList()));
+            stored = true;
+        } catch (RuntimeException e) {
+            log.warn("Write-behind flush of {} profiles failed: {}", batch.size(), e.getMessage());
+        }
+        lock.lock();
+        try {
+            if (stored) {
+                failures = 0;
+            } else {
+                failures++;
+                backoffUntil = System.nanoTime()
+                        + (flushInterval.toNanos() << Math.min(failures - 1, MAX_BACKOFF_SHIFT));
+            }
+            for (Queued done : batch) {
+                String puuid = done.write().puuid();
+                flushing.remove(puuid);
+                if (!stored) {
+                    retry(done);
+                }
+                if (!queued.containsKey(puuid)) {
+                    riotIds.remove(riotIdKey(done.write().profile()));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts a failed write back, under anything newer queued meanwhile. Called with the lock held.
+     * <p>
+     * Ignores the capacity: the write was already admitted.
+     * </p>
+     */
+    private void retry(Queued failed) {
+        if (failed.attempts() + 1 >= MAX_ATTEMPTS) {
+            dropped.increment();
+            log.error("Dropping profile write of {} after {} failed flushes", failed.write().puuid(), MAX_ATTEMPTS);
+            return;
+        }
+        Queued newer = queued.remove(failed.write().puuid());
+        ProfileWrite merged = newer == null ? failed.write() : failed.write().coalesce(newer.write());
+        queued.put(merged.puuid(), new Queued(merged, failed.queuedAt(), failed.attempts() + 1));
+    }
+
+    /**
+     * Profiles first: every match row needs its player's profile (V4 trigger).
+     * The match store last: the players' own rows exist by then, so sharing
+     * only adds rows of the other tracked participants.
+     *
+     * @param path flush or direct, for the {@link PersistEvent}
+     */
+    private void store(String path, List<ProfileWrite> writes) {
+        PersistEvent event = new PersistEvent(path, writes.size());
+        event.begin();
+        List<MatchAnalysis> matches = new ArrayList<>();
+        try {
+            profileRepository.saveAll(writes.stream().map(ProfileWrite::profile).toList());
+            writes.forEach(w -> matches.addAll(w.matches()));
+            matchRepository.saveAll(matches);
+            Map<String, MatchDetails> fetched = new LinkedHashMap<>();
+            writes.forEach(w -> w.fetched().forEach(m -> fetched.put(m.matchId(), m)));
+            if (!fetched.isEmpty()) {
+                // Duo partners in one batch fetched the same match: stored once
+                shared.increment(matchStore.saveAll(fetched.values()));
+            }
+        } finally {
+            event.commit(writes.size() == 1 ? writes.getFirst().puuid() : null, matches.size());
+        }
+    }
+
+    private void track(SummonerProfile profile) {
+        riotIds.put(riotIdKey(profile), profile.puuid());
+    }
+
+    private static String riotIdKey(SummonerProfile profile) {
+        return ReadCacheService.riotIdKey(new RiotId(profile.gameName(), profile.tagLine(), profile.region()));
+    }
+
+    private static Counter written(MeterRegistry registry, String path) {
+        return Counter.builder("coachdiff.writebehind.writes")
+                .description("Profile writes submitted, by how they went in")
+                .tag("path", path)
+                .register(registry);
+    }
+
+    /**
+     * A queued write, its first queue time (nanoTime) and failed flushes so far.
+     */
+    private record Queued(ProfileWrite write, long queuedAt, int attempts) {
+
+        Queued coalesce(ProfileWrite newer) {
+            return new Queued(write.coalesce(newer), queuedAt, attempts);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.application.cache.ReadCache;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SuggestionSet;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.in.InvalidateReadCachesPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process caches of the read path ({@code GET /api/profile}, {@code GET /api/suggestions}).
+ *
+ * <h2>Caches</h2>
+ * <pre>
+ * riotIds      region/name#tag → PUUID       only renames change it: checked against the
+ *                                            profile's name on a hit ({@link ProfileQueryService})
+ * profiles     PUUID → SummonerProfile       evicted by profileChanged
+ * suggestions  PUUID → latest SuggestionSet  evicted by suggestionsChanged
+ * trends       PUUID → match prefix sums     caught up (not evicted) after profileChanged,
+ *                                            held by {@link TrendService}
+ * </pre>
+ * <p>
+ * The Riot ID search trie ({@link RiotIdSearchService}) follows the same
+ * notifications: changed players are re-read into it, and it is reloaded
+ * when notifications resume.
+ * </p>
+ * <p>
+ * Versions (ETags) are derived from the cached values, so a warm
+ * conditional GET answers 304 without touching the database.
+ * </p>
+ *
+ * <h2>Consistency</h2>
+ * <p>
+ * Every node evicts on database change notifications, whichever node wrote.
+ * Caching is off until the notification listener is connected, and turned
+ * off again whenever it loses its connection. Preloading before that is
+ * lost (not stored, then cleared): {@link #awaitEnabled} waits for it.
+ * </p>
+ */
+@Service
+public class ReadCacheService implements InvalidateReadCachesPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadCacheService.class);
+
+    private final ReadCache<String, String> riotIds;
+    private final ReadCache<String, SummonerProfile> profiles;
+    private final ReadCache<String, Optional<SuggestionSet>> suggestions;
+    private final TrendService trends;
+    private final RiotIdSearchService riotIdSearch;
+    /** Opened by the first {@link #notificationsResumed()}. */
+    private final CountDownLatch firstEnabled = new CountDownLatch(1);
+
+    public ReadCacheService(TrendService trends,
+                            RiotIdSearchService riotIdSearch,
+                            @Value("${coach-diff.read-cache.max-entries:10000}") int maxEntries,
+                            @Value("${coach-diff.read-cache.ttl:6h}") Duration ttl) {
+        this.trends = trends;
+        this.riotIdSearch = riotIdSearch;
+        long ttlMillis = ttl.toMillis();
+        // Disabled until the listener reports it is receiving notifications
+        this.riotIds = new ReadCache<>(maxEntries, ttlMillis, TimeUnit.MILLISECONDS, false);
+        this.profiles = new ReadCache<>(maxEntries, ttlMillis, TimeUnit.MILLISECONDS, false);
+        this.suggestions = new ReadCache<>(maxEntries, ttlMillis, TimeUnit.MILLISECONDS, false);
+    }
+
+    ReadCache<String, String> riotIds() {
+        return riotIds;
+    }
+
+    ReadCache<String, SummonerProfile> profiles() {
+        return profiles;
+    }
+
+    ReadCache<String, Optional<SuggestionSet>> suggestions() {
+        return suggestions;
+    }
+
+    /**
+     * Cache key of a Riot ID: case-insensitive, like Riot IDs themselves.
+     */
+    static String riotIdKey(RiotId riotId) {
+        return riotId.region() + '/' + riotId.gameName().toLowerCase(Locale.ROOT)
+                + '#' + riotId.tagLine().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Cache key of a profile's current Riot ID.
+     */
+    static String riotIdKey(SummonerProfile profile) {
+        return riotIdKey(new RiotId(profile.gameName(), profile.tagLine(), profile.region()));
+    }
+
+    /**
+     * Waits until the caches are enabled for the first time, i.e. until what
+     * is loaded into them is kept.
+     *
+     * @param timeout Maximum wait
+     * @return false if they were still disabled after {@code timeout}
+     */
+    public boolean awaitEnabled(Duration timeout) throws InterruptedException {
+        return firstEnabled.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void profileChanged(String puuid) {
+        profiles.evict(puuid);
+        trends.profileChanged(puuid);
+        riotIdSearch.profileChanged(puuid);
+    }
+
+    @Override
+    public void suggestionsChanged(String puuid, String profileHash) {
+        suggestions.evict(puuid);
+    }
+
+    @Override
+    public void notificationsResumed() {
+        reset(true);
+        riotIdSearch.reload();
+        firstEnabled.countDown();
+        log.info("Read caches enabled");
+    }
+
+    @Override
+    public void notificationsLost() {
+        reset(false);
+        log.warn("Read caches disabled until change notifications resume");
+    }
+
+    private void reset(boolean enabled) {
+        riotIds.reset(enabled);
+        profiles.reset(enabled);
+        suggestions.reset(enabled);
+        trends.reset(enabled);
+    }
+}
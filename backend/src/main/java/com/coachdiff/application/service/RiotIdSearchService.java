@@ -0,0 +1,233 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.exception.InvalidRequestException;
+import com.coachdiff.domain.model.KnownRiotId;
+import com.coachdiff.domain.model.RiotIdTrie;
+import com.coachdiff.domain.port.in.SearchRiotIdsPort;
+import com.coachdiff.domain.port.out.RiotIdSearchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Riot ID type-ahead ({@code GET /api/players/search}): in-memory trie
+ * first, trigram index for the rest.
+ *
+ * <h2>Lookup</h2>
+ * <pre>
+ * query → RiotIdTrie prefix lookup (hot players, microseconds)
+ *           limit reached, or under 3 characters → done
+ *           otherwise → RiotIdSearchRepository.search (pg_trgm: substring, typos),
+ *                       appended after the trie hits, without duplicates
+ * </pre>
+ * <p>
+ * Under 3 characters a trigram search can't narrow anything down, so those
+ * prefixes are answered by the trie alone.
+ * Hit rate: {@code coachdiff.search.lookups{source=trie|database}}.
+ * </p>
+ *
+ * <h2>Keeping the trie current</h2>
+ * <pre>
+ * notificationsResumed  reload: the trie-capacity most recently updated players
+ * profileChanged(puuid) queued; one query per batch of queued players, then
+ *                       added (new player), moved (renamed) or dropped (deleted)
+ * </pre>
+ * <p>
+ * Forwarded by {@link ReadCacheService}, so every node learns of profiles
+ * saved by any node. Updates run on one virtual thread, never on the
+ * listener's: a slow query doesn't hold back cache evictions. A player
+ * whose profile changes moves to the recent end of the trie, so the
+ * capacity keeps the active players.
+ * </p>
+ */
+@Service
+public class RiotIdSearchService implements SearchRiotIdsPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RiotIdSearchService.class);
+
+    /** Shortest query sent to the trigram index. */
+    static final int FUZZY_MIN_LENGTH = 3;
+
+    /** Players resolved per update query. */
+    private static final int UPDATE_BATCH = 500;
+
+    private final RiotIdSearchRepository repository;
+    private final int capacity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private final Counter trieLookups;
+    private final Counter databaseLookups;
+
+    // Guarded by lock (replaced whole on reload)
+    private RiotIdTrie trie;
+
+    private volatile boolean reloadRequested;
+
+    public RiotIdSearchService(RiotIdSearchRepository repository,
+                               MeterRegistry registry,
+                               @Value("${coach-diff.search.trie-capacity:50000}") int capacity) {
+        this.repository = repository;
+        this.capacity = capacity;
+        this.trie = new RiotIdTrie(capacity);
+        this.trieLookups = lookups(registry, "trie");
+        this.databaseLookups = lookups(registry, "database");
+        Gauge.builder("coachdiff.search.trie.size", this, RiotIdSearchService::size)
+                .description("Players held by the Riot ID type-ahead trie")
+                .register(registry);
+    }
+
+    @Override
+    public List<KnownRiotId> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Query cannot be null or blank");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        String key = KnownRiotId.searchKey(query);
+
+        List<KnownRiotId> hot;
+        lock.readLock().lock();
+        try {
+            hot = trie.startingWith(key, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (hot.size() == limit || key.length() < FUZZY_MIN_LENGTH) {
+            trieLookups.increment();
+            return hot;
+        }
+
+        databaseLookups.increment();
+        Map<String, KnownRiotId> merged = new LinkedHashMap<>();
+        hot.forEach(p -> merged.put(p.puuid(), p));
+        for (KnownRiotId p : repository.search(key, limit)) {
+            if (merged.size() == limit) {
+                break;
+            }
+            merged.putIfAbsent(p.puuid(), p);
+        }
+        return List.copyOf(merged.values());
+    }
+
+    /**
+     * Queues a player whose profile was saved, renamed or deleted.
+     *
+     * @param puuid Player's PUUID
+     */
+    void profileChanged(String puuid) {
+        pending.add(puuid);
+        scheduleUpdate();
+    }
+
+    /**
+     * Rebuilds the trie from the database (changes may have been missed).
+     */
+    void reload() {
+        reloadRequested = true;
+        scheduleUpdate();
+    }
+
+    /**
+     * @return Players in the trie
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return trie.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void scheduleUpdate() {
+        if (updating.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("riot-id-index").start(this::update);
+        }
+    }
+
+    private void update() {
+        boolean failed = false;
+        try {
+            while (reloadRequested || !pending.isEmpty()) {
+                if (reloadRequested) {
+                    reloadRequested = false;
+                    // Before the query: changes committed after it are queued again
+                    pending.clear();
+                    reloadNow();
+                } else {
+                    applyPending();
+                }
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            log.warn("Riot ID index not updated: {}", e.getMessage());
+        } finally {
+            updating.set(false);
+        }
+        // Queued between the last check and the flag reset. After a failure the
+        // next notification (or reconnect) retries instead of a tight loop.
+        if (!failed && (reloadRequested || !pending.isEmpty())) {
+            scheduleUpdate();
+        }
+    }
+
+    private void reloadNow() {
+        List<KnownRiotId> recent = repository.findRecentlyUpdated(capacity);
+        RiotIdTrie fresh = new RiotIdTrie(capacity);
+        // Oldest first: the most recently updated end up the last to be dropped
+        recent.reversed().forEach(fresh::add);
+        lock.writeLock().lock();
+        try {
+            trie = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Riot ID index loaded: {} players", fresh.size());
+    }
+
+    private void applyPending() {
+        List<String> batch = new ArrayList<>(Math.min(pending.size(), UPDATE_BATCH));
+        Iterator<String> it = pending.iterator();
+        while (it.hasNext() && batch.size() < UPDATE_BATCH) {
+            batch.add(it.next());
+            it.remove();
+        }
+        List<KnownRiotId> found = repository.findByPuuids(batch);
+        Set<String> gone = new HashSet<>(batch);
+        lock.writeLock().lock();
+        try {
+            for (KnownRiotId player : found) {
+                trie.add(player);
+                gone.remove(player.puuid());
+            }
+            gone.forEach(trie::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Counter lookups(MeterRegistry registry, String source) {
+        return Counter.builder("coachdiff.search.lookups")
+                .description("Riot ID searches, by where the answer was completed")
+                .tag("source", source)
+                .register(registry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.SuggestionSet;
+import com.coachdiff.domain.port.in.GetSuggestionsPort;
+import com.coachdiff.domain.port.out.SuggestionRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Reads the latest stored suggestions of a player.
+ *
+ * <p>
+ * The latest set (or its absence) is cached in {@link ReadCacheService};
+ * its version is the cached set's profile hash.
+ * </p>
+ */
+@Service
+public class SuggestionQueryService implements GetSuggestionsPort {
+
+    private final SuggestionRepository suggestionRepository;
+    private final ReadCacheService caches;
+
+    public SuggestionQueryService(SuggestionRepository suggestionRepository, ReadCacheService caches) {
+        this.suggestionRepository = suggestionRepository;
+        this.caches = caches;
+    }
+
+    @Override
+    public Optional<String> findSuggestionsVersion(String puuid) {
+        return getSuggestions(puuid).map(SuggestionSet::profileHash);
+    }
+
+    @Override
+    public Optional<SuggestionSet> getSuggestions(String puuid) {
+        return caches.suggestions().get(puuid, suggestionRepository::findLatest);
+    }
+}
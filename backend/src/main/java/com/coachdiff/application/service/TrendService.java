@@ -0,0 +1,169 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.application.cache.ReadCache;
+import com.coachdiff.domain.exception.InvalidRequestException;
+import com.coachdiff.domain.model.MatchPrefixSums;
+import com.coachdiff.domain.model.MatchSummary;
+import com.coachdiff.domain.model.PlayerTrends;
+import com.coachdiff.domain.model.TrendSeries;
+import com.coachdiff.domain.port.in.GetTrendsPort;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rolling-window trends ({@code GET /api/matches/trends}) from cached prefix sums.
+ *
+ * <h2>Cost</h2>
+ * <pre>
+ * cold     2 queries: game count, newest HISTORY games → MatchPrefixSums   O(HISTORY)
+ * warm     no query; each point of each series is O(1)                     O(windows × points)
+ * changed  2 queries: game count, newest catch-up-page games → append      O(HISTORY + new games)
+ * </pre>
+ * <p>
+ * One aggregate query per window would rescan the same games for every
+ * window and every point; here a player's history is read once, then only
+ * the games stored since.
+ * </p>
+ *
+ * <h2>Catching up</h2>
+ * <p>
+ * {@link ReadCacheService} forwards {@code profileChanged} (storing matches
+ * moves the profile aggregates, so new games always notify): the entry is
+ * marked stale, not evicted. The next read counts the player's games and
+ * fetches the newest {@code catch-up-page} ones:
+ * </p>
+ * <pre>
+ * cached newest game in the page, count = cached count + games after it → append them
+ * otherwise                                                              → rebuild
+ * </pre>
+ * <p>
+ * The count catches games stored out of order, older than the cached newest
+ * one (matches shared from another player's refresh, a larger adaptive
+ * sample): they are not in the page, but they move the count. Counts are
+ * read before the games, so a game stored in between can only cause an
+ * extra rebuild, never a missed one.
+ * </p>
+ */
+@Service
+public class TrendService implements GetTrendsPort {
+
+    private final MatchAnalysisRepository matchRepository;
+    private final ReadCache<String, CachedSums> sums;
+    private final int catchUpPage;
+
+    public TrendService(MatchAnalysisRepository matchRepository,
+                        @Value("${coach-diff.read-cache.max-entries:10000}") int maxEntries,
+                        @Value("${coach-diff.read-cache.ttl:6h}") Duration ttl,
+                        @Value("${coach-diff.trends.catch-up-page:20}") int catchUpPage) {
+        if (catchUpPage < 1) {
+            throw new IllegalArgumentException("Catch-up page must be >= 1");
+        }
+        this.matchRepository = matchRepository;
+        // Disabled until the listener reports it is receiving notifications
+        this.sums = new ReadCache<>(maxEntries, ttl.toMillis(), TimeUnit.MILLISECONDS, false);
+        this.catchUpPage = catchUpPage;
+    }
+
+    @Override
+    public PlayerTrends getTrends(String puuid, List<Integer> windows, int points) {
+        if (windows == null || windows.isEmpty()) {
+            throw new InvalidRequestException("At least one window is required");
+        }
+        for (int window : windows) {
+            if (window < 1 || window > PlayerTrends.MAX_WINDOW) {
+                throw new InvalidRequestException("Window must be between 1 and " + PlayerTrends.MAX_WINDOW);
+            }
+        }
+        if (points < 1 || points > PlayerTrends.MAX_POINTS) {
+            throw new InvalidRequestException("Points must be between 1 and " + PlayerTrends.MAX_POINTS);
+        }
+
+        MatchPrefixSums current = current(puuid);
+        List<TrendSeries> series = new ArrayList<>(windows.size());
+        for (int window : windows) {
+            series.add(current.series(window, points));
+        }
+        return new PlayerTrends(current.size(), series);
+    }
+
+    /**
+     * Marks a player's sums for a catch-up on the next read.
+     *
+     * @param puuid Player whose profile (and so matches) changed
+     */
+    void profileChanged(String puuid) {
+        sums.update(puuid, CachedSums::markStale);
+    }
+
+    /**
+     * Drops every entry, then enables or disables caching.
+     *
+     * @param enabled Whether change notifications are being received
+     */
+    void reset(boolean enabled) {
+        sums.reset(enabled);
+    }
+
+    private MatchPrefixSums current(String puuid) {
+        CachedSums cached = sums.get(puuid, this::build);
+        if (!cached.stale()) {
+            return cached.sums();
+        }
+        CachedSums caughtUp = catchUp(puuid, cached);
+        // A change notified meanwhile keeps the entry stale: the next read catches up again
+        sums.replace(puuid, cached, caughtUp);
+        return caughtUp.sums();
+    }
+
+    private CachedSums build(String puuid) {
+        int games = matchRepository.countHistory(puuid);
+        return new CachedSums(MatchPrefixSums.of(
+                oldestFirst(matchRepository.findHistory(puuid, null, PlayerTrends.HISTORY)), PlayerTrends.HISTORY),
+                games, false);
+    }
+
+    private CachedSums catchUp(String puuid, CachedSums cached) {
+        MatchPrefixSums sums = cached.sums();
+        if (sums.tip() == null) {
+            return build(puuid);
+        }
+        int games = matchRepository.countHistory(puuid);
+        List<MatchSummary> newest = matchRepository.findHistory(puuid, null, catchUpPage);
+        List<MatchSummary> newer = new ArrayList<>();
+        for (MatchSummary match : newest) {
+            if (!sums.isNewer(match)) {
+                // History order: the first game not newer must be the cached newest one,
+                // and nothing else may have been stored below it
+                return match.matchId().equals(sums.tip().matchId()) && games == cached.games() + newer.size()
+                        ? new CachedSums(sums.append(oldestFirst(newer)), games, false)
+                        : build(puuid);
+            }
+            newer.add(match);
+        }
+        return build(puuid);
+    }
+
+    private static List<MatchSummary> oldestFirst(List<MatchSummary> newestFirst) {
+        return newestFirst.reversed();
+    }
+
+    /**
+     * Cached sums of one player.
+     *
+     * @param sums  Prefix sums
+     * @param games Stored games counted when the sums were read (may exceed the sums' size)
+     * @param stale True once the player's matches changed after they were read
+     */
+    record CachedSums(MatchPrefixSums sums, int games, boolean stale) {
+
+        CachedSums markStale() {
+            return new CachedSums(sums, games, true);
+        }
+    }
+}
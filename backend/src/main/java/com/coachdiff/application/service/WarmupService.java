@@ -0,0 +1,196 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.BenchmarkTable;
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.ProfileMetricColumns;
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Tier;
+import com.coachdiff.domain.port.in.GetProfilePort;
+import com.coachdiff.domain.port.in.WarmUpPort;
+import com.coachdiff.domain.service.BulkRankComparator;
+import com.coachdiff.domain.service.GapConvergence;
+import com.coachdiff.domain.service.RoleDetector;
+import com.coachdiff.domain.service.SuggestionTemplateMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Prepares the node before it takes traffic: the data the first requests
+ * read, and compiled code for the paths they run.
+ *
+ * <h2>Steps</h2>
+ * <pre>
+ * 1. Benchmarks   rank_metrics / benchmark table into memory   (BenchmarkCatalogService)
+ * 2. Hot paths    hot-path-rounds × synthetic data:
+ *                   BulkRankComparator   every (tier, role) of the table
+ *                   SuggestionTemplateMatcher on the resulting gaps
+ *                   GapConvergence, RoleDetector, ProfileMetrics.of on synthetic matches
+ * 3. Profile      configured player's Riot ID and profile      (read caches; stored players only)
+ * </pre>
+ * <p>
+ * Step 2 gets the JIT past its compile thresholds before a real request
+ * pays for the interpreter. Nothing is written: synthetic players never
+ * leave this class.
+ * </p>
+ * <p>
+ * Step 3 waits (up to the warm-up timeout) for the read caches to be
+ * enabled by the change listener: loaded earlier, the profile would not be
+ * cached, and enabling the caches clears them anyway.
+ * </p>
+ * <p>
+ * Each step is best effort: a failure is logged and the next step runs.
+ * </p>
+ */
+@Service
+public class WarmupService implements WarmUpPort {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupService.class);
+
+    /** Synthetic profiles per (tier, role): spreads the values around the median. */
+    private static final int ROWS_PER_GROUP = 8;
+
+    /** Synthetic matches per round (the profile window). */
+    private static final int MATCHES = ProfileMetrics.WINDOW_SIZE;
+
+    private static final String PLAYER = "warmup-player";
+
+    private final BenchmarkCatalogService benchmarks;
+    private final GetProfilePort profiles;
+    private final ReadCacheService caches;
+    private final int rounds;
+    private final Duration timeout;
+    private final BulkRankComparator comparator = new BulkRankComparator(ForkJoinPool.commonPool());
+    private final SuggestionTemplateMatcher matcher = new SuggestionTemplateMatcher();
+    private final GapConvergence convergence = new GapConvergence();
+    private final RoleDetector roleDetector = new RoleDetector();
+
+    public WarmupService(BenchmarkCatalogService benchmarks,
+                         GetProfilePort profiles,
+                         ReadCacheService caches,
+                         @Value("${coach-diff.warmup.hot-path-rounds:200}") int rounds,
+                         @Value("${coach-diff.warmup.timeout:30s}") Duration timeout) {
+        this.benchmarks = benchmarks;
+        this.profiles = profiles;
+        this.caches = caches;
+        this.rounds = rounds;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public int warmUp(RiotId player) {
+        try {
+            int rows = benchmarks.refreshBenchmarks();
+            log.debug("Warm-up: {} benchmark rows loaded", rows);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up: benchmark load failed: {}", e.getMessage());
+        }
+        int ran;
+        try {
+            ran = exerciseHotPaths(benchmarks.current());
+        } catch (RuntimeException e) {
+            log.warn("Warm-up: hot paths failed: {}", e.getMessage());
+            ran = 0;
+        }
+        if (player != null) {
+            preloadProfile(player);
+        }
+        return ran;
+    }
+
+    private void preloadProfile(RiotId player) {
+        try {
+            if (!caches.awaitEnabled(timeout)) {
+                log.warn("Warm-up: read caches still disabled after {}, profile of {} not preloaded", timeout,
+                        player.fullRiotId());
+                return;
+            }
+            // Version first: never a Riot fetch for a player not stored yet
+            profiles.findProfileVersion(player).ifPresent(v -> profiles.getProfile(player));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up: profile of {} not loaded: {}", player.fullRiotId(), e.getMessage());
+        }
+    }
+
+    private int exerciseHotPaths(BenchmarkTable table) {
+        ProfileMetricColumns columns = syntheticProfiles(table);
+        List<MatchDetails> matches = syntheticMatches();
+        List<MatchAnalysis> analyses = matches.stream()
+                .map(m -> MatchAnalysis.of(m, m.findParticipant(PLAYER).orElseThrow()))
+                .toList();
+
+        // Consumed so that no step can be optimized away
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (ProfileGaps gaps : comparator.compare(columns, table).changed()) {
+                sink += matcher.match(gaps, Role.values()[round % Role.values().length]).suggestions().size();
+            }
+            Role role = Role.fromName(roleDetector.mainRole(matches, PLAYER).orElse(null));
+            sink += convergence.estimate(matches, PLAYER, Tier.values()[round % Tier.values().length], role, table)
+                    .size();
+            sink += ProfileMetrics.of(analyses).gamesAnalyzed();
+        }
+        log.debug("Warm-up: {} hot path rounds ({})", rounds, sink);
+        return rounds;
+    }
+
+    /**
+     * Every (tier, role) of the table, values from 70% to 140% of the median.
+     */
+    private static ProfileMetricColumns syntheticProfiles(BenchmarkTable table) {
+        BenchmarkMetric[] metrics = BenchmarkMetric.values();
+        ProfileMetricColumns.Builder builder = ProfileMetricColumns.builder();
+        for (Tier tier : Tier.values()) {
+            for (Role role : Role.values()) {
+                for (int row = 0; row < ROWS_PER_GROUP; row++) {
+                    float factor = 0.7f + 0.1f * row;
+                    float[] values = new float[metrics.length];
+                    for (BenchmarkMetric metric : metrics) {
+                        values[metric.ordinal()] = (float) table.median(tier, role, 0, metric) * factor;
+                    }
+                    builder.add(PLAYER + '-' + tier + '-' + role + '-' + row, tier, role, values, null);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * A window of plausible mid lane games, the player first.
+     */
+    private static List<MatchDetails> syntheticMatches() {
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        List<MatchDetails> matches = new ArrayList<>(MATCHES);
+        for (int i = 0; i < MATCHES; i++) {
+            List<MatchParticipant> participants = new ArrayList<>(10);
+            participants.add(participant(PLAYER, "MIDDLE", i % 2 == 0, 3 + i % 5, 2 + i % 4, 150 + 10 * (i % 6)));
+            for (int p = 1; p < 10; p++) {
+                participants.add(participant(PLAYER + p, "TOP", (p < 5) == (i % 2 == 0), 2, 3, 140));
+            }
+            matches.add(new MatchDetails("WARMUP_" + i, start.plusSeconds(3600L * i), 1500 + 30 * i,
+                    participants));
+        }
+        return matches;
+    }
+
+    private static MatchParticipant participant(String puuid, String position, boolean win, int kills,
+                                                int deaths, int cs) {
+        return new MatchParticipant(puuid, puuid, "Ahri", 103, position, win, kills, deaths, 5,
+                cs, 10, 25, 11_000, 120_000);
+    }
+}
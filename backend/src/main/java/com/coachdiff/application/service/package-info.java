@@ -24,16 +24,77 @@
  * FetchProfileService
  *   1. Call RiotApiPort to get account info
  *   2. Call RiotApiPort to get rank
- *   3. Call RiotApiPort to get match history
- *   4. Use MetricsCalculator to calculate metrics
- *   5. Persist with SummonerRepository
+ *   3. Call RiotApiPort to get match history, in waves until GapConvergence settles
+ *   4. Compute the metrics in memory (ProfileMetrics.of)
+ *   5. Queue profile and matches on ProfileWriteBehind
  *   6. Return SummonerProfile
  *
+ * ProfileWriteBehind
+ *   1. Queue writes in a bounded buffer, coalesced by PUUID (full → caller waits)
+ *   2. Flush in batches on size or age: one profile batch, one match INSERT
+ *   3. Drain within a deadline on shutdown
+ *
+ * MatchHistoryLoader
+ *   1. One bulk cache read for all match IDs
+ *   2. One match store read for the cache misses
+ *   3. Fetch the rest from Riot in parallel, store them (shared with tracked players)
+ *   4. One bulk cache write of the store hits and fetched matches
+ *
+ * FetchProfileBatchService
+ *   1. Fork one FetchProfileService call per player (shared rate limit)
+ *   2. Stream each ProfileBatchResult as soon as it completes
+ *   3. Report players still running at the deadline as TIMEOUT
+ *
+ * ProfileQueryService / SuggestionQueryService
+ *   1. Return the version of the cached resource (ETag check, no query when warm)
+ *   2. Load the full resource on a cache miss
+ *
+ * MatchHistoryQueryService
+ *   1. Seek size + 1 rows after the cursor (keyset, constant cost per page)
+ *   2. Return the page and the cursor of its last match
+ *
+ * MatchHistoryExportService
+ *   Pushes every stored match from a database cursor to the caller's sink
+ *
+ * TrendService
+ *   1. Prefix sums of the newest games per player (one query, then cached)
+ *   2. Append only the games stored since, on profile change notifications
+ *   3. Every rolling average of every series in O(1)
+ *
+ * RiotIdSearchService
+ *   1. Prefix lookup in the in-memory trie of recently updated players
+ *   2. Fill the rest from the pg_trgm index (substring, typos)
+ *   3. Re-read changed players into the trie on profile change notifications
+ *
+ * ReadCacheService
+ *   Holds the read caches, evicted on change notifications from any node
+ *
+ * LadderCrawlService
+ *   1. Crawl League-V4 divisions in parallel (checkpoint per page)
+ *   2. Sample recent matches of crawled players within a budget
+ *   3. Recompute rank_metrics medians from the samples
+ *
+ * IngestionService
+ *   1. Queue profile refreshes (returns immediately)
+ *   2. Run queued jobs on any worker node: refresh fans out MATCH_FETCH jobs first
+ *
+ * GapRecomputeService
+ *   1. Reload medians, load every ranked profile as primitive columns
+ *   2. BulkRankComparator: all gaps and hashes, fork-join over (tier, role) chunks
+ *   3. Write back only the profiles whose hash changed
+ *
+ * BenchmarkCatalogService
+ *   Holds the BenchmarkTable (tier × role × champion medians), swapped on reload
+ *
+ * WarmupService
+ *   1. Load the benchmark table and the configured player's profile
+ *   2. Run the domain hot paths on synthetic data (JIT) before readiness
+ *
  * GenerateSuggestionsService
  *   1. Retrieve profile and metrics
  *   2. Retrieve RankMetrics for current and above tier
  *   3. Use RankComparator to find gaps
- *   4. Call SuggestionEnginePort (OpenAI) to generate suggestions
+ *   4. Call SuggestionEnginePort: local templates, OpenAI when ambiguous
  *   5. Persist and return suggestions
  * </pre>
  *
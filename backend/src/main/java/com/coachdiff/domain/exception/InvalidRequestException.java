@@ -0,0 +1,22 @@
+package com.coachdiff.domain.exception;
+
+/**
+ * Thrown when a caller's input is rejected: malformed cursor, page size,
+ * window or limit out of range.
+ *
+ * <p>
+ * An {@link IllegalArgumentException}, but a distinct one: only this kind is
+ * answered with 400 and its message. Any other invalid argument is a bug
+ * (e.g. a record invariant broken by stored data), not the client's fault.
+ * </p>
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
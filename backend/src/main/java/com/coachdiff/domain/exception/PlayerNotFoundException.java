@@ -0,0 +1,11 @@
+package com.coachdiff.domain.exception;
+
+/**
+ * Thrown when a Riot ID or PUUID doesn't match any player.
+ */
+public class PlayerNotFoundException extends RuntimeException {
+
+    public PlayerNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * DOMAIN EXCEPTIONS - Business errors, independent of HTTP or storage.
+ *
+ * <p>
+ * Adapters translate technical failures (HTTP 404, SQL errors) into these
+ * exceptions, and REST controllers translate them back into status codes.
+ * Input rejected from a caller is an {@link InvalidRequestException}; other
+ * invalid arguments (broken invariants, bad configuration) keep using
+ * {@link IllegalArgumentException}.
+ * </p>
+ */
+package com.coachdiff.domain.exception;
@@ -0,0 +1,17 @@
+package com.coachdiff.domain.model;
+
+/**
+ * Metrics that have a benchmark (median) per tier, role and champion.
+ *
+ * <p>
+ * The ordinal is the innermost index of {@link BenchmarkTable}: never reorder.
+ * </p>
+ */
+public enum BenchmarkMetric {
+    CS_PER_MIN,
+    KDA,
+    VISION_PER_MIN,
+    KILL_PARTICIPATION,
+    DEATHS,
+    GOLD_DIFF_AT_15
+}
@@ -0,0 +1,197 @@
+package com.coachdiff.domain.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable in-memory benchmark lookup: medians by tier × role × champion.
+ *
+ * <h2>Layout</h2>
+ * <p>
+ * Every median lives in ONE {@code double[]}, addressed by arithmetic instead
+ * of hashing:
+ * </p>
+ * <pre>
+ * cell  = (tier × ROLE_SLOTS + roleSlot) × championSlots + championSlot
+ * value = values[cell × METRICS + metric]
+ *
+ * roleSlot     0 = all roles,      1..5 = Role.ordinal() + 1
+ * championSlot 0 = all champions,  1..n = champions that have data
+ * </pre>
+ * <p>
+ * Champion IDs are sparse (1 to ~950), so a small {@code short[]} maps an ID to
+ * its dense slot. With ~170 champions: 10 × 6 × 171 cells × 6 metrics ≈ 62k
+ * doubles, about 500 KB, built once per reload.
+ * </p>
+ *
+ * <h2>Fallback</h2>
+ * <pre>
+ * (tier, role, champion)  if sampleSize ≥ minChampionSample
+ *   → (tier, role, *)     if sampleSize ≥ minRoleSample
+ *   → (tier, *, *)        always (rank_metrics)
+ * </pre>
+ * <p>
+ * The fallback is also per metric: a cell without a value for one metric
+ * (NaN, e.g. gold diff) falls back for that metric only.
+ * </p>
+ *
+ * <h2>Hot path</h2>
+ * <p>
+ * {@link #median} does a few array reads and comparisons: O(1), no boxing,
+ * no allocation, no locking (the table is never modified after build and
+ * is swapped as a whole on reload).
+ * </p>
+ */
+public final class BenchmarkTable {
+
+    /** Which key a lookup was served from. */
+    public enum Level {
+        CHAMPION, ROLE, TIER, NONE
+    }
+
+    private static final int TIERS = Tier.values().length;
+    private static final int ROLE_SLOTS = Role.values().length + 1;
+    private static final int METRICS = BenchmarkMetric.values().length;
+    private static final int ALL = 0;
+
+    /** Highest champion ID the table can address (Riot IDs are below 1000 today). */
+    static final int MAX_CHAMPION_ID = 4095;
+
+    /** Table with no data: every lookup returns NaN. */
+    public static final BenchmarkTable EMPTY = build(List.of(), 1, 1);
+
+    private final short[] slotByChampion;
+    private final int championSlots;
+    private final double[] values;
+    private final int[] sampleSizes;
+    private final int minRoleSample;
+    private final int minChampionSample;
+
+    private BenchmarkTable(short[] slotByChampion, int championSlots, double[] values, int[] sampleSizes,
+                           int minRoleSample, int minChampionSample) {
+        this.slotByChampion = slotByChampion;
+        this.championSlots = championSlots;
+        this.values = values;
+        this.sampleSizes = sampleSizes;
+        this.minRoleSample = minRoleSample;
+        this.minChampionSample = minChampionSample;
+    }
+
+    /**
+     * Builds a table from benchmark rows.
+     *
+     * @param benchmarks        Rows at any level (tier, role, champion)
+     * @param minRoleSample     Players a role row needs to be used
+     * @param minChampionSample Players a champion row needs to be used
+     * @return The lookup table
+     */
+    public static BenchmarkTable build(Collection<RankBenchmark> benchmarks, int minRoleSample,
+                                       int minChampionSample) {
+        // 1. Dense slots for the champions present in the data
+        short[] slotByChampion = new short[MAX_CHAMPION_ID + 1];
+        int championSlots = 1;
+        for (RankBenchmark b : benchmarks) {
+            int id = b.championId();
+            if (id != RankBenchmark.ALL_CHAMPIONS && id <= MAX_CHAMPION_ID && slotByChampion[id] == 0) {
+                slotByChampion[id] = (short) championSlots++;
+            }
+        }
+
+        // 2. Values, NaN = no data
+        int cells = TIERS * ROLE_SLOTS * championSlots;
+        double[] values = new double[cells * METRICS];
+        Arrays.fill(values, Double.NaN);
+        int[] sampleSizes = new int[cells];
+
+        for (RankBenchmark b : benchmarks) {
+            if (b.championId() > MAX_CHAMPION_ID) {
+                continue;
+            }
+            int cell = cell(b.tier().ordinal(), roleSlot(b.role()), slotByChampion[b.championId()], championSlots);
+            sampleSizes[cell] = b.sampleSize();
+            for (BenchmarkMetric metric : BenchmarkMetric.values()) {
+                values[cell * METRICS + metric.ordinal()] = b.value(metric);
+            }
+        }
+        return new BenchmarkTable(slotByChampion, championSlots, values, sampleSizes,
+                minRoleSample, minChampionSample);
+    }
+
+    /**
+     * Returns the most specific usable median for a player's context.
+     *
+     * @param tier       Player's tier
+     * @param role       Role played (null: tier level only)
+     * @param championId Champion played ({@link RankBenchmark#ALL_CHAMPIONS}: role level at most)
+     * @param metric     Metric to compare
+     * @return Median, NaN if even the tier has no value
+     */
+    public double median(Tier tier, Role role, int championId, BenchmarkMetric metric) {
+        int t = tier.ordinal();
+        int m = metric.ordinal();
+        if (role != null) {
+            int r = role.ordinal() + 1;
+            int c = championSlot(championId);
+            if (c != ALL) {
+                int cell = cell(t, r, c, championSlots);
+                if (sampleSizes[cell] >= minChampionSample) {
+                    double v = values[cell * METRICS + m];
+                    if (!Double.isNaN(v)) {
+                        return v;
+                    }
+                }
+            }
+            int cell = cell(t, r, ALL, championSlots);
+            if (sampleSizes[cell] >= minRoleSample) {
+                double v = values[cell * METRICS + m];
+                if (!Double.isNaN(v)) {
+                    return v;
+                }
+            }
+        }
+        return values[cell(t, ALL, ALL, championSlots) * METRICS + m];
+    }
+
+    /**
+     * Tells which key {@link #median} uses for a context (ignoring per-metric gaps).
+     * Lets the UI say "compared with Gold supports" vs "compared with Gold players".
+     *
+     * @return Level of the most specific usable key
+     */
+    public Level level(Tier tier, Role role, int championId) {
+        int t = tier.ordinal();
+        if (role != null) {
+            int r = role.ordinal() + 1;
+            int c = championSlot(championId);
+            if (c != ALL && sampleSizes[cell(t, r, c, championSlots)] >= minChampionSample) {
+                return Level.CHAMPION;
+            }
+            if (sampleSizes[cell(t, r, ALL, championSlots)] >= minRoleSample) {
+                return Level.ROLE;
+            }
+        }
+        return Double.isNaN(values[cell(t, ALL, ALL, championSlots) * METRICS]) ? Level.NONE : Level.TIER;
+    }
+
+    /**
+     * Number of champions with their own slot.
+     *
+     * @return Champion slots, excluding the "all champions" slot
+     */
+    public int championCount() {
+        return championSlots - 1;
+    }
+
+    private int championSlot(int championId) {
+        return championId > 0 && championId <= MAX_CHAMPION_ID ? slotByChampion[championId] : ALL;
+    }
+
+    private static int roleSlot(Role role) {
+        return role == null ? ALL : role.ordinal() + 1;
+    }
+
+    private static int cell(int tier, int roleSlot, int championSlot, int championSlots) {
+        return (tier * ROLE_SLOTS + roleSlot) * championSlots + championSlot;
+    }
+}
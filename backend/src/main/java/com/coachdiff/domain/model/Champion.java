@@ -0,0 +1,33 @@
+package com.coachdiff.domain.model;
+
+/**
+ * A champion from the static data (Data Dragon).
+ *
+ * <h2>Three identifiers</h2>
+ * <pre>
+ * id    62            → Match-V5 championId, the stable key
+ * key   "MonkeyKing"  → Match-V5 championName, asset file names
+ * name  "Wukong"      → What players see
+ * </pre>
+ *
+ * @param id   Numeric champion ID
+ * @param key  Internal name used by the Riot API
+ * @param name Display name
+ */
+public record Champion(
+        int id,
+        String key,
+        String name
+) {
+    public Champion {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Champion ID must be > 0");
+        }
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Champion key cannot be null or blank");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Champion name cannot be null or blank");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.coachdiff.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable champion lookup: ID ↔ key ↔ display name.
+ *
+ * <h2>Canonical instances</h2>
+ * <p>
+ * Every match carries 10 champion names, and the same ~170 values come back
+ * in every match ever fetched. The keys held here seed the canonical string
+ * pool ({@code StaticDataPort#canonical}), so a cache of 10,000 matches
+ * references 170 strings instead of holding 100,000 copies.
+ * </p>
+ *
+ * <h2>Layout</h2>
+ * <p>
+ * Champion IDs are small and dense enough (1 to ~950) to index an array
+ * directly: a lookup by ID is one array read, like {@link BenchmarkTable}.
+ * </p>
+ */
+public final class ChampionCatalog {
+
+    /** Catalog with no champion: every lookup misses. */
+    public static final ChampionCatalog EMPTY = of("none", List.of());
+
+    private final String version;
+    private final Champion[] byId;
+    private final Map<String, Champion> byKey;
+    private final int size;
+
+    private ChampionCatalog(String version, Champion[] byId, Map<String, Champion> byKey) {
+        this.version = version;
+        this.byId = byId;
+        this.byKey = byKey;
+        this.size = byKey.size();
+    }
+
+    /**
+     * Builds a catalog.
+     *
+     * @param version   Static data version (e.g., Data Dragon "15.2.1")
+     * @param champions Champions, unique by ID and key
+     * @return The catalog
+     */
+    public static ChampionCatalog of(String version, Collection<Champion> champions) {
+        int maxId = champions.stream().mapToInt(Champion::id).max().orElse(0);
+        Champion[] byId = new Champion[maxId + 1];
+        Map<String, Champion> byKey = new HashMap<>(champions.size() * 2);
+        for (Champion champion : champions) {
+            if (byId[champion.id()] != null || byKey.putIfAbsent(champion.key(), champion) != null) {
+                throw new IllegalArgumentException("Duplicate champion: " + champion);
+            }
+            byId[champion.id()] = champion;
+        }
+        return new ChampionCatalog(version, byId, Map.copyOf(byKey));
+    }
+
+    /**
+     * Finds a champion by ID.
+     *
+     * @param championId Match-V5 championId
+     * @return The champion, empty if not in this snapshot
+     */
+    public Optional<Champion> byId(int championId) {
+        return Optional.ofNullable(get(championId));
+    }
+
+    /**
+     * Finds a champion by internal key.
+     *
+     * @param key Match-V5 championName (e.g., "MonkeyKing")
+     * @return The champion, empty if not in this snapshot
+     */
+    public Optional<Champion> byKey(String key) {
+        return Optional.ofNullable(key == null ? null : byKey.get(key));
+    }
+
+    /**
+     * All champions, by ascending ID.
+     *
+     * @return Champions of the catalog
+     */
+    public List<Champion> all() {
+        List<Champion> all = new ArrayList<>(size);
+        for (Champion champion : byId) {
+            if (champion != null) {
+                all.add(champion);
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Number of champions.
+     *
+     * @return Champions in the catalog
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Static data version the catalog was built from.
+     *
+     * @return Version string
+     */
+    public String version() {
+        return version;
+    }
+
+    private Champion get(int championId) {
+        return championId > 0 && championId < byId.length ? byId[championId] : null;
+    }
+}
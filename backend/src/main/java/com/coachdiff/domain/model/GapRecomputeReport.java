@@ -0,0 +1,17 @@
+package com.coachdiff.domain.model;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one bulk gap recompute.
+ *
+ * @param profiles Ranked profiles compared
+ * @param changed  Profiles whose hash changed (the only rows written)
+ * @param elapsed  Run duration (load, compute and write)
+ */
+public record GapRecomputeReport(
+        int profiles,
+        int changed,
+        Duration elapsed
+) {
+}
@@ -0,0 +1,95 @@
+package com.coachdiff.domain.model;
+
+/**
+ * A unit of ingestion work, run by any worker node.
+ *
+ * <h2>Types</h2>
+ * <pre>
+ * PROFILE_REFRESH  key = PUUID      → refetch rank, recent matches, metrics
+ * MATCH_FETCH      key = match ID   → fetch one match into the match cache
+ * </pre>
+ *
+ * <p>
+ * Jobs are idempotent: running one twice (e.g., after a worker crash)
+ * refetches the same data and stores the same result.
+ * </p>
+ *
+ * @param type     What to do
+ * @param key      PUUID or match ID, depending on the type
+ * @param region   Platform (e.g., "euw1"), to route Riot calls
+ * @param deferred Times a profile refresh was put back behind its match fetches
+ * @param barrier  Countdown this job releases once completed (see
+ *                 {@link com.coachdiff.domain.port.out.IngestionQueuePort#enqueueThen}),
+ *                 or null
+ */
+public record IngestionJob(
+        Type type,
+        String key,
+        String region,
+        int deferred,
+        String barrier
+) {
+    /** Kind of ingestion work. */
+    public enum Type {
+        PROFILE_REFRESH, MATCH_FETCH
+    }
+
+    public IngestionJob {
+        if (type == null) {
+            throw new IllegalArgumentException("Job type cannot be null");
+        }
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Job key cannot be null or blank");
+        }
+        if (region == null || region.isBlank()) {
+            throw new IllegalArgumentException("Region cannot be null or blank");
+        }
+        if (deferred < 0) {
+            throw new IllegalArgumentException("Deferred count cannot be negative");
+        }
+        if (barrier != null && barrier.isBlank()) {
+            throw new IllegalArgumentException("Barrier cannot be blank");
+        }
+    }
+
+    /**
+     * Job refreshing a stored player's profile.
+     *
+     * @param puuid  Player's PUUID
+     * @param region Player's platform
+     * @return The job
+     */
+    public static IngestionJob profileRefresh(String puuid, String region) {
+        return new IngestionJob(Type.PROFILE_REFRESH, puuid, region, 0, null);
+    }
+
+    /**
+     * Job fetching one match into the match cache.
+     *
+     * @param matchId Match ID (e.g., "EUW1_1234567890")
+     * @param region  Platform the match was played on
+     * @return The job
+     */
+    public static IngestionJob matchFetch(String matchId, String region) {
+        return new IngestionJob(Type.MATCH_FETCH, matchId, region, 0, null);
+    }
+
+    /**
+     * Same job, put back in the queue once more.
+     *
+     * @return The job with its deferred count incremented
+     */
+    public IngestionJob defer() {
+        return new IngestionJob(type, key, region, deferred + 1, barrier);
+    }
+
+    /**
+     * Same job, releasing the given countdown once completed.
+     *
+     * @param barrier Countdown ID, assigned by the queue
+     * @return The job with its barrier set
+     */
+    public IngestionJob withBarrier(String barrier) {
+        return new IngestionJob(type, key, region, deferred, barrier);
+    }
+}
@@ -0,0 +1,45 @@
+package com.coachdiff.domain.model;
+
+import java.util.Locale;
+
+/**
+ * A stored player as the Riot ID search sees them.
+ *
+ * <p>
+ * Search is case-insensitive, like Riot IDs: "Faker#KR1" is indexed and
+ * matched as {@code "faker#kr1"} (its {@link #searchKey() search key}).
+ * </p>
+ *
+ * @param puuid  Player's PUUID
+ * @param riotId Riot ID and platform
+ */
+public record KnownRiotId(
+        String puuid,
+        RiotId riotId
+) {
+    public KnownRiotId {
+        if (puuid == null || puuid.isBlank()) {
+            throw new IllegalArgumentException("PUUID cannot be null or blank");
+        }
+        if (riotId == null) {
+            throw new IllegalArgumentException("Riot ID cannot be null");
+        }
+    }
+
+    /**
+     * @return Lower-cased "gameName#tagLine"
+     */
+    public String searchKey() {
+        return searchKey(riotId.fullRiotId());
+    }
+
+    /**
+     * Normalizes typed text the way search keys are.
+     *
+     * @param text What the user typed (part of a Riot ID)
+     * @return Trimmed, lower-cased text
+     */
+    public static String searchKey(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,39 @@
+package com.coachdiff.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * What one ladder crawl run is allowed to do.
+ *
+ * @param platforms           Platforms to crawl (e.g., ["euw1", "kr"])
+ * @param queue               Queue to crawl (e.g., "RANKED_SOLO_5x5")
+ * @param maxPagesPerDivision Page cap per division (205 players per page)
+ * @param matchesPerPlayer    Recent matches sampled per player
+ * @param matchBudget         Max match fetches in one run (the costly calls)
+ * @param minSamplePlayers    Players needed before a tier's medians are replaced
+ * @param sampleMaxAge        Only samples newer than this feed the medians
+ * @param recrawlAfter        Finished divisions and sampled players are redone after this
+ * @param maxRunTime          Hard deadline of a run
+ */
+public record LadderCrawlPlan(
+        List<String> platforms,
+        String queue,
+        int maxPagesPerDivision,
+        int matchesPerPlayer,
+        int matchBudget,
+        int minSamplePlayers,
+        Duration sampleMaxAge,
+        Duration recrawlAfter,
+        Duration maxRunTime
+) {
+    public LadderCrawlPlan {
+        if (platforms == null || platforms.isEmpty()) {
+            throw new IllegalArgumentException("At least one platform is required");
+        }
+        if (maxPagesPerDivision < 1 || matchesPerPlayer < 1 || matchBudget < 0) {
+            throw new IllegalArgumentException("Invalid crawl budget");
+        }
+        platforms = List.copyOf(platforms);
+    }
+}
@@ -0,0 +1,29 @@
+package com.coachdiff.domain.model;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one ladder crawl run.
+ *
+ * @param pagesFetched      League-V4 pages (or apex lists) read
+ * @param playersSeen       Ladder entries read
+ * @param newPlayers        Entries that were not known yet (after dedupe)
+ * @param matchesFetched    Match-V5 details fetched
+ * @param samplesStored     Sample rows stored (one per known player in a match)
+ * @param playersSampled    Players whose matches are fully sampled
+ * @param tiersUpdated      rank_metrics rows recomputed from the sample
+ * @param benchmarksUpdated rank_benchmarks rows (tier × role × champion) written
+ * @param elapsed           Run duration
+ */
+public record LadderCrawlReport(
+        int pagesFetched,
+        int playersSeen,
+        int newPlayers,
+        int matchesFetched,
+        int samplesStored,
+        int playersSampled,
+        int tiersUpdated,
+        int benchmarksUpdated,
+        Duration elapsed
+) {
+}
@@ -0,0 +1,85 @@
+package com.coachdiff.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Crawl position in one ladder division: which page to read next.
+ *
+ * <h2>Divisions of a queue</h2>
+ * <pre>
+ * IRON .. DIAMOND            → 4 divisions each (I-IV), paginated
+ * MASTER, GRANDMASTER,
+ * CHALLENGER ("apex" tiers)  → one league list each, no pages
+ * </pre>
+ * <p>
+ * That's 31 independent cursors per platform and queue: each one can be
+ * crawled in parallel with all the others.
+ * </p>
+ *
+ * @param platform Platform (e.g., "euw1")
+ * @param queue    Queue (e.g., "RANKED_SOLO_5x5")
+ * @param tier     Rank tier
+ * @param division Division (I-IV), "I" for apex tiers
+ * @param nextPage Next League-V4 page to read (1-based)
+ */
+public record LadderCursor(
+        String platform,
+        String queue,
+        String tier,
+        String division,
+        int nextPage
+) {
+    /** Tiers with divisions, crawled page by page. */
+    public static final List<String> DIVISION_TIERS =
+            List.of("IRON", "BRONZE", "SILVER", "GOLD", "PLATINUM", "EMERALD", "DIAMOND");
+
+    /** Tiers served as a single league list. */
+    public static final List<String> APEX_TIERS = List.of("MASTER", "GRANDMASTER", "CHALLENGER");
+
+    public static final List<String> DIVISIONS = List.of("I", "II", "III", "IV");
+
+    public LadderCursor {
+        if (nextPage < 1) {
+            throw new IllegalArgumentException("Pages are 1-based");
+        }
+    }
+
+    /**
+     * Checks if this cursor is a MASTER+ league list (one request, no pages).
+     *
+     * @return true for MASTER, GRANDMASTER and CHALLENGER
+     */
+    public boolean isApex() {
+        return APEX_TIERS.contains(tier);
+    }
+
+    /**
+     * All starting cursors of a platform and queue (31 of them).
+     *
+     * @param platform Platform (e.g., "euw1")
+     * @param queue    Queue (e.g., "RANKED_SOLO_5x5")
+     * @return One cursor at page 1 per tier/division
+     */
+    public static List<LadderCursor> allFor(String platform, String queue) {
+        List<LadderCursor> cursors = new ArrayList<>();
+        for (String tier : DIVISION_TIERS) {
+            for (String division : DIVISIONS) {
+                cursors.add(new LadderCursor(platform, queue, tier, division, 1));
+            }
+        }
+        for (String tier : APEX_TIERS) {
+            cursors.add(new LadderCursor(platform, queue, tier, "I", 1));
+        }
+        return cursors;
+    }
+
+    /**
+     * Readable label for logs (e.g., "euw1 GOLD II p3").
+     *
+     * @return platform, tier, division and next page
+     */
+    public String label() {
+        return platform + " " + tier + (isApex() ? "" : " " + division) + " p" + nextPage;
+    }
+}
@@ -0,0 +1,28 @@
+package com.coachdiff.domain.model;
+
+/**
+ * One player as listed on a League-V4 ladder page.
+ *
+ * @param puuid        Global player identifier
+ * @param tier         Rank tier (e.g., "GOLD")
+ * @param division     Division (I-IV), "I" for MASTER+
+ * @param leaguePoints LP at crawl time
+ */
+public record LadderEntry(
+        String puuid,
+        String tier,
+        String division,
+        int leaguePoints
+) {
+    public LadderEntry {
+        if (puuid == null || puuid.isBlank()) {
+            throw new IllegalArgumentException("PUUID cannot be null or blank");
+        }
+        if (tier == null || tier.isBlank()) {
+            throw new IllegalArgumentException("Tier cannot be null or blank");
+        }
+        if (division == null || division.isBlank()) {
+            division = "I";
+        }
+    }
+}
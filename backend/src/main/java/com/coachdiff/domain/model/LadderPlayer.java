@@ -0,0 +1,15 @@
+package com.coachdiff.domain.model;
+
+/**
+ * A crawled ladder player waiting for (or due) match sampling.
+ *
+ * @param puuid    Global player identifier
+ * @param platform Platform the player was found on
+ * @param tier     Tier at crawl time
+ */
+public record LadderPlayer(
+        String puuid,
+        String platform,
+        String tier
+) {
+}
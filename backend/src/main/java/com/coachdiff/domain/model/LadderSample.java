@@ -0,0 +1,71 @@
+package com.coachdiff.domain.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Raw stats of one participant of a sampled match.
+ *
+ * <p>
+ * Metrics (CS/min, KDA, kill participation...) are derived when medians are
+ * computed, with the same formulas as the profile aggregates.
+ * </p>
+ *
+ * @param puuid       Participant
+ * @param role        Position played (null if Riot didn't assign one)
+ * @param championId  Champion played
+ * @param kills       Kills
+ * @param deaths      Deaths
+ * @param assists     Assists
+ * @param cs          Lane + jungle CS
+ * @param visionScore Vision score
+ * @param teamKills   Total kills of the participant's team
+ */
+public record LadderSample(
+        String puuid,
+        Role role,
+        int championId,
+        int kills,
+        int deaths,
+        int assists,
+        int cs,
+        int visionScore,
+        int teamKills
+) {
+    /**
+     * Games shorter than this are remakes: their stats would skew the medians.
+     */
+    public static final int REMAKE_MAX_SECONDS = 300;
+
+    /**
+     * Extracts one sample per participant of a match.
+     * <p>
+     * Teams are told apart by the win flag (one team wins, the other loses),
+     * which is all MatchParticipant exposes and holds for every non-remake game.
+     * </p>
+     *
+     * @param match Full match
+     * @return Samples of all 10 participants, empty for remakes
+     */
+    public static List<LadderSample> fromMatch(MatchDetails match) {
+        if (match.gameDurationSeconds() < REMAKE_MAX_SECONDS) {
+            return List.of();
+        }
+        Map<Boolean, Integer> teamKills = match.participants().stream()
+                .collect(Collectors.groupingBy(MatchParticipant::win,
+                        Collectors.summingInt(MatchParticipant::kills)));
+        return match.participants().stream()
+                .map(p -> new LadderSample(
+                        p.puuid(),
+                        Role.fromTeamPosition(p.teamPosition()),
+                        p.championId(),
+                        p.kills(),
+                        p.deaths(),
+                        p.assists(),
+                        p.totalCs(),
+                        p.visionScore(),
+                        teamKills.getOrDefault(p.win(), 0)))
+                .toList();
+    }
+}
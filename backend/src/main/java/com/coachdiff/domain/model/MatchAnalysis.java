@@ -0,0 +1,101 @@
+package com.coachdiff.domain.model;
+
+import java.time.Instant;
+
+/**
+ * One player's stats in one analyzed match (a row of {@code match_analyses}).
+ *
+ * <h2>MatchDetails vs MatchAnalysis</h2>
+ * <p>
+ * {@link MatchDetails} is the full match as returned by Riot (10 participants).
+ * {@code MatchAnalysis} is the flat, per-player slice we store and aggregate:
+ * it only keeps what the coaching metrics need.
+ * </p>
+ *
+ * @param matchId             Unique match identifier (e.g., "EUW1_1234567890")
+ * @param puuid               Player this analysis belongs to
+ * @param playedAt            When the match started
+ * @param championName        Champion played (e.g., "Ahri")
+ * @param win                 True if the player's team won
+ * @param kills               Champion kills
+ * @param deaths              Deaths
+ * @param assists             Assists
+ * @param cs                  Total CS (lane minions + jungle monsters)
+ * @param gameDurationSeconds Game duration in seconds
+ * @param visionScore         Vision score
+ * @param goldDiffAt15        Gold diff vs lane opponent at 15 min (null if unavailable)
+ */
+public record MatchAnalysis(
+        String matchId,
+        String puuid,
+        Instant playedAt,
+        String championName,
+        boolean win,
+        int kills,
+        int deaths,
+        int assists,
+        int cs,
+        int gameDurationSeconds,
+        int visionScore,
+        Integer goldDiffAt15
+) {
+    public MatchAnalysis {
+        if (matchId == null || matchId.isBlank()) {
+            throw new IllegalArgumentException("Match ID cannot be null or blank");
+        }
+        if (puuid == null || puuid.isBlank()) {
+            throw new IllegalArgumentException("PUUID cannot be null or blank");
+        }
+        if (playedAt == null) {
+            throw new IllegalArgumentException("Played at cannot be null");
+        }
+    }
+
+    /**
+     * Extracts the analysis of one participant from a full match.
+     *
+     * @param match       Full match details
+     * @param participant The participant to analyze (must belong to the match)
+     * @return Flat per-player analysis
+     */
+    public static MatchAnalysis of(MatchDetails match, MatchParticipant participant) {
+        return new MatchAnalysis(
+                match.matchId(),
+                participant.puuid(),
+                match.gameCreation(),
+                participant.championName(),
+                participant.win(),
+                participant.kills(),
+                participant.deaths(),
+                participant.assists(),
+                participant.totalCs(),
+                match.gameDurationSeconds(),
+                participant.visionScore(),
+                null // Needs the match timeline (Match-V5 /timeline), not fetched yet
+        );
+    }
+
+    /**
+     * Rebuilds the analysis of a stored history line.
+     *
+     * @param puuid   Player the history belongs to
+     * @param summary Stored match of that player
+     * @return Analysis; the gold diff is null, like for every analyzed match so far
+     */
+    public static MatchAnalysis of(String puuid, MatchSummary summary) {
+        return new MatchAnalysis(
+                summary.matchId(),
+                puuid,
+                summary.playedAt(),
+                summary.championName(),
+                summary.win(),
+                summary.kills(),
+                summary.deaths(),
+                summary.assists(),
+                summary.cs(),
+                summary.gameDurationSeconds(),
+                summary.visionScore(),
+                null
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.coachdiff.domain.model;
+
+import com.coachdiff.domain.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a player's match history: the last match of a page.
+ *
+ * <p>
+ * The next page starts strictly after it, in history order
+ * ({@code played_at DESC, match_id DESC}). Clients only see the
+ * {@link #encode() opaque form} and send it back unchanged.
+ * </p>
+ *
+ * <pre>
+ * (2026-10-12T18:03:11Z, EUW1_7012345678) → "MjAyNi0xMC0xMlQxODowMzoxMVp8RVVXMV83MDEyMzQ1Njc4"
+ * </pre>
+ *
+ * @param playedAt When the last match of the page was played
+ * @param matchId  Its ID (tie-breaker between matches played at the same time)
+ */
+public record MatchCursor(
+        Instant playedAt,
+        String matchId
+) {
+    private static final char SEPARATOR = '|';
+
+    public MatchCursor {
+        if (playedAt == null) {
+            throw new IllegalArgumentException("Played at cannot be null");
+        }
+        if (matchId == null || matchId.isBlank()) {
+            throw new IllegalArgumentException("Match ID cannot be null or blank");
+        }
+    }
+
+    /**
+     * Cursor pointing after a match.
+     *
+     * @param match Last match of a page
+     * @return Its cursor
+     */
+    public static MatchCursor after(MatchSummary match) {
+        return new MatchCursor(match.playedAt(), match.matchId());
+    }
+
+    /**
+     * Opaque, URL-safe form sent to clients.
+     *
+     * @return Base64url of "playedAt|matchId" (full Instant precision, no padding)
+     */
+    public String encode() {
+        String raw = playedAt.toString() + SEPARATOR + matchId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a cursor received from a client.
+     *
+     * @param encoded Value of {@link #encode()}
+     * @return The cursor
+     * @throws InvalidRequestException if it wasn't produced by {@link #encode()}
+     */
+    public static MatchCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid match cursor");
+            }
+            return new MatchCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // Not Base64, or a blank match ID: as malformed as a bad date
+            throw new InvalidRequestException("Invalid match cursor", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.coachdiff.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a player's match history, newest first.
+ *
+ * @param matches Matches of the page (at most the requested size)
+ * @param next    Cursor of the next page, null on the last page
+ */
+public record MatchHistoryPage(
+        List<MatchSummary> matches,
+        MatchCursor next
+) {
+    /** Page size when the client doesn't ask for one. */
+    public static final int DEFAULT_SIZE = 20;
+
+    /** Largest page a client can ask for. */
+    public static final int MAX_SIZE = 100;
+
+    public MatchHistoryPage {
+        if (matches == null) {
+            throw new IllegalArgumentException("Matches cannot be null");
+        }
+        matches = List.copyOf(matches);
+    }
+
+    /**
+     * Builds a page from a query that read one row more than the page size.
+     * <p>
+     * The extra row only tells that another page exists; it isn't returned.
+     * </p>
+     *
+     * @param rows Up to {@code size + 1} rows, in history order
+     * @param size Page size
+     * @return The page, with a next cursor if there was an extra row
+     */
+    public static MatchHistoryPage of(List<MatchSummary> rows, int size) {
+        if (rows.size() <= size) {
+            return new MatchHistoryPage(rows, null);
+        }
+        List<MatchSummary> page = rows.subList(0, size);
+        return new MatchHistoryPage(page, MatchCursor.after(page.getLast()));
+    }
+}
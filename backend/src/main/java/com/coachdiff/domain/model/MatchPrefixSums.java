@@ -0,0 +1,209 @@
+package com.coachdiff.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Cumulative sums of the {@link TrendMetric trend metrics} over a player's
+ * matches, oldest first: any rolling average is one subtraction.
+ *
+ * <h2>Layout</h2>
+ * <pre>
+ * games       g0    g1    g2    g3    ...  g(n-1)
+ * sums[m]   0    v0   +v1   +v2   +v3   ...        (n + 1 entries)
+ *
+ * average of the w games ending at g(i) = (sums[m][i+1] − sums[m][i+1−w]) / w
+ * </pre>
+ * <p>
+ * O(1) per point whatever the window: a 50-game average costs the same as
+ * a 10-game one, and a chart of p points costs O(p), not O(p × w).
+ * </p>
+ * <p>
+ * Per-game values have 4 decimals, so the sums are exact integers in units
+ * of 0.0001: no drift however many games are appended, and averages round
+ * (HALF_UP, 2 decimals) exactly like the profile aggregates.
+ * </p>
+ *
+ * <h2>Growing</h2>
+ * <p>
+ * Immutable: {@link #append} returns new sums extended by the new games
+ * (O(n + k), no value recomputed). Only the newest {@code capacity} games
+ * are kept; older ones are dropped and the sums rebased on the first kept
+ * game, which keeps the values small.
+ * </p>
+ */
+public final class MatchPrefixSums {
+
+    /** History order: played_at, then match ID. */
+    private static final Comparator<MatchCursor> ORDER =
+            Comparator.comparing(MatchCursor::playedAt).thenComparing(MatchCursor::matchId);
+
+    private static final TrendMetric[] METRICS = TrendMetric.values();
+
+    /** Sums are in units of 10^-SCALE. */
+    private static final int SCALE = 4;
+    private static final double UNIT = 10_000;
+
+    private final int capacity;
+    private final String[] matchIds;
+    private final Instant[] playedAt;
+    private final long[][] sums;
+
+    private MatchPrefixSums(int capacity, String[] matchIds, Instant[] playedAt, long[][] sums) {
+        this.capacity = capacity;
+        this.matchIds = matchIds;
+        this.playedAt = playedAt;
+        this.sums = sums;
+    }
+
+    /**
+     * Builds the sums of a history.
+     *
+     * @param matches  Matches of one player, oldest first
+     * @param capacity Newest games kept, &gt;= 1
+     * @return The sums (empty if there are no matches)
+     */
+    public static MatchPrefixSums of(List<MatchSummary> matches, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be >= 1");
+        }
+        long[][] sums = new long[METRICS.length][1];
+        return new MatchPrefixSums(capacity, new String[0], new Instant[0], sums).append(matches);
+    }
+
+    /**
+     * Extends the sums with newer games.
+     *
+     * @param newer Games played after {@link #tip()}, oldest first
+     * @return Sums covering the newest {@code capacity} games
+     * @throws IllegalArgumentException if a game is not newer than the previous one
+     */
+    public MatchPrefixSums append(List<MatchSummary> newer) {
+        if (newer.isEmpty()) {
+            return this;
+        }
+        int total = size() + newer.size();
+        int kept = Math.min(total, capacity);
+        int drop = total - kept;
+
+        String[] ids = new String[kept];
+        Instant[] times = new Instant[kept];
+        long[][] next = new long[METRICS.length][kept + 1];
+        // Old games still kept, rebased on the first of them
+        int fromOld = Math.max(size() - drop, 0);
+        int oldStart = size() - fromOld;
+        System.arraycopy(matchIds, oldStart, ids, 0, fromOld);
+        System.arraycopy(playedAt, oldStart, times, 0, fromOld);
+        for (int m = 0; m < METRICS.length; m++) {
+            long base = sums[m][oldStart];
+            for (int i = 1; i <= fromOld; i++) {
+                next[m][i] = sums[m][oldStart + i] - base;
+            }
+        }
+
+        MatchCursor previous = tip();
+        int skip = newer.size() - (kept - fromOld);
+        for (int k = 0; k < newer.size(); k++) {
+            MatchSummary match = newer.get(k);
+            MatchCursor cursor = MatchCursor.after(match);
+            if (previous != null && ORDER.compare(cursor, previous) <= 0) {
+                throw new IllegalArgumentException("Match " + match.matchId() + " is not newer than "
+                        + previous.matchId());
+            }
+            previous = cursor;
+            if (k < skip) {
+                continue;
+            }
+            int i = fromOld + k - skip;
+            ids[i] = match.matchId();
+            times[i] = match.playedAt();
+            for (int m = 0; m < METRICS.length; m++) {
+                next[m][i + 1] = next[m][i] + Math.round(METRICS[m].valueOf(match) * UNIT);
+            }
+        }
+        return new MatchPrefixSums(capacity, ids, times, next);
+    }
+
+    /**
+     * @return Number of games covered
+     */
+    public int size() {
+        return matchIds.length;
+    }
+
+    /**
+     * @return Newest games kept
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Position of the newest game, null if there is none
+     */
+    public MatchCursor tip() {
+        int last = size() - 1;
+        return last < 0 ? null : new MatchCursor(playedAt[last], matchIds[last]);
+    }
+
+    /**
+     * Whether a game comes after the newest one covered.
+     *
+     * @param match A game of the same player
+     * @return true if it is later in history order (always, when empty)
+     */
+    public boolean isNewer(MatchSummary match) {
+        MatchCursor tip = tip();
+        return tip == null || ORDER.compare(MatchCursor.after(match), tip) > 0;
+    }
+
+    /**
+     * Average of a metric over the {@code window} games ending at one game.
+     *
+     * @param metric Metric
+     * @param end    Index of the last game of the window (0 = oldest covered)
+     * @param window Games in the window, 1 to {@code end + 1}
+     * @return The average, rounded to 2 decimals (HALF_UP)
+     */
+    public double average(TrendMetric metric, int end, int window) {
+        if (window < 1 || end < window - 1 || end >= size()) {
+            throw new IllegalArgumentException("No " + window + "-game window ends at game " + end);
+        }
+        long[] s = sums[metric.ordinal()];
+        return BigDecimal.valueOf(s[end + 1] - s[end + 1 - window], SCALE)
+                .divide(BigDecimal.valueOf(window), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    /**
+     * Moving averages of every metric over one window, for the newest games.
+     *
+     * @param window Games per average, &gt;= 1
+     * @param points Newest games to chart, &gt;= 1
+     * @return One point per game that ends a full window, oldest first
+     *         (empty if fewer than {@code window} games are covered)
+     */
+    public TrendSeries series(int window, int points) {
+        if (window < 1 || points < 1) {
+            throw new IllegalArgumentException("Window and points must be >= 1");
+        }
+        int first = Math.max(window - 1, size() - points);
+        List<TrendSeries.Point> list = new ArrayList<>(Math.max(size() - first, 0));
+        for (int end = first; end < size(); end++) {
+            list.add(new TrendSeries.Point(matchIds[end], playedAt[end],
+                    average(TrendMetric.CS_PER_MIN, end, window),
+                    average(TrendMetric.KDA, end, window),
+                    average(TrendMetric.VISION_PER_MIN, end, window)));
+        }
+        return new TrendSeries(window, list);
+    }
+
+    @Override
+    public String toString() {
+        return "MatchPrefixSums[games=" + size() + ", tip=" + tip() + "]";
+    }
+}
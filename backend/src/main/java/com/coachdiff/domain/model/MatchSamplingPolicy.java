@@ -0,0 +1,36 @@
+package com.coachdiff.domain.model;
+
+/**
+ * How many recent matches a profile fetch may pull, and when it may stop early.
+ *
+ * <pre>
+ * minMatches first, then waves of waveSize
+ * stop when the topGaps worst gaps are settled (within ±tolerance, or clearly
+ * on one side of the weakness threshold), or at maxMatches
+ * </pre>
+ *
+ * @param minMatches Always fetched (enough for a first variance estimate)
+ * @param maxMatches Hard cap; keep at most the profile window (20 games)
+ * @param waveSize   Matches fetched per extra wave, in parallel
+ * @param topGaps    Worst gaps that must be settled (the ones suggestions use)
+ * @param tolerance  Accepted 95% half-width of a gap (0.15 = ±15% of the median)
+ */
+public record MatchSamplingPolicy(
+        int minMatches,
+        int maxMatches,
+        int waveSize,
+        int topGaps,
+        double tolerance
+) {
+    public MatchSamplingPolicy {
+        if (minMatches < 2 || maxMatches < minMatches) {
+            throw new IllegalArgumentException("Need 2 <= min matches <= max matches");
+        }
+        if (waveSize < 1 || topGaps < 1) {
+            throw new IllegalArgumentException("Wave size and top gaps must be >= 1");
+        }
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance must be > 0");
+        }
+    }
+}
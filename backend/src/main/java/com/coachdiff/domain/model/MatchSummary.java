@@ -0,0 +1,45 @@
+package com.coachdiff.domain.model;
+
+import java.time.Instant;
+
+/**
+ * One line of a player's match history: the columns a list shows, nothing more.
+ *
+ * <p>
+ * Read straight from the history query (no {@link MatchAnalysis} is built):
+ * the player is implied by the query, and rolling-window bookkeeping
+ * columns are never selected.
+ * </p>
+ *
+ * @param matchId             Match ID
+ * @param playedAt            When the match started
+ * @param championName        Champion played
+ * @param win                 True if the player's team won
+ * @param kills               Champion kills
+ * @param deaths              Deaths
+ * @param assists             Assists
+ * @param cs                  Total CS
+ * @param gameDurationSeconds Game duration in seconds
+ * @param visionScore         Vision score
+ */
+public record MatchSummary(
+        String matchId,
+        Instant playedAt,
+        String championName,
+        boolean win,
+        int kills,
+        int deaths,
+        int assists,
+        int cs,
+        int gameDurationSeconds,
+        int visionScore
+) {
+    public MatchSummary {
+        if (matchId == null || matchId.isBlank()) {
+            throw new IllegalArgumentException("Match ID cannot be null or blank");
+        }
+        if (playedAt == null) {
+            throw new IllegalArgumentException("Played at cannot be null");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.coachdiff.domain.model;
+
+import java.util.List;
+
+/**
+ * Trend charts of one player: a series per requested window, from the same
+ * prefix sums.
+ *
+ * @param games  Games the series are computed from (newest ones, at most the trend history)
+ * @param series One series per requested window, in request order
+ */
+public record PlayerTrends(
+        int games,
+        List<TrendSeries> series
+) {
+    /**
+     * Largest window a caller may ask for.
+     */
+    public static final int MAX_WINDOW = 100;
+
+    /**
+     * Largest number of points per series.
+     */
+    public static final int MAX_POINTS = 100;
+
+    /**
+     * Newest games kept per player: enough for the largest window at every point.
+     */
+    public static final int HISTORY = MAX_WINDOW + MAX_POINTS - 1;
+
+    public PlayerTrends {
+        if (games < 0) {
+            throw new IllegalArgumentException("Games must be >= 0");
+        }
+        if (series == null) {
+            throw new IllegalArgumentException("Series cannot be null");
+        }
+        series = List.copyOf(series);
+    }
+}
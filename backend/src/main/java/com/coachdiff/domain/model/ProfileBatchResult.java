@@ -0,0 +1,45 @@
+package com.coachdiff.domain.model;
+
+/**
+ * Outcome of fetching one player inside a batch (roster) request.
+ *
+ * <p>
+ * A batch never fails as a whole: each player gets its own result,
+ * delivered as soon as that player is done.
+ * </p>
+ *
+ * @param riotId        The requested player
+ * @param status        Outcome of the fetch
+ * @param profile       The profile (only when status is OK)
+ * @param error         Human-readable error (null when status is OK)
+ * @param elapsedMillis Time spent on this player
+ */
+public record ProfileBatchResult(
+        RiotId riotId,
+        Status status,
+        SummonerProfile profile,
+        String error,
+        long elapsedMillis
+) {
+    /**
+     * Possible outcomes of a single player fetch.
+     */
+    public enum Status {
+        /** Profile fetched and stored */
+        OK,
+        /** Riot ID doesn't exist on that platform */
+        NOT_FOUND,
+        /** Riot API or storage error */
+        FAILED,
+        /** The batch deadline expired before the player was done */
+        TIMEOUT
+    }
+
+    public static ProfileBatchResult ok(RiotId riotId, SummonerProfile profile, long elapsedMillis) {
+        return new ProfileBatchResult(riotId, Status.OK, profile, null, elapsedMillis);
+    }
+
+    public static ProfileBatchResult failed(RiotId riotId, Status status, String error, long elapsedMillis) {
+        return new ProfileBatchResult(riotId, status, null, error, elapsedMillis);
+    }
+}
@@ -0,0 +1,32 @@
+package com.coachdiff.domain.model;
+
+/**
+ * Recomputed gaps of one profile, to be stored.
+ *
+ * @param puuid       Player's PUUID
+ * @param tier        Tier the gaps were computed for
+ * @param gaps        One gap per {@link BenchmarkMetric} vs the tier, then one
+ *                    per metric vs the tier above (positive = better, NaN = no data)
+ * @param profileHash MD5 of tier, role and rounded gaps
+ */
+public record ProfileGaps(
+        String puuid,
+        Tier tier,
+        float[] gaps,
+        String profileHash
+) {
+    public ProfileGaps {
+        if (puuid == null || puuid.isBlank()) {
+            throw new IllegalArgumentException("PUUID cannot be null or blank");
+        }
+        if (tier == null) {
+            throw new IllegalArgumentException("Tier cannot be null");
+        }
+        if (gaps == null || gaps.length != 2 * BenchmarkMetric.values().length) {
+            throw new IllegalArgumentException("Expected one gap per metric for both tiers");
+        }
+        if (profileHash == null || profileHash.isBlank()) {
+            throw new IllegalArgumentException("Profile hash cannot be null or blank");
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.coachdiff.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Metrics of many profiles in column layout: one primitive array per metric.
+ *
+ * <h2>Why columns</h2>
+ * <pre>
+ * rows:     [puuid, tier, cs, kda, vision, ...] × 300k   → objects, pointers, boxing
+ * columns:  cs[300k]  kda[300k]  vision[300k] ...        → flat float arrays
+ * </pre>
+ * <p>
+ * A bulk comparison reads one metric of every profile in a row: with columns
+ * that is a sequential scan of one {@code float[]}, which the JIT turns into
+ * SIMD instructions. Rows are grouped by (tier, role), so a whole run of
+ * rows shares the same medians.
+ * </p>
+ *
+ * <p>
+ * Arrays are exposed as is (no copies): treat them as read-only.
+ * </p>
+ */
+public final class ProfileMetricColumns {
+
+    private static final int METRICS = BenchmarkMetric.values().length;
+
+    private final int size;
+    private final String[] puuids;
+    private final Tier[] tiers;
+    private final Role[] roles;
+    private final float[][] values;
+    private final String[] hashes;
+
+    private ProfileMetricColumns(int size, String[] puuids, Tier[] tiers, Role[] roles, float[][] values,
+                                 String[] hashes) {
+        this.size = size;
+        this.puuids = puuids;
+        this.tiers = tiers;
+        this.roles = roles;
+        this.values = values;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Starts an empty set of columns.
+     *
+     * @return Builder growing its arrays as rows are added
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String puuid(int row) {
+        return puuids[row];
+    }
+
+    public Tier tier(int row) {
+        return tiers[row];
+    }
+
+    /** Main role, null when unknown. */
+    public Role role(int row) {
+        return roles[row];
+    }
+
+    /**
+     * Column of one metric.
+     *
+     * @param metric Metric
+     * @return Values by row (NaN = no value); at least {@link #size()} long
+     */
+    public float[] column(BenchmarkMetric metric) {
+        return values[metric.ordinal()];
+    }
+
+    /** Profile hash stored by the previous recompute, null if never computed. */
+    public String previousHash(int row) {
+        return hashes[row];
+    }
+
+    /**
+     * Appends rows; rows of the same (tier, role) must be added together.
+     */
+    public static final class Builder {
+
+        private int size;
+        private String[] puuids = new String[1024];
+        private Tier[] tiers = new Tier[1024];
+        private Role[] roles = new Role[1024];
+        private float[][] values = new float[METRICS][1024];
+        private String[] hashes = new String[1024];
+
+        private Builder() {
+        }
+
+        /**
+         * Adds one profile.
+         *
+         * @param puuid        Player's PUUID
+         * @param tier         Current tier
+         * @param role         Main role, null if unknown
+         * @param metrics      One value per {@link BenchmarkMetric} ordinal (NaN = none)
+         * @param previousHash Hash of the previous recompute, null if none
+         * @return This builder
+         */
+        public Builder add(String puuid, Tier tier, Role role, float[] metrics, String previousHash) {
+            if (puuid == null || tier == null) {
+                throw new IllegalArgumentException("PUUID and tier cannot be null");
+            }
+            if (metrics.length != METRICS) {
+                throw new IllegalArgumentException("Expected " + METRICS + " metric values");
+            }
+            if (size == puuids.length) {
+                grow();
+            }
+            puuids[size] = puuid;
+            tiers[size] = tier;
+            roles[size] = role;
+            for (int m = 0; m < METRICS; m++) {
+                values[m][size] = metrics[m];
+            }
+            hashes[size] = previousHash;
+            size++;
+            return this;
+        }
+
+        public ProfileMetricColumns build() {
+            return new ProfileMetricColumns(size, puuids, tiers, roles, values, hashes);
+        }
+
+        private void grow() {
+            int capacity = puuids.length * 2;
+            puuids = Arrays.copyOf(puuids, capacity);
+            tiers = Arrays.copyOf(tiers, capacity);
+            roles = Arrays.copyOf(roles, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            for (int m = 0; m < METRICS; m++) {
+                values[m] = Arrays.copyOf(values[m], capacity);
+            }
+        }
+    }
+}
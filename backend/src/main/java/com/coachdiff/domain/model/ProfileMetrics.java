@@ -0,0 +1,128 @@
+package com.coachdiff.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Aggregated coaching metrics over a player's recent games.
+ *
+ * <p>
+ * These are averages over a rolling window of the last N ranked games
+ * (N = 20 by default). Nullable metrics are those Riot doesn't always
+ * provide (e.g., gold diff needs the match timeline).
+ * </p>
+ *
+ * @param gamesAnalyzed     Number of games the averages are computed on
+ * @param wins              Wins among those games
+ * @param csPerMin          Average CS per minute
+ * @param kda               Average KDA
+ * @param visionPerMin      Average vision score per minute
+ * @param killParticipation Average kill participation % (null if unknown)
+ * @param avgDeaths         Average deaths per game
+ * @param goldDiffAt15      Average gold diff at 15 min (null if unknown)
+ */
+public record ProfileMetrics(
+        int gamesAnalyzed,
+        int wins,
+        double csPerMin,
+        double kda,
+        double visionPerMin,
+        Double killParticipation,
+        double avgDeaths,
+        Integer goldDiffAt15
+) {
+    /**
+     * Metrics of a player with no analyzed games yet.
+     */
+    public static final ProfileMetrics EMPTY = new ProfileMetrics(0, 0, 0, 0, 0, null, 0, null);
+
+    /**
+     * Games covered by the rolling window (default {@code window_size}, V4).
+     */
+    public static final int WINDOW_SIZE = 20;
+
+    public ProfileMetrics {
+        if (gamesAnalyzed < 0) {
+            throw new IllegalArgumentException("Games analyzed must be >= 0");
+        }
+    }
+
+    /**
+     * Checks if there is at least one game behind these metrics.
+     *
+     * @return true if gamesAnalyzed &gt; 0
+     */
+    public boolean hasData() {
+        return gamesAnalyzed > 0;
+    }
+
+    /**
+     * Computes the metrics in memory, with the same formulas as the V4 trigger.
+     *
+     * <pre>
+     * window      newest WINDOW_SIZE matches (played_at DESC, match_id DESC)
+     * per game    rounded to 4 decimals (cs/min, vision/min, kda)
+     * averages    rounded to 2 decimals, gold diff to the unit
+     * </pre>
+     * <p>
+     * Used to answer a refresh before its matches are stored. To get the
+     * aggregates the trigger will store, {@code matches} must include the
+     * player's newest stored games, which may still fill the window.
+     * </p>
+     *
+     * @param matches Analyzed matches of one player
+     * @return Metrics over the newest matches, {@link #EMPTY} if there are none
+     */
+    public static ProfileMetrics of(Collection<MatchAnalysis> matches) {
+        List<MatchAnalysis> window = matches.stream()
+                .sorted(Comparator.comparing(MatchAnalysis::playedAt)
+                        .thenComparing(MatchAnalysis::matchId).reversed())
+                .limit(WINDOW_SIZE)
+                .toList();
+        if (window.isEmpty()) {
+            return EMPTY;
+        }
+        int wins = 0;
+        int deaths = 0;
+        double csPerMin = 0;
+        double kda = 0;
+        double visionPerMin = 0;
+        long goldDiff = 0;
+        int goldDiffGames = 0;
+        for (MatchAnalysis m : window) {
+            wins += m.win() ? 1 : 0;
+            deaths += m.deaths();
+            csPerMin += perMinute(m.cs(), m.gameDurationSeconds());
+            kda += round((m.kills() + m.assists()) / (double) Math.max(m.deaths(), 1), 4);
+            visionPerMin += perMinute(m.visionScore(), m.gameDurationSeconds());
+            if (m.goldDiffAt15() != null) {
+                goldDiff += m.goldDiffAt15();
+                goldDiffGames++;
+            }
+        }
+        int games = window.size();
+        return new ProfileMetrics(
+                games,
+                wins,
+                round(csPerMin / games, 2),
+                round(kda / games, 2),
+                round(visionPerMin / games, 2),
+                null, // Not aggregated by the trigger either
+                round(deaths / (double) games, 2),
+                goldDiffGames > 0 ? (int) Math.round(goldDiff / (double) goldDiffGames) : null);
+    }
+
+    static double perMinute(int value, int durationSeconds) {
+        return durationSeconds > 0 ? round(value * 60.0 / durationSeconds, 4) : 0;
+    }
+
+    /**
+     * HALF_UP on the decimal value, like Postgres {@code round(numeric, n)}.
+     */
+    static double round(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).doubleValue();
+    }
+}
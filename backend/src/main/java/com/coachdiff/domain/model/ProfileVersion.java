@@ -0,0 +1,37 @@
+package com.coachdiff.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Version of a stored profile: enough to tell whether a client's copy is current.
+ *
+ * <p>
+ * Much cheaper to load than the profile itself (see V7 covering index).
+ * </p>
+ *
+ * @param puuid     Player's PUUID
+ * @param updatedAt Last change of identity, rank or metrics
+ */
+public record ProfileVersion(
+        String puuid,
+        Instant updatedAt
+) {
+    public ProfileVersion {
+        if (puuid == null || puuid.isBlank()) {
+            throw new IllegalArgumentException("PUUID cannot be null or blank");
+        }
+        if (updatedAt == null) {
+            throw new IllegalArgumentException("Updated at cannot be null");
+        }
+    }
+
+    /**
+     * Version of a loaded profile.
+     *
+     * @param profile Profile
+     * @return Its version
+     */
+    public static ProfileVersion of(SummonerProfile profile) {
+        return new ProfileVersion(profile.puuid(), profile.updatedAt());
+    }
+}
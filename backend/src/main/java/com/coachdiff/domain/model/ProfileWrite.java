@@ -0,0 +1,79 @@
+package com.coachdiff.domain.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything a profile refresh has to store: the profile, its analyzed
+ * matches, and the full matches it fetched from Riot.
+ *
+ * <h2>Coalescing</h2>
+ * <pre>
+ * older  profile v1, matches {A, B, C}
+ * newer  profile v2, matches {B, C, D}
+ * merged profile v2, matches {A, B, C, D}
+ * </pre>
+ * <p>
+ * The newest identity and rank win; matches are never lost, since storing
+ * them is what moves the rolling aggregates. Fetched matches are merged the
+ * same way.
+ * </p>
+ *
+ * @param profile Profile to store (identity, rank, main role)
+ * @param matches Analyzed matches of that player
+ * @param fetched Matches fetched from Riot for this refresh, all ten
+ *                participants, for the match store
+ */
+public record ProfileWrite(
+        SummonerProfile profile,
+        List<MatchAnalysis> matches,
+        List<MatchDetails> fetched
+) {
+    public ProfileWrite {
+        if (profile == null) {
+            throw new IllegalArgumentException("Profile cannot be null");
+        }
+        if (matches == null) {
+            throw new IllegalArgumentException("Matches cannot be null");
+        }
+        for (MatchAnalysis match : matches) {
+            if (!match.puuid().equals(profile.puuid())) {
+                throw new IllegalArgumentException("Match " + match.matchId() + " belongs to another player");
+            }
+        }
+        if (fetched == null) {
+            throw new IllegalArgumentException("Fetched matches cannot be null");
+        }
+        matches = List.copyOf(matches);
+        fetched = List.copyOf(fetched);
+    }
+
+    /**
+     * @return The player's PUUID
+     */
+    public String puuid() {
+        return profile.puuid();
+    }
+
+    /**
+     * Merges a later write of the same player into this one.
+     *
+     * @param newer Later write of the same PUUID
+     * @return Newer profile, union of the matches and of the fetched matches (by match ID)
+     */
+    public ProfileWrite coalesce(ProfileWrite newer) {
+        if (!newer.puuid().equals(puuid())) {
+            throw new IllegalArgumentException("Cannot coalesce writes of different players");
+        }
+        Map<String, MatchAnalysis> union = new LinkedHashMap<>();
+        matches.forEach(m -> union.put(m.matchId(), m));
+        newer.matches().forEach(m -> union.put(m.matchId(), m));
+        Map<String, MatchDetails> fetchedUnion = new LinkedHashMap<>();
+        fetched.forEach(m -> fetchedUnion.put(m.matchId(), m));
+        newer.fetched().forEach(m -> fetchedUnion.put(m.matchId(), m));
+        return new ProfileWrite(newer.profile(), new ArrayList<>(union.values()),
+                new ArrayList<>(fetchedUnion.values()));
+    }
+}
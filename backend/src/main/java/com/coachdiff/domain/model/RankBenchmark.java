@@ -0,0 +1,67 @@
+package com.coachdiff.domain.model;
+
+/**
+ * Medians of one benchmark key: a tier, optionally narrowed to a role and a champion.
+ *
+ * <h2>Keys, from finest to coarsest</h2>
+ * <pre>
+ * (GOLD, SUPPORT, Thresh) → Gold supports playing Thresh
+ * (GOLD, SUPPORT, *)      → Gold supports        (championId = 0)
+ * (GOLD, *, *)            → Gold players         (role = null, from rank_metrics)
+ * </pre>
+ *
+ * @param tier              Rank tier
+ * @param role              Role, null for all roles
+ * @param championId        Champion, {@value #ALL_CHAMPIONS} for all champions
+ * @param sampleSize        Players behind the medians
+ * @param csPerMin          Median CS per minute
+ * @param kda               Median KDA
+ * @param visionPerMin      Median vision score per minute
+ * @param killParticipation Median kill participation %
+ * @param deaths            Median deaths per game
+ * @param goldDiffAt15      Median gold diff at 15 min (null if unknown)
+ */
+public record RankBenchmark(
+        Tier tier,
+        Role role,
+        int championId,
+        int sampleSize,
+        double csPerMin,
+        double kda,
+        double visionPerMin,
+        double killParticipation,
+        double deaths,
+        Double goldDiffAt15
+) {
+    /** championId of a key that covers every champion. */
+    public static final int ALL_CHAMPIONS = 0;
+
+    public RankBenchmark {
+        if (tier == null) {
+            throw new IllegalArgumentException("Tier cannot be null");
+        }
+        if (championId < 0) {
+            throw new IllegalArgumentException("Champion ID must be >= 0");
+        }
+        if (role == null && championId != ALL_CHAMPIONS) {
+            throw new IllegalArgumentException("Champion benchmarks need a role");
+        }
+    }
+
+    /**
+     * Returns the median of one metric.
+     *
+     * @param metric Metric to read
+     * @return Median, NaN if unknown
+     */
+    public double value(BenchmarkMetric metric) {
+        return switch (metric) {
+            case CS_PER_MIN -> csPerMin;
+            case KDA -> kda;
+            case VISION_PER_MIN -> visionPerMin;
+            case KILL_PARTICIPATION -> killParticipation;
+            case DEATHS -> deaths;
+            case GOLD_DIFF_AT_15 -> goldDiffAt15 != null ? goldDiffAt15 : Double.NaN;
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.coachdiff.domain.model;
+
+/**
+ * Solo queue rank as stored on a profile.
+ *
+ * <h2>RankInfo vs LeagueEntry</h2>
+ * <p>
+ * {@link LeagueEntry} mirrors the full League-V4 response (streak flags, queue type).
+ * {@code RankInfo} is the subset a profile keeps: tier, division, LP and record.
+ * </p>
+ *
+ * @param tier         Rank tier (e.g., "GOLD")
+ * @param division     Division within tier (e.g., "II") - null for MASTER+
+ * @param leaguePoints LP in division
+ * @param wins         Total wins this season
+ * @param losses       Total losses this season
+ */
+public record RankInfo(
+        String tier,
+        String division,
+        int leaguePoints,
+        int wins,
+        int losses
+) {
+    public RankInfo {
+        if (tier == null || tier.isBlank()) {
+            throw new IllegalArgumentException("Tier cannot be null or blank");
+        }
+    }
+
+    /**
+     * Builds a RankInfo from a League-V4 entry.
+     *
+     * @param entry League entry (usually the solo queue one)
+     * @return Rank info
+     */
+    public static RankInfo from(LeagueEntry entry) {
+        return new RankInfo(entry.tier(), entry.rank(), entry.leaguePoints(), entry.wins(), entry.losses());
+    }
+
+    /**
+     * Calculates win rate percentage.
+     *
+     * @return Win rate (0.0 - 100.0), or 0 if no games played
+     */
+    public double winRate() {
+        int total = wins + losses;
+        return total > 0 ? (wins * 100.0) / total : 0.0;
+    }
+}
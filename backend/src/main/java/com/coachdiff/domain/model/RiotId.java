@@ -0,0 +1,41 @@
+package com.coachdiff.domain.model;
+
+/**
+ * A player's Riot ID on a given platform, as typed by a user.
+ *
+ * <h2>RiotId vs RiotAccount</h2>
+ * <p>
+ * {@code RiotId} is what we are asked to look up ("Faker#KR1" on kr).
+ * {@link RiotAccount} is what Riot answers, including the PUUID.
+ * </p>
+ *
+ * @param gameName Display name (e.g., "Faker")
+ * @param tagLine  Tag after # (e.g., "KR1")
+ * @param region   Platform (e.g., "euw1", "kr")
+ */
+public record RiotId(
+        String gameName,
+        String tagLine,
+        String region
+) {
+    public RiotId {
+        if (gameName == null || gameName.isBlank()) {
+            throw new IllegalArgumentException("Game name cannot be null or blank");
+        }
+        if (tagLine == null || tagLine.isBlank()) {
+            throw new IllegalArgumentException("Tag line cannot be null or blank");
+        }
+        if (region == null || region.isBlank()) {
+            throw new IllegalArgumentException("Region cannot be null or blank");
+        }
+    }
+
+    /**
+     * Returns the full Riot ID (e.g., "Faker#KR1").
+     *
+     * @return Riot ID in format gameName#tagLine
+     */
+    public String fullRiotId() {
+        return gameName + "#" + tagLine;
+    }
+}
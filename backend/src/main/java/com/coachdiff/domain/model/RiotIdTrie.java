@@ -0,0 +1,280 @@
+package com.coachdiff.domain.model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie of Riot IDs for type-ahead: "fak" → faker#kr1, fakeguy#euw, ...
+ *
+ * <h2>Compact</h2>
+ * <p>
+ * Path-compressed (radix): an edge holds a whole run of characters, so a
+ * node exists only where keys branch or end, at most two per key instead
+ * of one per character. Children are a sorted array searched by first
+ * character, not a map.
+ * </p>
+ * <pre>
+ * root ─ "fa" ─┬─ "ke" ─┬─ "r#kr1"     faker#kr1
+ *              │        └─ "guy#euw"   fakeguy#euw
+ *              └─ "ntasy#na1"          fantasy#na1
+ * </pre>
+ *
+ * <h2>Cost</h2>
+ * <p>
+ * Add and remove are O(key length). A lookup is O(prefix length) to reach
+ * the prefix, then stops as soon as {@code limit} keys are collected, in
+ * key order (shorter first).
+ * </p>
+ *
+ * <h2>Bounded</h2>
+ * <p>
+ * Holds at most {@code capacity} players; adding one more drops the player
+ * added (or re-added) least recently. One entry per PUUID: re-adding a
+ * renamed player moves them to the new key.
+ * </p>
+ * <p>
+ * Not thread-safe: the owner guards it.
+ * </p>
+ */
+public final class RiotIdTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final int capacity;
+    private final Node root = new Node("", null);
+
+    /** PUUID → search key, least recently added first. */
+    private final Map<String, String> keys = new LinkedHashMap<>();
+
+    /**
+     * @param capacity Players kept, &gt;= 1
+     */
+    public RiotIdTrie(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be >= 1");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a player, or moves them to their current Riot ID.
+     *
+     * @param player Stored player
+     */
+    public void add(KnownRiotId player) {
+        String previous = keys.remove(player.puuid());
+        if (previous != null) {
+            removeKey(previous, player.puuid());
+        }
+        String key = player.searchKey();
+        KnownRiotId displaced = insert(key, player);
+        if (displaced != null && !displaced.puuid().equals(player.puuid())) {
+            // The Riot ID now belongs to another account
+            keys.remove(displaced.puuid());
+        }
+        keys.put(player.puuid(), key);
+
+        if (keys.size() > capacity) {
+            Iterator<Map.Entry<String, String>> eldest = keys.entrySet().iterator();
+            Map.Entry<String, String> entry = eldest.next();
+            eldest.remove();
+            removeKey(entry.getValue(), entry.getKey());
+        }
+    }
+
+    /**
+     * @param puuid Player to drop
+     * @return true if they were in the trie
+     */
+    public boolean remove(String puuid) {
+        String key = keys.remove(puuid);
+        if (key == null) {
+            return false;
+        }
+        removeKey(key, puuid);
+        return true;
+    }
+
+    /**
+     * Players whose search key starts with a prefix.
+     *
+     * @param prefix Normalized prefix ({@link KnownRiotId#searchKey(String)})
+     * @param limit  Maximum results, &gt;= 1
+     * @return Up to {@code limit} players, in key order
+     */
+    public List<KnownRiotId> startingWith(String prefix, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be >= 1");
+        }
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = node.find(prefix.charAt(i));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int length = Math.min(child.label.length(), prefix.length() - i);
+            if (!child.label.regionMatches(0, prefix, i, length)) {
+                return List.of();
+            }
+            node = child;
+            i += length;
+        }
+        List<KnownRiotId> found = new ArrayList<>(Math.min(limit, keys.size()));
+        collect(node, found, limit);
+        return found;
+    }
+
+    /**
+     * @return Number of players held
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * @return The value the key held before, null if none
+     */
+    private KnownRiotId insert(String key, KnownRiotId player) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.find(key.charAt(i));
+            if (index < 0) {
+                node.insertChild(-(index + 1), new Node(key.substring(i), player));
+                return null;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // The key branches inside the edge: split it
+                Node split = new Node(child.label.substring(0, common), null);
+                child.label = child.label.substring(common);
+                split.children = new Node[]{child};
+                node.children[index] = split;
+                child = split;
+            }
+            node = child;
+            i += common;
+        }
+        KnownRiotId previous = node.value;
+        node.value = player;
+        return previous;
+    }
+
+    /**
+     * Removes a key if it still belongs to that player, keeping the trie compressed.
+     */
+    private void removeKey(String key, String puuid) {
+        Node parent = null;
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.find(key.charAt(i));
+            if (index < 0 || !key.startsWith(node.children[index].label, i)) {
+                return;
+            }
+            parent = node;
+            node = node.children[index];
+            i += node.label.length();
+        }
+        if (parent == null || node.value == null || !node.value.puuid().equals(puuid)) {
+            return;
+        }
+        node.value = null;
+        if (node.children.length == 0) {
+            parent.removeChild(node);
+            if (parent != root && parent.value == null && parent.children.length == 1) {
+                parent.absorbOnlyChild();
+            }
+        } else if (node.children.length == 1) {
+            node.absorbOnlyChild();
+        }
+    }
+
+    private static void collect(Node node, List<KnownRiotId> found, int limit) {
+        if (node.value != null) {
+            found.add(node.value);
+        }
+        for (Node child : node.children) {
+            if (found.size() == limit) {
+                return;
+            }
+            collect(child, found, limit);
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int from) {
+        int max = Math.min(label.length(), key.length() - from);
+        int n = 0;
+        while (n < max && label.charAt(n) == key.charAt(from + n)) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * A branch or end point; {@code label} is the edge from its parent.
+     */
+    private static final class Node {
+
+        String label;
+        Node[] children = NO_CHILDREN;
+        KnownRiotId value;
+
+        Node(String label, KnownRiotId value) {
+            this.label = label;
+            this.value = value;
+        }
+
+        /**
+         * @return Index of the child whose label starts with c, or -(insertion point) - 1
+         */
+        int find(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char m = children[mid].label.charAt(0);
+                if (m < c) {
+                    low = mid + 1;
+                } else if (m > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] next = new Node[children.length + 1];
+            System.arraycopy(children, 0, next, 0, index);
+            next[index] = child;
+            System.arraycopy(children, index, next, index + 1, children.length - index);
+            children = next;
+        }
+
+        void removeChild(Node child) {
+            int index = find(child.label.charAt(0));
+            Node[] next = new Node[children.length - 1];
+            System.arraycopy(children, 0, next, 0, index);
+            System.arraycopy(children, index + 1, next, index, children.length - index - 1);
+            children = next.length == 0 ? NO_CHILDREN : next;
+        }
+
+        /**
+         * Merges the single child into this node (which holds no value).
+         */
+        void absorbOnlyChild() {
+            Node child = children[0];
+            label = label + child.label;
+            value = child.value;
+            children = child.children;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.coachdiff.domain.model;
+
+/**
+ * The five positions, with the names we store.
+ *
+ * <h2>Riot teamPosition → Role</h2>
+ * <pre>
+ * TOP → TOP, JUNGLE → JUNGLE, MIDDLE → MID, BOTTOM → ADC, UTILITY → SUPPORT
+ * </pre>
+ * <p>
+ * The ordinal doubles as an array index (see {@link BenchmarkTable}):
+ * never reorder the constants.
+ * </p>
+ */
+public enum Role {
+    TOP, JUNGLE, MID, ADC, SUPPORT;
+
+    /**
+     * Maps a Riot {@code teamPosition} to a role.
+     *
+     * @param teamPosition Riot value (e.g., "UTILITY"), may be null or empty
+     * @return The role, or null if the position is unknown
+     */
+    public static Role fromTeamPosition(String teamPosition) {
+        if (teamPosition == null) {
+            return null;
+        }
+        return switch (teamPosition) {
+            case "TOP" -> TOP;
+            case "JUNGLE" -> JUNGLE;
+            case "MIDDLE" -> MID;
+            case "BOTTOM" -> ADC;
+            case "UTILITY" -> SUPPORT;
+            default -> null;
+        };
+    }
+
+    /**
+     * Parses a stored role name (e.g., "SUPPORT").
+     *
+     * @param name Role name, may be null
+     * @return The role, or null if unknown
+     */
+    public static Role fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.coachdiff.domain.model;
+
+/**
+ * One coaching suggestion.
+ *
+ * @param title  Short headline (e.g., "Improve CS/min")
+ * @param reason Why (e.g., "Your CS is 15% below Gold average")
+ * @param action What to do (e.g., "Practice last-hitting in training mode")
+ */
+public record Suggestion(
+        String title,
+        String reason,
+        String action
+) {
+    public Suggestion {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Title cannot be null or blank");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.coachdiff.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The suggestions generated for one state of a profile.
+ *
+ * <h2>Versioning</h2>
+ * <p>
+ * {@code profileHash} is MD5(tier + metrics) of the profile the suggestions
+ * were generated for: same hash, same suggestions. It doubles as the
+ * version of the set.
+ * </p>
+ *
+ * @param puuid       Player's PUUID
+ * @param profileHash Hash of the profile state
+ * @param suggestions 1 to 3 suggestions, highest priority first
+ * @param generatedAt When they were generated
+ */
+public record SuggestionSet(
+        String puuid,
+        String profileHash,
+        List<Suggestion> suggestions,
+        Instant generatedAt
+) {
+    public SuggestionSet {
+        if (profileHash == null || profileHash.isBlank()) {
+            throw new IllegalArgumentException("Profile hash cannot be null or blank");
+        }
+        suggestions = List.copyOf(suggestions);
+    }
+}
@@ -0,0 +1,65 @@
+package com.coachdiff.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A player's profile: identity, rank and aggregated metrics.
+ *
+ * <p>
+ * This is the aggregate stored in {@code summoner_profiles}, identified by PUUID.
+ * </p>
+ *
+ * @param puuid      Global player identifier
+ * @param gameName   Riot ID game name
+ * @param tagLine    Riot ID tag line
+ * @param region     Platform (e.g., "euw1")
+ * @param summonerId Server-specific summoner ID (may be null)
+ * @param rank       Solo queue rank (null if unranked)
+ * @param mainRole   Most played position (may be null)
+ * @param metrics    Rolling-window aggregated metrics
+ * @param updatedAt  Last time the profile changed
+ */
+public record SummonerProfile(
+        String puuid,
+        String gameName,
+        String tagLine,
+        String region,
+        String summonerId,
+        RankInfo rank,
+        String mainRole,
+        ProfileMetrics metrics,
+        Instant updatedAt
+) {
+    public SummonerProfile {
+        if (puuid == null || puuid.isBlank()) {
+            throw new IllegalArgumentException("PUUID cannot be null or blank");
+        }
+        if (gameName == null || gameName.isBlank()) {
+            throw new IllegalArgumentException("Game name cannot be null or blank");
+        }
+        if (tagLine == null || tagLine.isBlank()) {
+            throw new IllegalArgumentException("Tag line cannot be null or blank");
+        }
+        if (metrics == null) {
+            metrics = ProfileMetrics.EMPTY;
+        }
+    }
+
+    /**
+     * Returns the full Riot ID (e.g., "Faker#KR1").
+     *
+     * @return Riot ID in format gameName#tagLine
+     */
+    public String fullRiotId() {
+        return gameName + "#" + tagLine;
+    }
+
+    /**
+     * Checks if the player has a solo queue rank.
+     *
+     * @return true if ranked
+     */
+    public boolean isRanked() {
+        return rank != null;
+    }
+}
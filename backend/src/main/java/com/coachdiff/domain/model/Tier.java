@@ -0,0 +1,41 @@
+package com.coachdiff.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Ranked tiers, lowest first.
+ *
+ * <p>
+ * The ordinal doubles as an array index (see {@link BenchmarkTable}):
+ * never reorder the constants.
+ * </p>
+ */
+public enum Tier {
+    IRON, BRONZE, SILVER, GOLD, PLATINUM, EMERALD, DIAMOND, MASTER, GRANDMASTER, CHALLENGER;
+
+    /**
+     * Parses a tier name as stored in the database or returned by Riot.
+     *
+     * @param name Tier name (case-insensitive), may be null
+     * @return The tier, or null if unknown
+     */
+    public static Tier fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the next tier up, for "what does the next rank look like" comparisons.
+     *
+     * @return Next tier, or this tier for CHALLENGER
+     */
+    public Tier next() {
+        return this == CHALLENGER ? this : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,34 @@
+package com.coachdiff.domain.model;
+
+/**
+ * Per-game values whose rolling averages make up the trend charts.
+ *
+ * <p>
+ * Same per-game formulas as the profile aggregates ({@link ProfileMetrics#of}),
+ * so the last point of a 20-game series is the profile's value:
+ * </p>
+ * <pre>
+ * CS_PER_MIN      cs × 60 / duration       rounded to 4 decimals
+ * KDA             (kills + assists) / max(deaths, 1)
+ * VISION_PER_MIN  vision score × 60 / duration
+ * </pre>
+ */
+public enum TrendMetric {
+
+    CS_PER_MIN,
+    KDA,
+    VISION_PER_MIN;
+
+    /**
+     * @param match One game of the player
+     * @return This metric's value for that game
+     */
+    public double valueOf(MatchSummary match) {
+        return switch (this) {
+            case CS_PER_MIN -> ProfileMetrics.perMinute(match.cs(), match.gameDurationSeconds());
+            case KDA -> ProfileMetrics.round(
+                    (match.kills() + match.assists()) / (double) Math.max(match.deaths(), 1), 4);
+            case VISION_PER_MIN -> ProfileMetrics.perMinute(match.visionScore(), match.gameDurationSeconds());
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.coachdiff.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Rolling averages over one window size, one point per game.
+ *
+ * <pre>
+ * window 10:  point at g9 = avg(g0..g9), point at g10 = avg(g1..g10), ...
+ * </pre>
+ *
+ * @param window Games per average
+ * @param points Oldest first; only games that end a full window
+ */
+public record TrendSeries(
+        int window,
+        List<Point> points
+) {
+    public TrendSeries {
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must be >= 1");
+        }
+        if (points == null) {
+            throw new IllegalArgumentException("Points cannot be null");
+        }
+        points = List.copyOf(points);
+    }
+
+    /**
+     * Averages of the window ending at one game.
+     *
+     * @param matchId      Last game of the window
+     * @param playedAt     When it was played
+     * @param csPerMin     Average CS per minute
+     * @param kda          Average KDA
+     * @param visionPerMin Average vision score per minute
+     */
+    public record Point(String matchId, Instant playedAt, double csPerMin, double kda, double visionPerMin) {
+    }
+}
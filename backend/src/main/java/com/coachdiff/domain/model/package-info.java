@@ -22,9 +22,29 @@
  * RankInfo          - Tier, division, LP, winrate
  * ProfileMetrics    - CS/min, KDA, Vision, etc.
  * RankMetrics       - Medians for a given tier
+ * RankBenchmark     - Medians for a tier, role and champion
+ * BenchmarkTable    - Dense O(1) benchmark lookup with fallback
+ * Champion          - Champion ID, key and display name (static data)
+ * ChampionCatalog   - Champion lookup by ID or key
  * MetricComparison  - Metric comparison vs median
+ * ProfileVersion    - PUUID + updated_at, the cheap ETag source
+ * ProfileWrite      - Profile + matches of a refresh, coalesced while queued
+ * ProfileMetricColumns - Metrics of many profiles as primitive columns (bulk compare)
+ * ProfileGaps       - Gaps vs current and next tier + profile hash of one player
+ * GapRecomputeReport - Outcome of a bulk gap recompute
+ * SuggestionSet     - Latest suggestions with the profile hash they were made for
  * ImprovementSuggestion - AI suggestion
  * MatchAnalysis     - Single match analysis
+ * MatchSummary      - Match history line (projection, no full analysis)
+ * MatchHistoryPage  - One keyset page of match history + next cursor
+ * MatchCursor       - Opaque (played_at, match_id) position in the history
+ * MatchPrefixSums   - Cumulative per-game metrics: O(1) rolling averages
+ * TrendMetric       - Per-game value charted by the trends (CS/min, KDA, vision/min)
+ * TrendSeries       - Rolling averages over one window, one point per game
+ * PlayerTrends      - Every requested series of a player
+ * KnownRiotId       - PUUID + Riot ID of a stored player, with its search key
+ * RiotIdTrie        - Compact (radix) prefix trie of Riot IDs for type-ahead
+ * IngestionJob      - Queued profile refresh or match fetch
  * </pre>
  */
 package com.coachdiff.domain.model;
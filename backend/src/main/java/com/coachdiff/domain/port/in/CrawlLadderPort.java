@@ -0,0 +1,21 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.LadderCrawlPlan;
+import com.coachdiff.domain.model.LadderCrawlReport;
+
+import java.util.Optional;
+
+/**
+ * Use case: crawl the ranked ladder to build per-tier samples and
+ * recompute the rank medians from them.
+ */
+public interface CrawlLadderPort {
+
+    /**
+     * Runs one crawl, resuming from the last checkpoint.
+     *
+     * @param plan Platforms, queue and budgets of this run
+     * @return Report of the run, empty if another node is already crawling
+     */
+    Optional<LadderCrawlReport> crawl(LadderCrawlPlan plan);
+}
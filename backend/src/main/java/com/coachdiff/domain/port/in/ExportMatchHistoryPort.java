@@ -0,0 +1,26 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case: hand over a player's complete stored match history, row by row.
+ *
+ * <p>
+ * Rows are pushed to the sink as they are read, never collected: memory use
+ * doesn't depend on the size of the history.
+ * </p>
+ */
+public interface ExportMatchHistoryPort {
+
+    /**
+     * Streams every stored match of a player, newest first.
+     *
+     * @param puuid Player's PUUID
+     * @param sink  Receives each match, on the calling thread; an exception
+     *              thrown by the sink (e.g., client gone) stops the export
+     * @return Number of matches exported
+     */
+    int exportMatchHistory(String puuid, Consumer<MatchAnalysis> sink);
+}
@@ -0,0 +1,29 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.ProfileBatchResult;
+import com.coachdiff.domain.model.RiotId;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Use case: fetch many players at once (e.g., a coach's roster).
+ */
+public interface FetchProfileBatchPort {
+
+    /**
+     * Fetches all players concurrently and hands each result to
+     * {@code onResult} as soon as that player is done (completion order,
+     * not request order).
+     * <p>
+     * Returns when every player has a result. Players still running when
+     * the batch deadline expires are cancelled and reported as TIMEOUT.
+     * If {@code onResult} throws (e.g., the client disconnected), all
+     * remaining work is cancelled and the exception propagates.
+     * </p>
+     *
+     * @param players  Players to fetch (duplicates are fetched once)
+     * @param onResult Called once per distinct player, on the caller's thread
+     */
+    void fetchProfiles(List<RiotId> players, Consumer<ProfileBatchResult> onResult);
+}
@@ -0,0 +1,30 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.SummonerProfile;
+
+/**
+ * Use case: fetch a player's profile from Riot, store it and return it.
+ */
+public interface FetchProfilePort {
+
+    /**
+     * Resolves the full chain (account → summoner → rank → recent matches),
+     * stores the result and returns the up-to-date profile.
+     *
+     * @param gameName Riot ID game name
+     * @param tagLine  Riot ID tag line
+     * @param region   Platform (e.g., "euw1")
+     * @return The stored profile with its aggregated metrics
+     */
+    SummonerProfile fetchProfile(String gameName, String tagLine, String region);
+
+    /**
+     * Same chain, starting from a PUUID: the profile gets the player's
+     * current Riot ID, even if they renamed since it was stored.
+     *
+     * @param puuid  Player
+     * @param region Platform (e.g., "euw1")
+     * @return The stored profile with its aggregated metrics
+     */
+    SummonerProfile fetchProfileByPuuid(String puuid, String region);
+}
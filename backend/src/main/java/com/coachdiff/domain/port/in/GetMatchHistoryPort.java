@@ -0,0 +1,26 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchHistoryPage;
+
+/**
+ * Use case: page through a player's stored matches, newest first.
+ *
+ * <p>
+ * Keyset pagination: a page is located by the cursor of the previous one,
+ * never by an offset, so page 100 costs the same as page 1.
+ * </p>
+ */
+public interface GetMatchHistoryPort {
+
+    /**
+     * Loads one page of history.
+     *
+     * @param puuid Player's PUUID
+     * @param after Cursor of the previous page, null for the first page
+     * @param size  Page size, 1 to {@link MatchHistoryPage#MAX_SIZE}
+     * @return The page (empty if the player has no stored matches)
+     * @throws com.coachdiff.domain.exception.InvalidRequestException if the size is out of range
+     */
+    MatchHistoryPage getMatchHistory(String puuid, MatchCursor after, int size);
+}
@@ -0,0 +1,36 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SummonerProfile;
+
+import java.util.Optional;
+
+/**
+ * Use case: read a player's profile, with a cheap version check first.
+ *
+ * <pre>
+ * version = findProfileVersion(riotId)   ← cheap, for If-None-Match
+ * if client already has it → done
+ * profile = getProfile(riotId)           ← full load
+ * </pre>
+ */
+public interface GetProfilePort {
+
+    /**
+     * Current version of the stored profile, without loading it.
+     *
+     * @param riotId Player
+     * @return Version, or empty if the player was never fetched
+     */
+    Optional<ProfileVersion> findProfileVersion(RiotId riotId);
+
+    /**
+     * Loads the stored profile, fetching it from Riot the first time.
+     *
+     * @param riotId Player
+     * @return The profile
+     * @throws com.coachdiff.domain.exception.PlayerNotFoundException if the Riot ID doesn't exist
+     */
+    SummonerProfile getProfile(RiotId riotId);
+}
@@ -0,0 +1,27 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.SuggestionSet;
+
+import java.util.Optional;
+
+/**
+ * Use case: read a player's latest suggestions, with a cheap version check first.
+ */
+public interface GetSuggestionsPort {
+
+    /**
+     * Version (profile hash) of the latest suggestions, without loading them.
+     *
+     * @param puuid Player's PUUID
+     * @return Profile hash, or empty if no suggestions were generated yet
+     */
+    Optional<String> findSuggestionsVersion(String puuid);
+
+    /**
+     * Loads the latest suggestions.
+     *
+     * @param puuid Player's PUUID
+     * @return Suggestions, or empty if none were generated yet
+     */
+    Optional<SuggestionSet> getSuggestions(String puuid);
+}
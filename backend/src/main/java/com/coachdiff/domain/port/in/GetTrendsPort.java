@@ -0,0 +1,28 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.PlayerTrends;
+
+import java.util.List;
+
+/**
+ * Use case: rolling-window trend charts of a player's stored matches.
+ *
+ * <pre>
+ * windows [10, 20, 50], points 20
+ *   → 3 series of up to 20 points: the 10/20/50-game averages (CS/min, KDA,
+ *     vision/min) ending at each of the 20 newest games
+ * </pre>
+ */
+public interface GetTrendsPort {
+
+    /**
+     * Computes the series.
+     *
+     * @param puuid   Player's PUUID
+     * @param windows Window sizes, 1 to {@link PlayerTrends#MAX_WINDOW} each
+     * @param points  Points per series, 1 to {@link PlayerTrends#MAX_POINTS}
+     * @return One series per window (empty series while fewer games are stored)
+     * @throws com.coachdiff.domain.exception.InvalidRequestException if a window or the points are out of range
+     */
+    PlayerTrends getTrends(String puuid, List<Integer> windows, int points);
+}
@@ -0,0 +1,39 @@
+package com.coachdiff.domain.port.in;
+
+/**
+ * Use case: drop cached reads whose underlying data changed (on any node).
+ *
+ * <pre>
+ * notificationsResumed()   caches on, empty (anything may have changed meanwhile), search trie reloaded
+ * profileChanged(puuid)    evict that player's profile, catch up its trends, re-read its Riot ID
+ * suggestionsChanged(...)  evict that player's suggestions
+ * notificationsLost()      caches off: changes can't be seen any more
+ * </pre>
+ */
+public interface InvalidateReadCachesPort {
+
+    /**
+     * A player's profile row was inserted, updated or deleted.
+     *
+     * @param puuid Player's PUUID
+     */
+    void profileChanged(String puuid);
+
+    /**
+     * A suggestion set of a player was written or deleted.
+     *
+     * @param puuid       Player's PUUID
+     * @param profileHash Profile hash of the changed set
+     */
+    void suggestionsChanged(String puuid, String profileHash);
+
+    /**
+     * Change notifications are being received (again): caching may start.
+     */
+    void notificationsResumed();
+
+    /**
+     * Change notifications may be missed from now on: stop caching.
+     */
+    void notificationsLost();
+}
@@ -0,0 +1,17 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.IngestionJob;
+
+/**
+ * Use case: run one ingestion job (called by queue workers).
+ */
+public interface ProcessIngestionJobPort {
+
+    /**
+     * Runs the job to completion.
+     *
+     * @param job Job taken from the queue
+     * @throws RuntimeException if the job failed; it stays queued and is retried
+     */
+    void process(IngestionJob job);
+}
@@ -0,0 +1,17 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.GapRecomputeReport;
+
+/**
+ * Use case: recompute every player's gaps after the medians changed.
+ */
+public interface RecomputeGapsPort {
+
+    /**
+     * Reloads the medians, compares every ranked profile with them and
+     * stores the gaps whose profile hash changed.
+     *
+     * @return What was compared and written
+     */
+    GapRecomputeReport recomputeGaps();
+}
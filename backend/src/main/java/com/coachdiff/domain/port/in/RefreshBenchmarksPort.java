@@ -0,0 +1,14 @@
+package com.coachdiff.domain.port.in;
+
+/**
+ * Use case: reload the in-memory benchmark table from the database.
+ */
+public interface RefreshBenchmarksPort {
+
+    /**
+     * Rebuilds the benchmark table and swaps it in.
+     *
+     * @return Number of benchmark rows loaded
+     */
+    int refreshBenchmarks();
+}
@@ -0,0 +1,19 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.IngestionJob;
+import com.coachdiff.domain.model.RiotId;
+
+/**
+ * Use case: ask for a stored profile to be refreshed in the background.
+ */
+public interface RequestProfileRefreshPort {
+
+    /**
+     * Queues a refresh of the player's profile and returns immediately.
+     *
+     * @param riotId Player to refresh
+     * @return The queued job
+     * @throws com.coachdiff.domain.exception.PlayerNotFoundException if the player was never loaded
+     */
+    IngestionJob requestRefresh(RiotId riotId);
+}
@@ -0,0 +1,30 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.KnownRiotId;
+
+import java.util.List;
+
+/**
+ * Use case: find stored players by part of their Riot ID, as the user types.
+ *
+ * <pre>
+ * "fak"     → faker#kr1, fakeguy#euw       (prefix)
+ * "aker"    → faker#kr1                    (contained, 3+ characters)
+ * "fakr#kr" → faker#kr1                    (similar, 3+ characters)
+ * </pre>
+ */
+public interface SearchRiotIdsPort {
+
+    /** Largest number of results per search. */
+    int MAX_LIMIT = 20;
+
+    /**
+     * Searches, case-insensitively.
+     *
+     * @param query Part of "gameName#tagLine", not blank
+     * @param limit Maximum results, 1 to {@link #MAX_LIMIT}
+     * @return Best matches first
+     * @throws com.coachdiff.domain.exception.InvalidRequestException if the query is blank or the limit out of range
+     */
+    List<KnownRiotId> search(String query, int limit);
+}
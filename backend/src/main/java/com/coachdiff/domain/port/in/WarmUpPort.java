@@ -0,0 +1,20 @@
+package com.coachdiff.domain.port.in;
+
+import com.coachdiff.domain.model.RiotId;
+
+/**
+ * Use case: prepare this node for its first requests (caches, JIT).
+ */
+public interface WarmUpPort {
+
+    /**
+     * Loads what the first requests read and runs the hot paths on synthetic data.
+     * <p>
+     * Best effort: a step that fails is logged and skipped.
+     * </p>
+     *
+     * @param player Configured player whose profile is preloaded, null if none
+     * @return Hot path rounds run
+     */
+    int warmUp(RiotId player);
+}
@@ -21,8 +21,21 @@
  * <h2>Planned Ports</h2>
  * <pre>
  * FetchProfilePort           - Fetch player profile
+ * FetchProfileBatchPort      - Fetch many players concurrently (roster)
+ * GetProfilePort             - Stored profile and its version (conditional GET)
+ * GetSuggestionsPort         - Stored suggestions and their version (conditional GET)
+ * CrawlLadderPort            - Crawl the ladder, recompute rank medians
+ * RefreshBenchmarksPort      - Reload the in-memory benchmark table
+ * RecomputeGapsPort          - Recompute every player's gaps after a median refresh
+ * RequestProfileRefreshPort  - Queue a background profile refresh
+ * ProcessIngestionJobPort    - Run one queued ingestion job (workers)
+ * InvalidateReadCachesPort   - Evict cached reads on database change notifications
+ * WarmUpPort                 - Preload caches and run hot paths before taking traffic
  * GenerateSuggestionsPort    - Generate AI suggestions
- * GetMatchHistoryPort        - Fetch match history
+ * GetMatchHistoryPort        - Page through stored match history (keyset cursor)
+ * ExportMatchHistoryPort     - Stream a player's whole match history (export)
+ * GetTrendsPort              - Rolling-window trend series of a player (prefix sums)
+ * SearchRiotIdsPort          - Type-ahead search of stored players by Riot ID
  * </pre>
  *
  * <h2>Example</h2>
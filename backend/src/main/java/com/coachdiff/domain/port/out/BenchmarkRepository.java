@@ -0,0 +1,19 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.RankBenchmark;
+
+import java.util.List;
+
+/**
+ * Read access to rank benchmarks at every level.
+ */
+public interface BenchmarkRepository {
+
+    /**
+     * Loads every benchmark: tier level ({@code rank_metrics}, role null) plus
+     * role and champion levels ({@code rank_benchmarks}).
+     *
+     * @return All rows, in no particular order
+     */
+    List<RankBenchmark> findAll();
+}
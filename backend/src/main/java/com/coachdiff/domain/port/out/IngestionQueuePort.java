@@ -0,0 +1,56 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.IngestionJob;
+
+import java.util.Collection;
+
+/**
+ * Producer side of the ingestion work queue.
+ *
+ * <p>
+ * Enqueued jobs are delivered to exactly one worker at a time, on any node.
+ * A job is only removed once a worker has completed it: jobs of a crashed
+ * worker are delivered again.
+ * </p>
+ */
+public interface IngestionQueuePort {
+
+    /**
+     * Adds one job to the queue.
+     *
+     * @param job Job to run
+     */
+    void enqueue(IngestionJob job);
+
+    /**
+     * Adds many jobs to the queue at once.
+     *
+     * @param jobs Jobs to run, in order
+     */
+    void enqueueAll(Collection<IngestionJob> jobs);
+
+    /**
+     * Adds jobs to the queue, and a follow-up job enqueued only once ALL of
+     * them completed.
+     *
+     * <p>
+     * Jobs of one poll run in parallel: enqueuing the follow-up right after
+     * them would let it start alongside them. Here each job carries a
+     * barrier, and the follow-up waits until every job released it with
+     * {@link #complete}. A job that is never completed (e.g., trimmed from
+     * the queue) leaves the follow-up pending until the barrier expires.
+     * </p>
+     *
+     * @param jobs Jobs to run first
+     * @param then Job to run after them
+     */
+    void enqueueThen(Collection<IngestionJob> jobs, IngestionJob then);
+
+    /**
+     * Releases the barrier of a completed job: the last job of a barrier
+     * enqueues its follow-up. Idempotent per job, no-op without a barrier.
+     *
+     * @param job Job that completed, or that will never complete (dead-lettered)
+     */
+    void complete(IngestionJob job);
+}
@@ -0,0 +1,85 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.LadderCursor;
+import com.coachdiff.domain.model.LadderEntry;
+import com.coachdiff.domain.model.LadderPlayer;
+import com.coachdiff.domain.model.LadderSample;
+import com.coachdiff.domain.model.MatchDetails;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Storage of the ladder crawl: checkpoints, players, match samples.
+ */
+public interface LadderRepository {
+
+    /**
+     * Acquires the crawl lease (one crawler across all nodes).
+     *
+     * @param owner Identifier of this node
+     * @param ttl   Lease duration (released earlier by {@link #releaseLease})
+     * @return true if this node now holds the lease
+     */
+    boolean tryAcquireLease(String owner, Duration ttl);
+
+    void releaseLease(String owner);
+
+    /**
+     * Returns the cursors still to crawl, creating missing ones and restarting
+     * divisions completed longer than {@code recrawlAfter} ago.
+     */
+    List<LadderCursor> openCursors(List<String> platforms, String queue, Duration recrawlAfter);
+
+    /**
+     * Stores a page and advances its cursor in one transaction (the checkpoint).
+     *
+     * @param cursor  Cursor the page was read from
+     * @param page    Page number that was read
+     * @param entries Players on the page
+     * @param last    True if the division is done
+     * @return Number of players not known before
+     */
+    int savePage(LadderCursor cursor, int page, List<LadderEntry> entries, boolean last);
+
+    /**
+     * Players never sampled first, then those sampled more than {@code resampleAfter} ago.
+     */
+    List<LadderPlayer> findPlayersToSample(List<String> platforms, Duration resampleAfter, int limit);
+
+    /**
+     * Subset of the given match IDs that were already fetched.
+     */
+    Set<String> findFetchedMatchIds(Collection<String> matchIds);
+
+    /**
+     * Records a fetched match and the samples of its participants that are
+     * known ladder players.
+     *
+     * @return Number of sample rows stored
+     */
+    int saveMatch(MatchDetails match, String platform, List<LadderSample> samples);
+
+    void markSampled(String puuid);
+
+    /**
+     * Recomputes rank_metrics medians from recent samples.
+     *
+     * @param minPlayers Tiers with fewer sampled players are left untouched
+     * @param since      Only samples of matches played after this count
+     * @return Number of tiers updated
+     */
+    int refreshRankMetrics(int minPlayers, Instant since);
+
+    /**
+     * Recomputes the role and champion benchmarks ({@code rank_benchmarks}) from recent samples.
+     * Every key is stored with its sample size: thin keys are filtered at lookup time.
+     *
+     * @param since Only samples of matches played after this count
+     * @return Number of benchmark rows written
+     */
+    int refreshRankBenchmarks(Instant since);
+}
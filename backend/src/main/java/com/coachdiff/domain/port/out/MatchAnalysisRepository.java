@@ -0,0 +1,63 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Storage of analyzed matches.
+ *
+ * <p>
+ * The profile of every player in the batch must already exist
+ * ({@link SummonerProfileRepository#save}).
+ * </p>
+ */
+public interface MatchAnalysisRepository {
+
+    /**
+     * Stores many matches in a single bulk write.
+     * <p>
+     * Matches already stored are skipped. The rolling-window metrics of the
+     * affected profiles are updated as part of the same write.
+     * </p>
+     *
+     * @param matches Matches to store (any number of players)
+     * @return Number of matches actually inserted
+     */
+    int saveAll(Collection<MatchAnalysis> matches);
+
+    /**
+     * Reads a player's matches after a cursor, newest first (keyset seek).
+     *
+     * @param puuid Player's PUUID
+     * @param after Start strictly after this match, null to start at the newest
+     * @param limit Maximum number of rows
+     * @return Up to {@code limit} matches, ordered by played_at DESC, match_id DESC
+     */
+    List<MatchSummary> findHistory(String puuid, MatchCursor after, int limit);
+
+    /**
+     * Counts a player's stored matches.
+     *
+     * @param puuid Player's PUUID
+     * @return Number of rows, whatever their date
+     */
+    int countHistory(String puuid);
+
+    /**
+     * Reads all matches of a player, newest first, pushing each row to the sink.
+     * <p>
+     * Rows come from a database cursor, a few hundred at a time: the whole
+     * history is never held in memory.
+     * </p>
+     *
+     * @param puuid Player's PUUID
+     * @param sink  Receives each row as it is read
+     * @return Number of rows read
+     */
+    int streamAll(String puuid, Consumer<MatchAnalysis> sink);
+}
@@ -0,0 +1,34 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.MatchDetails;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Cache of match details, keyed by match ID.
+ *
+ * <p>
+ * A played match never changes, so entries are only ever added (and expire).
+ * Both operations are bulk on purpose: one round trip for any number of
+ * matches. The cache is best-effort: when it is unavailable, reads miss and
+ * writes are dropped, never failing the caller.
+ * </p>
+ */
+public interface MatchCachePort {
+
+    /**
+     * Reads many matches at once.
+     *
+     * @param matchIds Match IDs (e.g., "EUW1_1234567890")
+     * @return Cached matches by ID; missing IDs are cache misses
+     */
+    Map<String, MatchDetails> getAll(Collection<String> matchIds);
+
+    /**
+     * Stores many matches at once.
+     *
+     * @param matches Matches to cache
+     */
+    void putAll(Collection<MatchDetails> matches);
+}
@@ -0,0 +1,34 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.MatchDetails;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Global store of full matches, all ten participants ({@code matches}, V11).
+ *
+ * <p>
+ * Unlike {@link MatchCachePort} it is durable: a match fetched once, for any
+ * player, is never fetched from Riot again while it is retained. Storing a
+ * match also gives its row to every tracked player who took part in it.
+ * </p>
+ */
+public interface MatchStoreRepository {
+
+    /**
+     * Reads many stored matches at once.
+     *
+     * @param matchIds Match IDs
+     * @return Stored matches by ID; missing IDs were never stored (or expired)
+     */
+    Map<String, MatchDetails> findAll(Collection<String> matchIds);
+
+    /**
+     * Stores matches and shares them with the tracked players in them.
+     *
+     * @param matches Matches just fetched from Riot
+     * @return Match history rows written for tracked participants
+     */
+    int saveAll(Collection<MatchDetails> matches);
+}
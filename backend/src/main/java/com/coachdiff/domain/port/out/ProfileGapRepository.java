@@ -0,0 +1,27 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.ProfileMetricColumns;
+
+import java.util.Collection;
+
+/**
+ * Bulk access to profile metrics and their stored gaps ({@code profile_gaps}).
+ */
+public interface ProfileGapRepository {
+
+    /**
+     * Loads the metrics of every ranked profile, with the hash of its stored gaps.
+     *
+     * @return Columns grouped by (tier, role)
+     */
+    ProfileMetricColumns loadMetricColumns();
+
+    /**
+     * Inserts or replaces the gaps of many profiles.
+     *
+     * @param gaps Gaps to store (only the changed ones)
+     * @return Number of rows written
+     */
+    int saveAll(Collection<ProfileGaps> gaps);
+}
@@ -0,0 +1,77 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.LadderEntry;
+import com.coachdiff.domain.model.LeagueEntry;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.RiotAccount;
+import com.coachdiff.domain.model.Summoner;
+
+import java.util.List;
+
+/**
+ * Access to the Riot Games API.
+ *
+ * <p>
+ * Every method takes the player's platform (e.g., "euw1"): the adapter
+ * decides whether the call goes to a platform host (Summoner-V4, League-V4)
+ * or to the matching regional host (Account-V1, Match-V5).
+ * </p>
+ *
+ * <p>
+ * All calls share the application's rate-limit budget and may block
+ * until a permit is available.
+ * </p>
+ */
+public interface RiotApiPort {
+
+    /**
+     * Account-V1: resolves a Riot ID to an account.
+     *
+     * @throws com.coachdiff.domain.exception.PlayerNotFoundException if the Riot ID doesn't exist
+     */
+    RiotAccount getAccountByRiotId(String gameName, String tagLine, String region);
+
+    /**
+     * Account-V1: account of a PUUID, with its current Riot ID.
+     *
+     * @throws com.coachdiff.domain.exception.PlayerNotFoundException if the PUUID doesn't exist
+     */
+    RiotAccount getAccountByPuuid(String puuid, String region);
+
+    /**
+     * Summoner-V4: server-specific summoner of a PUUID.
+     *
+     * @throws com.coachdiff.domain.exception.PlayerNotFoundException if the player never played on that server
+     */
+    Summoner getSummonerByPuuid(String puuid, String region);
+
+    /**
+     * League-V4: ranked entries (one per queue) of a summoner.
+     *
+     * @return Entries, empty if unranked
+     */
+    List<LeagueEntry> getLeagueEntries(String summonerId, String region);
+
+    /**
+     * League-V4: one page of a division's ladder (IRON to DIAMOND).
+     *
+     * @param page 1-based page number
+     * @return Players on the page, empty past the last page
+     */
+    List<LadderEntry> getLadderPage(String region, String queue, String tier, String division, int page);
+
+    /**
+     * League-V4: the whole league list of an apex tier (MASTER, GRANDMASTER, CHALLENGER).
+     */
+    List<LadderEntry> getApexLadder(String region, String queue, String tier);
+
+    /**
+     * Match-V5: most recent ranked solo match IDs of a player, newest first.
+     */
+    List<String> getMatchIds(String puuid, String region, int count);
+
+    /**
+     * Match-V5: full details of a match.
+     */
+    MatchDetails getMatch(String matchId, String region);
+}
@@ -0,0 +1,37 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.KnownRiotId;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Riot IDs of stored players, for search and the type-ahead trie.
+ */
+public interface RiotIdSearchRepository {
+
+    /**
+     * Fuzzy search: Riot IDs containing the text, or close to it (typos).
+     *
+     * @param searchKey Normalized text ({@link KnownRiotId#searchKey(String)})
+     * @param limit     Maximum results
+     * @return Best matches first: prefix, then contained, then by similarity
+     */
+    List<KnownRiotId> search(String searchKey, int limit);
+
+    /**
+     * Most recently updated players (the ones likely to be searched).
+     *
+     * @param limit Maximum results
+     * @return Newest first
+     */
+    List<KnownRiotId> findRecentlyUpdated(int limit);
+
+    /**
+     * Current Riot IDs of some players.
+     *
+     * @param puuids PUUIDs
+     * @return The stored ones, in no particular order
+     */
+    List<KnownRiotId> findByPuuids(Collection<String> puuids);
+}
@@ -0,0 +1,38 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.ChampionCatalog;
+
+/**
+ * Game static data (champions, ...) and canonical strings for decoders.
+ *
+ * <h2>Canonical strings</h2>
+ * <p>
+ * Riot responses repeat a few dozen values (tiers, divisions, queue types,
+ * positions) and a few hundred champion names in every object. Decoders pass
+ * each parsed value through {@link #canonical}, so every copy in memory
+ * points to one shared instance and the parsed duplicate becomes garbage
+ * right away instead of living as long as the cache entry.
+ * </p>
+ * <p>
+ * High-cardinality values (PUUIDs, in-game names) are kept as decoded:
+ * they barely repeat within one process, so pooling them would only grow
+ * the pool.
+ * </p>
+ */
+public interface StaticDataPort {
+
+    /**
+     * Returns the champion catalog.
+     *
+     * @return Champions of the loaded snapshot
+     */
+    ChampionCatalog champions();
+
+    /**
+     * Returns the shared instance of a low-cardinality value.
+     *
+     * @param value Value parsed from a response (tier, division, queue type, position)
+     * @return An equal, shared instance (null for null)
+     */
+    String canonical(String value);
+}
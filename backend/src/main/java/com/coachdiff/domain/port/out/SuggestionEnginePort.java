@@ -0,0 +1,27 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Suggestion;
+
+import java.util.List;
+
+/**
+ * Turns a player's gaps into coaching suggestions.
+ *
+ * <p>
+ * Implemented by a local template engine in front of an LLM: callers
+ * don't know which one answered.
+ * </p>
+ */
+public interface SuggestionEnginePort {
+
+    /**
+     * Generates suggestions for one profile.
+     *
+     * @param gaps Gaps vs the player's tier and the tier above
+     * @param role Player's main role, null if unknown
+     * @return 1 to 3 suggestions, highest priority first
+     */
+    List<Suggestion> suggest(ProfileGaps gaps, Role role);
+}
@@ -0,0 +1,27 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.SuggestionSet;
+
+import java.util.Optional;
+
+/**
+ * Storage of generated suggestions.
+ */
+public interface SuggestionRepository {
+
+    /**
+     * Version of the player's latest suggestions, without loading them.
+     *
+     * @param puuid Player's PUUID
+     * @return Profile hash of the latest set, or empty if none
+     */
+    Optional<String> findLatestProfileHash(String puuid);
+
+    /**
+     * Loads the player's latest suggestions.
+     *
+     * @param puuid Player's PUUID
+     * @return Latest set, or empty if none
+     */
+    Optional<SuggestionSet> findLatest(String puuid);
+}
@@ -0,0 +1,52 @@
+package com.coachdiff.domain.port.out;
+
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.model.SummonerProfile;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Storage of player profiles.
+ *
+ * <h2>Aggregated metrics are read-only here</h2>
+ * <p>
+ * {@link SummonerProfile#metrics()} is maintained by the storage itself as
+ * matches are saved through {@link MatchAnalysisRepository}. {@link #save}
+ * only writes identity and rank; the metrics passed in are ignored.
+ * </p>
+ */
+public interface SummonerProfileRepository {
+
+    /**
+     * Finds a profile by PUUID.
+     *
+     * @param puuid Player's PUUID
+     * @return The profile with its current metrics, or empty if unknown
+     */
+    Optional<SummonerProfile> findByPuuid(String puuid);
+
+    /**
+     * Finds the version of a profile by Riot ID (case-insensitive), without loading it.
+     *
+     * @param gameName Riot ID game name
+     * @param tagLine  Riot ID tag line
+     * @param region   Platform (e.g., "euw1")
+     * @return PUUID and last update, or empty if the player was never fetched
+     */
+    Optional<ProfileVersion> findVersion(String gameName, String tagLine, String region);
+
+    /**
+     * Inserts or updates identity and rank of a profile.
+     *
+     * @param profile Profile to store
+     */
+    void save(SummonerProfile profile);
+
+    /**
+     * Inserts or updates identity and rank of many profiles in one batch.
+     *
+     * @param profiles Profiles to store (one per PUUID)
+     */
+    void saveAll(Collection<SummonerProfile> profiles);
+}
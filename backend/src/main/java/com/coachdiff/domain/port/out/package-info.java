@@ -0,0 +1,33 @@
+/**
+ * OUTBOUND PORTS - What the domain needs from the outside world.
+ *
+ * <h2>What they are</h2>
+ * <p>
+ * Interfaces the domain and application layers call to load/store data
+ * and reach external systems. The domain owns the contract; the
+ * infrastructure provides the implementation.
+ * </p>
+ *
+ * <h2>Who implements them?</h2>
+ * <p>
+ * OUT adapters in {@code infrastructure/adapter/out} (persistence, external, cache).
+ * </p>
+ *
+ * <h2>Ports</h2>
+ * <pre>
+ * SummonerProfileRepository - Load/store player profiles
+ * RiotIdSearchRepository    - Riot IDs of stored players: fuzzy search, recent, by PUUID
+ * MatchAnalysisRepository   - Bulk store of analyzed matches, keyset pages, streamed export
+ * MatchCachePort            - Bulk read/write cache of match details
+ * MatchStoreRepository      - Durable store of full matches, fetched once for everyone
+ * IngestionQueuePort        - Work queue of ingestion jobs, shared by all nodes
+ * SuggestionRepository      - Latest generated suggestions per player
+ * SuggestionEnginePort      - Gaps → suggestions (local templates, LLM for ambiguous profiles)
+ * BenchmarkRepository       - Tier, role and champion medians
+ * ProfileGapRepository      - Profile metrics as columns, stored gaps and hashes
+ * LadderRepository          - Ladder crawl checkpoints, players and match samples
+ * RiotApiPort               - Riot Games API (Account, Summoner, League, Match)
+ * StaticDataPort            - Champion catalog, canonical strings for decoders
+ * </pre>
+ */
+package com.coachdiff.domain.port.out;
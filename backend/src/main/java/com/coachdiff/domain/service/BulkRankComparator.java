@@ -0,0 +1,252 @@
+package com.coachdiff.domain.service;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.BenchmarkTable;
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.ProfileMetricColumns;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Tier;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Compares every profile with the medians of its tier and of the tier above, in bulk.
+ *
+ * <h2>Gap</h2>
+ * <pre>
+ * ratios (CS/min, KDA, vision/min, KP)   (value - median) / median
+ * deaths (lower is better)               (median - value) / median
+ * gold diff at 15 (can be ≤ 0)           (value - median) / 1000
+ * </pre>
+ * <p>
+ * All three are {@code (value - median) × scale} with a per-metric scale, so
+ * one loop computes them all. Positive = better than the median; NaN (no
+ * value, no median) flows through the arithmetic, no branch needed.
+ * </p>
+ *
+ * <h2>Data-parallel layout</h2>
+ * <pre>
+ * columns grouped by (tier, role) → runs of rows sharing the same 12 medians
+ * run split into chunks of CHUNK_ROWS → fork-join leaves
+ * leaf, per metric:  for (i = from; i &lt; to; i++) out[i] = (in[i] - median) * scale;
+ * </pre>
+ * <p>
+ * The inner loop is a counted loop over float arrays with loop-invariant
+ * scalars and no branches: C2 compiles it to SIMD instructions (8 floats per
+ * AVX2 instruction). The Vector API would express the same thing explicitly,
+ * but is still an incubator module on Java 21.
+ * </p>
+ *
+ * <h2>Profile hash</h2>
+ * <p>
+ * MD5 of (tier, role, every gap rounded to {@value #QUANTUM}). Only profiles
+ * whose hash differs from the stored one are returned: a median that barely
+ * moved changes no hash and causes no write.
+ * </p>
+ */
+public class BulkRankComparator {
+
+    /** Rows per fork-join leaf: amortizes the task, still balances well. */
+    static final int CHUNK_ROWS = 4096;
+
+    /** Gap resolution of the profile hash. */
+    static final float QUANTUM = 0.01f;
+
+    private static final BenchmarkMetric[] METRICS = BenchmarkMetric.values();
+    private static final int GAPS = 2 * METRICS.length;
+    private static final float GOLD_SCALE = 1f / 1000;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * @param pool Pool running the chunks (CPU bound: the common pool is a good fit)
+     */
+    public BulkRankComparator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Outcome of a comparison.
+     *
+     * @param profiles Profiles compared
+     * @param changed  Profiles whose hash changed, with their new gaps
+     */
+    public record Result(int profiles, List<ProfileGaps> changed) {
+    }
+
+    /**
+     * Computes every gap and hash, and returns the profiles that changed.
+     *
+     * @param columns Profiles, grouped by (tier, role)
+     * @param table   Medians to compare with
+     * @return Profiles whose hash differs from {@link ProfileMetricColumns#previousHash}
+     */
+    public Result compare(ProfileMetricColumns columns, BenchmarkTable table) {
+        int n = columns.size();
+        float[][] gaps = new float[GAPS][n];
+        String[] hashes = new String[n];
+
+        List<Chunk> chunks = chunks(columns, table);
+        if (!chunks.isEmpty()) {
+            pool.invoke(new ChunkTask(columns, chunks, gaps, hashes, 0, chunks.size()));
+        }
+
+        List<ProfileGaps> changed = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (!hashes[i].equals(columns.previousHash(i))) {
+                float[] row = new float[GAPS];
+                for (int g = 0; g < GAPS; g++) {
+                    row[g] = gaps[g][i];
+                }
+                changed.add(new ProfileGaps(columns.puuid(i), columns.tier(i), row, hashes[i]));
+            }
+        }
+        return new Result(n, changed);
+    }
+
+    // -------------------------------------------------------------------------
+    // Chunks: runs of equal (tier, role), cut to CHUNK_ROWS
+    // -------------------------------------------------------------------------
+
+    /**
+     * A range of rows sharing one set of medians.
+     *
+     * @param medians Median per gap slot (metric vs tier, then metric vs tier above)
+     * @param scales  Scale per gap slot (NaN when the median is unusable)
+     */
+    private record Chunk(int from, int to, Tier tier, Role role, float[] medians, float[] scales) {
+    }
+
+    private static List<Chunk> chunks(ProfileMetricColumns columns, BenchmarkTable table) {
+        List<Chunk> chunks = new ArrayList<>();
+        int start = 0;
+        int n = columns.size();
+        for (int i = 1; i <= n; i++) {
+            if (i == n || columns.tier(i) != columns.tier(start) || columns.role(i) != columns.role(start)) {
+                Tier tier = columns.tier(start);
+                Role role = columns.role(start);
+                float[] medians = new float[GAPS];
+                float[] scales = new float[GAPS];
+                for (BenchmarkMetric metric : METRICS) {
+                    int m = metric.ordinal();
+                    double current = table.median(tier, role, 0, metric);
+                    double above = table.median(tier.next(), role, 0, metric);
+                    medians[m] = (float) current;
+                    scales[m] = scale(metric, current);
+                    medians[METRICS.length + m] = (float) above;
+                    scales[METRICS.length + m] = scale(metric, above);
+                }
+                for (int from = start; from < i; from += CHUNK_ROWS) {
+                    chunks.add(new Chunk(from, Math.min(i, from + CHUNK_ROWS), tier, role, medians, scales));
+                }
+                start = i;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Multiplier turning {@code value - median} into a gap (NaN: median unusable).
+     * Shared with {@link GapConvergence}, so sampled and stored gaps agree.
+     */
+    static float scale(BenchmarkMetric metric, double median) {
+        if (Double.isNaN(median)) {
+            return Float.NaN;
+        }
+        return switch (metric) {
+            case GOLD_DIFF_AT_15 -> GOLD_SCALE;
+            case DEATHS -> median > 0 ? (float) (-1 / median) : Float.NaN;
+            default -> median > 0 ? (float) (1 / median) : Float.NaN;
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // Fork-join
+    // -------------------------------------------------------------------------
+
+    /**
+     * Splits the chunk list in halves down to single chunks.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private final ProfileMetricColumns columns;
+        private final List<Chunk> chunks;
+        private final float[][] gaps;
+        private final String[] hashes;
+        private final int lo;
+        private final int hi;
+
+        ChunkTask(ProfileMetricColumns columns, List<Chunk> chunks, float[][] gaps, String[] hashes,
+                  int lo, int hi) {
+            this.columns = columns;
+            this.chunks = chunks;
+            this.gaps = gaps;
+            this.hashes = hashes;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                Chunk chunk = chunks.get(lo);
+                for (BenchmarkMetric metric : METRICS) {
+                    int m = metric.ordinal();
+                    float[] values = columns.column(metric);
+                    gapLoop(values, gaps[m], chunk.from(), chunk.to(), chunk.medians()[m], chunk.scales()[m]);
+                    int a = METRICS.length + m;
+                    gapLoop(values, gaps[a], chunk.from(), chunk.to(), chunk.medians()[a], chunk.scales()[a]);
+                }
+                hashChunk(chunk, gaps, hashes);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(columns, chunks, gaps, hashes, lo, mid),
+                    new ChunkTask(columns, chunks, gaps, hashes, mid, hi));
+        }
+    }
+
+    /**
+     * The hot loop. Keep it a plain counted loop: no branches, no calls,
+     * so that it stays vectorizable.
+     */
+    static void gapLoop(float[] values, float[] out, int from, int to, float median, float scale) {
+        for (int i = from; i < to; i++) {
+            out[i] = (values[i] - median) * scale;
+        }
+    }
+
+    private static void hashChunk(Chunk chunk, float[][] gaps, String[] hashes) {
+        MessageDigest md5 = md5();
+        HexFormat hex = HexFormat.of();
+        byte[] buffer = new byte[2 + 4 * GAPS];
+        buffer[0] = (byte) chunk.tier().ordinal();
+        buffer[1] = (byte) (chunk.role() == null ? 0 : chunk.role().ordinal() + 1);
+        for (int i = chunk.from(); i < chunk.to(); i++) {
+            int p = 2;
+            for (int g = 0; g < GAPS; g++) {
+                float gap = gaps[g][i];
+                int q = Float.isNaN(gap) ? Integer.MIN_VALUE : Math.round(gap / QUANTUM);
+                buffer[p++] = (byte) (q >>> 24);
+                buffer[p++] = (byte) (q >>> 16);
+                buffer[p++] = (byte) (q >>> 8);
+                buffer[p++] = (byte) q;
+            }
+            hashes[i] = hex.formatHex(md5.digest(buffer));
+        }
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is required by every JVM", e);
+        }
+    }
+}
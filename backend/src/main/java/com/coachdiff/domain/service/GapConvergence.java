@@ -0,0 +1,145 @@
+package com.coachdiff.domain.service;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.BenchmarkTable;
+import com.coachdiff.domain.model.LadderSample;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchSamplingPolicy;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Tier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tells whether the matches fetched so far pin down a player's top gaps.
+ *
+ * <h2>Per metric</h2>
+ * <pre>
+ * x₁..xₙ      per-match values (same formulas as the profile aggregates)
+ * mean, s     sample mean and standard deviation
+ * half-width  Z_95 × s / √n                      95% interval of the mean
+ * gap         (mean - median) × scale            same gap as BulkRankComparator
+ * ± gap       half-width × |scale|
+ * </pre>
+ * <p>
+ * Normal approximation: fine from the policy's minimum of matches up.
+ * Remakes carry no signal and are skipped; gold diff at 15 has no per-match
+ * value yet (needs timelines) and is never sampled.
+ * </p>
+ *
+ * <h2>Settled</h2>
+ * <p>
+ * The {@code topGaps} worst gaps decide the suggestions. Each is settled when
+ * either its interval is narrower than the tolerance, or the whole interval
+ * sits on one side of the weakness threshold
+ * ({@link SuggestionTemplateMatcher#MIN_GAP}): a CS gap of -40% ± 20% is
+ * a weakness whatever the next match says.
+ * </p>
+ */
+public class GapConvergence {
+
+    /** Two-sided 95% quantile of the normal distribution. */
+    static final double Z_95 = 1.96;
+
+    /** Metrics with a per-match value. */
+    private static final List<BenchmarkMetric> SAMPLED = List.of(
+            BenchmarkMetric.CS_PER_MIN,
+            BenchmarkMetric.KDA,
+            BenchmarkMetric.VISION_PER_MIN,
+            BenchmarkMetric.KILL_PARTICIPATION,
+            BenchmarkMetric.DEATHS);
+
+    /**
+     * Estimated gap of one metric.
+     *
+     * @param metric    Metric
+     * @param matches   Matches with a value for it
+     * @param gap       Gap of the sample mean (positive = better)
+     * @param halfWidth 95% half-width of the gap
+     */
+    public record GapEstimate(BenchmarkMetric metric, int matches, double gap, double halfWidth) {
+
+        /**
+         * @param tolerance Accepted half-width
+         * @return True if more matches would not change how this gap is used
+         */
+        public boolean settled(double tolerance) {
+            double weak = -SuggestionTemplateMatcher.MIN_GAP;
+            return halfWidth <= tolerance || gap + halfWidth < weak || gap - halfWidth > weak;
+        }
+    }
+
+    /**
+     * Estimates every sampled metric that has a median.
+     *
+     * @param matches Matches fetched so far
+     * @param puuid   Player
+     * @param tier    Player's tier
+     * @param role    Player's main role, null if unknown
+     * @param table   Medians
+     * @return Estimates, worst gap first (metrics with fewer than 2 values are left out)
+     */
+    public List<GapEstimate> estimate(List<MatchDetails> matches, String puuid, Tier tier, Role role,
+                                      BenchmarkTable table) {
+        int n = SAMPLED.size();
+        double[] sum = new double[n];
+        double[] sumSquares = new double[n];
+        int[] count = new int[n];
+        for (MatchDetails match : matches) {
+            for (LadderSample sample : LadderSample.fromMatch(match)) {
+                if (!sample.puuid().equals(puuid)) {
+                    continue;
+                }
+                double minutes = match.gameDurationSeconds() / 60.0;
+                for (int m = 0; m < n; m++) {
+                    double value = value(SAMPLED.get(m), sample, minutes);
+                    if (!Double.isNaN(value)) {
+                        sum[m] += value;
+                        sumSquares[m] += value * value;
+                        count[m]++;
+                    }
+                }
+            }
+        }
+
+        List<GapEstimate> estimates = new ArrayList<>(n);
+        for (int m = 0; m < n; m++) {
+            BenchmarkMetric metric = SAMPLED.get(m);
+            double median = table.median(tier, role, 0, metric);
+            float scale = BulkRankComparator.scale(metric, median);
+            if (count[m] < 2 || Float.isNaN(scale)) {
+                continue;
+            }
+            double mean = sum[m] / count[m];
+            double variance = Math.max(0, (sumSquares[m] - count[m] * mean * mean) / (count[m] - 1));
+            double halfWidth = Z_95 * Math.sqrt(variance / count[m]);
+            estimates.add(new GapEstimate(metric, count[m], (mean - median) * scale, halfWidth * Math.abs(scale)));
+        }
+        estimates.sort(Comparator.comparingDouble(GapEstimate::gap));
+        return estimates;
+    }
+
+    /**
+     * @param estimates Estimates, worst gap first
+     * @param policy    Sampling policy (top gaps, tolerance)
+     * @return True if the policy's top gaps are all settled (or there is nothing to compare)
+     */
+    public boolean settled(List<GapEstimate> estimates, MatchSamplingPolicy policy) {
+        return estimates.stream()
+                .limit(policy.topGaps())
+                .allMatch(e -> e.settled(policy.tolerance()));
+    }
+
+    private static double value(BenchmarkMetric metric, LadderSample s, double minutes) {
+        return switch (metric) {
+            case CS_PER_MIN -> s.cs() / minutes;
+            case KDA -> (s.kills() + s.assists()) / (double) Math.max(s.deaths(), 1);
+            case VISION_PER_MIN -> s.visionScore() / minutes;
+            case KILL_PARTICIPATION -> s.teamKills() > 0 ? (s.kills() + s.assists()) * 100.0 / s.teamKills() : Double.NaN;
+            case DEATHS -> s.deaths();
+            case GOLD_DIFF_AT_15 -> Double.NaN;
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.coachdiff.domain.service;
+
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.model.Role;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Detects a player's main role from their recent matches.
+ *
+ * <h2>Role names</h2>
+ * <p>
+ * Riot's {@code teamPosition} values are mapped to the names we store
+ * (see {@link Role#fromTeamPosition}):
+ * </p>
+ * <pre>
+ * TOP → TOP, JUNGLE → JUNGLE, MIDDLE → MID, BOTTOM → ADC, UTILITY → SUPPORT
+ * </pre>
+ */
+public class RoleDetector {
+
+    /**
+     * Returns the role the player played most often.
+     *
+     * @param matches Recent matches
+     * @param puuid   Player's PUUID
+     * @return Main role, or empty if no match has a known position
+     */
+    public Optional<String> mainRole(Collection<MatchDetails> matches, String puuid) {
+        return matches.stream()
+                .map(m -> m.findParticipant(puuid))
+                .flatMap(Optional::stream)
+                .map(MatchParticipant::teamPosition)
+                .map(Role::fromTeamPosition)
+                .filter(Objects::nonNull)
+                .map(Role::name)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey);
+    }
+}
@@ -0,0 +1,194 @@
+package com.coachdiff.domain.service;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Suggestion;
+import com.coachdiff.domain.model.Tier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Deterministic suggestions from a curated template set: no network, no model.
+ *
+ * <h2>Matching</h2>
+ * <pre>
+ * reference  gaps vs the player's tier
+ *            none ≤ -MIN_GAP → gaps vs the tier above ("what the next rank does better")
+ * weak       metrics with gap ≤ -MIN_GAP, worst first, at most MAX_SUGGESTIONS
+ * template   one per weak metric: the role-specific one if any, else the generic one
+ * </pre>
+ *
+ * <h2>Confidence</h2>
+ * <pre>
+ * severity   min(1, -worst gap / CLEAR_GAP)       a 20% gap is unambiguous
+ * data       metrics with a gap / all metrics     NaN = no value or no median
+ * above      ABOVE_TIER_FACTOR when the tier above was the reference
+ *
+ * confidence = severity × data (× above)
+ * </pre>
+ * <p>
+ * Low confidence means "nothing stands out" or "too little data": the
+ * templates would still answer, but a model reading the whole profile
+ * does better there. The caller decides where the threshold is.
+ * </p>
+ *
+ * <h2>Gap units</h2>
+ * <p>
+ * Same as {@link BulkRankComparator}: a fraction of the median for the
+ * ratios and deaths (-0.18 = 18% worse), thousands of gold for the gold
+ * difference at 15 (-0.2 = 200 gold behind).
+ * </p>
+ */
+public class SuggestionTemplateMatcher {
+
+    /** Gaps smaller than this are noise, not a weakness. */
+    static final double MIN_GAP = 0.05;
+
+    /** Gap at which the weakness is considered obvious. */
+    static final double CLEAR_GAP = 0.20;
+
+    /** Comparing with the tier above is more speculative than with the own tier. */
+    static final double ABOVE_TIER_FACTOR = 0.75;
+
+    static final int MAX_SUGGESTIONS = 3;
+
+    private static final BenchmarkMetric[] METRICS = BenchmarkMetric.values();
+
+    /**
+     * One curated suggestion.
+     *
+     * @param metric Metric it addresses
+     * @param role   Role it is written for, null = any role
+     * @param title  Headline
+     * @param reason Reason, formatted with the gap ({@code %1$s}) and the tier ({@code %2$s})
+     * @param action What to practice
+     */
+    record Template(BenchmarkMetric metric, Role role, String title, String reason, String action) {
+    }
+
+    /**
+     * Outcome of a match.
+     *
+     * @param suggestions Suggestions, worst gap first (empty when no gap is a weakness)
+     * @param confidence  0 to 1, see the class documentation
+     */
+    public record Match(List<Suggestion> suggestions, double confidence) {
+        public Match {
+            suggestions = List.copyOf(suggestions);
+        }
+    }
+
+    /** Role-specific templates first: the first one matching wins. */
+    static final List<Template> TEMPLATES = List.of(
+            new Template(BenchmarkMetric.CS_PER_MIN, Role.JUNGLE, "Farm your camps faster",
+                    "Your CS/min is %s below the %s median for junglers",
+                    "Full clear between ganks and take side camps whenever no play is ready"),
+            new Template(BenchmarkMetric.CS_PER_MIN, null, "Improve CS/min",
+                    "Your CS/min is %s below the %s median",
+                    "Practice last-hitting in training mode: 8 CS by 1:30 on every wave"),
+            new Template(BenchmarkMetric.KDA, null, "Take fewer losing fights",
+                    "Your KDA is %s below the %s median",
+                    "Before committing, count summoners and ultimates: fight only when you know yours are up"),
+            new Template(BenchmarkMetric.VISION_PER_MIN, Role.SUPPORT, "Own the vision game",
+                    "Your vision score per minute is %s below the %s median for supports",
+                    "Ward and sweep around the next objective 60 seconds before it spawns"),
+            new Template(BenchmarkMetric.VISION_PER_MIN, null, "Place more wards",
+                    "Your vision score per minute is %s below the %s median",
+                    "Buy a Control Ward on every back and use your trinket on cooldown"),
+            new Template(BenchmarkMetric.KILL_PARTICIPATION, Role.TOP, "Join your team's fights",
+                    "Your kill participation is %s below the %s median for top laners",
+                    "Keep Teleport for dragon and Herald fights instead of using it to go back to lane"),
+            new Template(BenchmarkMetric.KILL_PARTICIPATION, null, "Join more fights",
+                    "Your kill participation is %s below the %s median",
+                    "After pushing your wave, move toward the side of the map your jungler is on"),
+            new Template(BenchmarkMetric.DEATHS, null, "Die less",
+                    "You die %s more often than the %s median",
+                    "Before walking into fog, check where the enemy jungler was last seen"),
+            new Template(BenchmarkMetric.GOLD_DIFF_AT_15, null, "Win your early game",
+                    "Your gold difference at 15 minutes is %s below the %s median",
+                    "Trade when your opponent goes for CS, and back only with a purchase planned")
+    );
+
+    /**
+     * Matches a profile against the templates.
+     *
+     * @param gaps Gaps of the profile
+     * @param role Main role, null if unknown
+     * @return Suggestions and confidence
+     */
+    public Match match(ProfileGaps gaps, Role role) {
+        Tier reference = gaps.tier();
+        int offset = 0;
+        List<BenchmarkMetric> weak = weakest(gaps.gaps(), 0);
+        if (weak.isEmpty()) {
+            reference = gaps.tier().next();
+            offset = METRICS.length;
+            weak = weakest(gaps.gaps(), offset);
+        }
+        if (weak.isEmpty()) {
+            return new Match(List.of(), 0);
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(weak.size());
+        for (BenchmarkMetric metric : weak) {
+            Template template = template(metric, role);
+            float gap = gaps.gaps()[offset + metric.ordinal()];
+            suggestions.add(new Suggestion(template.title(),
+                    template.reason().formatted(amount(metric, gap), label(reference)),
+                    template.action()));
+        }
+
+        float worst = gaps.gaps()[offset + weak.getFirst().ordinal()];
+        double severity = Math.min(1, -worst / CLEAR_GAP);
+        double confidence = severity * known(gaps.gaps(), offset) / METRICS.length;
+        if (offset > 0) {
+            confidence *= ABOVE_TIER_FACTOR;
+        }
+        return new Match(suggestions, confidence);
+    }
+
+    private static List<BenchmarkMetric> weakest(float[] gaps, int offset) {
+        List<BenchmarkMetric> weak = new ArrayList<>();
+        for (BenchmarkMetric metric : METRICS) {
+            // NaN compares false: metrics without data are never weak
+            if (gaps[offset + metric.ordinal()] <= -MIN_GAP) {
+                weak.add(metric);
+            }
+        }
+        weak.sort(Comparator.comparingDouble(m -> gaps[offset + m.ordinal()]));
+        return weak.size() > MAX_SUGGESTIONS ? weak.subList(0, MAX_SUGGESTIONS) : weak;
+    }
+
+    private static int known(float[] gaps, int offset) {
+        int known = 0;
+        for (int m = 0; m < METRICS.length; m++) {
+            if (!Float.isNaN(gaps[offset + m])) {
+                known++;
+            }
+        }
+        return known;
+    }
+
+    private static Template template(BenchmarkMetric metric, Role role) {
+        for (Template template : TEMPLATES) {
+            if (template.metric() == metric && (template.role() == null || template.role() == role)) {
+                return template;
+            }
+        }
+        throw new IllegalStateException("No generic template for " + metric);
+    }
+
+    private static String amount(BenchmarkMetric metric, float gap) {
+        return metric == BenchmarkMetric.GOLD_DIFF_AT_15
+                ? Math.round(-gap * 1000) + " gold"
+                : Math.round(-gap * 100) + "%";
+    }
+
+    private static String label(Tier tier) {
+        return tier.name().charAt(0) + tier.name().substring(1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -24,6 +24,19 @@
  * RankComparator     - Compare metrics with rank medians
  *                      Input: ProfileMetrics, RankMetrics (current), RankMetrics (above)
  *                      Output: List&lt;MetricComparison&gt; sorted by gap
+ *
+ * BulkRankComparator - Same gaps for every profile at once (after a median refresh)
+ *                      Input: ProfileMetricColumns (primitive columns), BenchmarkTable
+ *                      Output: ProfileGaps of the profiles whose hash changed
+ *                      Fork-join over (tier, role) chunks, vectorizable inner loop
+ *
+ * SuggestionTemplateMatcher - Curated suggestion templates for the common weaknesses
+ *                      Input: ProfileGaps, Role
+ *                      Output: suggestions + confidence (LLM below the threshold)
+ *
+ * GapConvergence     - Are the top gaps pinned down by the matches fetched so far?
+ *                      Input: List&lt;MatchDetails&gt;, tier, role, BenchmarkTable
+ *                      Output: gap ± 95% half-width per metric, settled or not
  * </pre>
  *
  * <h2>Example</h2>
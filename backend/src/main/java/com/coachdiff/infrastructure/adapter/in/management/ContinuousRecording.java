@@ -0,0 +1,222 @@
+package com.coachdiff.infrastructure.adapter.in.management;
+
+import com.coachdiff.application.diagnostics.PipelineEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Always-on flight recording of this node, dumped on demand by
+ * {@link FlightRecordingEndpoint}.
+ *
+ * <h2>Recording</h2>
+ * <pre>
+ * JDK "default" settings   GC, allocation, locks, I/O, sampled CPU (~1% overhead)
+ *   + pipeline events      com.coachdiff.* over stage-threshold (see application.diagnostics)
+ *   + jdk.VirtualThreadPinned over pinned-threshold, with its stack
+ * ring buffer              last max-age, at most max-size, in the JFR repository on disk
+ * </pre>
+ * <p>
+ * Nothing leaves the process until a dump is asked for: the cost is the
+ * events' thread-local buffers and a periodic chunk write.
+ * </p>
+ *
+ * <h2>Pinned virtual threads</h2>
+ * <p>
+ * A virtual thread blocking inside {@code synchronized} (or a native
+ * frame) keeps its carrier: with few carriers, a handful of them stalls
+ * every request. A second, in-process stream watches for
+ * {@code jdk.VirtualThreadPinned}:
+ * </p>
+ * <ul>
+ *   <li>every event counts in {@code coachdiff.jfr.pinned}</li>
+ *   <li>the first event at a location logs a warning naming the first
+ *       frame outside the JDK, the code to fix (once per location, for
+ *       up to {@link #MAX_REPORTED_LOCATIONS} locations)</li>
+ * </ul>
+ * <p>
+ * Starts before every other lifecycle bean and stops after them, so
+ * warm-up, the ingestion worker and the write-behind drain are recorded.
+ * Without Flight Recorder in the runtime, nothing is recorded and the
+ * endpoint answers 503.
+ * </p>
+ */
+@Component
+public class ContinuousRecording implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ContinuousRecording.class);
+
+    static final String PINNED = "jdk.VirtualThreadPinned";
+
+    /** Distinct pinning locations logged; further ones are only counted. */
+    static final int MAX_REPORTED_LOCATIONS = 100;
+
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Duration stageThreshold;
+    private final Duration pinnedThreshold;
+    private final Path dumpDirectory;
+    private final Counter pinned;
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+
+    private volatile Recording recording;
+    private RecordingStream pinnedStream;
+
+    public ContinuousRecording(MeterRegistry registry,
+                               @Value("${coach-diff.jfr.enabled:true}") boolean enabled,
+                               @Value("${coach-diff.jfr.max-age:30m}") Duration maxAge,
+                               @Value("${coach-diff.jfr.max-size:256MB}") DataSize maxSize,
+                               @Value("${coach-diff.jfr.stage-threshold:0ms}") Duration stageThreshold,
+                               @Value("${coach-diff.jfr.pinned-threshold:20ms}") Duration pinnedThreshold,
+                               @Value("${coach-diff.jfr.dump-directory:${java.io.tmpdir}}") Path dumpDirectory) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.stageThreshold = stageThreshold;
+        this.pinnedThreshold = pinnedThreshold;
+        this.dumpDirectory = dumpDirectory;
+        this.pinned = Counter.builder("coachdiff.jfr.pinned")
+                .description("Virtual threads pinned to their carrier longer than the pinned threshold")
+                .register(registry);
+    }
+
+    /**
+     * Writes what the buffer holds to a new file in the dump directory.
+     *
+     * @return The .jfr file, for the caller to delete once sent
+     * @throws IllegalStateException if no recording is running
+     * @throws IOException           if the file can't be written
+     */
+    public synchronized Path dump() throws IOException {
+        Recording current = recording;
+        if (current == null || current.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No flight recording running");
+        }
+        Files.createDirectories(dumpDirectory);
+        Path file = Files.createTempFile(dumpDirectory, "coach-diff-", ".jfr");
+        try {
+            current.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || recording != null) {
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Flight Recorder not available in this runtime: no continuous recording");
+            return;
+        }
+        Recording started = new Recording(defaultSettings());
+        started.setName("coach-diff");
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.setMaxSize(maxSize.toBytes());
+        for (Class<? extends PipelineEvent> type : PipelineEvent.TYPES) {
+            started.enable(type).withThreshold(stageThreshold);
+        }
+        started.enable(PINNED).withThreshold(pinnedThreshold).withStackTrace();
+        started.start();
+
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED).withThreshold(pinnedThreshold).withStackTrace();
+        stream.onEvent(PINNED, this::onPinned);
+        stream.startAsync();
+
+        recording = started;
+        pinnedStream = stream;
+        log.info("Flight recording started: last {} / {} kept, pinned threshold {}", maxAge, maxSize,
+                pinnedThreshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        pinnedStream.close();
+        recording.close();
+        pinnedStream = null;
+        recording = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        String location = location(event);
+        if (reportedLocations.size() < MAX_REPORTED_LOCATIONS && reportedLocations.add(location)) {
+            log.warn("Virtual thread pinned to its carrier for {} ms at {} (logged once per location)",
+                    event.getDuration().toMillis(), location);
+        }
+    }
+
+    /**
+     * First frame outside the JDK (the JDK frames are the park itself), else the top frame.
+     */
+    static String location(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown location";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        RecordedFrame chosen = frames.stream()
+                .filter(f -> f.isJavaFrame() && !isJdk(f.getMethod().getType().getName()))
+                .findFirst()
+                .orElse(frames.getFirst());
+        return chosen.getMethod().getType().getName() + "." + chosen.getMethod().getName()
+                + ":" + chosen.getLineNumber();
+    }
+
+    private static boolean isJdk(String className) {
+        return JDK_PACKAGES.stream().anyMatch(className::startsWith);
+    }
+
+    /**
+     * The JDK's "default" profile, the one meant to stay on in production.
+     */
+    private static Map<String, String> defaultSettings() {
+        try {
+            return Configuration.getConfiguration("default").getSettings();
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JDK flight recorder \"default\" settings unreadable", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.coachdiff.infrastructure.adapter.in.management;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code GET /actuator/jfr}: the {@link ContinuousRecording} buffer as a
+ * {@code .jfr} file, like {@code /actuator/heapdump} for the heap.
+ *
+ * <h2>Responses</h2>
+ * <pre>
+ * 200  application/octet-stream, the last max-age of events
+ * 503  no recording (disabled, or no Flight Recorder in the runtime)
+ * 500  the dump couldn't be written (dump directory full or read-only)
+ * </pre>
+ * <p>
+ * Each request dumps a new file in the dump directory, deleted once sent.
+ * The recording keeps running. A dump holds stack traces and PUUIDs: the
+ * endpoint is for operators only. It is left out of the default exposure
+ * and meant for a separate, unpublished management port (see package doc).
+ * </p>
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+    private final ContinuousRecording recording;
+
+    public FlightRecordingEndpoint(ContinuousRecording recording) {
+        this.recording = recording;
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Resource> dump() {
+        try {
+            return new WebEndpointResponse<>(new DumpResource(recording.dump()));
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } catch (IOException e) {
+            log.warn("Flight recording dump failed: {}", e.getMessage());
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * A dump file, deleted when the response has read it.
+     * <p>
+     * Not a "file" for the converters: they stream it through
+     * {@link #getInputStream()} instead of copying the file behind our back.
+     * </p>
+     */
+    private static final class DumpResource extends FileSystemResource {
+
+        DumpResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * MANAGEMENT - Primary Adapters (IN) for operators, under {@code /actuator}.
+ *
+ * <h2>Role</h2>
+ * <p>
+ * Same job as a controller, for the people running the service rather
+ * than its users: exposes the node's own state. No business logic here.
+ * </p>
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * ContinuousRecording     - Always-on JDK Flight Recorder ring buffer + pinned virtual thread watch
+ * FlightRecordingEndpoint - GET /actuator/jfr: the buffer as a .jfr file
+ * </pre>
+ *
+ * <h2>Exposure</h2>
+ * <p>
+ * {@code jfr} is not exposed by default: a dump holds stack traces and
+ * PUUIDs, and actuator has no authentication. Expose it on a separate
+ * management port that isn't published:
+ * </p>
+ * <pre>
+ * COACHDIFF_MANAGEMENT_PORT=8081
+ * COACHDIFF_ACTUATOR_EXPOSURE=health,info,metrics,jfr
+ * </pre>
+ *
+ * <h2>Reading a dump</h2>
+ * <pre>
+ * curl -o coach-diff.jfr localhost:8081/actuator/jfr
+ * jfr print --events 'com.coachdiff.*' coach-diff.jfr        pipeline stages
+ * jfr print --events jdk.VirtualThreadPinned coach-diff.jfr  pinned carriers, with stacks
+ * jfr summary coach-diff.jfr                                 event counts
+ * </pre>
+ * <p>
+ * Or open it in JDK Mission Control ("Coach Diff / Pipeline" in the event browser).
+ * </p>
+ */
+package com.coachdiff.infrastructure.adapter.in.management;
@@ -0,0 +1,170 @@
+package com.coachdiff.infrastructure.adapter.in.notification;
+
+import com.coachdiff.domain.port.in.InvalidateReadCachesPort;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives Postgres change notifications and evicts the matching cached reads.
+ *
+ * <h2>Channels (V8__change_notifications.sql)</h2>
+ * <pre>
+ * profile_changed      payload: puuid               → profileChanged(puuid)
+ * suggestions_changed  payload: puuid:profile_hash  → suggestionsChanged(puuid, hash)
+ * </pre>
+ * <p>
+ * Triggers publish on commit, whichever node (or script) wrote the row, so
+ * every node evicts the same entries, its own writes included.
+ * </p>
+ *
+ * <h2>Connection</h2>
+ * <p>
+ * A LISTEN needs a session that stays open: the listener opens its own
+ * connection, outside the pool (a pooled connection would be handed to
+ * other requests, and the pool would recycle it).
+ * </p>
+ * <pre>
+ * connect → LISTEN → notificationsResumed()   caches on, empty
+ * loop:   getNotifications(POLL)  → evict
+ *         every VALIDATE: isValid()  (a silently dropped socket never errors)
+ * error  → notificationsLost()      caches off, reconnect after RETRY
+ * </pre>
+ * <p>
+ * Notifications sent while disconnected are lost for good, hence caching is
+ * off until the next LISTEN, and the caches start empty again.
+ * </p>
+ */
+@Component
+public class PgChangeListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PgChangeListener.class);
+
+    static final String PROFILE_CHANNEL = "profile_changed";
+    static final String SUGGESTIONS_CHANNEL = "suggestions_changed";
+
+    /** Longest wait for notifications before checking whether to stop. */
+    static final int POLL_MILLIS = 1_000;
+
+    /** Liveness check interval of the LISTEN connection. */
+    static final long VALIDATE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /** Pause before reconnecting after an error. */
+    static final long RETRY_DELAY_MILLIS = 5_000;
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final InvalidateReadCachesPort invalidateCaches;
+
+    private volatile boolean running;
+    private Thread loop;
+
+    public PgChangeListener(JdbcConnectionDetails connectionDetails, InvalidateReadCachesPort invalidateCaches) {
+        this.connectionDetails = connectionDetails;
+        this.invalidateCaches = invalidateCaches;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        loop = Thread.ofVirtual().name("pg-change-listener").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (loop != null) {
+            try {
+                loop.join(POLL_MILLIS + 5_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        boolean failed = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + PROFILE_CHANNEL);
+                    statement.execute("LISTEN " + SUGGESTIONS_CHANNEL);
+                }
+                invalidateCaches.notificationsResumed();
+                if (failed) {
+                    log.info("Change notifications reconnected");
+                    failed = false;
+                }
+                listen(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                invalidateCaches.notificationsLost();
+                if (!failed) {
+                    log.warn("Change notifications unavailable, retrying every {} ms: {}",
+                            RETRY_DELAY_MILLIS, e.getMessage());
+                    failed = true;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(RETRY_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    break;
+                }
+            }
+        }
+        // Nobody evicts any more: stop serving from the caches
+        invalidateCaches.notificationsLost();
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        long nextValidation = System.nanoTime() + VALIDATE_NANOS;
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(POLL_MILLIS);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getName(), notification.getParameter());
+                }
+            }
+            if (System.nanoTime() - nextValidation >= 0) {
+                if (!connection.isValid(5)) {
+                    throw new SQLException("LISTEN connection is no longer valid");
+                }
+                nextValidation = System.nanoTime() + VALIDATE_NANOS;
+            }
+        }
+    }
+
+    void dispatch(String channel, String payload) {
+        switch (channel) {
+            case PROFILE_CHANNEL -> invalidateCaches.profileChanged(payload);
+            case SUGGESTIONS_CHANNEL -> {
+                // PUUIDs never contain ':', profile hashes are hex
+                int separator = payload.indexOf(':');
+                if (separator < 0) {
+                    invalidateCaches.suggestionsChanged(payload, "");
+                } else {
+                    invalidateCaches.suggestionsChanged(payload.substring(0, separator),
+                            payload.substring(separator + 1));
+                }
+            }
+            default -> log.debug("Ignoring notification on {}", channel);
+        }
+    }
+}
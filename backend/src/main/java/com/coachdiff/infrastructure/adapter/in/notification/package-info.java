@@ -0,0 +1,16 @@
+/**
+ * NOTIFICATION LISTENERS - Primary Adapters (IN) triggered by database changes.
+ *
+ * <h2>Role</h2>
+ * <p>
+ * Same job as a REST controller or a queue worker, different trigger: a
+ * Postgres {@code NOTIFY} (sent by a trigger on commit) becomes a call to
+ * an inbound port.
+ * </p>
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * PgChangeListener - LISTEN profile_changed / suggestions_changed → InvalidateReadCachesPort
+ * </pre>
+ */
+package com.coachdiff.infrastructure.adapter.in.notification;
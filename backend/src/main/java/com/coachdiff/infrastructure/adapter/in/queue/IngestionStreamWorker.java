@@ -0,0 +1,303 @@
+package com.coachdiff.infrastructure.adapter.in.queue;
+
+import com.coachdiff.application.concurrent.TaskScope;
+import com.coachdiff.domain.model.IngestionJob;
+import com.coachdiff.domain.port.in.ProcessIngestionJobPort;
+import com.coachdiff.infrastructure.adapter.out.queue.RedisStreamIngestionQueue;
+import com.coachdiff.infrastructure.config.IngestionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumes the ingestion stream: one worker loop per node, all in one consumer group.
+ *
+ * <h2>Loop</h2>
+ * <pre>
+ * every claim-interval:
+ *   XPENDING  IDLE claim-idle       jobs delivered but never acknowledged
+ *     deliveries ≥ max  → XADD dead-letter stream + XACK, release its barrier
+ *     otherwise         → XCLAIM to this node, run them
+ * always:
+ *   XREADGROUP  COUNT batch-size  BLOCK poll-timeout  &gt;
+ *   run the batch in parallel (one virtual thread per job)
+ *   XACK  the jobs that succeeded
+ * </pre>
+ *
+ * <h2>Delivery guarantees</h2>
+ * <ul>
+ *   <li>Redis gives each new entry to ONE consumer of the group: nodes never
+ *       run the same job concurrently, and each new node adds throughput</li>
+ *   <li>A job is acknowledged only after it succeeded. A failed job, or any job
+ *       of a node that crashed mid-batch, stays in the pending entries list
+ *       and is claimed by a live node after {@code claim-idle}</li>
+ *   <li>That is at-least-once delivery: jobs are idempotent, so a rerun is safe</li>
+ * </ul>
+ *
+ * <p>
+ * Like the schedulers, this is an inbound adapter: it turns a trigger (a
+ * stream entry) into a use-case call, {@link ProcessIngestionJobPort}.
+ * </p>
+ */
+@Component
+public class IngestionStreamWorker implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestionStreamWorker.class);
+
+    /** Pause before retrying after a Redis error. */
+    static final long RETRY_DELAY_MILLIS = 5_000;
+
+    private final StringRedisTemplate redis;
+    private final ProcessIngestionJobPort processJob;
+    private final RedisStreamIngestionQueue queue;
+    private final IngestionProperties properties;
+    private final Consumer consumer;
+
+    private volatile boolean running;
+    private Thread loop;
+
+    @Autowired
+    public IngestionStreamWorker(StringRedisTemplate redis,
+                                 ProcessIngestionJobPort processJob,
+                                 RedisStreamIngestionQueue queue,
+                                 IngestionProperties properties) {
+        // pid@host: unique per node, stable for the life of the process
+        this(redis, processJob, queue, properties, ManagementFactory.getRuntimeMXBean().getName());
+    }
+
+    IngestionStreamWorker(StringRedisTemplate redis, ProcessIngestionJobPort processJob,
+                          RedisStreamIngestionQueue queue, IngestionProperties properties, String consumerName) {
+        this.redis = redis;
+        this.processJob = processJob;
+        this.queue = queue;
+        this.properties = properties;
+        this.consumer = Consumer.from(properties.getGroup(), consumerName);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isWorkerEnabled()) {
+            return;
+        }
+        running = true;
+        loop = Thread.ofVirtual().name("ingestion-worker").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (loop != null) {
+            // Interrupts the blocking read and cancels the running batch: its
+            // jobs are not acknowledged and will be claimed by another node
+            loop.interrupt();
+            try {
+                loop.join(properties.getPollTimeout().plusSeconds(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        StreamOperations<String, Object, Object> streams = redis.opsForStream();
+        boolean groupReady = false;
+        boolean redisDown = false;
+        long nextClaim = System.nanoTime();
+
+        while (running) {
+            try {
+                if (!groupReady) {
+                    createGroup(streams);
+                    groupReady = true;
+                }
+                if (System.nanoTime() - nextClaim >= 0) {
+                    runBatch(streams, claimLost(streams));
+                    nextClaim = System.nanoTime() + properties.getClaimInterval().toNanos();
+                }
+                runBatch(streams, readNew(streams));
+                if (redisDown) {
+                    log.info("Ingestion stream reachable again");
+                    redisDown = false;
+                }
+            } catch (InterruptedException e) {
+                break;
+            } catch (DataAccessException e) {
+                if (!running) {
+                    break;
+                }
+                if (!redisDown) {
+                    log.warn("Ingestion stream unavailable, retrying every {} ms: {}",
+                            RETRY_DELAY_MILLIS, e.getMessage());
+                    redisDown = true;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(RETRY_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * XGROUP CREATE ... MKSTREAM, from the start of the stream: jobs enqueued
+     * before the first worker ever started are not skipped.
+     */
+    private void createGroup(StreamOperations<String, Object, Object> streams) {
+        try {
+            streams.createGroup(properties.getStream(), ReadOffset.from("0"), properties.getGroup());
+        } catch (DataAccessException e) {
+            // Created by another node (or a previous run): expected
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> readNew(StreamOperations<String, Object, Object> streams) {
+        List<MapRecord<String, Object, Object>> records = streams.read(consumer,
+                StreamReadOptions.empty().count(properties.getBatchSize()).block(properties.getPollTimeout()),
+                offsets(properties.getStream(), ReadOffset.lastConsumed()));
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * The stream to read, as the {@code StreamOffset<K>...} array {@code XREADGROUP} takes.
+     */
+    // Java cannot create a generic array: the raw one holds a single StreamOffset<String>
+    @SuppressWarnings("unchecked")
+    static StreamOffset<String>[] offsets(String stream, ReadOffset offset) {
+        return new StreamOffset[]{StreamOffset.create(stream, offset)};
+    }
+
+    /**
+     * Claims jobs idle for more than {@code claim-idle}; dead-letters those
+     * delivered too many times.
+     */
+    private List<MapRecord<String, Object, Object>> claimLost(StreamOperations<String, Object, Object> streams) {
+        PendingMessages pending = streams.pending(properties.getStream(), properties.getGroup(),
+                Range.unbounded(), properties.getBatchSize(), properties.getClaimIdle());
+        if (pending == null || pending.isEmpty()) {
+            return List.of();
+        }
+        List<RecordId> retry = new ArrayList<>();
+        List<RecordId> exhausted = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            (message.getTotalDeliveryCount() >= properties.getMaxDeliveries() ? exhausted : retry)
+                    .add(message.getId());
+        }
+        if (!exhausted.isEmpty()) {
+            // XCLAIM with the same min idle: only wins if no other node took them meanwhile
+            deadLetter(streams, streams.claim(properties.getStream(), properties.getGroup(),
+                    consumer.getName(), properties.getClaimIdle(), exhausted.toArray(RecordId[]::new)));
+        }
+        if (retry.isEmpty()) {
+            return List.of();
+        }
+        List<MapRecord<String, Object, Object>> claimed = streams.claim(properties.getStream(),
+                properties.getGroup(), consumer.getName(), properties.getClaimIdle(), retry.toArray(RecordId[]::new));
+        if (!claimed.isEmpty()) {
+            log.info("Claimed {} lost ingestion jobs", claimed.size());
+        }
+        return claimed;
+    }
+
+    /**
+     * Runs a batch in parallel and acknowledges the jobs that succeeded.
+     */
+    private void runBatch(StreamOperations<String, Object, Object> streams,
+                          List<MapRecord<String, Object, Object>> records) throws InterruptedException {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<RecordId> done = new ArrayList<>(records.size());
+        List<MapRecord<String, Object, Object>> invalid = new ArrayList<>();
+        // Past claim-idle the jobs may be claimed elsewhere: no point going on
+        Instant deadline = Instant.now().plus(properties.getClaimIdle());
+
+        try (TaskScope scope = new TaskScope()) {
+            for (MapRecord<String, Object, Object> record : records) {
+                IngestionJob job;
+                try {
+                    job = RedisStreamIngestionQueue.fromFields(record.getValue());
+                } catch (IllegalArgumentException e) {
+                    invalid.add(record);
+                    continue;
+                }
+                scope.fork(() -> {
+                    processJob.process(job);
+                    return record.getId();
+                });
+            }
+            scope.joinEach(deadline, future -> {
+                if (future.state() == Future.State.SUCCESS) {
+                    done.add((RecordId) future.resultNow());
+                } else if (future.state() == Future.State.FAILED) {
+                    // Not acknowledged: retried after claim-idle, up to max-deliveries
+                    log.warn("Ingestion job failed: {}", future.exceptionNow().getMessage());
+                }
+            });
+        }
+        if (!done.isEmpty()) {
+            streams.acknowledge(properties.getStream(), properties.getGroup(), done.toArray(RecordId[]::new));
+        }
+        deadLetter(streams, invalid);
+    }
+
+    /**
+     * Moves entries to the dead-letter stream (with who failed them) and acknowledges them.
+     * <p>
+     * A dead-lettered job will never complete: its barrier is released, so a
+     * refresh waiting for it runs anyway (and fetches that match itself).
+     * </p>
+     */
+    private void deadLetter(StreamOperations<String, Object, Object> streams,
+                            List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = new HashMap<>(record.getValue());
+            fields.put("id", record.getId().getValue());
+            fields.put("consumer", consumer.getName());
+            streams.add(properties.getDeadLetterStream(), fields);
+            log.warn("Ingestion job {} moved to {}: {}", record.getId(), properties.getDeadLetterStream(),
+                    record.getValue());
+            try {
+                queue.complete(RedisStreamIngestionQueue.fromFields(record.getValue()));
+            } catch (IllegalArgumentException e) {
+                // Not a job at all: nothing waits for it
+            }
+        }
+        streams.acknowledge(properties.getStream(), properties.getGroup(),
+                records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+    }
+}
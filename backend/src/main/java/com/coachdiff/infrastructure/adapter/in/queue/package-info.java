@@ -0,0 +1,17 @@
+/**
+ * QUEUE WORKERS - Primary Adapters (IN) triggered by queued jobs.
+ *
+ * <h2>Role</h2>
+ * <p>
+ * Same job as a REST controller or a scheduler, different trigger: a job
+ * read from the ingestion stream becomes a call to an inbound port.
+ * </p>
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * IngestionStreamWorker - Consumer group loop on the ingestion stream → ProcessIngestionJobPort
+ * </pre>
+ *
+ * @see com.coachdiff.infrastructure.adapter.out.queue
+ */
+package com.coachdiff.infrastructure.adapter.in.queue;
@@ -0,0 +1,79 @@
+package com.coachdiff.infrastructure.adapter.in.rest;
+
+import com.coachdiff.domain.model.ProfileVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Strong ETag values for versioned resources.
+ *
+ * <h2>Why strong ETags</h2>
+ * <p>
+ * The tag is derived from the stored version, not from the serialized bytes:
+ * same version ⇒ byte-identical body (for a given representation), so a strong
+ * validator is correct. Deriving it from the version is what lets the server
+ * answer 304 before loading or serializing anything.
+ * </p>
+ *
+ * <pre>
+ * /api/profile      → "p-{puuid hash}-{updated_at in µs}[-cbor]"
+ * /api/suggestions  → "s-{profile_hash}[-cbor]"
+ * </pre>
+ *
+ * <h2>Representations</h2>
+ * <p>
+ * JSON and CBOR bodies of the same version differ, so each gets its own tag
+ * (and responses carry {@code Vary: Accept}): a cache never answers a CBOR
+ * request with a JSON body.
+ * </p>
+ */
+final class ETags {
+
+    private static final String CBOR_SUFFIX = "-cbor";
+
+    private ETags() {
+    }
+
+    static String profile(ProfileVersion version, WebRequest request) {
+        return "\"p-" + Integer.toHexString(version.puuid().hashCode())
+                + "-" + Long.toHexString(micros(version.updatedAt())) + suffix(request) + "\"";
+    }
+
+    static String suggestions(String profileHash, WebRequest request) {
+        return "\"s-" + profileHash + suffix(request) + "\"";
+    }
+
+    private static long micros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    /**
+     * Mirrors content negotiation closely enough for the tag: CBOR when it is
+     * the highest-quality explicit type of the Accept header.
+     */
+    private static String suffix(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || !accept.contains(MediaType.APPLICATION_CBOR_VALUE)) {
+            return "";
+        }
+        try {
+            List<MediaType> types = MediaType.parseMediaTypes(accept);
+            MediaType preferred = null;
+            for (MediaType type : types) {
+                if (!type.isWildcardType() && !type.isWildcardSubtype()
+                        && (preferred == null || type.getQualityValue() > preferred.getQualityValue())) {
+                    preferred = type;
+                }
+            }
+            return preferred != null && MediaType.APPLICATION_CBOR.includes(preferred) ? CBOR_SUFFIX : "";
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.coachdiff.infrastructure.adapter.in.rest;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchHistoryPage;
+import com.coachdiff.domain.model.PlayerTrends;
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.port.in.ExportMatchHistoryPort;
+import com.coachdiff.domain.port.in.GetMatchHistoryPort;
+import com.coachdiff.domain.port.in.GetProfilePort;
+import com.coachdiff.domain.port.in.GetTrendsPort;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchExportLine;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchHistoryResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.TrendsResponse;
+import com.coachdiff.infrastructure.config.RiotIdProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Match history endpoints.
+ *
+ * <h2>GET /api/matches?cursor=&amp;size=</h2>
+ * <p>
+ * Stored matches of the configured player, newest first, one page at a time:
+ * </p>
+ * <pre>
+ * GET /api/matches                  → { matches: [20 newest], nextCursor: "MjAy..." }
+ * GET /api/matches?cursor=MjAy...   → { matches: [next 20],   nextCursor: "MjAy..." }
+ * ...                               → { matches: [last ones], nextCursor: null }
+ * </pre>
+ * <p>
+ * The cursor is opaque: send back {@code nextCursor} as is. Each page is an
+ * index seek after the cursor, so deep pages are as fast as the first one,
+ * and matches stored meanwhile never shift or repeat lines between pages.
+ * </p>
+ * <p>
+ * 404 until the player has a profile, 400 for a malformed cursor or a size
+ * outside 1 to {@value MatchHistoryPage#MAX_SIZE}.
+ * JSON by default, CBOR with {@code Accept: application/cbor}.
+ * </p>
+ *
+ * <h2>GET /api/matches/export</h2>
+ * <p>
+ * The whole stored history as NDJSON, one match per line, newest first.
+ * Rows go from a database cursor straight to the response:
+ * </p>
+ * <pre>
+ * DB cursor (fetch-size rows) → MatchExportLine → JSON line → [gzip] → socket
+ * </pre>
+ * <p>
+ * Memory use is one fetch batch plus the output buffer, whatever the history
+ * size. The first lines are flushed as soon as they are written; after that,
+ * every {@value #FLUSH_EVERY} lines.
+ * </p>
+ * <p>
+ * gzip when the client sends {@code Accept-Encoding: gzip}. Done here, not by
+ * {@code server.compression} (which leaves NDJSON out so that streamed lines
+ * aren't held back): a sync flush pushes out the compressed lines written so far.
+ * </p>
+ * <pre>
+ * Accept-Encoding: gzip, deflate        → gzip
+ * Accept-Encoding: br;q=1, gzip;q=0.5   → gzip (any q above 0 will do)
+ * Accept-Encoding: *                    → gzip
+ * Accept-Encoding: gzip;q=0, *          → identity (explicitly refused)
+ * Accept-Encoding: x-gzip               → identity (we would answer "gzip")
+ * </pre>
+ *
+ * <h2>GET /api/matches/trends?windows=10,20,50&amp;points=20</h2>
+ * <p>
+ * Rolling averages of CS/min, KDA and vision/min over each window, ending
+ * at each of the newest {@code points} games, all series in one response:
+ * </p>
+ * <pre>
+ * { games: 143, series: [ { window: 10, points: [ { matchId, playedAt, csPerMin, kda, visionPerMin }, ... ] },
+ *                         { window: 20, points: [...] },
+ *                         { window: 50, points: [...] } ] }
+ * </pre>
+ * <p>
+ * Served from cached prefix sums (see {@code TrendService}): every point is
+ * O(1), whatever the window. A series only has points for games that end a
+ * full window. 404 until the player has a profile, 400 for a window outside
+ * 1 to {@value PlayerTrends#MAX_WINDOW} or points outside 1 to
+ * {@value PlayerTrends#MAX_POINTS}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+public class MatchController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    /** Lines between two flushes of the export, after the first one. */
+    static final int FLUSH_EVERY = 256;
+
+    private final GetProfilePort getProfile;
+    private final GetMatchHistoryPort getMatchHistory;
+    private final ExportMatchHistoryPort exportMatchHistory;
+    private final GetTrendsPort getTrends;
+    private final RiotIdProperties riotIdProperties;
+    private final ObjectMapper objectMapper;
+
+    public MatchController(GetProfilePort getProfile,
+                           GetMatchHistoryPort getMatchHistory,
+                           ExportMatchHistoryPort exportMatchHistory,
+                           GetTrendsPort getTrends,
+                           RiotIdProperties riotIdProperties,
+                           ObjectMapper objectMapper) {
+        this.getProfile = getProfile;
+        this.getMatchHistory = getMatchHistory;
+        this.exportMatchHistory = exportMatchHistory;
+        this.getTrends = getTrends;
+        this.riotIdProperties = riotIdProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<MatchHistoryResponse> getMatches(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MatchHistoryPage.DEFAULT_SIZE) int size) {
+        Optional<String> puuid = getProfile.findProfileVersion(riotIdProperties.toRiotId())
+                .map(ProfileVersion::puuid);
+        if (puuid.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        MatchCursor after = cursor == null || cursor.isBlank() ? null : MatchCursor.decode(cursor);
+        MatchHistoryPage page = getMatchHistory.getMatchHistory(puuid.get(), after, size);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(MatchHistoryResponse.from(page));
+    }
+
+    @GetMapping(value = "/matches/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Optional<String> puuid = getProfile.findProfileVersion(riotIdProperties.toRiotId())
+                .map(ProfileVersion::puuid);
+        if (puuid.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // Runs on an async (virtual) thread: the servlet thread is released
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192, true) : out;
+            LineWriter writer = new LineWriter(target);
+            exportMatchHistory.exportMatchHistory(puuid.get(), writer::write);
+            if (gzip) {
+                ((GZIPOutputStream) target).finish();
+            }
+            target.flush();
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"matches.ndjson\"")
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/matches/trends")
+    public ResponseEntity<TrendsResponse> getTrends(
+            @RequestParam(defaultValue = "10,20,50") List<Integer> windows,
+            @RequestParam(defaultValue = "20") int points) {
+        Optional<String> puuid = getProfile.findProfileVersion(riotIdProperties.toRiotId())
+                .map(ProfileVersion::puuid);
+        if (puuid.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        PlayerTrends trends = getTrends.getTrends(puuid.get(), windows, points);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(TrendsResponse.from(trends));
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows a gzip response.
+     * <p>
+     * Codings are matched as whole tokens, case-insensitively, with their
+     * q-value: {@code q=0} means "not acceptable". An explicit {@code gzip}
+     * entry wins over {@code *}. A malformed q-value counts as 0.
+     * </p>
+     *
+     * @param acceptEncoding Header value, or null if absent
+     * @return True to answer with {@code Content-Encoding: gzip}
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].strip();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].strip();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).strip());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("*")) {
+                any = q;
+            } else {
+                gzip = q;
+            }
+        }
+        Double q = gzip != null ? gzip : any;
+        return q != null && q > 0;
+    }
+
+    /**
+     * Writes export lines, flushing the first one at once and then every
+     * {@link #FLUSH_EVERY}. Called from a single thread (the export).
+     */
+    private final class LineWriter {
+
+        private final OutputStream out;
+        private int lines;
+
+        LineWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        void write(MatchAnalysis match) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(MatchExportLine.from(match)));
+                out.write('\n');
+                if (++lines == 1 || lines % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // Client went away: stops the export and releases the cursor
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.coachdiff.infrastructure.adapter.in.rest;
+
+import com.coachdiff.domain.port.in.SearchRiotIdsPort;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.PlayerSearchResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Player search endpoints.
+ *
+ * <h2>GET /api/players/search?q=&amp;limit=</h2>
+ * <p>
+ * Stored players whose Riot ID matches what was typed so far,
+ * case-insensitively, best matches first:
+ * </p>
+ * <pre>
+ * GET /api/players/search?q=fak        → { players: [ { riotId: "Faker#KR1", ... }, ... ] }
+ * GET /api/players/search?q=fakr%23kr  → typos and substrings too, from 3 characters
+ * </pre>
+ * <p>
+ * Meant to be called on every keystroke: hot prefixes are answered from
+ * memory (see {@code RiotIdSearchService}). Only players already fetched
+ * once are found; Riot is never called.
+ * </p>
+ * <p>
+ * 400 for a blank query or a limit outside 1 to {@value SearchRiotIdsPort#MAX_LIMIT}.
+ * JSON by default, CBOR with {@code Accept: application/cbor}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+public class PlayerSearchController {
+
+    private final SearchRiotIdsPort searchRiotIds;
+
+    public PlayerSearchController(SearchRiotIdsPort searchRiotIds) {
+        this.searchRiotIds = searchRiotIds;
+    }
+
+    @GetMapping("/players/search")
+    public ResponseEntity<PlayerSearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(PlayerSearchResponse.from(searchRiotIds.search(q, limit)));
+    }
+}
@@ -0,0 +1,155 @@
+package com.coachdiff.infrastructure.adapter.in.rest;
+
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.in.FetchProfileBatchPort;
+import com.coachdiff.domain.port.in.GetProfilePort;
+import com.coachdiff.domain.port.in.RequestProfileRefreshPort;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.BatchProfileLine;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.BatchProfileRequest;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.ProfileResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.RiotIdRequest;
+import com.coachdiff.infrastructure.config.RiotIdProperties;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Profile endpoints.
+ *
+ * <h2>GET /api/profile</h2>
+ * <p>
+ * Profile of the configured player, with a strong ETag. A poll sending
+ * {@code If-None-Match} is answered in this order:
+ * </p>
+ * <ol>
+ *   <li>Look up the stored version (index-only scan, no row loaded)</li>
+ *   <li>Same ETag → {@code 304 Not Modified}, empty body: done</li>
+ *   <li>Otherwise load the profile and serialize it (200 + new ETag)</li>
+ * </ol>
+ * <p>
+ * JSON by default, CBOR with {@code Accept: application/cbor} (see {@code rest.cbor}).
+ * </p>
+ *
+ * <h2>POST /api/profile/refresh</h2>
+ * <p>
+ * Queues a refresh of the configured player and answers {@code 202 Accepted}
+ * at once. Any worker node runs it; the next {@code GET /api/profile} after
+ * it completes gets a new ETag.
+ * </p>
+ *
+ * <h2>POST /api/profiles/batch</h2>
+ * <p>
+ * Fetches up to {@value BatchProfileRequest#MAX_PLAYERS} players (e.g., a whole
+ * lobby) in one call. The response is NDJSON ({@code application/x-ndjson}):
+ * one JSON object per line, written <b>as soon as each player is done</b>.
+ * </p>
+ * <pre>
+ * time ─────────────────────────────────────────▶
+ *   line 1: fastest player
+ *   line 2: ...
+ *   line N: slowest player (or TIMEOUT at the deadline)
+ * </pre>
+ * <p>
+ * The client can render the first players while the slow ones are still
+ * loading, instead of waiting for the whole roster.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+public class ProfileController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final GetProfilePort getProfile;
+    private final FetchProfileBatchPort fetchProfileBatch;
+    private final RequestProfileRefreshPort requestProfileRefresh;
+    private final RiotIdProperties riotIdProperties;
+    private final ObjectMapper objectMapper;
+
+    public ProfileController(GetProfilePort getProfile,
+                             FetchProfileBatchPort fetchProfileBatch,
+                             RequestProfileRefreshPort requestProfileRefresh,
+                             RiotIdProperties riotIdProperties,
+                             ObjectMapper objectMapper) {
+        this.getProfile = getProfile;
+        this.fetchProfileBatch = fetchProfileBatch;
+        this.requestProfileRefresh = requestProfileRefresh;
+        this.riotIdProperties = riotIdProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/profile")
+    public ResponseEntity<ProfileResponse> getProfile(WebRequest request) {
+        RiotId riotId = riotIdProperties.toRiotId();
+
+        Optional<ProfileVersion> version = getProfile.findProfileVersion(riotId);
+        if (version.isPresent() && request.checkNotModified(ETags.profile(version.get(), request))) {
+            // 304 already written by checkNotModified: nothing loaded, nothing serialized
+            return null;
+        }
+
+        SummonerProfile profile = getProfile.getProfile(riotId);
+        return ResponseEntity.ok()
+                .eTag(ETags.profile(ProfileVersion.of(profile), request))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ProfileResponse.from(profile));
+    }
+
+    @PostMapping("/profile/refresh")
+    public ResponseEntity<Void> refreshProfile() {
+        requestProfileRefresh.requestRefresh(riotIdProperties.toRiotId());
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping(value = "/profiles/batch", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> fetchBatch(@Valid @RequestBody BatchProfileRequest request) {
+        List<RiotId> players = request.players().stream()
+                .map(this::toRiotId)
+                .toList();
+
+        // Runs on an async (virtual) thread: the servlet thread is released
+        StreamingResponseBody body = out -> fetchProfileBatch.fetchProfiles(players,
+                result -> writeLine(out, BatchProfileLine.from(result)));
+        return ResponseEntity.ok().body(body);
+    }
+
+    private RiotId toRiotId(RiotIdRequest player) {
+        String region = player.region() == null || player.region().isBlank()
+                ? riotIdProperties.getRegion()
+                : player.region();
+        return new RiotId(player.gameName(), player.tagLine(), region.toLowerCase());
+    }
+
+    /**
+     * Writes one NDJSON line and flushes it, so the client sees it immediately.
+     * Called from a single thread (the batch owner), so no synchronization needed.
+     */
+    private void writeLine(OutputStream out, BatchProfileLine line) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            // Client went away: nothing left to stream to
+            throw new UncheckedIOException(e);
+        }
+    }
+}
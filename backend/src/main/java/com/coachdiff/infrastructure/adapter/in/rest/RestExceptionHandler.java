@@ -0,0 +1,39 @@
+package com.coachdiff.infrastructure.adapter.in.rest;
+
+import com.coachdiff.domain.exception.InvalidRequestException;
+import com.coachdiff.domain.exception.PlayerNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps domain exceptions to HTTP responses (RFC 9457 problem details).
+ *
+ * <pre>
+ * PlayerNotFoundException  → 404
+ * InvalidRequestException  → 400 (e.g., malformed cursor, page size out of range)
+ * </pre>
+ * <p>
+ * Other exceptions, a plain {@link IllegalArgumentException} included, are
+ * left to the default handling (500): they are bugs, and their message is
+ * not the client's business.
+ * </p>
+ */
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    @ExceptionHandler(PlayerNotFoundException.class)
+    public ProblemDetail handlePlayerNotFound(PlayerNotFoundException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+        problem.setTitle("Player not found");
+        return problem;
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ProblemDetail handleInvalidRequest(InvalidRequestException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+        problem.setTitle("Invalid request");
+        return problem;
+    }
+}
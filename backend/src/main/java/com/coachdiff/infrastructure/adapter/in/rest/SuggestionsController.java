@@ -0,0 +1,68 @@
+package com.coachdiff.infrastructure.adapter.in.rest;
+
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.port.in.GetProfilePort;
+import com.coachdiff.domain.port.in.GetSuggestionsPort;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.SuggestionsResponse;
+import com.coachdiff.infrastructure.config.RiotIdProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+/**
+ * Suggestion endpoints.
+ *
+ * <h2>GET /api/suggestions</h2>
+ * <p>
+ * Latest suggestions of the configured player. The ETag is the
+ * {@code profile_hash} they were generated for, so an unchanged poll costs
+ * two index-only lookups (profile version, latest hash) and a 304.
+ * </p>
+ * <p>
+ * 404 until the player has a profile and suggestions were generated.
+ * JSON by default, CBOR with {@code Accept: application/cbor}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api")
+public class SuggestionsController {
+
+    private final GetProfilePort getProfile;
+    private final GetSuggestionsPort getSuggestions;
+    private final RiotIdProperties riotIdProperties;
+
+    public SuggestionsController(GetProfilePort getProfile,
+                                 GetSuggestionsPort getSuggestions,
+                                 RiotIdProperties riotIdProperties) {
+        this.getProfile = getProfile;
+        this.getSuggestions = getSuggestions;
+        this.riotIdProperties = riotIdProperties;
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<SuggestionsResponse> getSuggestions(WebRequest request) {
+        Optional<String> puuid = getProfile.findProfileVersion(riotIdProperties.toRiotId())
+                .map(ProfileVersion::puuid);
+        Optional<String> hash = puuid.flatMap(getSuggestions::findSuggestionsVersion);
+        if (hash.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(ETags.suggestions(hash.get(), request))) {
+            return null;
+        }
+
+        return getSuggestions.getSuggestions(puuid.get())
+                .map(set -> ResponseEntity.ok()
+                        .eTag(ETags.suggestions(set.profileHash(), request))
+                        .cacheControl(CacheControl.noCache())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(SuggestionsResponse.from(set)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
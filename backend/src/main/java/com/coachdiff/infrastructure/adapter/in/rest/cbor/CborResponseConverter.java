@@ -0,0 +1,88 @@
+package com.coachdiff.infrastructure.adapter.in.rest.cbor;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.dataformat.cbor.CBORFactory;
+import tools.jackson.dataformat.cbor.CBORWriteFeature;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Serves response DTOs as {@code application/cbor} with the hand-written
+ * {@link ResponseCborWriters}.
+ *
+ * <h2>Selection</h2>
+ * <p>
+ * Spring Boot adds {@code HttpMessageConverter} beans ahead of the defaults.
+ * For a response type this converter {@link #supports}, Spring picks it when
+ * the client's {@code Accept} prefers {@code application/cbor}; otherwise
+ * the JSON converter answers as before.
+ * </p>
+ *
+ * <h2>Encoding</h2>
+ * <ul>
+ *   <li><b>STRINGREF</b>: a string seen before is written as a 2-3 byte
+ *       reference to its first occurrence</li>
+ *   <li><b>WRITE_MINIMAL_INTS / DOUBLES</b>: smallest encoding that keeps the
+ *       exact value (a CS/min of 7.5 is a 4-byte float, not 8)</li>
+ * </ul>
+ * <p>
+ * Write-only: requests are still JSON.
+ * </p>
+ */
+@Component
+public class CborResponseConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final CBORFactory factory = CBORFactory.builder()
+            .enable(CBORWriteFeature.STRINGREF)
+            .enable(CBORWriteFeature.WRITE_MINIMAL_INTS)
+            .enable(CBORWriteFeature.WRITE_MINIMAL_DOUBLES)
+            .build();
+
+    private final Map<Class<?>, CborWriter<?>> writers;
+
+    public CborResponseConverter() {
+        this(ResponseCborWriters.ALL);
+    }
+
+    CborResponseConverter(Map<Class<?>, CborWriter<?>> writers) {
+        super(MediaType.APPLICATION_CBOR);
+        this.writers = writers;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writers.containsKey(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("CBOR request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        // Empty context: the writers emit every token themselves, no mapper involved
+        try (JsonGenerator generator = factory.createGenerator(ObjectWriteContext.empty(), outputMessage.getBody())) {
+            write(value, generator);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void write(T value, JsonGenerator generator) {
+        CborWriter<T> writer = (CborWriter<T>) writers.get(value.getClass());
+        writer.write(value, generator);
+    }
+}
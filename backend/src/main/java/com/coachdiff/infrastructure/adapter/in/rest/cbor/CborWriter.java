@@ -0,0 +1,26 @@
+package com.coachdiff.infrastructure.adapter.in.rest.cbor;
+
+import tools.jackson.core.JsonGenerator;
+
+/**
+ * Writes one response type as CBOR.
+ *
+ * <p>
+ * Writers are plain code calling the streaming generator: no reflection, no
+ * per-type serializer construction on the first request, and the field order
+ * is fixed by the writer.
+ * </p>
+ *
+ * @param <T> Response type
+ */
+@FunctionalInterface
+public interface CborWriter<T> {
+
+    /**
+     * Writes {@code value} as one CBOR data item.
+     *
+     * @param value     Value to write (never null)
+     * @param generator CBOR generator positioned where the item goes
+     */
+    void write(T value, JsonGenerator generator);
+}
@@ -0,0 +1,203 @@
+package com.coachdiff.infrastructure.adapter.in.rest.cbor;
+
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.RankInfo;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchHistoryResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.PlayerSearchResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.ProfileResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.SuggestionsResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.TrendsResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.dataformat.cbor.CBORGenerator;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * CBOR writers of the REST response DTOs.
+ *
+ * <h2>Shape</h2>
+ * <p>
+ * Same property names and nesting as the JSON representation, so a client
+ * decodes both into the same model. Two differences, both standard CBOR:
+ * </p>
+ * <ul>
+ *   <li>Instants are tag 1 (epoch seconds, fractional) instead of ISO strings:
+ *       9 bytes instead of ~26</li>
+ *   <li>Repeated strings are sent once, then referenced (stringref, tag 256)</li>
+ * </ul>
+ *
+ * <h2>Adding a type</h2>
+ * <p>
+ * Write a {@code static void writeX(X, JsonGenerator)} method and register it
+ * in {@link #ALL}. A type without a writer isn't served as CBOR by
+ * {@link CborResponseConverter}.
+ * </p>
+ */
+public final class ResponseCborWriters {
+
+    /** Writers by exact response type. */
+    public static final Map<Class<?>, CborWriter<?>> ALL = Map.of(
+            ProfileResponse.class, (CborWriter<ProfileResponse>) ResponseCborWriters::writeProfile,
+            SuggestionsResponse.class, (CborWriter<SuggestionsResponse>) ResponseCborWriters::writeSuggestions,
+            MatchHistoryResponse.class, (CborWriter<MatchHistoryResponse>) ResponseCborWriters::writeMatchHistory,
+            TrendsResponse.class, (CborWriter<TrendsResponse>) ResponseCborWriters::writeTrends,
+            PlayerSearchResponse.class, (CborWriter<PlayerSearchResponse>) ResponseCborWriters::writePlayerSearch
+    );
+
+    /** CBOR tag for an epoch-based date/time (RFC 8949 §3.4.2). */
+    private static final int EPOCH_TAG = 1;
+
+    private ResponseCborWriters() {
+    }
+
+    static void writeProfile(ProfileResponse profile, JsonGenerator g) {
+        g.writeStartObject();
+        g.writeStringProperty("riotId", profile.riotId());
+        g.writeStringProperty("region", profile.region());
+        g.writeName("rank");
+        if (profile.rank() == null) {
+            g.writeNull();
+        } else {
+            writeRank(profile.rank(), g);
+        }
+        g.writeStringProperty("mainRole", profile.mainRole());
+        g.writeName("metrics");
+        writeMetrics(profile.metrics(), g);
+        g.writeName("updatedAt");
+        writeInstant(profile.updatedAt(), g);
+        g.writeEndObject();
+    }
+
+    static void writeSuggestions(SuggestionsResponse response, JsonGenerator g) {
+        g.writeStartObject();
+        g.writeName("suggestions");
+        g.writeStartArray(response.suggestions(), response.suggestions().size());
+        for (SuggestionsResponse.Item item : response.suggestions()) {
+            g.writeStartObject();
+            g.writeNumberProperty("priority", item.priority());
+            g.writeStringProperty("title", item.title());
+            g.writeStringProperty("reason", item.reason());
+            g.writeStringProperty("action", item.action());
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+        g.writeName("generatedAt");
+        writeInstant(response.generatedAt(), g);
+        g.writeEndObject();
+    }
+
+    static void writeMatchHistory(MatchHistoryResponse response, JsonGenerator g) {
+        g.writeStartObject();
+        g.writeName("matches");
+        g.writeStartArray(response.matches(), response.matches().size());
+        for (MatchHistoryResponse.Item match : response.matches()) {
+            g.writeStartObject();
+            g.writeStringProperty("matchId", match.matchId());
+            g.writeName("playedAt");
+            writeInstant(match.playedAt(), g);
+            g.writeStringProperty("championName", match.championName());
+            g.writeBooleanProperty("win", match.win());
+            g.writeNumberProperty("kills", match.kills());
+            g.writeNumberProperty("deaths", match.deaths());
+            g.writeNumberProperty("assists", match.assists());
+            g.writeNumberProperty("cs", match.cs());
+            g.writeNumberProperty("gameDurationSeconds", match.gameDurationSeconds());
+            g.writeNumberProperty("visionScore", match.visionScore());
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+        g.writeStringProperty("nextCursor", response.nextCursor());
+        g.writeEndObject();
+    }
+
+    static void writeTrends(TrendsResponse response, JsonGenerator g) {
+        g.writeStartObject();
+        g.writeNumberProperty("games", response.games());
+        g.writeName("series");
+        g.writeStartArray(response.series(), response.series().size());
+        for (TrendsResponse.Series series : response.series()) {
+            g.writeStartObject();
+            g.writeNumberProperty("window", series.window());
+            g.writeName("points");
+            g.writeStartArray(series.points(), series.points().size());
+            for (TrendsResponse.Point point : series.points()) {
+                g.writeStartObject();
+                g.writeStringProperty("matchId", point.matchId());
+                g.writeName("playedAt");
+                writeInstant(point.playedAt(), g);
+                g.writeNumberProperty("csPerMin", point.csPerMin());
+                g.writeNumberProperty("kda", point.kda());
+                g.writeNumberProperty("visionPerMin", point.visionPerMin());
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+        g.writeEndObject();
+    }
+
+    static void writePlayerSearch(PlayerSearchResponse response, JsonGenerator g) {
+        g.writeStartObject();
+        g.writeName("players");
+        g.writeStartArray(response.players(), response.players().size());
+        for (PlayerSearchResponse.Item player : response.players()) {
+            g.writeStartObject();
+            g.writeStringProperty("riotId", player.riotId());
+            g.writeStringProperty("gameName", player.gameName());
+            g.writeStringProperty("tagLine", player.tagLine());
+            g.writeStringProperty("region", player.region());
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+        g.writeEndObject();
+    }
+
+    private static void writeRank(RankInfo rank, JsonGenerator g) {
+        g.writeStartObject();
+        g.writeStringProperty("tier", rank.tier());
+        g.writeStringProperty("division", rank.division());
+        g.writeNumberProperty("leaguePoints", rank.leaguePoints());
+        g.writeNumberProperty("wins", rank.wins());
+        g.writeNumberProperty("losses", rank.losses());
+        g.writeEndObject();
+    }
+
+    private static void writeMetrics(ProfileMetrics metrics, JsonGenerator g) {
+        g.writeStartObject();
+        g.writeNumberProperty("gamesAnalyzed", metrics.gamesAnalyzed());
+        g.writeNumberProperty("wins", metrics.wins());
+        g.writeNumberProperty("csPerMin", metrics.csPerMin());
+        g.writeNumberProperty("kda", metrics.kda());
+        g.writeNumberProperty("visionPerMin", metrics.visionPerMin());
+        g.writeName("killParticipation");
+        if (metrics.killParticipation() == null) {
+            g.writeNull();
+        } else {
+            g.writeNumber(metrics.killParticipation());
+        }
+        g.writeNumberProperty("avgDeaths", metrics.avgDeaths());
+        g.writeName("goldDiffAt15");
+        if (metrics.goldDiffAt15() == null) {
+            g.writeNull();
+        } else {
+            g.writeNumber(metrics.goldDiffAt15());
+        }
+        g.writeEndObject();
+    }
+
+    static void writeInstant(Instant instant, JsonGenerator g) {
+        if (instant == null) {
+            g.writeNull();
+            return;
+        }
+        ((CBORGenerator) g).writeTag(EPOCH_TAG);
+        if (instant.getNano() == 0) {
+            g.writeNumber(instant.getEpochSecond());
+        } else {
+            // Millisecond precision, like the JSON ISO form
+            g.writeNumber(instant.toEpochMilli() / 1000.0);
+        }
+    }
+}
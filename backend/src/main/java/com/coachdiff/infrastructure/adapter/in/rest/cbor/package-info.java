@@ -0,0 +1,21 @@
+/**
+ * CBOR RESPONSES - Binary representation for mobile clients.
+ *
+ * <h2>Content negotiation</h2>
+ * <pre>
+ * Accept: application/json  → Jackson JSON (default)
+ * Accept: application/cbor  → CborResponseConverter (this package)
+ * </pre>
+ * <p>
+ * Same endpoints, same data model: only the encoding changes. CBOR is
+ * "binary JSON" (RFC 8949), so there's no schema to keep in sync with clients.
+ * </p>
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * CborWriter            - Hand-written serializer for one response type
+ * ResponseCborWriters   - Writers of the REST DTOs, registered by type
+ * CborResponseConverter - HttpMessageConverter selected by Accept
+ * </pre>
+ */
+package com.coachdiff.infrastructure.adapter.in.rest.cbor;
@@ -0,0 +1,38 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import com.coachdiff.domain.model.ProfileBatchResult;
+
+/**
+ * One NDJSON line of the batch response.
+ *
+ * <pre>
+ * {"riotId":"Faker#KR1","region":"kr","status":"OK","profile":{...},"error":null,"elapsedMillis":812}
+ * {"riotId":"Nobody#000","region":"euw1","status":"NOT_FOUND","profile":null,"error":"...","elapsedMillis":95}
+ * </pre>
+ *
+ * @param riotId        Requested Riot ID
+ * @param region        Requested platform
+ * @param status        OK, NOT_FOUND, FAILED or TIMEOUT
+ * @param profile       The profile (only when OK)
+ * @param error         Error message (null when OK)
+ * @param elapsedMillis Time spent on this player
+ */
+public record BatchProfileLine(
+        String riotId,
+        String region,
+        String status,
+        ProfileResponse profile,
+        String error,
+        long elapsedMillis
+) {
+    public static BatchProfileLine from(ProfileBatchResult result) {
+        return new BatchProfileLine(
+                result.riotId().fullRiotId(),
+                result.riotId().region(),
+                result.status().name(),
+                result.profile() == null ? null : ProfileResponse.from(result.profile()),
+                result.error(),
+                result.elapsedMillis()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /api/profiles/batch}.
+ *
+ * <pre>
+ * {
+ *   "players": [
+ *     { "gameName": "Faker", "tagLine": "KR1", "region": "kr" },
+ *     { "gameName": "Caps",  "tagLine": "EUW" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @param players Players to fetch (1 to {@value #MAX_PLAYERS})
+ */
+public record BatchProfileRequest(
+        @NotEmpty
+        @Size(max = MAX_PLAYERS)
+        List<@Valid RiotIdRequest> players
+) {
+    /** Two full lobbies and then some: bounds the Riot API budget of one request. */
+    public static final int MAX_PLAYERS = 50;
+}
@@ -0,0 +1,43 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+
+import java.time.Instant;
+
+/**
+ * One NDJSON line of the match history export.
+ *
+ * <pre>
+ * {"matchId":"EUW1_7012345678","playedAt":"2026-10-12T18:03:11Z","championName":"Ahri","win":true,"kills":7,...}
+ * </pre>
+ *
+ * @param matchId             Match ID
+ * @param playedAt            When the match started
+ * @param championName        Champion played
+ * @param win                 True if won
+ * @param kills               Kills
+ * @param deaths              Deaths
+ * @param assists             Assists
+ * @param cs                  Total CS
+ * @param gameDurationSeconds Duration in seconds
+ * @param visionScore         Vision score
+ * @param goldDiffAt15        Gold diff vs lane opponent at 15 min (null if unavailable)
+ */
+public record MatchExportLine(
+        String matchId,
+        Instant playedAt,
+        String championName,
+        boolean win,
+        int kills,
+        int deaths,
+        int assists,
+        int cs,
+        int gameDurationSeconds,
+        int visionScore,
+        Integer goldDiffAt15
+) {
+    public static MatchExportLine from(MatchAnalysis m) {
+        return new MatchExportLine(m.matchId(), m.playedAt(), m.championName(), m.win(), m.kills(),
+                m.deaths(), m.assists(), m.cs(), m.gameDurationSeconds(), m.visionScore(), m.goldDiffAt15());
+    }
+}
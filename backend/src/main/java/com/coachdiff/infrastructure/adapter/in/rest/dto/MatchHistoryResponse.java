@@ -0,0 +1,50 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchHistoryPage;
+import com.coachdiff.domain.model.MatchSummary;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JSON view of one page of match history.
+ *
+ * @param matches    Matches of the page, newest first
+ * @param nextCursor Opaque cursor of the next page ({@code ?cursor=}), null on the last page
+ */
+public record MatchHistoryResponse(
+        List<Item> matches,
+        String nextCursor
+) {
+    /**
+     * One match.
+     *
+     * @param matchId             Match ID
+     * @param playedAt            When the match started
+     * @param championName        Champion played
+     * @param win                 True if won
+     * @param kills               Kills
+     * @param deaths              Deaths
+     * @param assists             Assists
+     * @param cs                  Total CS
+     * @param gameDurationSeconds Duration in seconds
+     * @param visionScore         Vision score
+     */
+    public record Item(String matchId, Instant playedAt, String championName, boolean win,
+                       int kills, int deaths, int assists, int cs, int gameDurationSeconds,
+                       int visionScore) {
+
+        static Item from(MatchSummary m) {
+            return new Item(m.matchId(), m.playedAt(), m.championName(), m.win(), m.kills(), m.deaths(),
+                    m.assists(), m.cs(), m.gameDurationSeconds(), m.visionScore());
+        }
+    }
+
+    public static MatchHistoryResponse from(MatchHistoryPage page) {
+        MatchCursor next = page.next();
+        return new MatchHistoryResponse(
+                page.matches().stream().map(Item::from).toList(),
+                next == null ? null : next.encode());
+    }
+}
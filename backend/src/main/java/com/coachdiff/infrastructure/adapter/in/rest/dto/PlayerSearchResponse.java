@@ -0,0 +1,34 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import com.coachdiff.domain.model.KnownRiotId;
+
+import java.util.List;
+
+/**
+ * JSON view of a Riot ID search.
+ *
+ * @param players Matching players, best first
+ */
+public record PlayerSearchResponse(
+        List<Item> players
+) {
+    /**
+     * One player.
+     *
+     * @param riotId   Full Riot ID (e.g., "Faker#KR1")
+     * @param gameName Game name
+     * @param tagLine  Tag line
+     * @param region   Platform
+     */
+    public record Item(String riotId, String gameName, String tagLine, String region) {
+
+        static Item from(KnownRiotId p) {
+            return new Item(p.riotId().fullRiotId(), p.riotId().gameName(), p.riotId().tagLine(),
+                    p.riotId().region());
+        }
+    }
+
+    public static PlayerSearchResponse from(List<KnownRiotId> players) {
+        return new PlayerSearchResponse(players.stream().map(Item::from).toList());
+    }
+}
@@ -0,0 +1,42 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.RankInfo;
+import com.coachdiff.domain.model.SummonerProfile;
+
+import java.time.Instant;
+
+/**
+ * JSON view of a {@link SummonerProfile}.
+ *
+ * <p>
+ * Kept separate from the domain record so the API contract doesn't change
+ * every time the domain does (and internal fields like summonerId stay internal).
+ * </p>
+ *
+ * @param riotId    Full Riot ID (e.g., "Faker#KR1")
+ * @param region    Platform (e.g., "euw1")
+ * @param rank      Solo queue rank (null if unranked)
+ * @param mainRole  Most played position (null if unknown)
+ * @param metrics   Rolling-window metrics
+ * @param updatedAt Last time the profile changed
+ */
+public record ProfileResponse(
+        String riotId,
+        String region,
+        RankInfo rank,
+        String mainRole,
+        ProfileMetrics metrics,
+        Instant updatedAt
+) {
+    public static ProfileResponse from(SummonerProfile profile) {
+        return new ProfileResponse(
+                profile.fullRiotId(),
+                profile.region(),
+                profile.rank(),
+                profile.mainRole(),
+                profile.metrics(),
+                profile.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * One player in a batch request.
+ *
+ * @param gameName Riot ID game name
+ * @param tagLine  Riot ID tag line (without '#')
+ * @param region   Platform (optional, defaults to the configured region)
+ */
+public record RiotIdRequest(
+        @NotBlank String gameName,
+        @NotBlank String tagLine,
+        String region
+) {
+}
@@ -0,0 +1,40 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import com.coachdiff.domain.model.Suggestion;
+import com.coachdiff.domain.model.SuggestionSet;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON view of the latest suggestions.
+ *
+ * @param suggestions 1 to 3 suggestions, highest priority first
+ * @param generatedAt When they were generated
+ */
+public record SuggestionsResponse(
+        List<Item> suggestions,
+        Instant generatedAt
+) {
+    /**
+     * One suggestion.
+     *
+     * @param priority 1 = most important
+     * @param title    Short headline
+     * @param reason   Why
+     * @param action   What to do
+     */
+    public record Item(int priority, String title, String reason, String action) {
+    }
+
+    public static SuggestionsResponse from(SuggestionSet set) {
+        List<Suggestion> suggestions = set.suggestions();
+        List<Item> items = new ArrayList<>(suggestions.size());
+        for (int i = 0; i < suggestions.size(); i++) {
+            Suggestion s = suggestions.get(i);
+            items.add(new Item(i + 1, s.title(), s.reason(), s.action()));
+        }
+        return new SuggestionsResponse(items, set.generatedAt());
+    }
+}
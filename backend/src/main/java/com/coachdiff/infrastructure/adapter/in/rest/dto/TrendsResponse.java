@@ -0,0 +1,51 @@
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
+
+import com.coachdiff.domain.model.PlayerTrends;
+import com.coachdiff.domain.model.TrendSeries;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JSON view of a player's trend charts.
+ *
+ * @param games  Stored games the series are computed from
+ * @param series One series per requested window, in request order
+ */
+public record TrendsResponse(
+        int games,
+        List<Series> series
+) {
+    /**
+     * Rolling averages over one window.
+     *
+     * @param window Games per average
+     * @param points Oldest first, one per game ending a full window
+     */
+    public record Series(int window, List<Point> points) {
+
+        static Series from(TrendSeries s) {
+            return new Series(s.window(), s.points().stream().map(Point::from).toList());
+        }
+    }
+
+    /**
+     * Averages of the window ending at one game.
+     *
+     * @param matchId      Last game of the window
+     * @param playedAt     When it was played
+     * @param csPerMin     Average CS per minute
+     * @param kda          Average KDA
+     * @param visionPerMin Average vision score per minute
+     */
+    public record Point(String matchId, Instant playedAt, double csPerMin, double kda, double visionPerMin) {
+
+        static Point from(TrendSeries.Point p) {
+            return new Point(p.matchId(), p.playedAt(), p.csPerMin(), p.kda(), p.visionPerMin());
+        }
+    }
+
+    public static TrendsResponse from(PlayerTrends trends) {
+        return new TrendsResponse(trends.games(), trends.series().stream().map(Series::from).toList());
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * REST DTOs - Request and response bodies of the REST API.
+ *
+ * <h2>Rules</h2>
+ * <ul>
+ *   <li>Records only, mapped from/to domain records with static factories</li>
+ *   <li>Input validation lives here (Bean Validation annotations)</li>
+ *   <li>Never returned by the domain: conversion happens in controllers</li>
+ * </ul>
+ */
+package com.coachdiff.infrastructure.adapter.in.rest.dto;
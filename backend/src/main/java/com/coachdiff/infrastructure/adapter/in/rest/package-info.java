@@ -26,15 +26,25 @@
  * <h2>Planned Endpoints</h2>
  * <pre>
  * ProfileController
- *   GET /api/profile            → FetchProfilePort
+ *   GET /api/profile            → GetProfilePort (ETag, 304 before loading)
  *   GET /api/profile/comparison → With comparison vs rank medians
+ *   POST /api/profile/refresh   → RequestProfileRefreshPort (202, queued)
+ *   POST /api/profiles/batch    → FetchProfileBatchPort (NDJSON stream)
  *
  * SuggestionsController
- *   GET /api/suggestions        → GetSuggestionsPort
+ *   GET /api/suggestions        → GetSuggestionsPort (ETag = profile hash)
  *   POST /api/suggestions/refresh → GenerateSuggestionsPort
  *
  * MatchController
- *   GET /api/matches            → GetMatchHistoryPort
+ *   GET /api/matches            → GetMatchHistoryPort (keyset pages, opaque cursor)
+ *   GET /api/matches/export     → ExportMatchHistoryPort (NDJSON stream, optional gzip)
+ *   GET /api/matches/trends     → GetTrendsPort (rolling windows from prefix sums)
+ *
+ * PlayerSearchController
+ *   GET /api/players/search     → SearchRiotIdsPort (trie type-ahead, pg_trgm fallback)
+ *
+ * Every GET answers JSON, or CBOR with "Accept: application/cbor"
+ * (hand-written writers in the cbor sub-package).
  * </pre>
  *
  * <h2>Example</h2>
@@ -0,0 +1,41 @@
+package com.coachdiff.infrastructure.adapter.in.scheduler;
+
+import com.coachdiff.domain.port.in.RefreshBenchmarksPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the benchmark table at startup and reloads it periodically
+ * (the ladder crawl rewrites the medians in the database once a night).
+ */
+@Component
+public class BenchmarkRefreshScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkRefreshScheduler.class);
+
+    private final RefreshBenchmarksPort refreshBenchmarks;
+
+    public BenchmarkRefreshScheduler(RefreshBenchmarksPort refreshBenchmarks) {
+        this.refreshBenchmarks = refreshBenchmarks;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${coach-diff.benchmarks.reload-interval:PT1H}",
+            initialDelayString = "${coach-diff.benchmarks.reload-interval:PT1H}")
+    public void refresh() {
+        try {
+            refreshBenchmarks.refreshBenchmarks();
+        } catch (RuntimeException e) {
+            // Keep serving the previous table
+            log.warn("Benchmark reload failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.coachdiff.infrastructure.adapter.in.scheduler;
+
+import com.coachdiff.domain.model.GapRecomputeReport;
+import com.coachdiff.domain.model.LadderCrawlReport;
+import com.coachdiff.domain.port.in.CrawlLadderPort;
+import com.coachdiff.domain.port.in.RecomputeGapsPort;
+import com.coachdiff.infrastructure.config.LadderCrawlerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Triggers the ladder crawl on a schedule.
+ *
+ * <p>
+ * A scheduler is an inbound adapter like a REST controller: it turns a
+ * trigger (here, the clock) into a use-case call. All the logic lives in
+ * {@link CrawlLadderPort}.
+ * </p>
+ * <p>
+ * A run that updated the medians makes every player's gaps stale: the same
+ * node then recomputes them all ({@link RecomputeGapsPort}).
+ * </p>
+ */
+@Component
+public class LadderCrawlScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LadderCrawlScheduler.class);
+
+    private final CrawlLadderPort crawlLadder;
+    private final RecomputeGapsPort recomputeGaps;
+    private final LadderCrawlerProperties properties;
+
+    public LadderCrawlScheduler(CrawlLadderPort crawlLadder, RecomputeGapsPort recomputeGaps,
+                                LadderCrawlerProperties properties) {
+        this.crawlLadder = crawlLadder;
+        this.recomputeGaps = recomputeGaps;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${coach-diff.ladder.cron:0 0 4 * * *}")
+    public void runCrawl() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            Optional<LadderCrawlReport> report = crawlLadder.crawl(properties.toPlan());
+            report.ifPresent(r -> log.info(
+                    "Ladder crawl done in {}s: {} pages, {} players ({} new), {} matches, "
+                            + "{} samples, {} players sampled, {} tiers and {} benchmarks updated",
+                    r.elapsed().toSeconds(), r.pagesFetched(), r.playersSeen(), r.newPlayers(),
+                    r.matchesFetched(), r.samplesStored(), r.playersSampled(), r.tiersUpdated(), r.benchmarksUpdated()));
+            if (report.isPresent() && report.get().tiersUpdated() + report.get().benchmarksUpdated() > 0) {
+                GapRecomputeReport gaps = recomputeGaps.recomputeGaps();
+                log.info("Gaps recomputed in {} ms: {} profiles, {} changed",
+                        gaps.elapsed().toMillis(), gaps.profiles(), gaps.changed());
+            }
+        } catch (RuntimeException e) {
+            // Never let a failed run kill the scheduler: the next run resumes
+            log.warn("Ladder crawl failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * SCHEDULERS - Primary Adapters (IN) triggered by the clock.
+ *
+ * <h2>Role</h2>
+ * <p>
+ * Same job as a REST controller, different trigger: a {@code @Scheduled}
+ * method calls an inbound port. No business logic here.
+ * </p>
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * LadderCrawlScheduler      - Nightly ladder crawl → CrawlLadderPort, then RecomputeGapsPort
+ * BenchmarkRefreshScheduler - Startup + hourly reload → RefreshBenchmarksPort
+ * </pre>
+ */
+package com.coachdiff.infrastructure.adapter.in.scheduler;
@@ -0,0 +1,172 @@
+package com.coachdiff.infrastructure.adapter.in.startup;
+
+import com.coachdiff.application.concurrent.TaskScope;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.port.in.WarmUpPort;
+import com.coachdiff.infrastructure.adapter.out.external.openai.OpenAiSuggestionEngine;
+import com.coachdiff.infrastructure.config.RiotIdProperties;
+import com.coachdiff.infrastructure.config.RiotRestClients;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Warms the node up before it reports ready.
+ *
+ * <h2>Readiness</h2>
+ * <pre>
+ * context refreshed, web server up     liveness  CORRECT
+ * ApplicationRunners (this one)        readiness REFUSING_TRAFFIC   ← warm-up runs here
+ * ApplicationReadyEvent                readiness ACCEPTING_TRAFFIC
+ * </pre>
+ * <p>
+ * Spring Boot only switches readiness once the runners return, so
+ * {@code /actuator/health/readiness} stays down until the warm-up is done:
+ * a rolling deploy sends no traffic to a cold node.
+ * </p>
+ *
+ * <h2>Steps (in parallel, within timeout)</h2>
+ * <pre>
+ * hikari   open minimum-idle connections now, not on the first requests
+ * redis    open the Lettuce connection (match cache, Riot rate limiter)
+ * riot     TLS to the configured platform and its regional host
+ * openai   TLS to the OpenAI API (skipped without a key)
+ * app      WarmUpPort: benchmarks, hot paths (JIT), then the configured profile
+ *          once the read caches are enabled
+ * </pre>
+ * <p>
+ * Best effort: a failed or late step is logged and the node becomes ready
+ * anyway. A cold node is slower, not broken.
+ * </p>
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final WarmUpPort warmUp;
+    private final DataSource dataSource;
+    private final StringRedisTemplate redis;
+    private final RiotRestClients riotClients;
+    private final OpenAiSuggestionEngine openAi;
+    private final RiotIdProperties riotIdProperties;
+    private final boolean enabled;
+    private final Duration timeout;
+
+    public StartupWarmup(WarmUpPort warmUp,
+                         DataSource dataSource,
+                         StringRedisTemplate redis,
+                         RiotRestClients riotClients,
+                         OpenAiSuggestionEngine openAi,
+                         RiotIdProperties riotIdProperties,
+                         @Value("${coach-diff.warmup.enabled:true}") boolean enabled,
+                         @Value("${coach-diff.warmup.timeout:30s}") Duration timeout) {
+        this.warmUp = warmUp;
+        this.dataSource = dataSource;
+        this.redis = redis;
+        this.riotClients = riotClients;
+        this.openAi = openAi;
+        this.riotIdProperties = riotIdProperties;
+        this.enabled = enabled;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        RiotId player = configuredPlayer();
+        Map<Future<?>, String> steps = new HashMap<>();
+        List<String> failed = new ArrayList<>();
+        boolean complete;
+
+        try (TaskScope scope = new TaskScope()) {
+            fork(scope, steps, "hikari", this::fillPool);
+            fork(scope, steps, "redis", () -> redis.execute((RedisCallback<String>) RedisConnection::ping));
+            fork(scope, steps, "riot", () -> {
+                riotClients.warmUp(riotIdProperties.getRegion().toLowerCase());
+                return null;
+            });
+            fork(scope, steps, "openai", () -> {
+                openAi.warmUp();
+                return null;
+            });
+            fork(scope, steps, "app", () -> warmUp.warmUp(player));
+
+            complete = scope.joinEach(Instant.now().plus(timeout), future -> {
+                if (future.state() == Future.State.FAILED) {
+                    failed.add(steps.get(future));
+                    log.warn("Warm-up step {} failed: {}", steps.get(future), future.exceptionNow().getMessage());
+                }
+            });
+        }
+        long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        if (!complete) {
+            log.warn("Warm-up cut after {} ms (timeout {}), ready anyway", millis, timeout);
+        } else {
+            log.info("Warm-up done in {} ms{}", millis, failed.isEmpty() ? "" : ", failed: " + failed);
+        }
+    }
+
+    /**
+     * Borrows minimum-idle connections at once (Hikari creates what is
+     * missing), then gives them back: they stay in the pool, idle.
+     *
+     * @return Connections opened
+     */
+    private Integer fillPool() throws SQLException {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return 0;
+        }
+        List<Connection> borrowed = new ArrayList<>();
+        try {
+            for (int i = 0; i < hikari.getMinimumIdle(); i++) {
+                borrowed.add(hikari.getConnection());
+            }
+        } finally {
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+        }
+        return borrowed.size();
+    }
+
+    private static void fork(TaskScope scope, Map<Future<?>, String> steps, String name, Callable<?> step) {
+        steps.put(scope.fork(step), name);
+    }
+
+    /**
+     * @return Configured player, null when the Riot ID is not set
+     */
+    private RiotId configuredPlayer() {
+        if (riotIdProperties.getRegion() == null) {
+            return null;
+        }
+        try {
+            return riotIdProperties.toRiotId();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * STARTUP - Primary Adapters (IN) triggered by the application starting.
+ *
+ * <h2>Role</h2>
+ * <p>
+ * Same job as a scheduler, different trigger: runs once, before the node
+ * reports ready, and calls an inbound port. No business logic here.
+ * </p>
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * StartupWarmup - Connections (Hikari, Redis, Riot, OpenAI) + WarmUpPort, gating readiness
+ * </pre>
+ */
+package com.coachdiff.infrastructure.adapter.in.startup;
@@ -0,0 +1,156 @@
+package com.coachdiff.infrastructure.adapter.out.cache;
+
+import com.coachdiff.application.diagnostics.DecodeEvent;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.port.out.MatchCachePort;
+import com.coachdiff.domain.port.out.StaticDataPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link MatchCachePort} on Redis: one key per match, JSON values.
+ *
+ * <h2>Round trips</h2>
+ * <pre>
+ * getAll(100 ids)   → MGET match:{id1} ... match:{id100}     1 round trip
+ * putAll(37 misses) → pipeline of 37 × SET key value EX ttl  1 round trip
+ * </pre>
+ * <p>
+ * With a 2000 ms command timeout, one GET per match would spend the budget
+ * on latency alone for a 100-match history; MGET and pipelining make the
+ * cost constant in the number of matches.
+ * </p>
+ *
+ * <h2>Decoding</h2>
+ * <p>
+ * Strings read back from Redis go through {@link StaticDataPort} like
+ * strings decoded from Riot, so a match read from the cache shares its
+ * champion names and positions with every other match in memory.
+ * Each {@code getAll} records one {@code com.coachdiff.Decode} event
+ * (source cache) for its hits.
+ * </p>
+ */
+@Component
+public class RedisMatchCacheAdapter implements MatchCachePort {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisMatchCacheAdapter.class);
+
+    static final String KEY_PREFIX = "match:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final StaticDataPort staticData;
+    private final Expiration ttl;
+
+    public RedisMatchCacheAdapter(StringRedisTemplate redis,
+                                  ObjectMapper objectMapper,
+                                  StaticDataPort staticData,
+                                  @Value("${coach-diff.cache.match-ttl:24h}") Duration ttl) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.staticData = staticData;
+        this.ttl = Expiration.from(ttl);
+    }
+
+    @Override
+    public Map<String, MatchDetails> getAll(Collection<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> ids = List.copyOf(matchIds);
+        List<String> values;
+        try {
+            values = redis.opsForValue().multiGet(ids.stream().map(RedisMatchCacheAdapter::key).toList());
+        } catch (DataAccessException e) {
+            log.warn("Match cache read failed, treating {} matches as misses: {}", ids.size(), e.getMessage());
+            return Map.of();
+        }
+        if (values == null) {
+            return Map.of();
+        }
+
+        DecodeEvent decode = new DecodeEvent("cache");
+        decode.begin();
+        Map<String, MatchDetails> hits = new HashMap<>(values.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            String json = values.get(i);
+            if (json != null) {
+                try {
+                    hits.put(ids.get(i), canonicalize(objectMapper.readValue(json, MatchDetails.class)));
+                } catch (JacksonException | IllegalArgumentException e) {
+                    // Stale format or corrupted entry: a miss, overwritten by the next put
+                    log.debug("Unreadable cache entry for {}: {}", ids.get(i), e.getMessage());
+                }
+            }
+        }
+        decode.commit(null, hits.size());
+        return hits;
+    }
+
+    @Override
+    public void putAll(Collection<MatchDetails> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        List<byte[][]> entries = new ArrayList<>(matches.size());
+        for (MatchDetails match : matches) {
+            entries.add(new byte[][]{
+                    key(match.matchId()).getBytes(StandardCharsets.UTF_8),
+                    objectMapper.writeValueAsBytes(match)
+            });
+        }
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[][] entry : entries) {
+                    connection.stringCommands().set(entry[0], entry[1], ttl, SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Match cache write of {} matches failed: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    private MatchDetails canonicalize(MatchDetails match) {
+        List<MatchParticipant> participants = match.participants().stream()
+                .map(p -> new MatchParticipant(
+                        p.puuid(),
+                        p.summonerName(),
+                        staticData.canonical(p.championName()),
+                        p.championId(),
+                        staticData.canonical(p.teamPosition()),
+                        p.win(),
+                        p.kills(),
+                        p.deaths(),
+                        p.assists(),
+                        p.totalMinionsKilled(),
+                        p.neutralMinionsKilled(),
+                        p.visionScore(),
+                        p.goldEarned(),
+                        p.totalDamageDealt()))
+                .toList();
+        return new MatchDetails(match.matchId(), match.gameCreation(), match.gameDurationSeconds(), participants);
+    }
+
+    private static String key(String matchId) {
+        return KEY_PREFIX + matchId;
+    }
+}
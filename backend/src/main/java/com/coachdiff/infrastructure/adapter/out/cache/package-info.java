@@ -0,0 +1,15 @@
+/**
+ * CACHE ADAPTERS - Secondary Adapters (OUT) for Redis.
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * RedisMatchCacheAdapter - Match details: MGET reads, pipelined SET writes
+ * </pre>
+ *
+ * <h2>Rules</h2>
+ * <ul>
+ *   <li>Bulk operations only: one round trip per call, whatever the key count</li>
+ *   <li>Best-effort: a Redis failure is a cache miss, never an error for the caller</li>
+ * </ul>
+ */
+package com.coachdiff.infrastructure.adapter.out.cache;
@@ -0,0 +1,105 @@
+package com.coachdiff.infrastructure.adapter.out.external.datadragon;
+
+import com.coachdiff.domain.model.Champion;
+import com.coachdiff.domain.model.ChampionCatalog;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Tier;
+import com.coachdiff.domain.port.out.StaticDataPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link StaticDataPort} backed by a Data Dragon {@code champion.json} snapshot.
+ *
+ * <h2>Canonical strings</h2>
+ * <pre>
+ * canonical()  tiers, divisions, queues, positions, champion keys
+ *              → pre-filled pool; unknown values are added up to MAX_POOL_SIZE
+ * </pre>
+ * <p>
+ * The pool cap protects against a high-cardinality value passed to
+ * {@code canonical()} by mistake: past the cap, values are returned as is.
+ * </p>
+ */
+@Component
+public class DataDragonStaticData implements StaticDataPort {
+
+    private static final Logger log = LoggerFactory.getLogger(DataDragonStaticData.class);
+
+    static final int MAX_POOL_SIZE = 1024;
+
+    private static final List<String> KNOWN_VALUES = List.of(
+            // League-V4 queue types and divisions
+            "RANKED_SOLO_5x5", "RANKED_FLEX_SR", "I", "II", "III", "IV",
+            // Match-V5 teamPosition ("" when Riot couldn't tell)
+            "TOP", "JUNGLE", "MIDDLE", "BOTTOM", "UTILITY", ""
+    );
+
+    private final ChampionCatalog champions;
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+
+    public DataDragonStaticData(ObjectMapper objectMapper,
+                                @Value("${coach-diff.static-data.champions}") Resource championsFile) {
+        this.champions = load(objectMapper, championsFile);
+        KNOWN_VALUES.forEach(v -> pool.put(v, v));
+        for (Tier tier : Tier.values()) {
+            pool.put(tier.name(), tier.name());
+        }
+        for (Role role : Role.values()) {
+            pool.put(role.name(), role.name());
+        }
+        for (Champion champion : champions.all()) {
+            pool.put(champion.key(), champion.key());
+        }
+        log.info("Loaded {} champions from Data Dragon {}", champions.size(), champions.version());
+    }
+
+    @Override
+    public ChampionCatalog champions() {
+        return champions;
+    }
+
+    @Override
+    public String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= MAX_POOL_SIZE) {
+            return value;
+        }
+        String previous = pool.putIfAbsent(value, value);
+        return previous != null ? previous : value;
+    }
+
+    static ChampionCatalog load(ObjectMapper objectMapper, Resource file) {
+        try (InputStream in = file.getInputStream()) {
+            JsonNode root = objectMapper.readTree(in);
+            List<Champion> list = new ArrayList<>();
+            for (JsonNode node : root.path("data")) {
+                list.add(new Champion(
+                        Integer.parseInt(node.path("key").asString()),
+                        node.path("id").asString(),
+                        node.path("name").asString()));
+            }
+            return ChampionCatalog.of(root.path("version").asString("unknown"), list);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Cannot load champion static data from " + file, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * DATA DRAGON - Game static data from a local snapshot.
+ *
+ * <h2>Why a local snapshot</h2>
+ * <p>
+ * Data Dragon (ddragon.leagueoflegends.com) is Riot's CDN for static data.
+ * Champions change a few times a year, so a versioned file in
+ * {@code resources/static-data} avoids a network dependency at startup.
+ * New champion, old snapshot: lookups miss and decoders keep Riot's value.
+ * </p>
+ *
+ * <h2>Updating</h2>
+ * <pre>
+ * curl https://ddragon.leagueoflegends.com/cdn/{version}/data/en_US/champion.json
+ * </pre>
+ * <p>
+ * Only {@code version} and {@code data.*.id/key/name} are read; the full file
+ * works as is, the committed one is trimmed to those fields.
+ * </p>
+ */
+package com.coachdiff.infrastructure.adapter.out.external.datadragon;
@@ -0,0 +1,16 @@
+package com.coachdiff.infrastructure.adapter.out.external.openai;
+
+/**
+ * Technical failure generating suggestions with OpenAI (no key, HTTP error,
+ * unparseable answer).
+ */
+public class OpenAiException extends RuntimeException {
+
+    public OpenAiException(String message) {
+        super(message);
+    }
+
+    public OpenAiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,166 @@
+package com.coachdiff.infrastructure.adapter.out.external.openai;
+
+import com.coachdiff.application.diagnostics.LlmCallEvent;
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Suggestion;
+import com.coachdiff.domain.port.out.SuggestionEnginePort;
+import com.coachdiff.infrastructure.adapter.out.external.openai.dto.ChatCompletionRequest;
+import com.coachdiff.infrastructure.adapter.out.external.openai.dto.ChatCompletionResponse;
+import com.coachdiff.infrastructure.adapter.out.external.openai.dto.GeneratedSuggestionsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link SuggestionEnginePort} backed by one OpenAI chat completion.
+ *
+ * <h2>Prompt</h2>
+ * <pre>
+ * system  coach persona + the JSON shape to answer with
+ * user    tier, role, one line per metric: gap vs tier, gap vs tier above
+ * </pre>
+ * <p>
+ * {@code response_format=json_object} makes the answer parseable; at most
+ * 3 suggestions are kept, suggestions without a title are dropped.
+ * </p>
+ *
+ * <h2>Cost</h2>
+ * <p>
+ * One call takes seconds and costs tokens: it is reserved for profiles the
+ * local templates can't answer with confidence. Each call is a
+ * {@code com.coachdiff.LlmCall} flight recorder event.
+ * </p>
+ */
+@Component
+public class OpenAiSuggestionEngine implements SuggestionEnginePort {
+
+    private static final int MAX_SUGGESTIONS = 3;
+
+    private static final String SYSTEM_PROMPT = """
+            You are a League of Legends coach. You receive a ranked player's gaps against \
+            the median player of their tier and of the tier above (positive = better). \
+            Pick the 1 to 3 weaknesses that matter most for climbing and answer with JSON only: \
+            {"suggestions": [{"title": "...", "reason": "...", "action": "..."}]}. \
+            Title: a short headline. Reason: cite the gap. Action: one concrete thing to practice.""";
+
+    private static final BenchmarkMetric[] METRICS = BenchmarkMetric.values();
+
+    private final RestClient client;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final String model;
+
+    public OpenAiSuggestionEngine(ObjectMapper objectMapper,
+                                  @Value("${openai.api-key:}") String apiKey,
+                                  @Value("${openai.model}") String model,
+                                  @Value("${openai.base-url}") String baseUrl) {
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.client = RestClient.builder()
+                .baseUrl(baseUrl)
+                .defaultHeader("Authorization", "Bearer " + apiKey)
+                .build();
+    }
+
+    @Override
+    public List<Suggestion> suggest(ProfileGaps gaps, Role role) {
+        if (apiKey.isBlank()) {
+            throw new OpenAiException("OpenAI API key not configured");
+        }
+        ChatCompletionRequest request = new ChatCompletionRequest(model, List.of(
+                new ChatCompletionRequest.Message("system", SYSTEM_PROMPT),
+                new ChatCompletionRequest.Message("user", describe(gaps, role))),
+                0.2, new ChatCompletionRequest.ResponseFormat("json_object"));
+
+        ChatCompletionResponse response;
+        LlmCallEvent event = new LlmCallEvent(model);
+        event.begin();
+        try {
+            response = client.post()
+                    .uri("/chat/completions")
+                    .body(request)
+                    .retrieve()
+                    .body(ChatCompletionResponse.class);
+        } catch (RestClientException e) {
+            throw new OpenAiException("OpenAI call failed for " + gaps.puuid(), e);
+        } finally {
+            event.commit(gaps.puuid(), 0);
+        }
+        if (response == null || response.choices() == null || response.choices().isEmpty()) {
+            throw new OpenAiException("OpenAI returned no choice for " + gaps.puuid());
+        }
+        return parse(response.choices().getFirst().message().content());
+    }
+
+    /**
+     * Opens the TLS connection to OpenAI before the first suggestion needs it.
+     * <p>
+     * {@code GET /models}: no tokens spent. Skipped without an API key.
+     * </p>
+     */
+    public void warmUp() {
+        if (apiKey.isBlank()) {
+            return;
+        }
+        client.get()
+                .uri("/models")
+                .retrieve()
+                // The connection is what we want, not the answer
+                .onStatus(status -> true, (request, response) -> { })
+                .toBodilessEntity();
+    }
+
+    private List<Suggestion> parse(String content) {
+        GeneratedSuggestionsDto answer;
+        try {
+            answer = objectMapper.readValue(content, GeneratedSuggestionsDto.class);
+        } catch (JacksonException e) {
+            throw new OpenAiException("OpenAI answer is not the expected JSON", e);
+        }
+        List<Suggestion> suggestions = answer.suggestions() == null ? List.of() : answer.suggestions().stream()
+                .filter(s -> s.title() != null && !s.title().isBlank())
+                .limit(MAX_SUGGESTIONS)
+                .map(s -> new Suggestion(s.title(), s.reason(), s.action()))
+                .toList();
+        if (suggestions.isEmpty()) {
+            throw new OpenAiException("OpenAI answer has no suggestion");
+        }
+        return suggestions;
+    }
+
+    /**
+     * User prompt, e.g. {@code CS_PER_MIN: -18% vs GOLD, -31% vs PLATINUM}.
+     */
+    static String describe(ProfileGaps gaps, Role role) {
+        StringBuilder prompt = new StringBuilder()
+                .append("Tier: ").append(gaps.tier())
+                .append("\nRole: ").append(role == null ? "unknown" : role)
+                .append("\nGaps (ratios as % of the median, gold diff in gold):");
+        for (BenchmarkMetric metric : METRICS) {
+            prompt.append('\n').append(metric).append(": ")
+                    .append(format(metric, gaps.gaps()[metric.ordinal()])).append(" vs ").append(gaps.tier())
+                    .append(", ")
+                    .append(format(metric, gaps.gaps()[METRICS.length + metric.ordinal()])).append(" vs ")
+                    .append(gaps.tier().next());
+        }
+        return prompt.toString();
+    }
+
+    private static String format(BenchmarkMetric metric, float gap) {
+        if (Float.isNaN(gap)) {
+            return "no data";
+        }
+        return metric == BenchmarkMetric.GOLD_DIFF_AT_15
+                ? String.format(Locale.ROOT, "%+d", Math.round(gap * 1000))
+                : String.format(Locale.ROOT, "%+d%%", Math.round(gap * 100));
+    }
+}
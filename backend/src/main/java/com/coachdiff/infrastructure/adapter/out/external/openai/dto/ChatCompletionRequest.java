@@ -0,0 +1,28 @@
+package com.coachdiff.infrastructure.adapter.out.external.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Chat Completions request: {@code POST /chat/completions}.
+ */
+public record ChatCompletionRequest(
+        String model,
+        List<Message> messages,
+        double temperature,
+        @JsonProperty("response_format") ResponseFormat responseFormat
+) {
+    /**
+     * @param role    "system" or "user"
+     * @param content Prompt text
+     */
+    public record Message(String role, String content) {
+    }
+
+    /**
+     * @param type "json_object": the answer is guaranteed to parse as JSON
+     */
+    public record ResponseFormat(String type) {
+    }
+}
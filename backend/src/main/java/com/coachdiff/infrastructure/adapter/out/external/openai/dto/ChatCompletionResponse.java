@@ -0,0 +1,21 @@
+package com.coachdiff.infrastructure.adapter.out.external.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Chat Completions response: only the first choice's content is read.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChatCompletionResponse(
+        List<Choice> choices
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(Message message) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Message(String content) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.coachdiff.infrastructure.adapter.out.external.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * JSON the model is asked to answer with (inside the message content).
+ *
+ * <pre>
+ * {"suggestions": [{"title": "...", "reason": "...", "action": "..."}]}
+ * </pre>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GeneratedSuggestionsDto(
+        List<Item> suggestions
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(
+            String title,
+            String reason,
+            String action
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * OPENAI ADAPTER - Secondary Adapter (OUT) for the OpenAI Chat Completions API.
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * OpenAiSuggestionEngine - Implements SuggestionEnginePort with one chat completion
+ * OpenAiException        - HTTP, configuration or parsing failure
+ * dto/                   - JSON shapes of the request, the response and the answer
+ * </pre>
+ * <p>
+ * Not called directly: the local template engine answers first and only
+ * hands ambiguous profiles over (see {@code adapter.out.suggestion}).
+ * </p>
+ *
+ * @see com.coachdiff.domain.port.out.SuggestionEnginePort
+ */
+package com.coachdiff.infrastructure.adapter.out.external.openai;
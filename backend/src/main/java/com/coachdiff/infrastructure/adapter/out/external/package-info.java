@@ -0,0 +1,10 @@
+/**
+ * EXTERNAL API ADAPTERS - Secondary Adapters (OUT) for third-party HTTP APIs.
+ *
+ * <pre>
+ * riot/        - Riot Games API (Account-V1, Summoner-V4, League-V4, Match-V5)
+ * datadragon/  - Static data (champions) from a local Data Dragon snapshot
+ * openai/      - OpenAI Chat Completions (suggestions for ambiguous profiles)
+ * </pre>
+ */
+package com.coachdiff.infrastructure.adapter.out.external;
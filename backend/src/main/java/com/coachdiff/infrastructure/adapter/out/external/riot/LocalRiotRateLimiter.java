@@ -0,0 +1,122 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process Riot API rate limiter: one JVM's view of the budget.
+ *
+ * <p>
+ * Exact for a single replica. With several replicas, use
+ * {@link RedisRiotRateLimiter}, which also falls back to this class
+ * (with a reduced budget) when Redis is unreachable.
+ * </p>
+ *
+ * <h2>Algorithm: sliding log per window</h2>
+ * <p>
+ * Riot enforces several windows at once (e.g., 20 req/1s AND 100 req/120s).
+ * For each window we keep the timestamps of the last {@code limit} permits in
+ * a ring buffer. A new permit is allowed when the oldest of them has left
+ * the window. A call takes a permit only when EVERY window allows it.
+ * </p>
+ *
+ * <h2>Virtual threads</h2>
+ * <p>
+ * Callers may be thousands of virtual threads. We use a {@link ReentrantLock}
+ * (not {@code synchronized}, which pins the carrier thread in Java 21) and
+ * sleep outside the lock, so waiting callers cost nothing.
+ * </p>
+ */
+public class LocalRiotRateLimiter implements RiotRateLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Window> windows;
+
+    /**
+     * @param spec Rate limit in Riot's format, e.g. "20:1,100:120"
+     */
+    public LocalRiotRateLimiter(String spec) {
+        this.windows = parse(spec);
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos = 0;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                for (Window window : windows) {
+                    waitNanos = Math.max(waitNanos, window.waitNanos(now));
+                }
+                if (waitNanos == 0) {
+                    for (Window window : windows) {
+                        window.record(now);
+                    }
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Parses Riot's rate limit format: "20:1,100:120" → [20 per 1s, 100 per 120s].
+     */
+    static List<Window> parse(String spec) {
+        List<Window> result = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] limitAndSeconds = part.trim().split(":");
+            if (limitAndSeconds.length != 2) {
+                throw new IllegalArgumentException("Invalid rate limit: " + part);
+            }
+            int limit = Integer.parseInt(limitAndSeconds[0].trim());
+            long seconds = Long.parseLong(limitAndSeconds[1].trim());
+            result.add(new Window(limit, TimeUnit.SECONDS.toNanos(seconds)));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Ring buffer of the last {@code limit} permit timestamps.
+     */
+    static final class Window {
+
+        private final long windowNanos;
+        private final long[] stamps;
+        private int oldest;
+
+        Window(int limit, long windowNanos) {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Rate limit must be >= 1");
+            }
+            this.windowNanos = windowNanos;
+            this.stamps = new long[limit];
+            // Far in the past: the buffer starts full of expired permits
+            Arrays.fill(stamps, Long.MIN_VALUE / 2);
+        }
+
+        int limit() {
+            return stamps.length;
+        }
+
+        long windowNanos() {
+            return windowNanos;
+        }
+
+        long waitNanos(long now) {
+            long freeAt = stamps[oldest] + windowNanos;
+            return Math.max(0, freeAt - now);
+        }
+
+        void record(long now) {
+            stamps[oldest] = now;
+            oldest = (oldest + 1) % stamps.length;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Riot API rate limiter shared by every replica through Redis.
+ *
+ * <h2>Why</h2>
+ * <p>
+ * The Riot app limit belongs to the API key, not to a process: two replicas
+ * each running a {@link LocalRiotRateLimiter} at 20 req/s send 40 req/s with
+ * the same key and get 429s.
+ * </p>
+ *
+ * <h2>Algorithm: fixed windows, leased in batches</h2>
+ * <p>
+ * Redis holds one counter per window, started by the first permit and expiring
+ * with the window ({@code redis/riot-rate-limit.lua}). The script checks and
+ * increments every window atomically, so replicas can never oversubscribe.
+ * </p>
+ * <pre>
+ * acquire()
+ *   local lease left?  → take one, no round trip
+ *   else               → EVALSHA: lease up to leaseSize permits (all windows)
+ *       granted n      → keep n - 1 until the shortest window resets
+ *       granted 0      → every caller of this replica waits for the reset
+ * </pre>
+ * <p>
+ * With a lease size of 5, one round trip serves 5 calls. Unused permits are
+ * dropped when the lease expires: the budget loses at most
+ * {@code leaseSize - 1} permits per replica and window, never gains any.
+ * </p>
+ *
+ * <h2>Redis unavailable</h2>
+ * <p>
+ * Calls are not failed because the limiter is down. On a Redis error the replica
+ * switches to a {@link LocalRiotRateLimiter} with a reduced budget (sized so that
+ * all replicas together stay under the app limit) and tries Redis again after
+ * {@link #RETRY_REDIS_NANOS}.
+ * </p>
+ *
+ * <h2>Virtual threads</h2>
+ * <p>
+ * Same rules as {@link LocalRiotRateLimiter}: a {@link ReentrantLock}, and no
+ * sleeping while holding it. The lock IS held during the lease round trip:
+ * callers queued behind it need that lease anyway.
+ * </p>
+ */
+public class RedisRiotRateLimiter implements RiotRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRiotRateLimiter.class);
+
+    /** Hash tag: all window keys land in the same Redis Cluster slot (required by EVAL). */
+    static final String KEY_PREFIX = "riot:rate-limit:{app}:";
+
+    /** How long a replica stays on its local budget before trying Redis again. */
+    static final long RETRY_REDIS_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/riot-rate-limit.lua"), List.class);
+
+    private final StringRedisTemplate redis;
+    private final RiotRateLimiter fallback;
+    private final List<String> keys;
+    private final List<String> args;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private int leased;
+    private long leaseExpiresAt;
+    private long exhaustedUntil;
+    private boolean redisDown;
+    private long fallbackUntil;
+
+    /**
+     * @param redis        Shared Redis
+     * @param spec         App rate limit, e.g. "20:1,100:120"
+     * @param leaseSize    Permits taken per round trip
+     * @param fallbackSpec Budget of this replica while Redis is unavailable
+     */
+    public RedisRiotRateLimiter(StringRedisTemplate redis, String spec, int leaseSize, String fallbackSpec) {
+        if (leaseSize < 1) {
+            throw new IllegalArgumentException("Lease size must be >= 1");
+        }
+        this.redis = redis;
+        this.fallback = new LocalRiotRateLimiter(fallbackSpec);
+
+        // Key per window, named after it: changing the limit starts fresh counters
+        List<String> windowKeys = new ArrayList<>();
+        List<String> limits = new ArrayList<>();
+        List<String> lengths = new ArrayList<>();
+        for (LocalRiotRateLimiter.Window window : LocalRiotRateLimiter.parse(spec)) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(window.windowNanos());
+            windowKeys.add(KEY_PREFIX + window.limit() + ":" + millis);
+            limits.add(Integer.toString(window.limit()));
+            lengths.add(Long.toString(millis));
+        }
+        this.keys = List.copyOf(windowKeys);
+        List<String> scriptArgs = new ArrayList<>();
+        scriptArgs.add(Integer.toString(leaseSize));
+        scriptArgs.addAll(limits);
+        scriptArgs.addAll(lengths);
+        this.args = List.copyOf(scriptArgs);
+        this.exhaustedUntil = System.nanoTime();
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                if (redisDown && now - fallbackUntil < 0) {
+                    waitNanos = -1;
+                } else if (leased > 0 && now - leaseExpiresAt < 0) {
+                    leased--;
+                    return;
+                } else if (now - exhaustedUntil < 0) {
+                    waitNanos = exhaustedUntil - now;
+                } else {
+                    Lease lease = lease(now);
+                    if (lease == null) {
+                        waitNanos = -1;
+                    } else if (lease.granted() > 0) {
+                        leased = lease.granted() - 1;
+                        leaseExpiresAt = now + TimeUnit.MILLISECONDS.toNanos(lease.millis());
+                        return;
+                    } else {
+                        // At least 1 ms: never spin on a window about to reset
+                        exhaustedUntil = now + TimeUnit.MILLISECONDS.toNanos(Math.max(1, lease.millis()));
+                        waitNanos = exhaustedUntil - now;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (waitNanos < 0) {
+                fallback.acquire();
+                return;
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Runs the lease script. Must hold {@link #lock}.
+     *
+     * @return The lease, null if Redis is unavailable (fallback armed)
+     */
+    private Lease lease(long now) {
+        try {
+            List<?> result = redis.execute(LEASE_SCRIPT, keys, args.toArray());
+            if (redisDown) {
+                log.info("Redis rate limiter reachable again, leaving the local fallback budget");
+                redisDown = false;
+            }
+            return new Lease(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+        } catch (DataAccessException e) {
+            if (!redisDown) {
+                log.warn("Redis rate limiter unavailable, using the local fallback budget: {}", e.getMessage());
+            }
+            leased = 0;
+            redisDown = true;
+            fallbackUntil = now + RETRY_REDIS_NANOS;
+            return null;
+        }
+    }
+
+    /**
+     * Answer of the lease script.
+     *
+     * @param granted Permits leased (0 = budget spent)
+     * @param millis  Lease validity if granted, otherwise time until a window resets
+     */
+    private record Lease(int granted, long millis) {
+    }
+}
@@ -0,0 +1,281 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot;
+
+import com.coachdiff.application.diagnostics.DecodeEvent;
+import com.coachdiff.application.diagnostics.RiotCallEvent;
+import com.coachdiff.domain.exception.PlayerNotFoundException;
+import com.coachdiff.domain.model.LadderEntry;
+import com.coachdiff.domain.model.LeagueEntry;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.model.RiotAccount;
+import com.coachdiff.domain.model.Summoner;
+import com.coachdiff.domain.port.out.RiotApiPort;
+import com.coachdiff.domain.port.out.StaticDataPort;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.AccountDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.LeagueEntryDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.LeagueListDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.MatchDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.SummonerDto;
+import com.coachdiff.infrastructure.config.RiotApiProperties;
+import com.coachdiff.infrastructure.config.RiotRestClients;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Riot API adapter: implements {@link RiotApiPort} with RestClient.
+ *
+ * <h2>Every call</h2>
+ * <ol>
+ *   <li>Takes a permit from the shared {@link RiotRateLimiter}</li>
+ *   <li>Picks the platform or regional host for the player's platform</li>
+ *   <li>Maps the DTO to a domain record</li>
+ * </ol>
+ * <p>
+ * Each call is a {@code com.coachdiff.RiotCall} flight recorder event
+ * (attempts, time waiting for permits); each mapped match a
+ * {@code com.coachdiff.Decode} event.
+ * </p>
+ *
+ * <h2>Decoding</h2>
+ * <p>
+ * Mapped records keep no low-cardinality string of the parsed DTO: tiers,
+ * divisions, queues, positions and champion names are replaced by
+ * canonical instances ({@link StaticDataPort}). Cached matches then hold
+ * references, not copies. PUUIDs and in-game names are kept as decoded.
+ * </p>
+ *
+ * <h2>Errors</h2>
+ * <ul>
+ *   <li>404 → {@link PlayerNotFoundException} (or empty result where it makes sense)</li>
+ *   <li>429 → wait {@code Retry-After} seconds and retry, up to {@code max-retries}</li>
+ *   <li>Anything else → {@link RiotApiException}</li>
+ * </ul>
+ */
+@Component
+public class RiotApiAdapter implements RiotApiPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RiotApiAdapter.class);
+
+    private static final ParameterizedTypeReference<List<String>> STRING_LIST = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<List<LeagueEntryDto>> LEAGUE_ENTRY_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RiotRestClients clients;
+    private final RiotRateLimiter rateLimiter;
+    private final RiotApiProperties properties;
+    private final StaticDataPort staticData;
+
+    public RiotApiAdapter(RiotRestClients clients, RiotRateLimiter rateLimiter, RiotApiProperties properties,
+                          StaticDataPort staticData) {
+        this.clients = clients;
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.staticData = staticData;
+    }
+
+    @Override
+    public RiotAccount getAccountByRiotId(String gameName, String tagLine, String region) {
+        AccountDto dto = call("account", null, 0, "account " + gameName + "#" + tagLine, () -> clients.routing(region).get()
+                .uri("/riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}", gameName, tagLine)
+                .retrieve()
+                .body(AccountDto.class));
+        return new RiotAccount(dto.puuid(), dto.gameName(), dto.tagLine());
+    }
+
+    @Override
+    public RiotAccount getAccountByPuuid(String puuid, String region) {
+        AccountDto dto = call("account", puuid, 0, "account " + puuid, () -> clients.routing(region).get()
+                .uri("/riot/account/v1/accounts/by-puuid/{puuid}", puuid)
+                .retrieve()
+                .body(AccountDto.class));
+        return new RiotAccount(dto.puuid(), dto.gameName(), dto.tagLine());
+    }
+
+    @Override
+    public Summoner getSummonerByPuuid(String puuid, String region) {
+        SummonerDto dto = call("summoner", puuid, 0, "summoner " + puuid, () -> clients.platform(region).get()
+                .uri("/lol/summoner/v4/summoners/by-puuid/{puuid}", puuid)
+                .retrieve()
+                .body(SummonerDto.class));
+        return new Summoner(dto.id(), dto.puuid(), dto.profileIconId(), dto.summonerLevel(), dto.revisionDate());
+    }
+
+    @Override
+    public List<LeagueEntry> getLeagueEntries(String summonerId, String region) {
+        List<LeagueEntryDto> dtos = call("league", null, 0, "league entries " + summonerId, () -> clients.platform(region).get()
+                .uri("/lol/league/v4/entries/by-summoner/{summonerId}", summonerId)
+                .retrieve()
+                .body(LEAGUE_ENTRY_LIST));
+        if (dtos == null) {
+            return List.of();
+        }
+        return dtos.stream()
+                .map(e -> new LeagueEntry(staticData.canonical(e.queueType()), staticData.canonical(e.tier()),
+                        staticData.canonical(e.rank()), e.leaguePoints(),
+                        e.wins(), e.losses(), e.hotStreak(), e.veteran(), e.freshBlood(), e.inactive()))
+                .toList();
+    }
+
+    @Override
+    public List<LadderEntry> getLadderPage(String region, String queue, String tier, String division, int page) {
+        List<LeagueEntryDto> dtos = call("ladder", null, 0, "ladder " + tier + " " + division + " p" + page,
+                () -> clients.platform(region).get()
+                        .uri("/lol/league/v4/entries/{queue}/{tier}/{division}?page={page}",
+                                queue, tier, division, page)
+                        .retrieve()
+                        .body(LEAGUE_ENTRY_LIST));
+        if (dtos == null) {
+            return List.of();
+        }
+        return dtos.stream()
+                .filter(e -> e.puuid() != null)
+                .map(e -> new LadderEntry(e.puuid(), staticData.canonical(e.tier()),
+                        staticData.canonical(e.rank()), e.leaguePoints()))
+                .toList();
+    }
+
+    @Override
+    public List<LadderEntry> getApexLadder(String region, String queue, String tier) {
+        // MASTER → masterleagues, GRANDMASTER → grandmasterleagues, ...
+        String league = tier.toLowerCase(Locale.ROOT) + "leagues";
+        LeagueListDto dto = call("ladder", null, 0, "ladder " + tier, () -> clients.platform(region).get()
+                .uri("/lol/league/v4/{league}/by-queue/{queue}", league, queue)
+                .retrieve()
+                .body(LeagueListDto.class));
+        if (dto == null || dto.entries() == null) {
+            return List.of();
+        }
+        return dto.entries().stream()
+                .filter(e -> e.puuid() != null)
+                .map(e -> new LadderEntry(e.puuid(),
+                        staticData.canonical(Objects.requireNonNullElse(dto.tier(), tier)),
+                        staticData.canonical(e.rank()), e.leaguePoints()))
+                .toList();
+    }
+
+    @Override
+    public List<String> getMatchIds(String puuid, String region, int count) {
+        List<String> ids = call("match-ids", puuid, count, "match ids " + puuid, () -> clients.routing(region).get()
+                .uri("/lol/match/v5/matches/by-puuid/{puuid}/ids?queue={queue}&count={count}",
+                        puuid, properties.getRankedSoloQueueId(), count)
+                .retrieve()
+                .body(STRING_LIST));
+        return ids != null ? ids : List.of();
+    }
+
+    @Override
+    public MatchDetails getMatch(String matchId, String region) {
+        try {
+            MatchDto dto = call("match", null, 1, "match " + matchId, () -> clients.routing(region).get()
+                    .uri("/lol/match/v5/matches/{matchId}", matchId)
+                    .retrieve()
+                    .body(MatchDto.class));
+            DecodeEvent decode = new DecodeEvent("riot");
+            decode.begin();
+            MatchDetails match = toMatchDetails(dto);
+            decode.commit(null, 1);
+            return match;
+        } catch (PlayerNotFoundException e) {
+            // A 404 here means the match, not a player, is missing
+            throw new RiotApiException("Match not found: " + matchId, e);
+        }
+    }
+
+    MatchDetails toMatchDetails(MatchDto dto) {
+        List<MatchParticipant> participants = dto.info().participants().stream()
+                .map(p -> new MatchParticipant(
+                        p.puuid(),
+                        p.riotIdGameName() != null ? p.riotIdGameName() : p.summonerName(),
+                        staticData.canonical(p.championName()),
+                        p.championId(),
+                        staticData.canonical(p.teamPosition()),
+                        p.win(),
+                        p.kills(),
+                        p.deaths(),
+                        p.assists(),
+                        p.totalMinionsKilled(),
+                        p.neutralMinionsKilled(),
+                        p.visionScore(),
+                        p.goldEarned(),
+                        p.totalDamageDealtToChampions()))
+                .toList();
+        return new MatchDetails(
+                dto.metadata().matchId(),
+                Instant.ofEpochMilli(dto.info().gameCreation()),
+                dto.info().gameDuration(),
+                participants);
+    }
+
+    /**
+     * Runs one Riot call under the rate limiter, with 429 retries and error
+     * mapping, recorded as a {@link RiotCallEvent} (failed calls included).
+     *
+     * @param endpoint   Event endpoint name
+     * @param puuid      Player the call is for, if the request names one
+     * @param matchCount Matches requested
+     */
+    private <T> T call(String endpoint, String puuid, int matchCount, String description, Supplier<T> request) {
+        RiotCallEvent event = new RiotCallEvent(endpoint);
+        event.begin();
+        try {
+            return callWithRetries(event, description, request);
+        } finally {
+            event.commit(puuid, matchCount);
+        }
+    }
+
+    private <T> T callWithRetries(RiotCallEvent event, String description, Supplier<T> request) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                long waitStart = System.nanoTime();
+                rateLimiter.acquire();
+                event.attempt(System.nanoTime() - waitStart);
+                return request.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RiotApiException("Interrupted while waiting for rate limit: " + description, e);
+            } catch (HttpClientErrorException.NotFound e) {
+                throw new PlayerNotFoundException("Riot API returned 404 for " + description);
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                if (attempt >= properties.getMaxRetries()) {
+                    throw new RiotApiException("Rate limited by Riot API: " + description, e);
+                }
+                sleepRetryAfter(e, description);
+            } catch (RestClientException e) {
+                throw new RiotApiException("Riot API call failed: " + description, e);
+            }
+        }
+    }
+
+    private void sleepRetryAfter(HttpClientErrorException e, String description) {
+        long seconds = 1;
+        String retryAfter = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst("Retry-After") : null;
+        if (retryAfter != null) {
+            try {
+                seconds = Math.max(1, Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException ignored) {
+                // Keep the default
+            }
+        }
+        log.debug("429 on {}, retrying in {}s", description, seconds);
+        try {
+            TimeUnit.SECONDS.sleep(seconds);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RiotApiException("Interrupted during 429 backoff: " + description, ie);
+        }
+    }
+}
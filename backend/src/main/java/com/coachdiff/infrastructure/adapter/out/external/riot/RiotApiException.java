@@ -0,0 +1,19 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot;
+
+/**
+ * Technical failure talking to the Riot API (5xx, exhausted retries, interruption).
+ * <p>
+ * "Player not found" is a business outcome and uses
+ * {@link com.coachdiff.domain.exception.PlayerNotFoundException} instead.
+ * </p>
+ */
+public class RiotApiException extends RuntimeException {
+
+    public RiotApiException(String message) {
+        super(message);
+    }
+
+    public RiotApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,23 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot;
+
+/**
+ * The Riot API budget every outgoing call draws from.
+ *
+ * <h2>Implementations</h2>
+ * <pre>
+ * LocalRiotRateLimiter  - In-process sliding log (one replica)
+ * RedisRiotRateLimiter  - Budget shared by all replicas through Redis
+ * </pre>
+ * <p>
+ * Which one is used is set by {@code coach-diff.riot.rate-limiter}.
+ * </p>
+ */
+public interface RiotRateLimiter {
+
+    /**
+     * Blocks until a permit is available in every window, then takes it.
+     *
+     * @throws InterruptedException if the caller is cancelled while waiting
+     */
+    void acquire() throws InterruptedException;
+}
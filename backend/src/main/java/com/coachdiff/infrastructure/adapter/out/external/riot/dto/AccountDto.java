@@ -0,0 +1,14 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Account-V1 response: {@code /riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AccountDto(
+        String puuid,
+        String gameName,
+        String tagLine
+) {
+}
@@ -0,0 +1,23 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * League-V4 entry: {@code /lol/league/v4/entries/by-summoner/{summonerId}}
+ * and ladder pages {@code /lol/league/v4/entries/{queue}/{tier}/{division}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LeagueEntryDto(
+        String puuid,
+        String queueType,
+        String tier,
+        String rank,
+        int leaguePoints,
+        int wins,
+        int losses,
+        boolean hotStreak,
+        boolean veteran,
+        boolean freshBlood,
+        boolean inactive
+) {
+}
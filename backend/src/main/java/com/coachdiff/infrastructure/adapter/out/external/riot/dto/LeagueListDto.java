@@ -0,0 +1,23 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * League-V4 apex league: {@code /lol/league/v4/{challenger|grandmaster|master}leagues/by-queue/{queue}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LeagueListDto(
+        String tier,
+        String queue,
+        List<Item> entries
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(
+            String puuid,
+            String rank,
+            int leaguePoints
+    ) {
+    }
+}
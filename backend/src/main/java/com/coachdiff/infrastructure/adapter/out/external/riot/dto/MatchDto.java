@@ -0,0 +1,55 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Match-V5 response: {@code /lol/match/v5/matches/{matchId}}.
+ * <p>
+ * Only the fields we use are mapped; the real payload has hundreds more.
+ * </p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MatchDto(
+        Metadata metadata,
+        Info info
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Metadata(String matchId) {
+    }
+
+    /**
+     * @param gameCreation Epoch milliseconds
+     * @param gameDuration Seconds (Match-V5 since patch 11.20)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Info(
+            long gameCreation,
+            int gameDuration,
+            int queueId,
+            List<Participant> participants
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Participant(
+            String puuid,
+            String summonerName,
+            String riotIdGameName,
+            String championName,
+            int championId,
+            String teamPosition,
+            boolean win,
+            int kills,
+            int deaths,
+            int assists,
+            int totalMinionsKilled,
+            int neutralMinionsKilled,
+            int visionScore,
+            int goldEarned,
+            int totalDamageDealtToChampions
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Summoner-V4 response: {@code /lol/summoner/v4/summoners/by-puuid/{puuid}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SummonerDto(
+        String id,
+        String puuid,
+        int profileIconId,
+        long summonerLevel,
+        long revisionDate
+) {
+}
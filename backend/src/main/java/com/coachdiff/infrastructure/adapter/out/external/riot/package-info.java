@@ -0,0 +1,15 @@
+/**
+ * RIOT API ADAPTER - Secondary Adapter (OUT) for the Riot Games API.
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * RiotApiAdapter        - Implements RiotApiPort with RestClient
+ * RiotRateLimiter       - Shared app-wide rate-limit budget
+ * LocalRiotRateLimiter  - Budget of one replica (in-process sliding log)
+ * RedisRiotRateLimiter  - Budget of all replicas (Redis Lua script, leased in batches)
+ * dto/                  - JSON shapes of Riot responses (never leave this package tree)
+ * </pre>
+ *
+ * @see com.coachdiff.domain.port.out.RiotApiPort
+ */
+package com.coachdiff.infrastructure.adapter.out.external.riot;
@@ -0,0 +1,81 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.RankBenchmark;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Tier;
+import com.coachdiff.domain.port.out.BenchmarkRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JDBC implementation of {@link BenchmarkRepository}.
+ *
+ * <p>
+ * One query returns all levels: {@code rank_metrics} rows become tier-level
+ * benchmarks (role NULL, champion 0), {@code rank_benchmarks} rows are the
+ * role and champion levels. At most a few thousand rows, read on reload only.
+ * </p>
+ */
+@Repository
+public class BenchmarkPersistenceAdapter implements BenchmarkRepository {
+
+    private static final String SELECT_ALL_SQL = """
+            SELECT tier, NULL AS role, 0 AS champion_id, COALESCE(sample_size, 0) AS sample_size,
+                   median_cs_per_min, median_kda, median_vision_per_min,
+                   median_kill_participation, median_deaths, median_gold_diff_at_15
+            FROM rank_metrics
+            UNION ALL
+            SELECT tier, role, champion_id, sample_size,
+                   median_cs_per_min, median_kda, median_vision_per_min,
+                   median_kill_participation, median_deaths, median_gold_diff_at_15
+            FROM rank_benchmarks
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BenchmarkPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<RankBenchmark> findAll() {
+        return jdbcTemplate.query(SELECT_ALL_SQL, (rs, rowNum) -> toBenchmark(rs)).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Maps a row, or returns null for tiers/roles this version doesn't know.
+     */
+    private static RankBenchmark toBenchmark(ResultSet rs) throws SQLException {
+        Tier tier = Tier.fromName(rs.getString("tier"));
+        String roleName = rs.getString("role");
+        Role role = Role.fromName(roleName);
+        if (tier == null || (roleName != null && role == null)) {
+            return null;
+        }
+        double killParticipation = rs.getDouble("median_kill_participation");
+        if (rs.wasNull()) {
+            killParticipation = Double.NaN;
+        }
+        int goldDiff = rs.getInt("median_gold_diff_at_15");
+        Double goldDiffAt15 = rs.wasNull() ? null : (double) goldDiff;
+
+        return new RankBenchmark(
+                tier,
+                role,
+                rs.getInt("champion_id"),
+                rs.getInt("sample_size"),
+                rs.getDouble("median_cs_per_min"),
+                rs.getDouble("median_kda"),
+                rs.getDouble("median_vision_per_min"),
+                killParticipation,
+                rs.getDouble("median_deaths"),
+                goldDiffAt15);
+    }
+}
@@ -0,0 +1,297 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.LadderCursor;
+import com.coachdiff.domain.model.LadderEntry;
+import com.coachdiff.domain.model.LadderPlayer;
+import com.coachdiff.domain.model.LadderSample;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.port.out.LadderRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC implementation of {@link LadderRepository} (tables from V5).
+ *
+ * <h2>Checkpointing</h2>
+ * <p>
+ * {@link #savePage} upserts the page's players AND advances the cursor in the
+ * same transaction: after a crash, a page is either fully recorded with its
+ * cursor moved past it, or not recorded at all and read again.
+ * </p>
+ *
+ * <h2>Dedupe</h2>
+ * <ul>
+ *   <li>Players: PUUID primary key, upserted with the latest rank</li>
+ *   <li>Matches: {@code ladder_matches} primary key, checked before fetching</li>
+ * </ul>
+ *
+ * <h2>Bulk writes</h2>
+ * <p>
+ * Pages (up to 205 players) and match samples (10 participants) are written
+ * with one {@code INSERT ... SELECT FROM unnest(arrays)}, like
+ * {@link MatchAnalysisPersistenceAdapter}.
+ * </p>
+ */
+@Repository
+public class LadderPersistenceAdapter implements LadderRepository {
+
+    private static final String UPSERT_PLAYERS_SQL = """
+            INSERT INTO ladder_players (puuid, platform, tier, division, league_points, crawled_at)
+            SELECT p.puuid, ?, p.tier, p.division, p.lp, CURRENT_TIMESTAMP
+            FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::int[]) AS p(puuid, tier, division, lp)
+            ON CONFLICT (puuid) DO UPDATE
+            SET platform = EXCLUDED.platform,
+                tier = EXCLUDED.tier,
+                division = EXCLUDED.division,
+                league_points = EXCLUDED.league_points,
+                crawled_at = EXCLUDED.crawled_at
+            RETURNING (xmax = 0) AS inserted
+            """;
+
+    // Only participants that are known ladder players get a sample,
+    // with the tier they were crawled at
+    private static final String INSERT_SAMPLES_SQL = """
+            INSERT INTO ladder_match_samples (
+                match_id, puuid, tier, played_at, game_duration_seconds,
+                kills, deaths, assists, cs, vision_score, team_kills, team_position, champion_id)
+            SELECT ?, s.puuid, lp.tier, ?, ?,
+                   s.kills, s.deaths, s.assists, s.cs, s.vision, s.team_kills, s.role, s.champion_id
+            FROM unnest(?::varchar[], ?::int[], ?::int[], ?::int[], ?::int[], ?::int[], ?::int[],
+                        ?::varchar[], ?::int[])
+                 AS s(puuid, kills, deaths, assists, cs, vision, team_kills, role, champion_id)
+            JOIN ladder_players lp ON lp.puuid = s.puuid
+            ON CONFLICT (match_id, puuid) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LadderPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean tryAcquireLease(String owner, Duration ttl) {
+        int updated = jdbcTemplate.update("""
+                UPDATE ladder_crawl_lease
+                SET owner = ?, locked_until = CURRENT_TIMESTAMP + make_interval(secs => ?)
+                WHERE id = 1 AND (locked_until < CURRENT_TIMESTAMP OR owner = ?)
+                """, owner, ttl.toSeconds(), owner);
+        return updated == 1;
+    }
+
+    @Override
+    public void releaseLease(String owner) {
+        jdbcTemplate.update("""
+                UPDATE ladder_crawl_lease
+                SET owner = NULL, locked_until = '-infinity'
+                WHERE id = 1 AND owner = ?
+                """, owner);
+    }
+
+    @Override
+    @Transactional
+    public List<LadderCursor> openCursors(List<String> platforms, String queue, Duration recrawlAfter) {
+        List<Object[]> missing = platforms.stream()
+                .flatMap(platform -> LadderCursor.allFor(platform, queue).stream())
+                .map(c -> new Object[]{c.platform(), c.queue(), c.tier(), c.division()})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO ladder_crawl_cursors (platform, queue, tier, division)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT DO NOTHING
+                """, missing);
+
+        // Restart divisions whose last full pass is older than recrawlAfter
+        jdbcTemplate.update("""
+                UPDATE ladder_crawl_cursors
+                SET next_page = 1, completed_at = NULL, updated_at = CURRENT_TIMESTAMP
+                WHERE queue = ?
+                  AND completed_at < CURRENT_TIMESTAMP - make_interval(secs => ?)
+                """, queue, recrawlAfter.toSeconds());
+
+        return jdbcTemplate.query("""
+                        SELECT platform, queue, tier, division, next_page
+                        FROM ladder_crawl_cursors
+                        WHERE queue = ? AND platform = ANY(?::varchar[]) AND completed_at IS NULL
+                        ORDER BY platform, tier, division
+                        """,
+                (rs, rowNum) -> new LadderCursor(rs.getString("platform"), rs.getString("queue"),
+                        rs.getString("tier"), rs.getString("division"), rs.getInt("next_page")),
+                queue, platforms.toArray(String[]::new));
+    }
+
+    @Override
+    @Transactional
+    public int savePage(LadderCursor cursor, int page, List<LadderEntry> entries, boolean last) {
+        int inserted = 0;
+        if (!entries.isEmpty()) {
+            // ON CONFLICT DO UPDATE can't touch the same row twice in one statement
+            List<LadderEntry> unique = List.copyOf(entries.stream()
+                    .collect(Collectors.toMap(LadderEntry::puuid, e -> e, (a, b) -> a, LinkedHashMap::new))
+                    .values());
+            List<Boolean> results = jdbcTemplate.query(
+                    (Connection con) -> preparePlayers(con, cursor.platform(), unique),
+                    (rs, rowNum) -> rs.getBoolean("inserted"));
+            inserted = (int) results.stream().filter(Boolean::booleanValue).count();
+        }
+        jdbcTemplate.update("""
+                        UPDATE ladder_crawl_cursors
+                        SET next_page = ?,
+                            completed_at = CASE WHEN ? THEN CURRENT_TIMESTAMP END,
+                            updated_at = CURRENT_TIMESTAMP
+                        WHERE platform = ? AND queue = ? AND tier = ? AND division = ?
+                        """,
+                page + 1, last, cursor.platform(), cursor.queue(), cursor.tier(), cursor.division());
+        return inserted;
+    }
+
+    @Override
+    public List<LadderPlayer> findPlayersToSample(List<String> platforms, Duration resampleAfter, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT puuid, platform, tier
+                        FROM ladder_players
+                        WHERE platform = ANY(?::varchar[])
+                          AND (sampled_at IS NULL
+                               OR sampled_at < CURRENT_TIMESTAMP - make_interval(secs => ?))
+                        ORDER BY sampled_at NULLS FIRST
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new LadderPlayer(rs.getString("puuid"), rs.getString("platform"),
+                        rs.getString("tier")),
+                platforms.toArray(String[]::new), resampleAfter.toSeconds(), limit);
+    }
+
+    @Override
+    public Set<String> findFetchedMatchIds(Collection<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT match_id FROM ladder_matches WHERE match_id = ANY(?::varchar[])",
+                String.class, (Object) matchIds.toArray(String[]::new)));
+    }
+
+    @Override
+    @Transactional
+    public int saveMatch(MatchDetails match, String platform, List<LadderSample> samples) {
+        Timestamp playedAt = toTimestamp(match.gameCreation());
+        int matches = jdbcTemplate.update("""
+                INSERT INTO ladder_matches (match_id, platform, played_at)
+                VALUES (?, ?, ?)
+                ON CONFLICT DO NOTHING
+                """, match.matchId(), platform, playedAt);
+        if (matches == 0 || samples.isEmpty()) {
+            // Already stored by a concurrent sampler, or a remake
+            return 0;
+        }
+        Integer stored = jdbcTemplate.execute(
+                (Connection con) -> prepareSamples(con, match, playedAt, samples),
+                PreparedStatement::executeUpdate);
+        return stored == null ? 0 : stored;
+    }
+
+    @Override
+    public void markSampled(String puuid) {
+        jdbcTemplate.update("UPDATE ladder_players SET sampled_at = CURRENT_TIMESTAMP WHERE puuid = ?", puuid);
+    }
+
+    @Override
+    public int refreshRankMetrics(int minPlayers, Instant since) {
+        Integer updated = jdbcTemplate.queryForObject("SELECT refresh_rank_metrics(?, ?)",
+                Integer.class, minPlayers, toTimestamp(since));
+        return updated == null ? 0 : updated;
+    }
+
+    @Override
+    public int refreshRankBenchmarks(Instant since) {
+        Integer updated = jdbcTemplate.queryForObject("SELECT refresh_rank_benchmarks(?)",
+                Integer.class, toTimestamp(since));
+        return updated == null ? 0 : updated;
+    }
+
+    private PreparedStatement preparePlayers(Connection con, String platform, List<LadderEntry> entries)
+            throws SQLException {
+        int n = entries.size();
+        String[] puuids = new String[n];
+        String[] tiers = new String[n];
+        String[] divisions = new String[n];
+        Integer[] lp = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            LadderEntry e = entries.get(i);
+            puuids[i] = e.puuid();
+            tiers[i] = e.tier();
+            divisions[i] = e.division();
+            lp[i] = e.leaguePoints();
+        }
+        PreparedStatement ps = con.prepareStatement(UPSERT_PLAYERS_SQL);
+        ps.setString(1, platform);
+        ps.setArray(2, con.createArrayOf("varchar", puuids));
+        ps.setArray(3, con.createArrayOf("varchar", tiers));
+        ps.setArray(4, con.createArrayOf("varchar", divisions));
+        ps.setArray(5, con.createArrayOf("int4", lp));
+        return ps;
+    }
+
+    private PreparedStatement prepareSamples(Connection con, MatchDetails match, Timestamp playedAt,
+                                             List<LadderSample> samples) throws SQLException {
+        int n = samples.size();
+        String[] puuids = new String[n];
+        Integer[] kills = new Integer[n];
+        Integer[] deaths = new Integer[n];
+        Integer[] assists = new Integer[n];
+        Integer[] cs = new Integer[n];
+        Integer[] vision = new Integer[n];
+        Integer[] teamKills = new Integer[n];
+        String[] roles = new String[n];
+        Integer[] championIds = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            LadderSample s = samples.get(i);
+            puuids[i] = s.puuid();
+            kills[i] = s.kills();
+            deaths[i] = s.deaths();
+            assists[i] = s.assists();
+            cs[i] = s.cs();
+            vision[i] = s.visionScore();
+            teamKills[i] = s.teamKills();
+            roles[i] = s.role() != null ? s.role().name() : null;
+            championIds[i] = s.championId();
+        }
+        PreparedStatement ps = con.prepareStatement(INSERT_SAMPLES_SQL);
+        ps.setString(1, match.matchId());
+        ps.setTimestamp(2, playedAt);
+        ps.setInt(3, match.gameDurationSeconds());
+        ps.setArray(4, con.createArrayOf("varchar", puuids));
+        ps.setArray(5, con.createArrayOf("int4", kills));
+        ps.setArray(6, con.createArrayOf("int4", deaths));
+        ps.setArray(7, con.createArrayOf("int4", assists));
+        ps.setArray(8, con.createArrayOf("int4", cs));
+        ps.setArray(9, con.createArrayOf("int4", vision));
+        ps.setArray(10, con.createArrayOf("int4", teamKills));
+        ps.setArray(11, con.createArrayOf("varchar", roles));
+        ps.setArray(12, con.createArrayOf("int4", championIds));
+        return ps;
+    }
+
+    /**
+     * TIMESTAMP columns (no time zone) are always UTC.
+     */
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(instant, ZoneOffset.UTC));
+    }
+}
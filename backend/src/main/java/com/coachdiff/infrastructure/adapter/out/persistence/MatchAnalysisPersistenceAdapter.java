@@ -0,0 +1,322 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchSummary;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import com.coachdiff.infrastructure.config.PartitionMaintenanceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of {@link MatchAnalysisRepository}.
+ *
+ * <h2>One statement per batch</h2>
+ * <p>
+ * The whole batch is sent as ONE {@code INSERT ... SELECT FROM unnest(arrays)}:
+ * </p>
+ * <ul>
+ *   <li>One round trip whatever the batch size</li>
+ *   <li>The statement-level trigger {@code trg_match_analyses_window} (V4) fires
+ *       once and updates each player's rolling aggregates in the same transaction</li>
+ *   <li>{@code ON CONFLICT DO NOTHING} makes re-ingesting a match a no-op
+ *       (duplicates don't reach the trigger either)</li>
+ * </ul>
+ *
+ * <h2>Partitions</h2>
+ * <p>
+ * {@code match_analyses} is partitioned by month (V3). Old matches of a new
+ * player can fall in a month without a partition, so the months of a batch
+ * are ensured first. Known months are remembered to skip the check next time.
+ * </p>
+ * <ul>
+ *   <li>Matches older than the retention ({@code coach-diff.partitions}) are
+ *       skipped: their partition was detached by {@link MatchPartitionMaintenanceJob},
+ *       and re-creating it would only have it detached again the next night</li>
+ *   <li>Known months before the retention are forgotten, so the cache only
+ *       holds months the job does not remove</li>
+ *   <li>If an insert still finds no partition (a partition removed by hand,
+ *       another node with a different clock), the known months are cleared
+ *       and the batch is ensured and inserted once more</li>
+ * </ul>
+ *
+ * <h2>History pages (keyset)</h2>
+ * <p>
+ * A page is a seek into {@code idx_match_puuid_played (puuid, played_at DESC,
+ * match_id DESC)} (V9) right after the cursor, then {@code LIMIT} entries:
+ * </p>
+ * <ul>
+ *   <li>Row comparison {@code (played_at, match_id) < (?, ?)} is an index
+ *       condition: the scan starts AT the cursor, nothing before it is read</li>
+ *   <li>The extra {@code played_at <= ?} is implied by it, but only a plain
+ *       range lets the planner prune the partitions newer than the cursor</li>
+ *   <li>Only the listed columns are selected and mapped to {@link MatchSummary}</li>
+ * </ul>
+ *
+ * <h2>Export (server-side cursor)</h2>
+ * <p>
+ * By default pgjdbc reads the WHOLE result set into memory before returning
+ * the first row. It switches to a server-side cursor, {@code fetch-size}
+ * rows per round trip, only when all of these hold:
+ * </p>
+ * <ul>
+ *   <li>Auto-commit is off: {@link #streamAll} runs in a read-only transaction</li>
+ *   <li>The statement is forward-only (the default, made explicit)</li>
+ *   <li>A fetch size is set on the statement</li>
+ * </ul>
+ * <p>
+ * Memory then holds one batch whatever the history size, and the first row
+ * arrives after the first batch, not after the last.
+ * </p>
+ */
+@Repository
+public class MatchAnalysisPersistenceAdapter implements MatchAnalysisRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchAnalysisPersistenceAdapter.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO match_analyses (
+                match_id, puuid, played_at, champion_name, win, kills, deaths, assists,
+                cs, game_duration_seconds, vision_score, gold_diff_at_15)
+            SELECT * FROM unnest(
+                ?::varchar[], ?::varchar[], ?::timestamp[], ?::varchar[], ?::boolean[],
+                ?::int[], ?::int[], ?::int[], ?::int[], ?::int[], ?::int[], ?::int[])
+            ON CONFLICT (match_id, puuid, played_at) DO NOTHING
+            """;
+
+    private static final String HISTORY_COLUMNS = """
+            SELECT match_id, played_at, champion_name, win, kills, deaths, assists,
+                   cs, game_duration_seconds, vision_score
+            FROM match_analyses
+            """;
+
+    private static final String FIRST_PAGE_SQL = HISTORY_COLUMNS + """
+            WHERE puuid = ?
+            ORDER BY played_at DESC, match_id DESC
+            LIMIT ?
+            """;
+
+    private static final String NEXT_PAGE_SQL = HISTORY_COLUMNS + """
+            WHERE puuid = ?
+              AND played_at <= ?
+              AND (played_at, match_id) < (?, ?)
+            ORDER BY played_at DESC, match_id DESC
+            LIMIT ?
+            """;
+
+    // Served by idx_match_puuid_played in every partition (index-only once vacuumed)
+    private static final String COUNT_SQL = """
+            SELECT count(*) FROM match_analyses WHERE puuid = ?
+            """;
+
+    private static final String EXPORT_SQL = """
+            SELECT match_id, puuid, played_at, champion_name, win, kills, deaths, assists,
+                   cs, game_duration_seconds, vision_score, gold_diff_at_15
+            FROM match_analyses
+            WHERE puuid = ?
+            ORDER BY played_at DESC, match_id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionMaintenanceProperties partitions;
+    private final int exportFetchSize;
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    public MatchAnalysisPersistenceAdapter(JdbcTemplate jdbcTemplate,
+                                           PartitionMaintenanceProperties partitions,
+                                           @Value("${coach-diff.export.fetch-size:500}") int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public int saveAll(Collection<MatchAnalysis> matches) {
+        YearMonth oldest = partitions.oldestRetainedMonth();
+        List<MatchAnalysis> rows = matches.stream().filter(m -> !month(m).isBefore(oldest)).toList();
+        if (rows.size() < matches.size()) {
+            log.debug("Skipped {} matches played before {}", matches.size() - rows.size(), oldest);
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        knownPartitions.removeIf(month -> month.isBefore(oldest));
+        ensurePartitions(rows);
+
+        try {
+            return insert(rows);
+        } catch (DataAccessException e) {
+            if (!isMissingPartition(e)) {
+                throw e;
+            }
+            // A remembered month lost its partition: check every month again, once
+            log.warn("Match partition missing, ensuring the batch's months again: {}",
+                    e.getMostSpecificCause().getMessage());
+            knownPartitions.clear();
+            ensurePartitions(rows);
+            return insert(rows);
+        }
+    }
+
+    private int insert(List<MatchAnalysis> rows) {
+        Integer inserted = jdbcTemplate.execute((Connection con) -> prepareInsert(con, rows),
+                PreparedStatement::executeUpdate);
+        return inserted == null ? 0 : inserted;
+    }
+
+    /**
+     * "no partition of relation ... found for row" (SQLSTATE 23514, check_violation).
+     */
+    private static boolean isMissingPartition(DataAccessException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql
+                && "23514".equals(sql.getSQLState())
+                && String.valueOf(sql.getMessage()).contains("no partition");
+    }
+
+    @Override
+    public List<MatchSummary> findHistory(String puuid, MatchCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, (rs, rowNum) -> mapSummary(rs), puuid, limit);
+        }
+        // played_at is TIMESTAMP (no time zone): compared as UTC
+        LocalDateTime playedAt = LocalDateTime.ofInstant(after.playedAt(), ZoneOffset.UTC);
+        return jdbcTemplate.query(NEXT_PAGE_SQL, (rs, rowNum) -> mapSummary(rs),
+                puuid, playedAt, playedAt, after.matchId(), limit);
+    }
+
+    @Override
+    public int countHistory(String puuid) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class, puuid);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int streamAll(String puuid, Consumer<MatchAnalysis> sink) {
+        AtomicInteger rows = new AtomicInteger();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            ps.setString(1, puuid);
+            return ps;
+        }, rs -> {
+            sink.accept(mapAnalysis(rs));
+            rows.incrementAndGet();
+        });
+        return rows.get();
+    }
+
+    private static MatchAnalysis mapAnalysis(ResultSet rs) throws SQLException {
+        return new MatchAnalysis(
+                rs.getString("match_id"),
+                rs.getString("puuid"),
+                rs.getTimestamp("played_at").toLocalDateTime().toInstant(ZoneOffset.UTC),
+                rs.getString("champion_name"),
+                rs.getBoolean("win"),
+                rs.getInt("kills"),
+                rs.getInt("deaths"),
+                rs.getInt("assists"),
+                rs.getInt("cs"),
+                rs.getInt("game_duration_seconds"),
+                rs.getInt("vision_score"),
+                rs.getObject("gold_diff_at_15", Integer.class));
+    }
+
+    private static MatchSummary mapSummary(ResultSet rs) throws SQLException {
+        return new MatchSummary(
+                rs.getString("match_id"),
+                rs.getTimestamp("played_at").toLocalDateTime().toInstant(ZoneOffset.UTC),
+                rs.getString("champion_name"),
+                rs.getBoolean("win"),
+                rs.getInt("kills"),
+                rs.getInt("deaths"),
+                rs.getInt("assists"),
+                rs.getInt("cs"),
+                rs.getInt("game_duration_seconds"),
+                rs.getInt("vision_score"));
+    }
+
+    private PreparedStatement prepareInsert(Connection con, List<MatchAnalysis> rows) throws SQLException {
+        int n = rows.size();
+        String[] matchIds = new String[n];
+        String[] puuids = new String[n];
+        String[] playedAt = new String[n];
+        String[] champions = new String[n];
+        Boolean[] wins = new Boolean[n];
+        Integer[] kills = new Integer[n];
+        Integer[] deaths = new Integer[n];
+        Integer[] assists = new Integer[n];
+        Integer[] cs = new Integer[n];
+        Integer[] durations = new Integer[n];
+        Integer[] vision = new Integer[n];
+        Integer[] goldDiff = new Integer[n];
+
+        for (int i = 0; i < n; i++) {
+            MatchAnalysis m = rows.get(i);
+            matchIds[i] = m.matchId();
+            puuids[i] = m.puuid();
+            // played_at is TIMESTAMP (no time zone): always stored as UTC
+            playedAt[i] = LocalDateTime.ofInstant(m.playedAt(), ZoneOffset.UTC).toString();
+            champions[i] = m.championName();
+            wins[i] = m.win();
+            kills[i] = m.kills();
+            deaths[i] = m.deaths();
+            assists[i] = m.assists();
+            cs[i] = m.cs();
+            durations[i] = m.gameDurationSeconds();
+            vision[i] = m.visionScore();
+            goldDiff[i] = m.goldDiffAt15();
+        }
+
+        PreparedStatement ps = con.prepareStatement(INSERT_SQL);
+        ps.setArray(1, con.createArrayOf("varchar", matchIds));
+        ps.setArray(2, con.createArrayOf("varchar", puuids));
+        ps.setArray(3, con.createArrayOf("varchar", playedAt));
+        ps.setArray(4, con.createArrayOf("varchar", champions));
+        ps.setArray(5, con.createArrayOf("boolean", wins));
+        ps.setArray(6, con.createArrayOf("int4", kills));
+        ps.setArray(7, con.createArrayOf("int4", deaths));
+        ps.setArray(8, con.createArrayOf("int4", assists));
+        ps.setArray(9, con.createArrayOf("int4", cs));
+        ps.setArray(10, con.createArrayOf("int4", durations));
+        ps.setArray(11, con.createArrayOf("int4", vision));
+        ps.setArray(12, con.createArrayOf("int4", goldDiff));
+        return ps;
+    }
+
+    private static YearMonth month(MatchAnalysis match) {
+        return YearMonth.from(LocalDateTime.ofInstant(match.playedAt(), ZoneOffset.UTC));
+    }
+
+    private void ensurePartitions(Collection<MatchAnalysis> matches) {
+        matches.stream()
+                .map(MatchAnalysisPersistenceAdapter::month)
+                .distinct()
+                .filter(month -> !knownPartitions.contains(month))
+                .forEach(month -> {
+                    jdbcTemplate.queryForObject("SELECT ensure_match_partition(?)",
+                            String.class, month.atDay(1));
+                    knownPartitions.add(month);
+                });
+    }
+}
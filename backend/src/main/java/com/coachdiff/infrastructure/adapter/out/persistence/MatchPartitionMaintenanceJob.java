@@ -0,0 +1,247 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.infrastructure.config.PartitionMaintenanceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of {@code match_analyses} in shape.
+ *
+ * <h2>What it does</h2>
+ * <ol>
+ *   <li>Creates partitions for the next {@code months-ahead} months
+ *       (via the {@code create_match_partitions} SQL function from V3)</li>
+ *   <li>Detaches partitions older than {@code retention-months}</li>
+ *   <li>Archives them in the {@code match_archive} schema, or drops them</li>
+ *   <li>Recomputes the rolling metrics of players whose window still
+ *       counted matches of an expired partition</li>
+ *   <li>Deletes stored matches ({@code matches}, V11) past the same retention:
+ *       they could only feed partitions that no longer exist</li>
+ * </ol>
+ *
+ * <h2>Why it doesn't block ingestion</h2>
+ * <ul>
+ *   <li>New partitions are ATTACHed (SHARE UPDATE EXCLUSIVE on the parent),
+ *       never created with {@code PARTITION OF} (ACCESS EXCLUSIVE)</li>
+ *   <li>Old partitions are removed with {@code DETACH PARTITION ... CONCURRENTLY},
+ *       which waits for running queries instead of locking them out</li>
+ *   <li>Every statement runs with a short {@code lock_timeout}: if it can't get
+ *       its lock quickly it gives up and the next run retries</li>
+ *   <li>A Postgres advisory lock ensures only one replica runs maintenance at a time</li>
+ * </ul>
+ *
+ * <h2>Transactions</h2>
+ * <p>
+ * {@code DETACH ... CONCURRENTLY} cannot run inside a transaction block, so this
+ * job uses a raw connection in auto-commit mode instead of {@code @Transactional}.
+ * </p>
+ */
+@Component
+public class MatchPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchPartitionMaintenanceJob.class);
+
+    /** Advisory lock key: arbitrary constant shared by all replicas. */
+    private static final long ADVISORY_LOCK_KEY = 0x4D415443_48504152L; // "MATCHPAR"
+
+    private static final String PARTITION_PREFIX = "match_analyses_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionMaintenanceProperties properties;
+
+    public MatchPartitionMaintenanceJob(JdbcTemplate jdbcTemplate,
+                                        PartitionMaintenanceProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Runs once at startup so a freshly deployed node never waits for the cron
+     * to have next month's partition.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        runMaintenance();
+    }
+
+    /**
+     * Nightly maintenance run.
+     */
+    @Scheduled(cron = "${coach-diff.partitions.cron:0 15 3 * * *}")
+    public void runMaintenance() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) this::maintain);
+        } catch (RuntimeException e) {
+            // Never let a failed run kill the scheduler: the next run retries
+            log.warn("Partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private Void maintain(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (!tryAdvisoryLock(statement)) {
+                log.debug("Partition maintenance already running on another node, skipping");
+                return null;
+            }
+            try {
+                statement.execute("SET lock_timeout = '" + sanitizeTimeout(properties.getLockTimeout()) + "'");
+                createFuturePartitions(statement);
+                expireOldPartitions(statement);
+                expireStoredMatches(statement);
+            } finally {
+                statement.execute("RESET lock_timeout");
+                statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+            }
+        }
+        return null;
+    }
+
+    private boolean tryAdvisoryLock(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void createFuturePartitions(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(
+                "SELECT create_match_partitions(CURRENT_DATE, " + properties.getMonthsAhead() + ")")) {
+            rs.next();
+        } catch (SQLException e) {
+            log.warn("Could not create future match partitions: {}", e.getMessage());
+        }
+    }
+
+    private void expireStoredMatches(Statement statement) {
+        LocalDate cutoff = properties.oldestRetainedMonth().atDay(1);
+        try {
+            // Participants go with their match (ON DELETE CASCADE)
+            int deleted = statement.executeUpdate("DELETE FROM matches WHERE played_at < '" + cutoff + "'");
+            if (deleted > 0) {
+                log.info("Deleted {} stored matches played before {}", deleted, cutoff);
+            }
+        } catch (SQLException e) {
+            log.warn("Could not expire stored matches: {}", e.getMessage());
+        }
+    }
+
+    private void expireOldPartitions(Statement statement) throws SQLException {
+        YearMonth cutoff = properties.oldestRetainedMonth();
+
+        for (PartitionInfo partition : listPartitions(statement)) {
+            YearMonth month = parseMonth(partition.name());
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+            try {
+                // Players whose rolling window still counts rows of this partition
+                // must be recomputed once the partition is gone (see V4)
+                List<String> affectedPuuids = listWindowPuuids(statement, partition.name());
+
+                // A previous DETACH CONCURRENTLY interrupted half-way leaves the
+                // partition "detach pending": it can only be finalized.
+                String mode = partition.detachPending() ? "FINALIZE" : "CONCURRENTLY";
+                statement.execute("ALTER TABLE match_analyses DETACH PARTITION "
+                        + partition.name() + " " + mode);
+
+                if (properties.isArchiveExpired()) {
+                    statement.execute("ALTER TABLE " + partition.name() + " SET SCHEMA match_archive");
+                    log.info("Archived match partition {} to match_archive", partition.name());
+                } else {
+                    statement.execute("DROP TABLE " + partition.name());
+                    log.info("Dropped match partition {}", partition.name());
+                }
+                recomputeProfiles(statement.getConnection(), affectedPuuids);
+            } catch (SQLException e) {
+                log.warn("Could not expire match partition {}: {}", partition.name(), e.getMessage());
+            }
+        }
+    }
+
+    private List<String> listWindowPuuids(Statement statement, String partitionName) throws SQLException {
+        List<String> puuids = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery(
+                "SELECT DISTINCT puuid FROM " + partitionName + " WHERE in_profile_window")) {
+            while (rs.next()) {
+                puuids.add(rs.getString(1));
+            }
+        }
+        return puuids;
+    }
+
+    private void recomputeProfiles(Connection connection, List<String> puuids) throws SQLException {
+        if (puuids.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT recompute_profile_window(?)")) {
+            for (String puuid : puuids) {
+                ps.setString(1, puuid);
+                ps.execute();
+            }
+        }
+        log.info("Recomputed rolling metrics of {} profiles", puuids.size());
+    }
+
+    private List<PartitionInfo> listPartitions(Statement statement) throws SQLException {
+        List<PartitionInfo> partitions = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery("""
+                SELECT c.relname, i.inhdetachpending
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'match_analyses'::regclass
+                ORDER BY c.relname
+                """)) {
+            while (rs.next()) {
+                partitions.add(new PartitionInfo(rs.getString(1), rs.getBoolean(2)));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Parses the month from a partition name (match_analyses_p2026_10 → 2026-10).
+     *
+     * @return the month, or null if the table doesn't follow the naming convention
+     */
+    static YearMonth parseMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lock timeout goes into a SET statement (no bind parameters for SET),
+     * so only accept values like "2s", "500ms", "1min".
+     */
+    private static String sanitizeTimeout(String value) {
+        if (value == null || !value.matches("\\d+\\s*(ms|s|min)?")) {
+            return "2s";
+        }
+        return value;
+    }
+
+    private record PartitionInfo(String name, boolean detachPending) {
+    }
+}
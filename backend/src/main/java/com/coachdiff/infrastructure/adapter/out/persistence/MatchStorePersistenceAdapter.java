@@ -0,0 +1,243 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.port.out.MatchStoreRepository;
+import com.coachdiff.infrastructure.config.PartitionMaintenanceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC implementation of {@link MatchStoreRepository} (tables from V11).
+ *
+ * <h2>Write: three statements per batch, one transaction</h2>
+ * <pre>
+ * 1. INSERT matches ... ON CONFLICT DO NOTHING RETURNING match_id   → the new ones
+ * 2. INSERT match_participants (10 rows per new match)              unnest arrays
+ * 3. SELECT share_stored_matches(new ids, first retained month)    → tracked players' rows
+ * </pre>
+ * <p>
+ * Matches older than the partition retention are stored but not shared
+ * (V15): their {@code match_analyses} partition has been expired.
+ * </p>
+ * <p>
+ * A match stored concurrently by another node is not returned by step 1:
+ * its participants and shares are written exactly once, by whoever won.
+ * </p>
+ *
+ * <h2>Read</h2>
+ * <p>
+ * One join for the whole batch, ordered by participant index: the
+ * {@link MatchDetails} comes back exactly as Riot returned it.
+ * </p>
+ */
+@Repository
+public class MatchStorePersistenceAdapter implements MatchStoreRepository {
+
+    private static final String INSERT_MATCHES_SQL = """
+            INSERT INTO matches (match_id, played_at, game_duration_seconds)
+            SELECT * FROM unnest(?::varchar[], ?::timestamp[], ?::int[])
+            ON CONFLICT DO NOTHING
+            RETURNING match_id
+            """;
+
+    private static final String INSERT_PARTICIPANTS_SQL = """
+            INSERT INTO match_participants (
+                match_id, participant_index, puuid, summoner_name, champion_name, champion_id,
+                team_position, win, kills, deaths, assists, total_minions_killed,
+                neutral_minions_killed, vision_score, gold_earned, total_damage_dealt)
+            SELECT * FROM unnest(
+                ?::varchar[], ?::smallint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::int[],
+                ?::varchar[], ?::boolean[], ?::int[], ?::int[], ?::int[], ?::int[],
+                ?::int[], ?::int[], ?::int[], ?::int[])
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT m.match_id, m.played_at, m.game_duration_seconds,
+                   p.puuid, p.summoner_name, p.champion_name, p.champion_id, p.team_position, p.win,
+                   p.kills, p.deaths, p.assists, p.total_minions_killed, p.neutral_minions_killed,
+                   p.vision_score, p.gold_earned, p.total_damage_dealt
+            FROM matches m
+            JOIN match_participants p ON p.match_id = m.match_id
+            WHERE m.match_id = ANY(?::varchar[])
+            ORDER BY m.match_id, p.participant_index
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionMaintenanceProperties partitions;
+
+    public MatchStorePersistenceAdapter(JdbcTemplate jdbcTemplate, PartitionMaintenanceProperties partitions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+    }
+
+    @Override
+    public Map<String, MatchDetails> findAll(Collection<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, StoredMatch> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(FIND_SQL, rs -> {
+            String id = rs.getString("match_id");
+            StoredMatch match = rows.get(id);
+            if (match == null) {
+                match = new StoredMatch(rs.getTimestamp("played_at").toLocalDateTime().toInstant(ZoneOffset.UTC),
+                        rs.getInt("game_duration_seconds"));
+                rows.put(id, match);
+            }
+            match.participants().add(mapParticipant(rs));
+        }, (Object) matchIds.toArray(String[]::new));
+
+        Map<String, MatchDetails> found = new HashMap<>(rows.size());
+        rows.forEach((id, m) -> found.put(id,
+                new MatchDetails(id, m.playedAt(), m.durationSeconds(), m.participants())));
+        return found;
+    }
+
+    @Override
+    @Transactional
+    public int saveAll(Collection<MatchDetails> matches) {
+        if (matches.isEmpty()) {
+            return 0;
+        }
+        List<MatchDetails> batch = List.copyOf(matches);
+        Set<String> inserted = new HashSet<>(jdbcTemplate.query(con -> prepareMatches(con, batch),
+                (rs, rowNum) -> rs.getString(1)));
+        if (inserted.isEmpty()) {
+            return 0;
+        }
+        List<MatchDetails> fresh = batch.stream().filter(m -> inserted.contains(m.matchId())).toList();
+        jdbcTemplate.execute((Connection con) -> prepareParticipants(con, fresh), PreparedStatement::executeUpdate);
+
+        Integer shared = jdbcTemplate.queryForObject("SELECT share_stored_matches(?::varchar[], ?)",
+                Integer.class, inserted.toArray(String[]::new), partitions.oldestRetainedMonth().atDay(1));
+        return shared == null ? 0 : shared;
+    }
+
+    private static PreparedStatement prepareMatches(Connection con, List<MatchDetails> batch) throws SQLException {
+        int n = batch.size();
+        String[] ids = new String[n];
+        String[] playedAt = new String[n];
+        Integer[] durations = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            MatchDetails m = batch.get(i);
+            ids[i] = m.matchId();
+            // played_at is TIMESTAMP (no time zone): always stored as UTC
+            playedAt[i] = LocalDateTime.ofInstant(m.gameCreation(), ZoneOffset.UTC).toString();
+            durations[i] = m.gameDurationSeconds();
+        }
+        PreparedStatement ps = con.prepareStatement(INSERT_MATCHES_SQL);
+        ps.setArray(1, con.createArrayOf("varchar", ids));
+        ps.setArray(2, con.createArrayOf("varchar", playedAt));
+        ps.setArray(3, con.createArrayOf("int4", durations));
+        return ps;
+    }
+
+    private static PreparedStatement prepareParticipants(Connection con, List<MatchDetails> matches)
+            throws SQLException {
+        int n = matches.stream().mapToInt(m -> m.participants().size()).sum();
+        String[] matchIds = new String[n];
+        Short[] indexes = new Short[n];
+        String[] puuids = new String[n];
+        String[] names = new String[n];
+        String[] champions = new String[n];
+        Integer[] championIds = new Integer[n];
+        String[] positions = new String[n];
+        Boolean[] wins = new Boolean[n];
+        Integer[] kills = new Integer[n];
+        Integer[] deaths = new Integer[n];
+        Integer[] assists = new Integer[n];
+        Integer[] minions = new Integer[n];
+        Integer[] monsters = new Integer[n];
+        Integer[] vision = new Integer[n];
+        Integer[] gold = new Integer[n];
+        Integer[] damage = new Integer[n];
+
+        int row = 0;
+        for (MatchDetails match : matches) {
+            List<MatchParticipant> participants = match.participants();
+            for (int i = 0; i < participants.size(); i++, row++) {
+                MatchParticipant p = participants.get(i);
+                matchIds[row] = match.matchId();
+                indexes[row] = (short) i;
+                puuids[row] = p.puuid();
+                names[row] = p.summonerName();
+                champions[row] = p.championName();
+                championIds[row] = p.championId();
+                positions[row] = p.teamPosition();
+                wins[row] = p.win();
+                kills[row] = p.kills();
+                deaths[row] = p.deaths();
+                assists[row] = p.assists();
+                minions[row] = p.totalMinionsKilled();
+                monsters[row] = p.neutralMinionsKilled();
+                vision[row] = p.visionScore();
+                gold[row] = p.goldEarned();
+                damage[row] = p.totalDamageDealt();
+            }
+        }
+
+        PreparedStatement ps = con.prepareStatement(INSERT_PARTICIPANTS_SQL);
+        ps.setArray(1, con.createArrayOf("varchar", matchIds));
+        ps.setArray(2, con.createArrayOf("int2", indexes));
+        ps.setArray(3, con.createArrayOf("varchar", puuids));
+        ps.setArray(4, con.createArrayOf("varchar", names));
+        ps.setArray(5, con.createArrayOf("varchar", champions));
+        ps.setArray(6, con.createArrayOf("int4", championIds));
+        ps.setArray(7, con.createArrayOf("varchar", positions));
+        ps.setArray(8, con.createArrayOf("boolean", wins));
+        ps.setArray(9, con.createArrayOf("int4", kills));
+        ps.setArray(10, con.createArrayOf("int4", deaths));
+        ps.setArray(11, con.createArrayOf("int4", assists));
+        ps.setArray(12, con.createArrayOf("int4", minions));
+        ps.setArray(13, con.createArrayOf("int4", monsters));
+        ps.setArray(14, con.createArrayOf("int4", vision));
+        ps.setArray(15, con.createArrayOf("int4", gold));
+        ps.setArray(16, con.createArrayOf("int4", damage));
+        return ps;
+    }
+
+    private static MatchParticipant mapParticipant(ResultSet rs) throws SQLException {
+        return new MatchParticipant(
+                rs.getString("puuid"),
+                rs.getString("summoner_name"),
+                rs.getString("champion_name"),
+                rs.getInt("champion_id"),
+                rs.getString("team_position"),
+                rs.getBoolean("win"),
+                rs.getInt("kills"),
+                rs.getInt("deaths"),
+                rs.getInt("assists"),
+                rs.getInt("total_minions_killed"),
+                rs.getInt("neutral_minions_killed"),
+                rs.getInt("vision_score"),
+                rs.getInt("gold_earned"),
+                rs.getInt("total_damage_dealt"));
+    }
+
+    /**
+     * Match row while its participants are being read.
+     */
+    private record StoredMatch(Instant playedAt, int durationSeconds, List<MatchParticipant> participants) {
+        StoredMatch(Instant playedAt, int durationSeconds) {
+            this(playedAt, durationSeconds, new ArrayList<>(10));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.ProfileMetricColumns;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Tier;
+import com.coachdiff.domain.port.out.ProfileGapRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link ProfileGapRepository}.
+ *
+ * <h2>Load</h2>
+ * <p>
+ * One scan of {@code summoner_profiles} joined with {@code profile_gaps},
+ * ordered by (tier, main_role) so that rows sharing medians are contiguous.
+ * Read through a server-side cursor (read-only transaction + fetch size)
+ * straight into the primitive columns: no row objects in between.
+ * </p>
+ *
+ * <h2>Write</h2>
+ * <p>
+ * Changed rows go in slices of {@value #WRITE_BATCH}, each ONE
+ * {@code INSERT ... SELECT FROM unnest(arrays) ON CONFLICT DO UPDATE}.
+ * Gaps travel as {@code real[]} literals ({@code {0.12,-0.3,NaN,...}}).
+ * </p>
+ */
+@Repository
+public class ProfileGapPersistenceAdapter implements ProfileGapRepository {
+
+    /** Rows per upsert statement. */
+    static final int WRITE_BATCH = 5_000;
+
+    private static final BenchmarkMetric[] METRICS = BenchmarkMetric.values();
+
+    private static final String LOAD_SQL = """
+            SELECT p.puuid, p.tier, p.main_role,
+                   p.cs_per_min, p.kda, p.vision_per_min, p.kill_participation,
+                   p.avg_deaths, p.gold_diff_at_15,
+                   g.profile_hash
+            FROM summoner_profiles p
+            LEFT JOIN profile_gaps g ON g.puuid = p.puuid
+            WHERE p.tier IS NOT NULL
+            ORDER BY p.tier, p.main_role NULLS FIRST
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO profile_gaps (puuid, tier, gaps, profile_hash, computed_at)
+            SELECT u.puuid, u.tier, u.gaps::real[], u.profile_hash, CURRENT_TIMESTAMP
+            FROM unnest(?::varchar[], ?::varchar[], ?::text[], ?::varchar[])
+                 AS u(puuid, tier, gaps, profile_hash)
+            ON CONFLICT (puuid) DO UPDATE
+            SET tier         = EXCLUDED.tier,
+                gaps         = EXCLUDED.gaps,
+                profile_hash = EXCLUDED.profile_hash,
+                computed_at  = EXCLUDED.computed_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public ProfileGapPersistenceAdapter(JdbcTemplate jdbcTemplate,
+                                        @Value("${coach-diff.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileMetricColumns loadMetricColumns() {
+        ProfileMetricColumns.Builder builder = ProfileMetricColumns.builder();
+        float[] metrics = new float[METRICS.length];
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOAD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, rs -> {
+            Tier tier = Tier.fromName(rs.getString("tier"));
+            if (tier == null) {
+                return;
+            }
+            metrics[BenchmarkMetric.CS_PER_MIN.ordinal()] = floatOrNaN(rs, "cs_per_min");
+            metrics[BenchmarkMetric.KDA.ordinal()] = floatOrNaN(rs, "kda");
+            metrics[BenchmarkMetric.VISION_PER_MIN.ordinal()] = floatOrNaN(rs, "vision_per_min");
+            metrics[BenchmarkMetric.KILL_PARTICIPATION.ordinal()] = floatOrNaN(rs, "kill_participation");
+            metrics[BenchmarkMetric.DEATHS.ordinal()] = floatOrNaN(rs, "avg_deaths");
+            metrics[BenchmarkMetric.GOLD_DIFF_AT_15.ordinal()] = floatOrNaN(rs, "gold_diff_at_15");
+            builder.add(rs.getString("puuid"), tier, Role.fromName(rs.getString("main_role")), metrics,
+                    rs.getString("profile_hash"));
+        });
+        return builder.build();
+    }
+
+    @Override
+    public int saveAll(Collection<ProfileGaps> gaps) {
+        List<ProfileGaps> rows = List.copyOf(gaps);
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += WRITE_BATCH) {
+            List<ProfileGaps> slice = rows.subList(from, Math.min(rows.size(), from + WRITE_BATCH));
+            Integer updated = jdbcTemplate.execute((Connection con) -> prepareUpsert(con, slice),
+                    PreparedStatement::executeUpdate);
+            written += updated == null ? 0 : updated;
+        }
+        return written;
+    }
+
+    private PreparedStatement prepareUpsert(Connection con, List<ProfileGaps> rows) throws SQLException {
+        int n = rows.size();
+        String[] puuids = new String[n];
+        String[] tiers = new String[n];
+        String[] gaps = new String[n];
+        String[] hashes = new String[n];
+        for (int i = 0; i < n; i++) {
+            ProfileGaps row = rows.get(i);
+            puuids[i] = row.puuid();
+            tiers[i] = row.tier().name();
+            gaps[i] = arrayLiteral(row.gaps());
+            hashes[i] = row.profileHash();
+        }
+        PreparedStatement ps = con.prepareStatement(UPSERT_SQL);
+        ps.setArray(1, con.createArrayOf("varchar", puuids));
+        ps.setArray(2, con.createArrayOf("varchar", tiers));
+        ps.setArray(3, con.createArrayOf("text", gaps));
+        ps.setArray(4, con.createArrayOf("varchar", hashes));
+        return ps;
+    }
+
+    /** {@code {0.12,-0.3,NaN}}: Postgres parses Java's float notation, NaN included. */
+    private static String arrayLiteral(float[] values) {
+        StringBuilder sb = new StringBuilder(values.length * 8).append('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    private static float floatOrNaN(ResultSet rs, String column) throws SQLException {
+        float value = rs.getFloat(column);
+        return rs.wasNull() ? Float.NaN : value;
+    }
+}
@@ -0,0 +1,100 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.KnownRiotId;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.port.out.RiotIdSearchRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link RiotIdSearchRepository}.
+ *
+ * <h2>Search</h2>
+ * <pre>
+ * WHERE key LIKE '%text%'   substring   ┐ both answered by the trigram
+ *    OR key % 'text'        similarity  ┘ index idx_summoner_riot_id_trgm (V12)
+ * ORDER BY prefix first, then substring, then similarity
+ * </pre>
+ * <p>
+ * {@code key} is {@code lower(game_name || '#' || tag_line)}, written
+ * exactly as in the index so the planner matches it. The similarity
+ * threshold is pg_trgm's ({@code pg_trgm.similarity_threshold}, 0.3).
+ * Parameters are cast to text: PgJDBC binds strings as varchar, and
+ * pg_trgm's {@code %} is only defined for (text, text). LIKE wildcards
+ * typed by the user are escaped.
+ * </p>
+ */
+@Repository
+public class RiotIdSearchPersistenceAdapter implements RiotIdSearchRepository {
+
+    private static final String SEARCH_SQL = """
+            SELECT puuid, game_name, tag_line, region
+            FROM (
+                SELECT puuid, game_name, tag_line, region, lower(game_name || '#' || tag_line) AS search_key
+                FROM summoner_profiles
+                WHERE lower(game_name || '#' || tag_line) LIKE ?::text
+                   OR lower(game_name || '#' || tag_line) % ?::text
+            ) hits
+            ORDER BY search_key LIKE ?::text DESC,
+                     search_key LIKE ?::text DESC,
+                     similarity(search_key, ?::text) DESC,
+                     search_key
+            LIMIT ?
+            """;
+
+    // Sequential scan + top-N sort: run once per node start (see V12)
+    private static final String RECENT_SQL = """
+            SELECT puuid, game_name, tag_line, region
+            FROM summoner_profiles
+            ORDER BY updated_at DESC
+            LIMIT ?
+            """;
+
+    private static final String BY_PUUIDS_SQL = """
+            SELECT puuid, game_name, tag_line, region
+            FROM summoner_profiles
+            WHERE puuid = ANY(?::varchar[])
+            """;
+
+    private static final RowMapper<KnownRiotId> MAPPER = (rs, rowNum) -> new KnownRiotId(
+            rs.getString("puuid"),
+            new RiotId(rs.getString("game_name"), rs.getString("tag_line"), rs.getString("region")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RiotIdSearchPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<KnownRiotId> search(String searchKey, int limit) {
+        String literal = escapeLike(searchKey);
+        String contains = '%' + literal + '%';
+        return jdbcTemplate.query(SEARCH_SQL, MAPPER,
+                contains, searchKey, literal + '%', contains, searchKey, limit);
+    }
+
+    @Override
+    public List<KnownRiotId> findRecentlyUpdated(int limit) {
+        return jdbcTemplate.query(RECENT_SQL, MAPPER, limit);
+    }
+
+    @Override
+    public List<KnownRiotId> findByPuuids(Collection<String> puuids) {
+        if (puuids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(BY_PUUIDS_SQL, MAPPER, (Object) puuids.toArray(String[]::new));
+    }
+
+    /**
+     * Makes typed text match literally in LIKE (backslash is Postgres' default escape).
+     */
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
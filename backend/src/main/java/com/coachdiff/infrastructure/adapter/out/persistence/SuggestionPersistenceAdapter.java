@@ -0,0 +1,80 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.Suggestion;
+import com.coachdiff.domain.model.SuggestionSet;
+import com.coachdiff.domain.port.out.SuggestionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of {@link SuggestionRepository}.
+ *
+ * <p>
+ * The {@code suggestions} table stores up to three suggestions as column
+ * triplets ({@code priority_N_title/reason/action}); they are mapped to a list,
+ * skipping empty slots.
+ * </p>
+ */
+@Repository
+public class SuggestionPersistenceAdapter implements SuggestionRepository {
+
+    // Index-only scan on idx_suggestions_puuid_generated (V7)
+    private static final String SELECT_HASH_SQL = """
+            SELECT profile_hash
+            FROM suggestions
+            WHERE puuid = ?
+            ORDER BY generated_at DESC
+            LIMIT 1
+            """;
+
+    private static final String SELECT_LATEST_SQL = """
+            SELECT puuid, profile_hash, generated_at,
+                   priority_1_title, priority_1_reason, priority_1_action,
+                   priority_2_title, priority_2_reason, priority_2_action,
+                   priority_3_title, priority_3_reason, priority_3_action
+            FROM suggestions
+            WHERE puuid = ?
+            ORDER BY generated_at DESC
+            LIMIT 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SuggestionPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<String> findLatestProfileHash(String puuid) {
+        return jdbcTemplate.queryForList(SELECT_HASH_SQL, String.class, puuid).stream().findFirst();
+    }
+
+    @Override
+    public Optional<SuggestionSet> findLatest(String puuid) {
+        return jdbcTemplate.query(SELECT_LATEST_SQL, (rs, rowNum) -> mapSet(rs), puuid).stream().findFirst();
+    }
+
+    private static SuggestionSet mapSet(ResultSet rs) throws SQLException {
+        List<Suggestion> suggestions = new ArrayList<>(3);
+        for (int priority = 1; priority <= 3; priority++) {
+            String prefix = "priority_" + priority + "_";
+            String title = rs.getString(prefix + "title");
+            if (title != null && !title.isBlank()) {
+                suggestions.add(new Suggestion(title, rs.getString(prefix + "reason"),
+                        rs.getString(prefix + "action")));
+            }
+        }
+        return new SuggestionSet(
+                rs.getString("puuid"),
+                rs.getString("profile_hash"),
+                suggestions,
+                rs.getTimestamp("generated_at").toLocalDateTime().toInstant(ZoneOffset.UTC));
+    }
+}
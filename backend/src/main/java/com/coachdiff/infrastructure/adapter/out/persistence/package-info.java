@@ -0,0 +1,27 @@
+/**
+ * PERSISTENCE ADAPTERS - Secondary Adapters (OUT) for PostgreSQL.
+ *
+ * <h2>Role</h2>
+ * <p>
+ * Implement the repository ports defined in {@code domain/port/out}
+ * and own everything that knows about SQL, tables and Postgres features.
+ * </p>
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * MatchPartitionMaintenanceJob - Creates/expires monthly match_analyses partitions
+ * MatchStorePersistenceAdapter - Full matches (10 participants), shared with tracked players
+ * BenchmarkPersistenceAdapter  - rank_metrics + rank_benchmarks as RankBenchmark rows
+ * LadderPersistenceAdapter     - Ladder crawl checkpoints, players, samples, medians
+ * SuggestionPersistenceAdapter - Latest suggestions and their profile hash
+ * ProfileGapPersistenceAdapter - Profile metrics as columns, changed gaps upserted
+ * RiotIdSearchPersistenceAdapter - Riot ID search on the pg_trgm index, trie (re)loads
+ * </pre>
+ *
+ * <h2>Rules</h2>
+ * <ul>
+ *   <li>The schema is owned by Flyway ({@code db/migration}), never by Hibernate</li>
+ *   <li>Adapters map rows to domain records: no table types leak into the domain</li>
+ * </ul>
+ */
+package com.coachdiff.infrastructure.adapter.out.persistence;
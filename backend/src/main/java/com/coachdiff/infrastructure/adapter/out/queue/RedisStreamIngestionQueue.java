@@ -0,0 +1,195 @@
+package com.coachdiff.infrastructure.adapter.out.queue;
+
+import com.coachdiff.domain.model.IngestionJob;
+import com.coachdiff.domain.port.out.IngestionQueuePort;
+import com.coachdiff.infrastructure.config.IngestionProperties;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IngestionQueuePort} on a Redis Stream: one entry per job.
+ *
+ * <h2>Entry format</h2>
+ * <pre>
+ * XADD ingest:jobs MAXLEN ~ 100000 *
+ *      type PROFILE_REFRESH  key {puuid}  region euw1  deferred 0  [barrier {id}]
+ * </pre>
+ * <p>
+ * Plain string fields, no JSON: entries stay readable with {@code XRANGE}
+ * in redis-cli, and the format is trivial to keep compatible.
+ * </p>
+ *
+ * <h2>Barriers</h2>
+ * <pre>
+ * enqueueThen(jobs, then)        one pipeline:
+ *   SADD   {stream}:barrier:{id}:pending  job keys      ─┐ expire after
+ *   HSET   {stream}:barrier:{id}:then     then fields   ─┘ barrier-ttl
+ *   XADD   each job, with "barrier {id}"
+ *
+ * complete(job)                  ingestion-barrier.lua, atomically:
+ *   SREM pending job key → set empty? → XADD the follow-up, DEL the hash
+ * </pre>
+ * <p>
+ * The stream name is the hash tag of the barrier keys: the script's keys
+ * all land in the stream's Redis Cluster slot.
+ * </p>
+ *
+ * <h2>Errors</h2>
+ * <p>
+ * Unlike the match cache, the queue is not best-effort: a job that could not
+ * be enqueued is lost, so Redis errors ({@link DataAccessException}) reach
+ * the caller.
+ * </p>
+ */
+@Component
+public class RedisStreamIngestionQueue implements IngestionQueuePort {
+
+    static final String TYPE = "type";
+    static final String KEY = "key";
+    static final String REGION = "region";
+    static final String DEFERRED = "deferred";
+    static final String BARRIER = "barrier";
+
+    private static final RedisScript<Long> BARRIER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ingestion-barrier.lua"), Long.class);
+
+    private final StringRedisTemplate redis;
+    private final String stream;
+    private final XAddOptions addOptions;
+    private final String maxLength;
+    private final long barrierTtlMillis;
+
+    public RedisStreamIngestionQueue(StringRedisTemplate redis, IngestionProperties properties) {
+        this.redis = redis;
+        this.stream = properties.getStream();
+        // "~": Redis trims whole macro-nodes, much cheaper than an exact MAXLEN
+        this.addOptions = XAddOptions.maxlen(properties.getMaxLength()).approximateTrimming(true);
+        this.maxLength = Long.toString(properties.getMaxLength());
+        this.barrierTtlMillis = properties.getBarrierTtl().toMillis();
+    }
+
+    @Override
+    public void enqueue(IngestionJob job) {
+        redis.opsForStream().add(stream, toFields(job), addOptions);
+    }
+
+    @Override
+    public void enqueueAll(Collection<IngestionJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        // One pipeline: N XADDs in one round trip, appended in order
+        redis.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (IngestionJob job : jobs) {
+                    ops.opsForStream().add(stream, toFields(job), addOptions);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void enqueueThen(Collection<IngestionJob> jobs, IngestionJob then) {
+        if (jobs.isEmpty()) {
+            enqueue(then);
+            return;
+        }
+        String barrier = UUID.randomUUID().toString();
+        String pending = pendingKey(barrier);
+        String follow = thenKey(barrier);
+        Set<String> keys = new LinkedHashSet<>();
+        jobs.forEach(job -> keys.add(job.key()));
+        // Barrier keys first, in the same pipeline: they exist before any job can run
+        redis.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForSet().add(pending, keys.toArray(String[]::new));
+                ops.opsForHash().putAll(follow, toFields(then));
+                ops.expire(pending, barrierTtlMillis, TimeUnit.MILLISECONDS);
+                ops.expire(follow, barrierTtlMillis, TimeUnit.MILLISECONDS);
+                for (IngestionJob job : jobs) {
+                    ops.opsForStream().add(stream, toFields(job.withBarrier(barrier)), addOptions);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void complete(IngestionJob job) {
+        if (job.barrier() == null) {
+            return;
+        }
+        redis.execute(BARRIER_SCRIPT,
+                List.of(pendingKey(job.barrier()), thenKey(job.barrier()), stream),
+                job.key(), maxLength);
+    }
+
+    private String pendingKey(String barrier) {
+        return "{" + stream + "}:barrier:" + barrier + ":pending";
+    }
+
+    private String thenKey(String barrier) {
+        return "{" + stream + "}:barrier:" + barrier + ":then";
+    }
+
+    /**
+     * Stream entry fields of a job.
+     *
+     * @param job Job to write
+     * @return Field → value
+     */
+    public static Map<String, String> toFields(IngestionJob job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TYPE, job.type().name());
+        fields.put(KEY, job.key());
+        fields.put(REGION, job.region());
+        fields.put(DEFERRED, Integer.toString(job.deferred()));
+        if (job.barrier() != null) {
+            fields.put(BARRIER, job.barrier());
+        }
+        return fields;
+    }
+
+    /**
+     * Job of a stream entry.
+     *
+     * @param fields Entry fields, as read by XREADGROUP or XCLAIM
+     * @return The job
+     * @throws IllegalArgumentException if the entry is not a valid job
+     */
+    public static IngestionJob fromFields(Map<?, ?> fields) {
+        Object type = fields.get(TYPE);
+        Object deferred = fields.get(DEFERRED);
+        if (type == null) {
+            throw new IllegalArgumentException("Stream entry without a job type: " + fields);
+        }
+        return new IngestionJob(
+                IngestionJob.Type.valueOf(type.toString()),
+                (String) fields.get(KEY),
+                (String) fields.get(REGION),
+                deferred == null ? 0 : Integer.parseInt(deferred.toString()),
+                (String) fields.get(BARRIER));
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * QUEUE ADAPTERS - Secondary Adapters (OUT) for the ingestion work queue.
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * RedisStreamIngestionQueue - Producer: XADD jobs to the ingestion stream
+ * </pre>
+ *
+ * <p>
+ * The consumer side (worker nodes) is an inbound adapter:
+ * {@code adapter/in/queue}.
+ * </p>
+ */
+package com.coachdiff.infrastructure.adapter.out.queue;
@@ -0,0 +1,98 @@
+package com.coachdiff.infrastructure.adapter.out.suggestion;
+
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Suggestion;
+import com.coachdiff.domain.port.out.SuggestionEnginePort;
+import com.coachdiff.domain.service.SuggestionTemplateMatcher;
+import com.coachdiff.infrastructure.adapter.out.external.openai.OpenAiSuggestionEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link SuggestionEnginePort} callers get: local templates first, the LLM
+ * only for ambiguous profiles.
+ *
+ * <h2>Routing</h2>
+ * <pre>
+ * SuggestionTemplateMatcher      microseconds, deterministic
+ *   confidence ≥ threshold     → template suggestions              path=local
+ *   else                       → OpenAiSuggestionEngine (seconds)  path=llm
+ *       LLM fails              → template suggestions, if any      path=fallback
+ * </pre>
+ *
+ * <h2>Metrics</h2>
+ * <p>
+ * Timer {@value #METRIC}, tagged by {@code path}: count and latency per path.
+ * The fast-path hit rate is {@code count(path=local) / count(all paths)}:
+ * </p>
+ * <pre>
+ * GET /actuator/metrics/coachdiff.suggestions.engine?tag=path:local
+ * </pre>
+ */
+@Component
+@Primary
+public class LocalFirstSuggestionEngine implements SuggestionEnginePort {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalFirstSuggestionEngine.class);
+
+    static final String METRIC = "coachdiff.suggestions.engine";
+
+    private final SuggestionTemplateMatcher matcher = new SuggestionTemplateMatcher();
+    private final SuggestionEnginePort llm;
+    private final double threshold;
+    private final Timer local;
+    private final Timer remote;
+    private final Timer fallback;
+
+    public LocalFirstSuggestionEngine(OpenAiSuggestionEngine llm, MeterRegistry registry,
+                                      @Value("${coach-diff.suggestions.local-confidence-threshold:0.6}")
+                                      double threshold) {
+        if (threshold < 0 || threshold > 1) {
+            throw new IllegalArgumentException("Local confidence threshold must be between 0 and 1");
+        }
+        this.llm = llm;
+        this.threshold = threshold;
+        this.local = timer(registry, "local");
+        this.remote = timer(registry, "llm");
+        this.fallback = timer(registry, "fallback");
+    }
+
+    @Override
+    public List<Suggestion> suggest(ProfileGaps gaps, Role role) {
+        long start = System.nanoTime();
+        SuggestionTemplateMatcher.Match match = matcher.match(gaps, role);
+        if (match.confidence() >= threshold) {
+            local.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return match.suggestions();
+        }
+        try {
+            List<Suggestion> suggestions = llm.suggest(gaps, role);
+            remote.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return suggestions;
+        } catch (RuntimeException e) {
+            if (match.suggestions().isEmpty()) {
+                throw e;
+            }
+            log.warn("LLM suggestions failed for {}, using templates (confidence {}): {}",
+                    gaps.puuid(), String.format("%.2f", match.confidence()), e.getMessage());
+            fallback.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return match.suggestions();
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String path) {
+        return Timer.builder(METRIC)
+                .description("Suggestion generation, by engine that answered")
+                .tag("path", path)
+                .register(registry);
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * SUGGESTION ENGINE ADAPTER - Picks who answers a {@code SuggestionEnginePort} call.
+ *
+ * <h2>Contents</h2>
+ * <pre>
+ * LocalFirstSuggestionEngine - Template matcher first, OpenAI below a confidence
+ *                              threshold; times each path (fast-path hit rate)
+ * </pre>
+ *
+ * @see com.coachdiff.domain.service.SuggestionTemplateMatcher
+ * @see com.coachdiff.infrastructure.adapter.out.external.openai.OpenAiSuggestionEngine
+ */
+package com.coachdiff.infrastructure.adapter.out.suggestion;
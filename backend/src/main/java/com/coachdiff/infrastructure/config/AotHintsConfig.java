@@ -0,0 +1,97 @@
+package com.coachdiff.infrastructure.config;
+
+import com.coachdiff.infrastructure.adapter.in.rest.dto.BatchProfileLine;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.BatchProfileRequest;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchExportLine;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchHistoryResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.PlayerSearchResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.ProfileResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.RiotIdRequest;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.SuggestionsResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.TrendsResponse;
+import com.coachdiff.infrastructure.adapter.out.external.openai.dto.ChatCompletionRequest;
+import com.coachdiff.infrastructure.adapter.out.external.openai.dto.ChatCompletionResponse;
+import com.coachdiff.infrastructure.adapter.out.external.openai.dto.GeneratedSuggestionsDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.AccountDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.LeagueEntryDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.LeagueListDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.MatchDto;
+import com.coachdiff.infrastructure.adapter.out.external.riot.dto.SummonerDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Runtime hints for the {@code fast-startup} build (Spring AOT).
+ *
+ * <h2>Why</h2>
+ * <p>
+ * AOT processing replaces startup-time reflection (component scan, condition
+ * evaluation, bean definition parsing) with generated code. What it can't see
+ * statically must be declared here:
+ * </p>
+ * <ul>
+ *   <li><b>Jackson records</b>: Riot API DTOs are only deserialized inside
+ *       RestClient calls, REST DTOs only serialized by message converters</li>
+ *   <li><b>@ConfigurationProperties</b>: found by {@code @ConfigurationPropertiesScan},
+ *       bound through setters</li>
+ * </ul>
+ * <p>
+ * On the JVM the hints are metadata only (reflection still works without
+ * them); they are what keeps the same build valid for a native image.
+ * </p>
+ *
+ * <h2>Adding a type</h2>
+ * <p>
+ * A new record read or written by Jackson goes in {@link #JSON_TYPES}; nested
+ * records are followed automatically. A new properties class goes in
+ * {@link #PROPERTIES_TYPES}.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(AotHintsConfig.Hints.class)
+public class AotHintsConfig {
+
+    static final Class<?>[] JSON_TYPES = {
+            // Riot API responses
+            AccountDto.class,
+            SummonerDto.class,
+            LeagueEntryDto.class,
+            LeagueListDto.class,
+            MatchDto.class,
+            // OpenAI request, response and answer
+            ChatCompletionRequest.class,
+            ChatCompletionResponse.class,
+            GeneratedSuggestionsDto.class,
+            // REST requests and responses
+            RiotIdRequest.class,
+            BatchProfileRequest.class,
+            BatchProfileLine.class,
+            ProfileResponse.class,
+            SuggestionsResponse.class,
+            MatchHistoryResponse.class,
+            TrendsResponse.class,
+            PlayerSearchResponse.class,
+            MatchExportLine.class
+    };
+
+    static final Class<?>[] PROPERTIES_TYPES = {
+            RiotApiProperties.class,
+            RiotIdProperties.class,
+            LadderCrawlerProperties.class,
+            PartitionMaintenanceProperties.class,
+            IngestionProperties.class
+    };
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+            BindableRuntimeHintsRegistrar.forTypes(PROPERTIES_TYPES).registerHints(hints, classLoader);
+        }
+    }
+}
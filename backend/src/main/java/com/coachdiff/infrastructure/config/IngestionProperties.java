@@ -0,0 +1,195 @@
+package com.coachdiff.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the Redis Streams ingestion queue.
+ *
+ * <h2>YAML Mapping</h2>
+ * <pre>
+ * coach-diff:
+ *   ingestion:
+ *     worker-enabled: true           → isWorkerEnabled()
+ *     stream: ingest:jobs            → getStream()
+ *     dead-letter-stream: ...:dead   → getDeadLetterStream()
+ *     group: ingest-workers          → getGroup()
+ *     batch-size: 16                 → getBatchSize()
+ *     poll-timeout: 1s               → getPollTimeout()
+ *     claim-idle: 2m                 → getClaimIdle()
+ *     claim-interval: 30s            → getClaimInterval()
+ *     max-deliveries: 5              → getMaxDeliveries()
+ *     max-length: 100000             → getMaxLength()
+ *     barrier-ttl: 1h                → getBarrierTtl()
+ * </pre>
+ *
+ * <h2>Scaling</h2>
+ * <p>
+ * Every node with {@code worker-enabled} joins the same consumer group, and
+ * Redis hands each job to one consumer only. Throughput grows with the
+ * number of nodes; {@code batch-size} is how many jobs ONE node runs at once.
+ * </p>
+ *
+ * @see com.coachdiff.infrastructure.adapter.in.queue.IngestionStreamWorker
+ */
+@ConfigurationProperties(prefix = "coach-diff.ingestion")
+public class IngestionProperties {
+
+    /**
+     * Whether this node consumes jobs. Nodes with it off can still enqueue.
+     */
+    private boolean workerEnabled = true;
+
+    /**
+     * Stream holding the jobs.
+     */
+    private String stream = "ingest:jobs";
+
+    /**
+     * Stream receiving jobs that failed {@code max-deliveries} times, for inspection.
+     */
+    private String deadLetterStream = "ingest:jobs:dead";
+
+    /**
+     * Consumer group shared by all worker nodes.
+     */
+    private String group = "ingest-workers";
+
+    /**
+     * Jobs read per poll, run in parallel on virtual threads.
+     */
+    private int batchSize = 16;
+
+    /**
+     * How long a poll blocks waiting for new jobs.
+     * <p>
+     * Must stay below {@code spring.data.redis.timeout}, or an idle poll
+     * would be reported as a Redis timeout.
+     * </p>
+     */
+    private Duration pollTimeout = Duration.ofSeconds(1);
+
+    /**
+     * A delivered job not acknowledged for this long is considered lost
+     * (worker crashed or job failed) and is claimed by another worker.
+     * <p>
+     * Keep it above the longest job ({@code coach-diff.profile.fetch-timeout}),
+     * or slow jobs would run twice.
+     * </p>
+     */
+    private Duration claimIdle = Duration.ofMinutes(2);
+
+    /**
+     * How often a worker looks for lost jobs to claim.
+     */
+    private Duration claimInterval = Duration.ofSeconds(30);
+
+    /**
+     * Deliveries after which a failing job is moved to the dead-letter stream.
+     */
+    private int maxDeliveries = 5;
+
+    /**
+     * Approximate cap on the stream length (oldest entries trimmed on add).
+     */
+    private long maxLength = 100_000;
+
+    /**
+     * How long a follow-up job waits for the jobs ahead of it (a deferred
+     * refresh for its match fetches) before the barrier is dropped.
+     * <p>
+     * Only reached if some of those jobs vanished (trimmed from the stream):
+     * failing jobs are dead-lettered, which releases the barrier too.
+     * </p>
+     */
+    private Duration barrierTtl = Duration.ofHours(1);
+
+    public boolean isWorkerEnabled() {
+        return workerEnabled;
+    }
+
+    public void setWorkerEnabled(boolean workerEnabled) {
+        this.workerEnabled = workerEnabled;
+    }
+
+    public String getStream() {
+        return stream;
+    }
+
+    public void setStream(String stream) {
+        this.stream = stream;
+    }
+
+    public String getDeadLetterStream() {
+        return deadLetterStream;
+    }
+
+    public void setDeadLetterStream(String deadLetterStream) {
+        this.deadLetterStream = deadLetterStream;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(Duration pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public Duration getClaimIdle() {
+        return claimIdle;
+    }
+
+    public void setClaimIdle(Duration claimIdle) {
+        this.claimIdle = claimIdle;
+    }
+
+    public Duration getClaimInterval() {
+        return claimInterval;
+    }
+
+    public void setClaimInterval(Duration claimInterval) {
+        this.claimInterval = claimInterval;
+    }
+
+    public int getMaxDeliveries() {
+        return maxDeliveries;
+    }
+
+    public void setMaxDeliveries(int maxDeliveries) {
+        this.maxDeliveries = maxDeliveries;
+    }
+
+    public long getMaxLength() {
+        return maxLength;
+    }
+
+    public void setMaxLength(long maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    public Duration getBarrierTtl() {
+        return barrierTtl;
+    }
+
+    public void setBarrierTtl(Duration barrierTtl) {
+        this.barrierTtl = barrierTtl;
+    }
+}
@@ -0,0 +1,196 @@
+package com.coachdiff.infrastructure.config;
+
+import com.coachdiff.domain.model.LadderCrawlPlan;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for the League-V4 ladder crawler.
+ *
+ * <h2>YAML Mapping</h2>
+ * <pre>
+ * coach-diff:
+ *   ladder:
+ *     enabled: false                 → isEnabled()
+ *     cron: "0 0 4 * * *"            → getCron()
+ *     platforms: [euw1]              → getPlatforms()
+ *     queue: RANKED_SOLO_5x5         → getQueue()
+ *     max-pages-per-division: 10     → getMaxPagesPerDivision()
+ *     matches-per-player: 5          → getMatchesPerPlayer()
+ *     match-budget: 2000             → getMatchBudget()
+ *     min-sample-players: 100        → getMinSamplePlayers()
+ *     sample-max-age: 60d            → getSampleMaxAge()
+ *     recrawl-after: 7d              → getRecrawlAfter()
+ *     max-run-time: 3h               → getMaxRunTime()
+ * </pre>
+ *
+ * <h2>Budget</h2>
+ * <p>
+ * Ladder pages are cheap (205 players per call). Match details are the
+ * expensive part: one call per match, so {@code match-budget} is what really
+ * bounds how much of the application rate limit a run consumes.
+ * </p>
+ *
+ * @see com.coachdiff.application.service.LadderCrawlService
+ */
+@ConfigurationProperties(prefix = "coach-diff.ladder")
+public class LadderCrawlerProperties {
+
+    /**
+     * Whether the scheduled crawl runs at all.
+     * <p>
+     * Off by default: a crawl spends the same rate-limit budget as user requests.
+     * </p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * When the crawl runs (Spring cron: sec min hour day month weekday).
+     */
+    private String cron = "0 0 4 * * *";
+
+    /**
+     * Platforms to crawl (e.g., euw1, eun1, kr).
+     */
+    private List<String> platforms = List.of("euw1");
+
+    /**
+     * Ranked queue to crawl.
+     */
+    private String queue = "RANKED_SOLO_5x5";
+
+    /**
+     * Page cap per division. A League-V4 page holds up to 205 players.
+     */
+    private int maxPagesPerDivision = 10;
+
+    /**
+     * Recent ranked matches sampled per player.
+     */
+    private int matchesPerPlayer = 5;
+
+    /**
+     * Maximum Match-V5 detail calls in one run.
+     */
+    private int matchBudget = 2000;
+
+    /**
+     * Sampled players a tier needs before its seeded medians are replaced.
+     */
+    private int minSamplePlayers = 100;
+
+    /**
+     * Samples of matches older than this no longer feed the medians (patches change the game).
+     */
+    private Duration sampleMaxAge = Duration.ofDays(60);
+
+    /**
+     * After this, completed divisions are crawled again and players re-sampled.
+     */
+    private Duration recrawlAfter = Duration.ofDays(7);
+
+    /**
+     * Hard deadline of a run: unfinished work resumes from the checkpoints next time.
+     */
+    private Duration maxRunTime = Duration.ofHours(3);
+
+    /**
+     * Builds the plan of one crawl run from these settings.
+     *
+     * @return Domain view of the crawl settings
+     */
+    public LadderCrawlPlan toPlan() {
+        return new LadderCrawlPlan(platforms, queue, maxPagesPerDivision, matchesPerPlayer, matchBudget,
+                minSamplePlayers, sampleMaxAge, recrawlAfter, maxRunTime);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public List<String> getPlatforms() {
+        return platforms;
+    }
+
+    public void setPlatforms(List<String> platforms) {
+        this.platforms = platforms;
+    }
+
+    public String getQueue() {
+        return queue;
+    }
+
+    public void setQueue(String queue) {
+        this.queue = queue;
+    }
+
+    public int getMaxPagesPerDivision() {
+        return maxPagesPerDivision;
+    }
+
+    public void setMaxPagesPerDivision(int maxPagesPerDivision) {
+        this.maxPagesPerDivision = maxPagesPerDivision;
+    }
+
+    public int getMatchesPerPlayer() {
+        return matchesPerPlayer;
+    }
+
+    public void setMatchesPerPlayer(int matchesPerPlayer) {
+        this.matchesPerPlayer = matchesPerPlayer;
+    }
+
+    public int getMatchBudget() {
+        return matchBudget;
+    }
+
+    public void setMatchBudget(int matchBudget) {
+        this.matchBudget = matchBudget;
+    }
+
+    public int getMinSamplePlayers() {
+        return minSamplePlayers;
+    }
+
+    public void setMinSamplePlayers(int minSamplePlayers) {
+        this.minSamplePlayers = minSamplePlayers;
+    }
+
+    public Duration getSampleMaxAge() {
+        return sampleMaxAge;
+    }
+
+    public void setSampleMaxAge(Duration sampleMaxAge) {
+        this.sampleMaxAge = sampleMaxAge;
+    }
+
+    public Duration getRecrawlAfter() {
+        return recrawlAfter;
+    }
+
+    public void setRecrawlAfter(Duration recrawlAfter) {
+        this.recrawlAfter = recrawlAfter;
+    }
+
+    public Duration getMaxRunTime() {
+        return maxRunTime;
+    }
+
+    public void setMaxRunTime(Duration maxRunTime) {
+        this.maxRunTime = maxRunTime;
+    }
+}
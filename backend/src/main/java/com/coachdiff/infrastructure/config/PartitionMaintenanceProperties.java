@@ -0,0 +1,122 @@
+package com.coachdiff.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.YearMonth;
+
+/**
+ * Configuration properties for {@code match_analyses} partition maintenance.
+ *
+ * <h2>YAML Mapping</h2>
+ * <pre>
+ * coach-diff:
+ *   partitions:
+ *     months-ahead: 3              → getMonthsAhead()
+ *     retention-months: 24         → getRetentionMonths()
+ *     archive-expired: true        → isArchiveExpired()
+ *     lock-timeout: 2s             → getLockTimeout()
+ *     cron: "0 15 3 * * *"         → getCron()
+ * </pre>
+ *
+ * <h2>Retention</h2>
+ * <p>
+ * A partition is expired when its whole month is older than
+ * {@code retention-months}. Expired partitions are detached and then either
+ * moved to the {@code match_archive} schema or dropped.
+ * </p>
+ * <p>
+ * Writers skip matches older than {@link #oldestRetainedMonth()}: their
+ * partition is gone (or about to be), and there is no DEFAULT partition.
+ * </p>
+ *
+ * @see com.coachdiff.infrastructure.adapter.out.persistence.MatchPartitionMaintenanceJob
+ */
+@ConfigurationProperties(prefix = "coach-diff.partitions")
+public class PartitionMaintenanceProperties {
+
+    /**
+     * How many future months must always have a partition ready.
+     * <p>
+     * Creating partitions ahead of time means ingestion never has to wait
+     * for DDL at the start of a month.
+     * </p>
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * How many months of match history are kept in {@code match_analyses}.
+     */
+    private int retentionMonths = 24;
+
+    /**
+     * If true, expired partitions are moved to the {@code match_archive} schema.
+     * If false, they are dropped.
+     */
+    private boolean archiveExpired = true;
+
+    /**
+     * Maximum time a DDL statement waits for a lock before giving up.
+     * <p>
+     * Keeps maintenance from queueing behind a long transaction and then
+     * blocking ingestion behind itself. A skipped run is retried next time.
+     * </p>
+     */
+    private String lockTimeout = "2s";
+
+    /**
+     * When the maintenance job runs (Spring cron: sec min hour day month weekday).
+     * <p>
+     * Defaults to every night at 03:15, low traffic hours for EUW.
+     * </p>
+     */
+    private String cron = "0 15 3 * * *";
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    public int getRetentionMonths() {
+        return retentionMonths;
+    }
+
+    public void setRetentionMonths(int retentionMonths) {
+        this.retentionMonths = retentionMonths;
+    }
+
+    public boolean isArchiveExpired() {
+        return archiveExpired;
+    }
+
+    public void setArchiveExpired(boolean archiveExpired) {
+        this.archiveExpired = archiveExpired;
+    }
+
+    public String getLockTimeout() {
+        return lockTimeout;
+    }
+
+    public void setLockTimeout(String lockTimeout) {
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * First month still kept: partitions of earlier months are expired.
+     *
+     * @return Current month minus {@code retention-months}
+     */
+    public YearMonth oldestRetainedMonth() {
+        return YearMonth.now().minusMonths(retentionMonths);
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+}
@@ -152,4 +152,19 @@ public class RestClientConfig {
                 .defaultHeader("X-Riot-Token", riotApiProperties.getApiKey())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * RestClients for any platform or regional host, created on demand.
+     * <p>
+     * Used by adapters that serve players on several platforms
+     * (e.g., batch profile fetch).
+     * </p>
+     *
+     * @param riotApiProperties Riot API configuration (API key, all URLs)
+     * @return registry of RestClients per host
+     */
+    @Bean
+    public RiotRestClients riotRestClients(RiotApiProperties riotApiProperties) {
+        return new RiotRestClients(riotApiProperties);
+    }
+}
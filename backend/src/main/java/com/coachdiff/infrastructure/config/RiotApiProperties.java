@@ -25,6 +25,11 @@ import java.util.Map;
  *       europe: https://europe.api...
  *     platform-urls:                                   → getPlatformUrls()
  *       euw1: https://euw1.api...
+ *     app-rate-limit: 20:1,100:120                     → getAppRateLimit()
+ *     rate-limiter: local                              → getRateLimiter()
+ *     rate-limit-lease-size: 5                         → getRateLimitLeaseSize()
+ *     fallback-rate-limit: 5:1,25:120                  → getFallbackRateLimit()
+ *     max-retries: 3                                   → getMaxRetries()
  * </pre>
  *
  * <p>
@@ -104,6 +109,47 @@ public class RiotApiProperties {
      */
     private Map<String, String> platformUrls;
 
+    /**
+     * Application rate limit, in Riot's {@code X-App-Rate-Limit} header format.
+     * <p>
+     * Comma-separated {@code requests:seconds} windows, all enforced at once.
+     * Default matches a development key: 20 requests/second and 100 requests/2 minutes.
+     * </p>
+     */
+    private String appRateLimit = "20:1,100:120";
+
+    /**
+     * Where the app rate limit is counted.
+     * <ul>
+     *   <li><b>local</b>: in this process (a single replica)</li>
+     *   <li><b>redis</b>: in Redis, shared by every replica</li>
+     * </ul>
+     */
+    private String rateLimiter = "local";
+
+    /**
+     * Permits a replica takes from Redis per round trip ({@code rate-limiter: redis}).
+     * <p>
+     * Higher: fewer round trips. Lower: less budget held by idle replicas.
+     * </p>
+     */
+    private int rateLimitLeaseSize = 5;
+
+    /**
+     * Budget of ONE replica while Redis is unreachable ({@code rate-limiter: redis}).
+     * <p>
+     * Same format as {@link #appRateLimit}. Keep it at most
+     * {@code appRateLimit / replicas}: default fits 4 replicas on a development key.
+     * </p>
+     */
+    private String fallbackRateLimit = "5:1,25:120";
+
+    /**
+     * How many times a call answered with 429 (Too Many Requests) is retried,
+     * honouring the {@code Retry-After} header.
+     */
+    private int maxRetries = 3;
+
     public String getApiKey() {
         return apiKey;
     }
@@ -135,4 +181,44 @@ public class RiotApiProperties {
     public void setPlatformUrls(Map<String, String> platformUrls) {
         this.platformUrls = platformUrls;
     }
+
+    public String getAppRateLimit() {
+        return appRateLimit;
+    }
+
+    public void setAppRateLimit(String appRateLimit) {
+        this.appRateLimit = appRateLimit;
+    }
+
+    public String getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public void setRateLimiter(String rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public int getRateLimitLeaseSize() {
+        return rateLimitLeaseSize;
+    }
+
+    public void setRateLimitLeaseSize(int rateLimitLeaseSize) {
+        this.rateLimitLeaseSize = rateLimitLeaseSize;
+    }
+
+    public String getFallbackRateLimit() {
+        return fallbackRateLimit;
+    }
+
+    public void setFallbackRateLimit(String fallbackRateLimit) {
+        this.fallbackRateLimit = fallbackRateLimit;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
 }
\ No newline at end of file
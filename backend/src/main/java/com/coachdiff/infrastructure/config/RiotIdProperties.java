@@ -1,5 +1,6 @@
 package com.coachdiff.infrastructure.config;
 
+import com.coachdiff.domain.model.RiotId;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -78,6 +79,15 @@ public class RiotIdProperties {
      */
     private String region = "euw1";
 
+    /**
+     * Returns the configured player as a domain {@link RiotId}.
+     *
+     * @return Configured Riot ID and platform
+     */
+    public RiotId toRiotId() {
+        return new RiotId(gameName, tagLine, region.toLowerCase());
+    }
+
     public String getGameName() {
         return gameName;
     }
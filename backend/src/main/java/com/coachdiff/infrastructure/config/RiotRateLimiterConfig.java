@@ -0,0 +1,45 @@
+package com.coachdiff.infrastructure.config;
+
+import com.coachdiff.infrastructure.adapter.out.external.riot.LocalRiotRateLimiter;
+import com.coachdiff.infrastructure.adapter.out.external.riot.RedisRiotRateLimiter;
+import com.coachdiff.infrastructure.adapter.out.external.riot.RiotRateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Chooses where the Riot app rate limit is counted.
+ *
+ * <pre>
+ * coach-diff.riot.rate-limiter: local  → LocalRiotRateLimiter (one replica)
+ * coach-diff.riot.rate-limiter: redis  → RedisRiotRateLimiter (all replicas)
+ * </pre>
+ *
+ * <h2>Why a switch instead of @ConditionalOnProperty?</h2>
+ * <p>
+ * The {@code fast-startup} build evaluates conditions at build time: with
+ * {@code @ConditionalOnProperty} the choice would be frozen into the image.
+ * Deciding in the factory method keeps it a runtime setting.
+ * </p>
+ */
+@Configuration
+public class RiotRateLimiterConfig {
+
+    /**
+     * The rate limiter every Riot call goes through.
+     *
+     * @param properties Riot API configuration (limits, limiter type)
+     * @param redis      Shared Redis (only used by the redis limiter)
+     * @return The configured limiter
+     */
+    @Bean
+    public RiotRateLimiter riotRateLimiter(RiotApiProperties properties, StringRedisTemplate redis) {
+        return switch (properties.getRateLimiter()) {
+            case "local" -> new LocalRiotRateLimiter(properties.getAppRateLimit());
+            case "redis" -> new RedisRiotRateLimiter(redis, properties.getAppRateLimit(),
+                    properties.getRateLimitLeaseSize(), properties.getFallbackRateLimit());
+            default -> throw new IllegalArgumentException(
+                    "Unknown coach-diff.riot.rate-limiter: " + properties.getRateLimiter());
+        };
+    }
+}
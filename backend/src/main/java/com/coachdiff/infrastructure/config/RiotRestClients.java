@@ -0,0 +1,115 @@
+package com.coachdiff.infrastructure.config;
+
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RestClients for every Riot platform and regional host.
+ *
+ * <h2>Why not just the two RestClient beans?</h2>
+ * <p>
+ * {@code routingRestClient} and {@code platformRestClient} are bound to the
+ * configured player's region. Batch requests talk to
+ * players on any platform, so they need a client per host:
+ * </p>
+ * <pre>
+ * platform("kr")   → https://kr.api.riotgames.com
+ * routing("kr")    → https://asia.api.riotgames.com   (kr's regional host)
+ * </pre>
+ *
+ * <p>
+ * Clients are created on first use and reused afterwards (a RestClient is
+ * thread-safe and keeps its connection pool).
+ * </p>
+ */
+public class RiotRestClients {
+
+    /**
+     * Platform → regional routing value, as documented by Riot.
+     */
+    private static final Map<String, String> PLATFORM_TO_ROUTING = Map.ofEntries(
+            Map.entry("euw1", "europe"),
+            Map.entry("eun1", "europe"),
+            Map.entry("tr1", "europe"),
+            Map.entry("ru", "europe"),
+            Map.entry("na1", "americas"),
+            Map.entry("br1", "americas"),
+            Map.entry("la1", "americas"),
+            Map.entry("la2", "americas"),
+            Map.entry("kr", "asia"),
+            Map.entry("jp1", "asia"),
+            Map.entry("oc1", "sea"),
+            Map.entry("ph2", "sea"),
+            Map.entry("sg2", "sea"),
+            Map.entry("th2", "sea"),
+            Map.entry("tw2", "sea"),
+            Map.entry("vn2", "sea")
+    );
+
+    private final RiotApiProperties properties;
+    private final Map<String, RestClient> clients = new ConcurrentHashMap<>();
+
+    public RiotRestClients(RiotApiProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Client for platform endpoints (Summoner-V4, League-V4).
+     *
+     * @param platform Platform (e.g., "euw1")
+     * @return RestClient with the platform base URL
+     * @throws IllegalArgumentException if the platform isn't configured
+     */
+    public RestClient platform(String platform) {
+        String url = properties.getPlatformUrls().get(platform);
+        if (url == null) {
+            throw new IllegalArgumentException("Unknown platform: " + platform);
+        }
+        return clients.computeIfAbsent(url, this::create);
+    }
+
+    /**
+     * Client for regional endpoints (Account-V1, Match-V5) serving a platform.
+     *
+     * @param platform Platform (e.g., "euw1"), mapped to its routing value ("europe")
+     * @return RestClient with the regional base URL
+     * @throws IllegalArgumentException if the platform or its routing isn't configured
+     */
+    public RestClient routing(String platform) {
+        String routing = PLATFORM_TO_ROUTING.get(platform);
+        String url = routing != null ? properties.getRoutingUrls().get(routing) : null;
+        if (url == null) {
+            throw new IllegalArgumentException("No routing URL for platform: " + platform);
+        }
+        return clients.computeIfAbsent(url, this::create);
+    }
+
+    /**
+     * Opens the TLS connections to a platform host and its regional host.
+     * <p>
+     * {@code GET /} is not an API route: answered 403/404 without touching
+     * the application rate limit, and the connection stays in the pool.
+     * </p>
+     *
+     * @param platform Platform (e.g., "euw1")
+     */
+    public void warmUp(String platform) {
+        for (RestClient client : List.of(platform(platform), routing(platform))) {
+            client.get()
+                    .uri("/")
+                    .retrieve()
+                    .onStatus(status -> true, (request, response) -> { })
+                    .toBodilessEntity();
+        }
+    }
+
+    private RestClient create(String baseUrl) {
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .defaultHeader("X-Riot-Token", properties.getApiKey())
+                .build();
+    }
+}
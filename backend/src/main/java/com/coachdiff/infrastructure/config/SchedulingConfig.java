@@ -0,0 +1,18 @@
+package com.coachdiff.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs.
+ *
+ * <p>
+ * With {@code spring.threads.virtual.enabled: true}, Spring Boot runs
+ * scheduled tasks on virtual threads, so a job blocked on JDBC does not
+ * hold a platform thread.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
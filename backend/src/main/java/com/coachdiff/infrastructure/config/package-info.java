@@ -17,6 +17,27 @@
  *   <li>{@code @Qualifier("platformRestClient")}: for euw1.api.riotgames.com</li>
  * </ul>
  *
+ * <h3>RiotRateLimiterConfig</h3>
+ * <p>
+ * Picks the Riot rate limiter (local or Redis) from {@code coach-diff.riot.rate-limiter}.
+ * </p>
+ *
+ * <h3>SchedulingConfig</h3>
+ * <p>
+ * Enables {@code @Scheduled} background jobs (e.g., partition maintenance).
+ * </p>
+ *
+ * <h3>LadderCrawlerProperties</h3>
+ * <p>
+ * Platforms, budgets and schedule of the ladder crawler.
+ * </p>
+ *
+ * <h3>AotHintsConfig</h3>
+ * <p>
+ * Runtime hints (Jackson records, properties classes) for the AOT
+ * {@code fast-startup} build.
+ * </p>
+ *
  * <h3>RedisConfig</h3>
  * <p>
  * Configures RedisTemplate with JSON serialization for complex objects.
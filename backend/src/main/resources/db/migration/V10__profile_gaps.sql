@@ -0,0 +1,41 @@
+-- =============================================================================
+-- V10__profile_gaps.sql
+-- =============================================================================
+-- Each player's metric gaps against the medians of their tier and of the
+-- tier above, recomputed in bulk whenever the medians change.
+--
+-- WHY A SEPARATE TABLE
+-- A median refresh changes the comparison of EVERY player at once, while
+-- the profile itself (rank, metrics) doesn't change. Keeping gaps out of
+-- summoner_profiles means a bulk recompute doesn't rewrite profile rows,
+-- doesn't bump their ETag and doesn't fire profile_changed (V8).
+--
+-- profile_hash
+-- MD5 of (tier, role, gaps rounded to 0.01): the "what would the coach say"
+-- version of the player. Suggestions are generated for a profile_hash
+-- (suggestions.profile_hash); when it changes, they are stale.
+-- Rounding keeps tiny median moves from changing every hash: a recompute
+-- only writes the rows whose hash actually changed.
+-- =============================================================================
+
+CREATE TABLE profile_gaps (
+    puuid VARCHAR(78) PRIMARY KEY REFERENCES summoner_profiles(puuid) ON DELETE CASCADE,
+
+    -- Tier the gaps were computed for (the player's tier at that time)
+    tier VARCHAR(20) NOT NULL,
+
+    -- One value per BenchmarkMetric (ordinal order), current tier first,
+    -- then the tier above: 12 values. Positive = better than the median.
+    --   ratios (CS/min, KDA, vision/min, KP): (value - median) / median
+    --   deaths:                               (median - value) / median
+    --   gold diff at 15:                      (value - median) / 1000
+    -- NaN when the player or the median has no value.
+    gaps REAL[] NOT NULL,
+
+    profile_hash VARCHAR(32) NOT NULL,
+    computed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE profile_gaps IS 'Metric gaps vs current and next tier medians, recomputed in bulk';
+COMMENT ON COLUMN profile_gaps.gaps IS 'Per BenchmarkMetric ordinal: 6 vs current tier, then 6 vs next tier';
+COMMENT ON COLUMN profile_gaps.profile_hash IS 'MD5(tier, role, gaps rounded to 0.01)';
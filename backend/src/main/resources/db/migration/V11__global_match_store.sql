@@ -0,0 +1,115 @@
+-- =============================================================================
+-- V11__global_match_store.sql
+-- =============================================================================
+-- Global match store: every fetched match, all ten participants.
+--
+-- Riot returns the ten participants of a match in one call, but until now
+-- only the requesting player's row was kept (match_analyses), and the Redis
+-- copy expires after a day. A teammate or opponent fetched later cost the
+-- same Match-V5 call again.
+--
+--   fetch match (any player)  → matches + match_participants (10 rows)
+--                             → match_analyses rows for EVERY tracked player in it
+--   later, another player     → read from matches, no Riot call
+--
+-- match_analyses also needed a wider key: its primary key was
+-- (match_id, played_at), so two tracked players in the same match could
+-- not both have their row.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. One row per tracked player per match
+-- -----------------------------------------------------------------------------
+-- Rebuilds the key on every partition (fine at the current volume; a
+-- large table would build the partition indexes CONCURRENTLY first).
+ALTER TABLE match_analyses DROP CONSTRAINT match_analyses_pkey;
+ALTER TABLE match_analyses ADD PRIMARY KEY (match_id, puuid, played_at);
+
+-- -----------------------------------------------------------------------------
+-- 2. Matches
+-- -----------------------------------------------------------------------------
+CREATE TABLE matches (
+    match_id VARCHAR(20) PRIMARY KEY,
+    played_at TIMESTAMP NOT NULL,
+    game_duration_seconds INTEGER NOT NULL,
+    fetched_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Retention (MatchPartitionMaintenanceJob) deletes by age
+CREATE INDEX idx_matches_played ON matches (played_at);
+
+COMMENT ON TABLE matches IS 'Every match fetched from Riot, whoever it was fetched for';
+
+-- -----------------------------------------------------------------------------
+-- 3. Participants
+-- -----------------------------------------------------------------------------
+-- The raw MatchParticipant fields: a stored match rebuilds the exact
+-- MatchDetails Riot returned, so callers can't tell where it came from.
+CREATE TABLE match_participants (
+    match_id VARCHAR(20) NOT NULL REFERENCES matches(match_id) ON DELETE CASCADE,
+    -- 0..9 in Riot's order
+    participant_index SMALLINT NOT NULL,
+    puuid VARCHAR(78) NOT NULL,
+    summoner_name VARCHAR(100),
+    champion_name VARCHAR(50) NOT NULL,
+    champion_id INTEGER NOT NULL,
+    -- Riot's teamPosition (TOP, JUNGLE, MIDDLE, BOTTOM, UTILITY, or empty)
+    team_position VARCHAR(10),
+    win BOOLEAN NOT NULL,
+    kills INTEGER NOT NULL,
+    deaths INTEGER NOT NULL,
+    assists INTEGER NOT NULL,
+    total_minions_killed INTEGER NOT NULL,
+    neutral_minions_killed INTEGER NOT NULL,
+    vision_score INTEGER NOT NULL,
+    gold_earned INTEGER NOT NULL,
+    total_damage_dealt INTEGER NOT NULL,
+
+    PRIMARY KEY (match_id, participant_index)
+);
+
+COMMENT ON TABLE match_participants IS 'All ten participants of each stored match';
+
+-- -----------------------------------------------------------------------------
+-- 4. Share new matches with every tracked player in them
+-- -----------------------------------------------------------------------------
+-- Writes the match_analyses row of each participant that has a profile.
+-- Same columns as MatchAnalysis.of(): cs = lane + jungle minions, no gold
+-- diff at 15 (needs timelines).
+--
+-- One INSERT for the whole batch: the V4 statement trigger updates the
+-- rolling aggregates of every player touched, once. Rows that already
+-- exist (written by the player's own fetch) are skipped.
+--
+-- Returns the number of rows written.
+CREATE FUNCTION share_stored_matches(p_match_ids VARCHAR[]) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_month DATE;
+    v_shared INTEGER;
+BEGIN
+    -- Old matches can fall in a month without a partition (V3)
+    FOR v_month IN
+        SELECT DISTINCT date_trunc('month', played_at)::DATE
+        FROM matches
+        WHERE match_id = ANY(p_match_ids)
+    LOOP
+        PERFORM ensure_match_partition(v_month);
+    END LOOP;
+
+    INSERT INTO match_analyses (
+        match_id, puuid, played_at, champion_name, win, kills, deaths, assists,
+        cs, game_duration_seconds, vision_score, gold_diff_at_15)
+    SELECT m.match_id, p.puuid, m.played_at, p.champion_name, p.win, p.kills, p.deaths, p.assists,
+           p.total_minions_killed + p.neutral_minions_killed, m.game_duration_seconds, p.vision_score,
+           NULL
+    FROM matches m
+    JOIN match_participants p ON p.match_id = m.match_id
+    JOIN summoner_profiles s ON s.puuid = p.puuid
+    WHERE m.match_id = ANY(p_match_ids)
+    ON CONFLICT (match_id, puuid, played_at) DO NOTHING;
+
+    GET DIAGNOSTICS v_shared = ROW_COUNT;
+    RETURN v_shared;
+END;
+$$;
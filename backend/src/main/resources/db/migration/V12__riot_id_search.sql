@@ -0,0 +1,37 @@
+-- =============================================================================
+-- V12__riot_id_search.sql
+-- =============================================================================
+-- Riot ID search (GET /api/players/search?q=).
+--
+-- Users type part of "gameName#tagLine". A B-tree can't serve
+-- LIKE '%x%' (no leading anchor), so that would be a sequential scan of
+-- summoner_profiles on every keystroke. A trigram index can:
+--
+--   "faker#kr1" → {"  f"," fa","fak","ake","ker","er#","r#k","#kr","kr1","r1 "}
+--
+-- LIKE '%ake%' and similarity (typos: "fakr" ~ "faker") both become
+-- lookups of the query's trigrams in the index.
+--
+-- The application answers hot prefixes from an in-memory trie first
+-- (RiotIdSearchService); this index serves the rest.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Extension
+-- -----------------------------------------------------------------------------
+-- Contrib module shipped with PostgreSQL; trusted since 13, so the
+-- database owner may create it (no superuser needed).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- -----------------------------------------------------------------------------
+-- 2. Trigram index on the full Riot ID
+-- -----------------------------------------------------------------------------
+-- Same expression as the search query, lower-cased like every Riot ID
+-- lookup (V7). game_name and tag_line are already indexed (V7), so this
+-- index doesn't cost HOT updates when the V4 trigger moves the aggregates.
+--
+-- No index on updated_at for the "recently saved" list the trie starts
+-- from: it would make every aggregate update non-HOT, for a read done
+-- once per node start.
+CREATE INDEX idx_summoner_riot_id_trgm ON summoner_profiles
+    USING gin (lower(game_name || '#' || tag_line) gin_trgm_ops);
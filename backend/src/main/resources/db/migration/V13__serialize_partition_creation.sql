@@ -0,0 +1,60 @@
+-- =============================================================================
+-- V13__serialize_partition_creation.sql
+-- =============================================================================
+-- ensure_match_partition (V3) checked for the partition, then created it:
+--
+--   session A: to_regclass → NULL          session B: to_regclass → NULL
+--   session A: CREATE TABLE ... ATTACH     session B: CREATE TABLE → 42P07
+--
+-- B's error aborts its whole transaction: the insert that needed the
+-- partition (MatchAnalysisPersistenceAdapter.ensurePartitions, or
+-- share_stored_matches (V11) inside a match store). The first insert of a
+-- new month from two nodes at once was enough.
+--
+-- Now creation runs under a transaction-level advisory lock keyed by the
+-- partition name: B waits for A to commit. Only callers creating the same
+-- month wait, and only until that commit.
+--
+-- After the wait B's to_regclass can still miss A's table: an advisory
+-- lock, unlike a table lock, doesn't refresh the session's catalog cache.
+-- B's CREATE TABLE then fails with duplicate_table on A's committed (and
+-- attached) partition, which is caught: the partition exists.
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION ensure_match_partition(p_month DATE) RETURNS TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::DATE;
+    v_to   DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := format('match_analyses_p%s', to_char(v_from, 'YYYY_MM'));
+BEGIN
+    -- Fast path, no lock: the partition almost always exists
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN v_name;
+    END IF;
+
+    -- Released at commit, when the partition becomes visible to the others
+    PERFORM pg_advisory_xact_lock(hashtext(v_name));
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN v_name;
+    END IF;
+
+    BEGIN
+        EXECUTE format(
+            'CREATE TABLE %I (LIKE match_analyses INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+            v_name);
+    EXCEPTION WHEN duplicate_table THEN
+        -- Created and committed by the session we waited for
+        RETURN v_name;
+    END;
+    EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I CHECK (played_at >= %L AND played_at < %L)',
+        v_name, v_name || '_bounds', v_from, v_to);
+    EXECUTE format(
+        'ALTER TABLE match_analyses ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        v_name, v_from, v_to);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', v_name, v_name || '_bounds');
+
+    RETURN v_name;
+END;
+$$;
@@ -0,0 +1,153 @@
+-- =============================================================================
+-- V14__profile_window_locking.sql
+-- =============================================================================
+-- Two fixes to the rolling aggregates of V4.
+--
+-- 1. CONCURRENT INSERTS FOR ONE PLAYER
+-- apply_profile_window read the player's newest rows and the profile in
+-- one statement, i.e. from a snapshot taken before the UPDATE waited for
+-- the profile row lock. Two transactions inserting matches of the same
+-- player (a write-behind flush on one node, share_stored_matches (V11) on
+-- another) could both see the same row leaving the window:
+--
+--   A: sign = -1 for row X, update profile ─ commit
+--   B: sign = -1 for row X (old snapshot), waits, update profile ─ commit
+--
+-- X was subtracted twice and the row that should have left after B's
+-- insert stayed counted: window_* and sum_* drifted until
+-- recompute_profile_window. The player's profile row is now locked FOR
+-- UPDATE first, in its own statement; under READ COMMITTED the window
+-- query that follows takes a new snapshot, which sees what A committed.
+-- Players of a bulk insert are locked in PUUID order, so two multi-player
+-- inserts can't deadlock on each other.
+--
+-- 2. FLAGGING ANOTHER PLAYER'S ROW
+-- Since V11 a match has one row per tracked participant, but the flag
+-- update still matched on (match_id, played_at) only: it also flipped
+-- the in_profile_window of teammates' rows without touching their sums.
+-- It now matches the player too.
+--
+-- Existing drift is not repaired here: recompute_profile_window(puuid)
+-- rebuilds a player's window from their rows.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Apply window changes for one player (V4), locked and per player
+-- -----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION apply_profile_window(p_puuid VARCHAR, p_scan INTEGER) RETURNS VOID
+LANGUAGE plpgsql AS $$
+BEGIN
+    -- Own statement: the CTE below takes its snapshot after the wait
+    PERFORM 1 FROM summoner_profiles WHERE puuid = p_puuid FOR UPDATE;
+
+    WITH newest AS (
+        SELECT match_id, played_at, in_profile_window, win, kills, deaths, assists,
+               cs, game_duration_seconds, vision_score, gold_diff_at_15
+        FROM match_analyses
+        WHERE puuid = p_puuid
+        ORDER BY played_at DESC, match_id DESC
+        LIMIT p_scan
+    ),
+    ranked AS (
+        SELECT n.*, row_number() OVER (ORDER BY played_at DESC, match_id DESC) AS rn
+        FROM newest n
+    ),
+    changes AS (
+        SELECT r.*,
+               CASE WHEN r.rn <= p.window_size AND NOT r.in_profile_window THEN 1
+                    WHEN r.rn > p.window_size AND r.in_profile_window THEN -1
+                    ELSE 0 END AS sign
+        FROM ranked r
+        CROSS JOIN summoner_profiles p
+        WHERE p.puuid = p_puuid
+    ),
+    -- Data-modifying CTEs always run to completion, even if not referenced
+    flagged AS (
+        UPDATE match_analyses m
+        SET in_profile_window = (c.sign = 1)
+        FROM changes c
+        WHERE c.sign <> 0
+          AND m.puuid = p_puuid
+          AND m.match_id = c.match_id
+          AND m.played_at = c.played_at
+    ),
+    delta AS (
+        SELECT
+            COALESCE(SUM(sign), 0) AS games,
+            COALESCE(SUM(sign) FILTER (WHERE win), 0) AS wins,
+            COALESCE(SUM(sign * match_per_minute(cs, game_duration_seconds)), 0) AS cs_per_min,
+            COALESCE(SUM(sign * match_kda(kills, deaths, assists)), 0) AS kda,
+            COALESCE(SUM(sign * match_per_minute(vision_score, game_duration_seconds)), 0) AS vision_per_min,
+            COALESCE(SUM(sign * deaths), 0) AS deaths,
+            COALESCE(SUM(sign * gold_diff_at_15), 0) AS gold_diff,
+            COALESCE(SUM(sign) FILTER (WHERE gold_diff_at_15 IS NOT NULL), 0) AS gold_diff_games
+        FROM changes
+        WHERE sign <> 0
+    )
+    UPDATE summoner_profiles p
+    SET window_games        = p.window_games + d.games,
+        window_wins         = p.window_wins + d.wins,
+        sum_cs_per_min      = p.sum_cs_per_min + d.cs_per_min,
+        sum_kda             = p.sum_kda + d.kda,
+        sum_vision_per_min  = p.sum_vision_per_min + d.vision_per_min,
+        sum_deaths          = p.sum_deaths + d.deaths,
+        sum_gold_diff_at_15 = p.sum_gold_diff_at_15 + d.gold_diff,
+        gold_diff_games     = p.gold_diff_games + d.gold_diff_games,
+        updated_at          = CURRENT_TIMESTAMP
+    FROM delta d
+    WHERE p.puuid = p_puuid;
+
+    -- Derived averages: same formula everywhere, recomputed from the sums
+    UPDATE summoner_profiles
+    SET cs_per_min      = CASE WHEN window_games > 0 THEN round(sum_cs_per_min / window_games, 2) END,
+        kda             = CASE WHEN window_games > 0 THEN round(sum_kda / window_games, 2) END,
+        vision_per_min  = CASE WHEN window_games > 0 THEN round(sum_vision_per_min / window_games, 2) END,
+        avg_deaths      = CASE WHEN window_games > 0 THEN round(sum_deaths::NUMERIC / window_games, 2) END,
+        gold_diff_at_15 = CASE WHEN gold_diff_games > 0 THEN round(sum_gold_diff_at_15::NUMERIC / gold_diff_games)::INTEGER END
+    WHERE puuid = p_puuid;
+END;
+$$;
+
+-- -----------------------------------------------------------------------------
+-- 2. Full recomputation (V4): lock before resetting
+-- -----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION recompute_profile_window(p_puuid VARCHAR) RETURNS VOID
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM 1 FROM summoner_profiles WHERE puuid = p_puuid FOR UPDATE;
+
+    UPDATE match_analyses
+    SET in_profile_window = FALSE
+    WHERE puuid = p_puuid AND in_profile_window;
+
+    UPDATE summoner_profiles
+    SET window_games = 0, window_wins = 0,
+        sum_cs_per_min = 0, sum_kda = 0, sum_vision_per_min = 0,
+        sum_deaths = 0, sum_gold_diff_at_15 = 0, gold_diff_games = 0
+    WHERE puuid = p_puuid;
+
+    PERFORM apply_profile_window(p_puuid,
+        (SELECT window_size FROM summoner_profiles WHERE puuid = p_puuid));
+END;
+$$;
+
+-- -----------------------------------------------------------------------------
+-- 3. Statement-level trigger function (V4): players in a fixed order
+-- -----------------------------------------------------------------------------
+CREATE OR REPLACE FUNCTION match_analyses_after_insert() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    r RECORD;
+BEGIN
+    FOR r IN
+        SELECT n.puuid, count(*) AS inserted, p.window_size
+        FROM new_matches n
+        JOIN summoner_profiles p ON p.puuid = n.puuid
+        GROUP BY n.puuid, p.window_size
+        ORDER BY n.puuid
+    LOOP
+        PERFORM apply_profile_window(r.puuid, r.window_size + r.inserted::INTEGER);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
@@ -0,0 +1,54 @@
+-- =============================================================================
+-- V15__share_within_retention.sql
+-- =============================================================================
+-- share_stored_matches (V11) re-created the partition of any month it was
+-- given, expired ones included: MatchPartitionMaintenanceJob detaches
+-- partitions older than coach-diff.partitions.retention-months, there is
+-- no DEFAULT partition, and a stored match from such a month brought its
+-- partition back until the next nightly run detached it again.
+--
+-- The function now takes the first retained month from the application
+-- (the retention is configuration, not schema) and ignores older matches:
+--
+--   SELECT share_stored_matches(ids, DATE '2024-10-01')
+--
+-- The old one-argument signature is dropped: a node still calling it
+-- fails loudly instead of re-creating expired partitions.
+-- =============================================================================
+
+DROP FUNCTION share_stored_matches(VARCHAR[]);
+
+CREATE FUNCTION share_stored_matches(p_match_ids VARCHAR[], p_since DATE) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_month DATE;
+    v_shared INTEGER;
+BEGIN
+    -- Old matches can fall in a month without a partition (V3), but not
+    -- before the retention: those partitions are gone on purpose
+    FOR v_month IN
+        SELECT DISTINCT date_trunc('month', played_at)::DATE
+        FROM matches
+        WHERE match_id = ANY(p_match_ids)
+          AND played_at >= p_since
+    LOOP
+        PERFORM ensure_match_partition(v_month);
+    END LOOP;
+
+    INSERT INTO match_analyses (
+        match_id, puuid, played_at, champion_name, win, kills, deaths, assists,
+        cs, game_duration_seconds, vision_score, gold_diff_at_15)
+    SELECT m.match_id, p.puuid, m.played_at, p.champion_name, p.win, p.kills, p.deaths, p.assists,
+           p.total_minions_killed + p.neutral_minions_killed, m.game_duration_seconds, p.vision_score,
+           NULL
+    FROM matches m
+    JOIN match_participants p ON p.match_id = m.match_id
+    JOIN summoner_profiles s ON s.puuid = p.puuid
+    WHERE m.match_id = ANY(p_match_ids)
+      AND m.played_at >= p_since
+    ON CONFLICT (match_id, puuid, played_at) DO NOTHING;
+
+    GET DIAGNOSTICS v_shared = ROW_COUNT;
+    RETURN v_shared;
+END;
+$$;
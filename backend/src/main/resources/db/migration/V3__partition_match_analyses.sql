@@ -0,0 +1,140 @@
+-- =============================================================================
+-- V3__partition_match_analyses.sql
+-- =============================================================================
+-- Converts match_analyses into a table partitioned by month on played_at.
+--
+-- WHY PARTITION?
+-- At tens of millions of rows a single heap hurts in three ways:
+-- - VACUUM has to walk the whole table, even though old months never change
+-- - The B-tree on (puuid, played_at DESC) keeps growing and bloating
+-- - Deleting old matches means a huge DELETE + VACUUM instead of a cheap DROP
+--
+-- With one partition per month:
+-- - Old partitions are frozen once and never vacuumed again
+-- - Queries with a played_at range only touch the matching partitions (pruning)
+-- - Retention = DETACH + DROP (or archive) of a whole partition
+--
+-- PARTITION NAMING: match_analyses_pYYYY_MM (e.g., match_analyses_p2026_10)
+-- The maintenance job (MatchPartitionMaintenanceJob) relies on this convention.
+--
+-- NOTE: A partitioned table's primary key must include the partition key,
+-- so the key becomes (match_id, played_at).
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Move the old heap out of the way
+-- -----------------------------------------------------------------------------
+ALTER TABLE match_analyses RENAME TO match_analyses_legacy;
+ALTER TABLE match_analyses_legacy RENAME CONSTRAINT match_analyses_pkey TO match_analyses_legacy_pkey;
+ALTER TABLE match_analyses_legacy RENAME CONSTRAINT match_analyses_puuid_fkey TO match_analyses_legacy_puuid_fkey;
+ALTER INDEX idx_match_puuid_played RENAME TO idx_match_legacy_puuid_played;
+
+-- -----------------------------------------------------------------------------
+-- 2. Partitioned parent (same columns as V1)
+-- -----------------------------------------------------------------------------
+CREATE TABLE match_analyses (
+    match_id VARCHAR(20) NOT NULL,
+    puuid VARCHAR(78) NOT NULL REFERENCES summoner_profiles(puuid) ON DELETE CASCADE,
+    played_at TIMESTAMP NOT NULL,
+    champion_name VARCHAR(50) NOT NULL,
+    win BOOLEAN NOT NULL,
+    kills INTEGER NOT NULL DEFAULT 0,
+    deaths INTEGER NOT NULL DEFAULT 0,
+    assists INTEGER NOT NULL DEFAULT 0,
+    cs INTEGER NOT NULL DEFAULT 0,
+    game_duration_seconds INTEGER NOT NULL,
+    vision_score INTEGER NOT NULL DEFAULT 0,
+    gold_diff_at_15 INTEGER,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (match_id, played_at)
+) PARTITION BY RANGE (played_at);
+
+-- Per-player lookups ("last N games"): still a B-tree, but now one small
+-- B-tree per month instead of a single ever-growing one.
+CREATE INDEX idx_match_puuid_played ON match_analyses(puuid, played_at DESC);
+
+-- Range scans for analytics ("all matches played last week"):
+-- rows are inserted roughly in played_at order, so a BRIN index is a few
+-- pages per partition instead of a full B-tree entry per row.
+CREATE INDEX idx_match_played_brin ON match_analyses USING BRIN (played_at)
+    WITH (pages_per_range = 32);
+
+COMMENT ON TABLE match_analyses IS 'Match history with individual stats, partitioned by month on played_at';
+COMMENT ON COLUMN match_analyses.cs IS 'Total Creep Score (minions + jungle monsters)';
+
+-- -----------------------------------------------------------------------------
+-- 3. Partition management
+-- -----------------------------------------------------------------------------
+-- Creates the partition for the month containing p_month (if missing).
+--
+-- The partition is created as a standalone table and then ATTACHed:
+-- ATTACH PARTITION only takes a SHARE UPDATE EXCLUSIVE lock on the parent,
+-- so concurrent INSERTs and SELECTs keep running. CREATE TABLE ... PARTITION OF
+-- would take an ACCESS EXCLUSIVE lock and block ingestion.
+--
+-- The CHECK constraint matches the partition bounds, which lets ATTACH skip
+-- the validation scan.
+CREATE FUNCTION ensure_match_partition(p_month DATE) RETURNS TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::DATE;
+    v_to   DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := format('match_analyses_p%s', to_char(v_from, 'YYYY_MM'));
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN v_name;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE %I (LIKE match_analyses INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+        v_name);
+    EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I CHECK (played_at >= %L AND played_at < %L)',
+        v_name, v_name || '_bounds', v_from, v_to);
+    EXECUTE format(
+        'ALTER TABLE match_analyses ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        v_name, v_from, v_to);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', v_name, v_name || '_bounds');
+
+    RETURN v_name;
+END;
+$$;
+
+-- Creates partitions from p_from up to p_months_ahead months after today.
+CREATE FUNCTION create_match_partitions(p_from DATE, p_months_ahead INTEGER) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_month DATE := date_trunc('month', p_from)::DATE;
+    v_last  DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => p_months_ahead))::DATE;
+    v_count INTEGER := 0;
+BEGIN
+    WHILE v_month <= v_last LOOP
+        PERFORM ensure_match_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+        v_count := v_count + 1;
+    END LOOP;
+    RETURN v_count;
+END;
+$$;
+
+-- Schema that receives detached partitions when retention archives instead of dropping.
+CREATE SCHEMA IF NOT EXISTS match_archive;
+
+-- -----------------------------------------------------------------------------
+-- 4. Copy existing data
+-- -----------------------------------------------------------------------------
+-- Partitions cover every month that already has data, plus 3 months ahead.
+SELECT create_match_partitions(
+    COALESCE((SELECT MIN(played_at)::DATE FROM match_analyses_legacy), CURRENT_DATE),
+    3);
+
+INSERT INTO match_analyses (
+    match_id, puuid, played_at, champion_name, win, kills, deaths, assists,
+    cs, game_duration_seconds, vision_score, gold_diff_at_15, created_at)
+SELECT
+    match_id, puuid, played_at, champion_name, win, kills, deaths, assists,
+    cs, game_duration_seconds, vision_score, gold_diff_at_15, created_at
+FROM match_analyses_legacy;
+
+DROP TABLE match_analyses_legacy;
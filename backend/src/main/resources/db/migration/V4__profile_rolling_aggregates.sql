@@ -0,0 +1,205 @@
+-- =============================================================================
+-- V4__profile_rolling_aggregates.sql
+-- =============================================================================
+-- Keeps summoner_profiles aggregates (cs_per_min, kda, vision_per_min,
+-- avg_deaths, gold_diff_at_15) up to date INSIDE the database, as running
+-- sums over a rolling window of the player's last N games.
+--
+-- HOW IT WORKS
+-- - Every match row has an in_profile_window flag
+-- - The profile stores SUM(metric) and COUNT(*) over the flagged rows
+-- - The average columns are simply sum / count, recomputed on each change
+-- - A statement-level trigger on match_analyses runs once per bulk INSERT:
+--   for each player in the batch it reads the newest (N + new rows) matches
+--   through idx_match_puuid_played, then:
+--     * rows now inside the window but not flagged → add to sums, flag
+--     * rows now outside the window but flagged    → subtract, unflag
+--
+-- WHY THIS IS O(new matches)
+-- With N fixed (20 by default) the trigger touches at most N + k rows per
+-- player, where k is the number of inserted rows. Reading a profile is a
+-- primary key lookup: no scan over match_analyses, ever.
+--
+-- NUMERIC PRECISION
+-- Per-game values are rounded to 4 decimals before being added or
+-- subtracted. NUMERIC arithmetic is exact, so adding and later subtracting
+-- the same game always returns the sum to where it was (no float drift).
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Window membership flag on match rows
+-- -----------------------------------------------------------------------------
+ALTER TABLE match_analyses
+    ADD COLUMN in_profile_window BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN match_analyses.in_profile_window IS 'True if this match is counted in the profile rolling aggregates';
+
+-- -----------------------------------------------------------------------------
+-- 2. Running sums and counts on the profile
+-- -----------------------------------------------------------------------------
+ALTER TABLE summoner_profiles
+    -- N: how many recent games the aggregates cover
+    ADD COLUMN window_size SMALLINT NOT NULL DEFAULT 20,
+    -- How many games are currently counted (< window_size for new players)
+    ADD COLUMN window_games INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN window_wins INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN sum_cs_per_min NUMERIC(12,4) NOT NULL DEFAULT 0,
+    ADD COLUMN sum_kda NUMERIC(12,4) NOT NULL DEFAULT 0,
+    ADD COLUMN sum_vision_per_min NUMERIC(12,4) NOT NULL DEFAULT 0,
+    ADD COLUMN sum_deaths INTEGER NOT NULL DEFAULT 0,
+    -- gold_diff_at_15 is nullable per match: it has its own count
+    ADD COLUMN sum_gold_diff_at_15 BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN gold_diff_games INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN summoner_profiles.window_size IS 'Number of most recent games covered by the rolling aggregates';
+COMMENT ON COLUMN summoner_profiles.window_games IS 'Number of games currently counted in the rolling sums';
+
+-- -----------------------------------------------------------------------------
+-- 3. Per-game metric expressions (single source of truth for add AND subtract)
+-- -----------------------------------------------------------------------------
+-- Per-minute rate of a match stat (CS/min, vision/min)
+CREATE FUNCTION match_per_minute(p_value INTEGER, p_duration_seconds INTEGER) RETURNS NUMERIC
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE WHEN p_duration_seconds > 0
+                THEN round(p_value * 60.0 / p_duration_seconds, 4)
+                ELSE 0 END
+$$;
+
+CREATE FUNCTION match_kda(p_kills INTEGER, p_deaths INTEGER, p_assists INTEGER) RETURNS NUMERIC
+LANGUAGE sql IMMUTABLE AS $$
+    -- Deaths of 0 count as 1 (same convention as MatchParticipant.kda())
+    SELECT round((p_kills + p_assists)::NUMERIC / greatest(p_deaths, 1), 4)
+$$;
+
+-- -----------------------------------------------------------------------------
+-- 4. Apply window changes for one player
+-- -----------------------------------------------------------------------------
+-- p_scan: how many of the newest rows to look at (window_size + inserted rows).
+-- Rows beyond p_scan can't be flagged: before the insert, flagged rows were
+-- exactly the newest window_size rows.
+CREATE FUNCTION apply_profile_window(p_puuid VARCHAR, p_scan INTEGER) RETURNS VOID
+LANGUAGE plpgsql AS $$
+BEGIN
+    WITH newest AS (
+        SELECT match_id, played_at, in_profile_window, win, kills, deaths, assists,
+               cs, game_duration_seconds, vision_score, gold_diff_at_15
+        FROM match_analyses
+        WHERE puuid = p_puuid
+        ORDER BY played_at DESC, match_id DESC
+        LIMIT p_scan
+    ),
+    ranked AS (
+        SELECT n.*, row_number() OVER (ORDER BY played_at DESC, match_id DESC) AS rn
+        FROM newest n
+    ),
+    changes AS (
+        SELECT r.*,
+               CASE WHEN r.rn <= p.window_size AND NOT r.in_profile_window THEN 1
+                    WHEN r.rn > p.window_size AND r.in_profile_window THEN -1
+                    ELSE 0 END AS sign
+        FROM ranked r
+        CROSS JOIN summoner_profiles p
+        WHERE p.puuid = p_puuid
+    ),
+    -- Data-modifying CTEs always run to completion, even if not referenced
+    flagged AS (
+        UPDATE match_analyses m
+        SET in_profile_window = (c.sign = 1)
+        FROM changes c
+        WHERE c.sign <> 0
+          AND m.match_id = c.match_id
+          AND m.played_at = c.played_at
+    ),
+    delta AS (
+        SELECT
+            COALESCE(SUM(sign), 0) AS games,
+            COALESCE(SUM(sign) FILTER (WHERE win), 0) AS wins,
+            COALESCE(SUM(sign * match_per_minute(cs, game_duration_seconds)), 0) AS cs_per_min,
+            COALESCE(SUM(sign * match_kda(kills, deaths, assists)), 0) AS kda,
+            COALESCE(SUM(sign * match_per_minute(vision_score, game_duration_seconds)), 0) AS vision_per_min,
+            COALESCE(SUM(sign * deaths), 0) AS deaths,
+            COALESCE(SUM(sign * gold_diff_at_15), 0) AS gold_diff,
+            COALESCE(SUM(sign) FILTER (WHERE gold_diff_at_15 IS NOT NULL), 0) AS gold_diff_games
+        FROM changes
+        WHERE sign <> 0
+    )
+    UPDATE summoner_profiles p
+    SET window_games        = p.window_games + d.games,
+        window_wins         = p.window_wins + d.wins,
+        sum_cs_per_min      = p.sum_cs_per_min + d.cs_per_min,
+        sum_kda             = p.sum_kda + d.kda,
+        sum_vision_per_min  = p.sum_vision_per_min + d.vision_per_min,
+        sum_deaths          = p.sum_deaths + d.deaths,
+        sum_gold_diff_at_15 = p.sum_gold_diff_at_15 + d.gold_diff,
+        gold_diff_games     = p.gold_diff_games + d.gold_diff_games,
+        updated_at          = CURRENT_TIMESTAMP
+    FROM delta d
+    WHERE p.puuid = p_puuid;
+
+    -- Derived averages: same formula everywhere, recomputed from the sums
+    UPDATE summoner_profiles
+    SET cs_per_min      = CASE WHEN window_games > 0 THEN round(sum_cs_per_min / window_games, 2) END,
+        kda             = CASE WHEN window_games > 0 THEN round(sum_kda / window_games, 2) END,
+        vision_per_min  = CASE WHEN window_games > 0 THEN round(sum_vision_per_min / window_games, 2) END,
+        avg_deaths      = CASE WHEN window_games > 0 THEN round(sum_deaths::NUMERIC / window_games, 2) END,
+        gold_diff_at_15 = CASE WHEN gold_diff_games > 0 THEN round(sum_gold_diff_at_15::NUMERIC / gold_diff_games)::INTEGER END
+    WHERE puuid = p_puuid;
+END;
+$$;
+
+-- -----------------------------------------------------------------------------
+-- 5. Full recomputation for one player (self-healing)
+-- -----------------------------------------------------------------------------
+-- Used when the incremental invariant can't hold, e.g. after retention
+-- detached a partition that still contained flagged rows. Costs one
+-- index scan of the player's newest window_size rows.
+CREATE FUNCTION recompute_profile_window(p_puuid VARCHAR) RETURNS VOID
+LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE match_analyses
+    SET in_profile_window = FALSE
+    WHERE puuid = p_puuid AND in_profile_window;
+
+    UPDATE summoner_profiles
+    SET window_games = 0, window_wins = 0,
+        sum_cs_per_min = 0, sum_kda = 0, sum_vision_per_min = 0,
+        sum_deaths = 0, sum_gold_diff_at_15 = 0, gold_diff_games = 0
+    WHERE puuid = p_puuid;
+
+    PERFORM apply_profile_window(p_puuid,
+        (SELECT window_size FROM summoner_profiles WHERE puuid = p_puuid));
+END;
+$$;
+
+-- -----------------------------------------------------------------------------
+-- 6. Statement-level trigger: one call per bulk INSERT
+-- -----------------------------------------------------------------------------
+-- The NEW TABLE transition relation holds only the rows actually inserted
+-- (ON CONFLICT DO NOTHING duplicates are not in it).
+CREATE FUNCTION match_analyses_after_insert() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    r RECORD;
+BEGIN
+    FOR r IN
+        SELECT n.puuid, count(*) AS inserted, p.window_size
+        FROM new_matches n
+        JOIN summoner_profiles p ON p.puuid = n.puuid
+        GROUP BY n.puuid, p.window_size
+    LOOP
+        PERFORM apply_profile_window(r.puuid, r.window_size + r.inserted::INTEGER);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_match_analyses_window
+    AFTER INSERT ON match_analyses
+    REFERENCING NEW TABLE AS new_matches
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION match_analyses_after_insert();
+
+-- -----------------------------------------------------------------------------
+-- 7. Backfill profiles from existing matches
+-- -----------------------------------------------------------------------------
+SELECT recompute_profile_window(puuid) FROM summoner_profiles;
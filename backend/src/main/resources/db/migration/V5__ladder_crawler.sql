@@ -0,0 +1,171 @@
+-- =============================================================================
+-- V5__ladder_crawler.sql
+-- =============================================================================
+-- Tables for the League-V4 ladder crawler, which builds a real per-tier
+-- player sample and computes rank_metrics medians from it (replacing the
+-- community estimates seeded in V2).
+--
+-- TABLES:
+-- 1. ladder_crawl_cursors  → Checkpoint: next page per platform/queue/tier/division
+-- 2. ladder_players        → Deduplicated players discovered on the ladder
+-- 3. ladder_matches        → Match IDs already fetched (never fetched twice)
+-- 4. ladder_match_samples  → One row per (match, sampled player): raw stats
+-- 5. ladder_crawl_lease    → Single-row lease: one crawler across replicas
+--
+-- FLOW
+--   ladder pages ──▶ ladder_players ──▶ match IDs ──▶ ladder_matches
+--                                                └──▶ ladder_match_samples
+--   ladder_match_samples ──refresh_rank_metrics()──▶ rank_metrics
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Crawl checkpoints
+-- -----------------------------------------------------------------------------
+-- A page is saved together with its cursor advance (same transaction), so
+-- after a restart the crawler resumes at next_page without losing or
+-- re-reading pages.
+CREATE TABLE ladder_crawl_cursors (
+    platform VARCHAR(10) NOT NULL,
+    queue VARCHAR(30) NOT NULL,
+    tier VARCHAR(20) NOT NULL,
+    -- I-IV for IRON to DIAMOND, 'I' for MASTER+ (single league list)
+    division VARCHAR(5) NOT NULL,
+
+    -- League-V4 pages are 1-based
+    next_page INTEGER NOT NULL DEFAULT 1,
+    -- Set when an empty page (or the page cap) is reached
+    completed_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (platform, queue, tier, division)
+);
+
+COMMENT ON TABLE ladder_crawl_cursors IS 'Ladder crawler checkpoint: next League-V4 page per division';
+
+-- -----------------------------------------------------------------------------
+-- 2. Discovered players
+-- -----------------------------------------------------------------------------
+-- PUUID primary key = dedupe: a player seen on several pages (LP moved
+-- while crawling) or several runs is stored once, with the latest rank.
+CREATE TABLE ladder_players (
+    puuid VARCHAR(78) PRIMARY KEY,
+    platform VARCHAR(10) NOT NULL,
+    tier VARCHAR(20) NOT NULL,
+    division VARCHAR(5) NOT NULL,
+    league_points INTEGER NOT NULL,
+    crawled_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- NULL until the player's matches were sampled (sampling checkpoint)
+    sampled_at TIMESTAMP
+);
+
+-- "Who should be sampled next": never sampled first, then least recent
+CREATE INDEX idx_ladder_players_sampled ON ladder_players (sampled_at NULLS FIRST);
+
+-- -----------------------------------------------------------------------------
+-- 3. Fetched matches
+-- -----------------------------------------------------------------------------
+-- Two sampled players often share a match: it is fetched once and gives
+-- a sample row to every known player in it.
+CREATE TABLE ladder_matches (
+    match_id VARCHAR(20) PRIMARY KEY,
+    platform VARCHAR(10) NOT NULL,
+    played_at TIMESTAMP NOT NULL,
+    fetched_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- -----------------------------------------------------------------------------
+-- 4. Match samples
+-- -----------------------------------------------------------------------------
+-- Raw stats only: metrics are derived at aggregation time with the same
+-- functions as the profile aggregates (match_per_minute, match_kda from V4).
+CREATE TABLE ladder_match_samples (
+    match_id VARCHAR(20) NOT NULL REFERENCES ladder_matches(match_id) ON DELETE CASCADE,
+    puuid VARCHAR(78) NOT NULL,
+    -- Player's tier when the sample was taken
+    tier VARCHAR(20) NOT NULL,
+    played_at TIMESTAMP NOT NULL,
+    game_duration_seconds INTEGER NOT NULL,
+    kills INTEGER NOT NULL,
+    deaths INTEGER NOT NULL,
+    assists INTEGER NOT NULL,
+    cs INTEGER NOT NULL,
+    vision_score INTEGER NOT NULL,
+    -- Kills of the player's team (for kill participation)
+    team_kills INTEGER NOT NULL,
+
+    PRIMARY KEY (match_id, puuid)
+);
+
+-- Aggregation reads recent samples grouped by tier and player
+CREATE INDEX idx_ladder_samples_tier ON ladder_match_samples (tier, played_at);
+
+-- -----------------------------------------------------------------------------
+-- 5. Crawl lease
+-- -----------------------------------------------------------------------------
+-- Session advisory locks don't survive a pooled connection, so replicas
+-- coordinate through a lease row: UPDATE ... WHERE locked_until < now()
+-- succeeds for exactly one of them.
+CREATE TABLE ladder_crawl_lease (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    owner VARCHAR(100),
+    locked_until TIMESTAMP NOT NULL DEFAULT '-infinity'
+);
+
+INSERT INTO ladder_crawl_lease (id) VALUES (1);
+
+-- -----------------------------------------------------------------------------
+-- 6. rank_metrics from the sample
+-- -----------------------------------------------------------------------------
+-- Median PLAYER per tier (not median game): each player's games are
+-- averaged first, then the median is taken across players. sample_size is
+-- therefore the number of distinct players behind each median.
+--
+-- Tiers with fewer than p_min_players keep their current (seeded) values.
+-- median_gold_diff_at_15 is left untouched: it needs match timelines,
+-- which the crawler doesn't fetch.
+--
+-- Returns the number of tiers updated.
+CREATE FUNCTION refresh_rank_metrics(p_min_players INTEGER, p_since TIMESTAMP) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_updated INTEGER;
+BEGIN
+    WITH per_player AS (
+        SELECT tier,
+               puuid,
+               avg(match_per_minute(cs, game_duration_seconds)) AS cs_per_min,
+               avg(match_kda(kills, deaths, assists)) AS kda,
+               avg(match_per_minute(vision_score, game_duration_seconds)) AS vision_per_min,
+               avg((kills + assists) * 100.0 / team_kills) FILTER (WHERE team_kills > 0) AS kill_participation,
+               avg(deaths) AS deaths
+        FROM ladder_match_samples
+        WHERE played_at >= p_since
+        GROUP BY tier, puuid
+    ),
+    per_tier AS (
+        SELECT tier,
+               count(*) AS players,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY cs_per_min) AS cs_per_min,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY kda) AS kda,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY vision_per_min) AS vision_per_min,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY kill_participation) AS kill_participation,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY deaths) AS deaths
+        FROM per_player
+        GROUP BY tier
+    )
+    UPDATE rank_metrics r
+    SET median_cs_per_min         = round(t.cs_per_min::NUMERIC, 2),
+        median_kda                = round(t.kda::NUMERIC, 2),
+        median_vision_per_min     = round(t.vision_per_min::NUMERIC, 2),
+        median_kill_participation = round(COALESCE(t.kill_participation::NUMERIC, r.median_kill_participation), 2),
+        median_deaths             = round(t.deaths::NUMERIC, 2),
+        sample_size               = t.players,
+        last_updated              = CURRENT_DATE
+    FROM per_tier t
+    WHERE r.tier = t.tier
+      AND t.players >= p_min_players;
+
+    GET DIAGNOSTICS v_updated = ROW_COUNT;
+    RETURN v_updated;
+END;
+$$;
@@ -0,0 +1,135 @@
+-- =============================================================================
+-- V6__rank_benchmarks.sql
+-- =============================================================================
+-- Role- and champion-specific medians.
+--
+-- rank_metrics is keyed by tier only: a support's vision score is compared
+-- with the median of ALL Gold players, most of whom ward far less. This
+-- migration adds medians keyed by (tier, role, champion):
+--
+--   (GOLD, SUPPORT, 412)  → Gold supports on Thresh
+--   (GOLD, SUPPORT, 0)    → Gold supports, any champion
+--   rank_metrics (GOLD)   → Gold players (unchanged, the last fallback)
+--
+-- Every key is stored with its sample size, however small. Which keys are
+-- trustworthy enough is decided at lookup time (BenchmarkTable), so the
+-- thresholds can change without recomputing anything.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Role and champion on ladder samples
+-- -----------------------------------------------------------------------------
+-- Nullable: samples taken before V6 have neither, and Riot leaves
+-- teamPosition empty in some games.
+ALTER TABLE ladder_match_samples
+    -- TOP, JUNGLE, MID, ADC, SUPPORT (already mapped from Riot's teamPosition)
+    ADD COLUMN team_position VARCHAR(10),
+    ADD COLUMN champion_id INTEGER;
+
+-- -----------------------------------------------------------------------------
+-- 2. Benchmarks
+-- -----------------------------------------------------------------------------
+CREATE TABLE rank_benchmarks (
+    tier VARCHAR(20) NOT NULL REFERENCES rank_metrics(tier),
+    role VARCHAR(10) NOT NULL,
+    -- 0 = every champion of the role
+    champion_id INTEGER NOT NULL DEFAULT 0,
+
+    median_cs_per_min DECIMAL(4,2) NOT NULL,
+    median_kda DECIMAL(4,2) NOT NULL,
+    median_vision_per_min DECIMAL(4,2) NOT NULL,
+    -- NULL when no sampled game had team kills
+    median_kill_participation DECIMAL(5,2),
+    median_deaths DECIMAL(4,2) NOT NULL,
+    -- Needs match timelines: NULL until they are sampled
+    median_gold_diff_at_15 INTEGER,
+
+    -- Distinct players behind the medians
+    sample_size INTEGER NOT NULL,
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (tier, role, champion_id)
+);
+
+COMMENT ON TABLE rank_benchmarks IS 'Medians per tier, role and champion (0 = all champions)';
+COMMENT ON COLUMN rank_benchmarks.sample_size IS 'Distinct players behind the medians';
+
+-- -----------------------------------------------------------------------------
+-- 3. Refresh from ladder samples
+-- -----------------------------------------------------------------------------
+-- Same "median player" approach as refresh_rank_metrics (V5): per-player
+-- averages first, then the median across players.
+--
+-- GROUPING SETS computes both levels in one scan:
+--   (tier, role, champion, puuid) → champion keys
+--   (tier, role, puuid)           → role keys (champion_id NULL → 0)
+--
+-- Keys that got no sample in the window are deleted (refreshed_at is older
+-- than this transaction).
+--
+-- Returns the number of rows written.
+CREATE FUNCTION refresh_rank_benchmarks(p_since TIMESTAMP) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_written INTEGER;
+BEGIN
+    WITH per_player AS (
+        SELECT tier,
+               team_position AS role,
+               COALESCE(champion_id, 0) AS champion_id,
+               avg(match_per_minute(cs, game_duration_seconds)) AS cs_per_min,
+               avg(match_kda(kills, deaths, assists)) AS kda,
+               avg(match_per_minute(vision_score, game_duration_seconds)) AS vision_per_min,
+               avg((kills + assists) * 100.0 / team_kills) FILTER (WHERE team_kills > 0) AS kill_participation,
+               avg(deaths) AS deaths
+        FROM ladder_match_samples
+        WHERE played_at >= p_since
+          AND team_position IS NOT NULL
+          AND champion_id IS NOT NULL
+        GROUP BY GROUPING SETS ((tier, team_position, champion_id, puuid), (tier, team_position, puuid))
+    ),
+    per_key AS (
+        SELECT tier, role, champion_id,
+               count(*) AS players,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY cs_per_min) AS cs_per_min,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY kda) AS kda,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY vision_per_min) AS vision_per_min,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY kill_participation) AS kill_participation,
+               percentile_cont(0.5) WITHIN GROUP (ORDER BY deaths) AS deaths
+        FROM per_player
+        -- Only tiers known to rank_metrics (FK)
+        WHERE tier IN (SELECT tier FROM rank_metrics)
+        GROUP BY tier, role, champion_id
+    )
+    INSERT INTO rank_benchmarks (
+        tier, role, champion_id,
+        median_cs_per_min, median_kda, median_vision_per_min,
+        median_kill_participation, median_deaths,
+        sample_size, refreshed_at)
+    SELECT tier, role, champion_id,
+           -- DECIMAL(4,2) caps at 99.99: a 0-minute outlier can't break the refresh
+           least(round(cs_per_min::NUMERIC, 2), 99.99),
+           least(round(kda::NUMERIC, 2), 99.99),
+           least(round(vision_per_min::NUMERIC, 2), 99.99),
+           round(kill_participation::NUMERIC, 2),
+           least(round(deaths::NUMERIC, 2), 99.99),
+           players,
+           CURRENT_TIMESTAMP
+    FROM per_key
+    ON CONFLICT (tier, role, champion_id) DO UPDATE
+    SET median_cs_per_min         = EXCLUDED.median_cs_per_min,
+        median_kda                = EXCLUDED.median_kda,
+        median_vision_per_min     = EXCLUDED.median_vision_per_min,
+        median_kill_participation = EXCLUDED.median_kill_participation,
+        median_deaths             = EXCLUDED.median_deaths,
+        sample_size               = EXCLUDED.sample_size,
+        refreshed_at              = EXCLUDED.refreshed_at;
+
+    GET DIAGNOSTICS v_written = ROW_COUNT;
+
+    -- CURRENT_TIMESTAMP is the transaction start: rows not written above are older
+    DELETE FROM rank_benchmarks WHERE refreshed_at < CURRENT_TIMESTAMP;
+
+    RETURN v_written;
+END;
+$$;
@@ -0,0 +1,30 @@
+-- =============================================================================
+-- V7__conditional_get_indexes.sql
+-- =============================================================================
+-- Covering indexes for conditional GETs (ETag / If-None-Match).
+--
+-- A poll first asks "what version is current?". If it matches the client's
+-- ETag the answer is 304 and nothing else is read. These indexes make that
+-- question an index-only scan: the version columns are INCLUDEd, so the
+-- heap (the full row) is never touched.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Profile version by Riot ID
+-- -----------------------------------------------------------------------------
+-- Riot IDs are case-insensitive ("faker#kr1" is "Faker#KR1"), so the
+-- lookup is on lower() of both parts.
+-- updated_at changes whenever identity, rank or rolling metrics change
+-- (upsert and V4 trigger both set it).
+CREATE INDEX idx_summoner_riot_id ON summoner_profiles (region, lower(game_name), lower(tag_line))
+    INCLUDE (puuid, updated_at);
+
+-- -----------------------------------------------------------------------------
+-- 2. Latest suggestions version per player
+-- -----------------------------------------------------------------------------
+-- profile_hash = MD5(tier + metrics): it IS the version of a suggestion set.
+-- Replaces idx_suggestions_puuid (same leading column).
+CREATE INDEX idx_suggestions_puuid_generated ON suggestions (puuid, generated_at DESC)
+    INCLUDE (profile_hash);
+
+DROP INDEX idx_suggestions_puuid;
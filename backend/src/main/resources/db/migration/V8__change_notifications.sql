@@ -0,0 +1,57 @@
+-- =============================================================================
+-- V8__change_notifications.sql
+-- =============================================================================
+-- Change notifications for the in-process read caches of every node.
+--
+-- Each node caches profiles and suggestions in memory and LISTENs on these
+-- channels. A write on ANY node (or any trigger, e.g. the V4 rolling
+-- aggregates updating summoner_profiles) notifies every node, which evicts
+-- exactly the affected entries:
+--
+--   channel              payload              evicts
+--   profile_changed      {puuid}              profile + version of that player
+--   suggestions_changed  {puuid}:{hash}       suggestions of that player
+--
+-- NOTIFY is transactional: it is delivered on COMMIT (never for a rollback),
+-- and identical payloads in one transaction are sent once. Storing 20
+-- matches updates the profile 20 times but notifies once.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Profiles
+-- -----------------------------------------------------------------------------
+CREATE FUNCTION notify_profile_changed() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('profile_changed', OLD.puuid);
+    -- An UPDATE that changed nothing doesn't invalidate anything
+    ELSIF TG_OP = 'INSERT' OR OLD IS DISTINCT FROM NEW THEN
+        PERFORM pg_notify('profile_changed', NEW.puuid);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_summoner_profiles_notify
+    AFTER INSERT OR UPDATE OR DELETE ON summoner_profiles
+    FOR EACH ROW EXECUTE FUNCTION notify_profile_changed();
+
+-- -----------------------------------------------------------------------------
+-- 2. Suggestions
+-- -----------------------------------------------------------------------------
+CREATE FUNCTION notify_suggestions_changed() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('suggestions_changed', OLD.puuid || ':' || OLD.profile_hash);
+    ELSE
+        PERFORM pg_notify('suggestions_changed', NEW.puuid || ':' || NEW.profile_hash);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_suggestions_notify
+    AFTER INSERT OR UPDATE OR DELETE ON suggestions
+    FOR EACH ROW EXECUTE FUNCTION notify_suggestions_changed();
@@ -0,0 +1,31 @@
+-- =============================================================================
+-- V9__match_history_keyset.sql
+-- =============================================================================
+-- Keyset pagination of a player's match history (GET /api/matches).
+--
+-- OFFSET vs KEYSET
+-- OFFSET 2000 LIMIT 20 reads 2020 index entries and throws 2000 away: page
+-- N costs O(N). A keyset page starts right after the last row of the
+-- previous page (the cursor), so every page costs the same:
+--
+--   WHERE puuid = ? AND (played_at, match_id) < (cursor.played_at, cursor.match_id)
+--   ORDER BY played_at DESC, match_id DESC
+--   LIMIT 20
+--
+-- The index must cover the WHOLE sort key: two matches can share played_at
+-- (they can't share match_id), and with played_at alone the seek would
+-- have to skip the ties row by row. V4's window trigger already sorts on
+-- (played_at DESC, match_id DESC) too.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- 1. Rebuild idx_match_puuid_played with the tie-breaker
+-- -----------------------------------------------------------------------------
+-- Same leading columns as before: every existing query keeps using it.
+-- On the partitioned table this builds one index per monthly partition
+-- (and on partitions created later by ensure_match_partition).
+CREATE INDEX idx_match_puuid_played_id ON match_analyses (puuid, played_at DESC, match_id DESC);
+
+DROP INDEX idx_match_puuid_played;
+
+ALTER INDEX idx_match_puuid_played_id RENAME TO idx_match_puuid_played;
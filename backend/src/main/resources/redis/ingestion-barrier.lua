@@ -0,0 +1,37 @@
+-- =============================================================================
+-- ingestion-barrier.lua
+-- =============================================================================
+-- Releases one job of an ingestion barrier; the last one enqueues the
+-- follow-up job (see RedisStreamIngestionQueue#enqueueThen).
+--
+-- A barrier is two keys, written when its jobs are enqueued:
+--   {barrier}:pending  SET  keys of the jobs not completed yet
+--   {barrier}:then     HASH stream entry fields of the follow-up job
+--
+--   KEYS[1]  pending set
+--   KEYS[2]  follow-up hash
+--   KEYS[3]  job stream
+--   ARGV[1]  key of the completed job
+--   ARGV[2]  stream max length (approximate, as XADD MAXLEN ~)
+--
+-- Returns 1 if the follow-up was enqueued, 0 otherwise.
+--
+-- SREM makes it idempotent: a job run twice (at-least-once delivery) only
+-- counts once, and the follow-up is enqueued exactly once.
+-- =============================================================================
+
+if redis.call('SREM', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+if redis.call('SCARD', KEYS[1]) > 0 then
+    return 0
+end
+
+-- Last job: the set is gone (Redis drops empty sets), hand over the follow-up
+local fields = redis.call('HGETALL', KEYS[2])
+redis.call('DEL', KEYS[2])
+if #fields == 0 then
+    return 0
+end
+redis.call('XADD', KEYS[3], 'MAXLEN', '~', ARGV[2], '*', unpack(fields))
+return 1
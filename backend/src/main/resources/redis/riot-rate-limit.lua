@@ -0,0 +1,61 @@
+-- =============================================================================
+-- riot-rate-limit.lua
+-- =============================================================================
+-- Leases up to N permits of the Riot app budget, atomically for all windows.
+--
+-- One counter per window (e.g. 20:1 and 100:120 → two keys). A counter
+-- starts at the first permit of its window and expires with it, the same
+-- way Riot's own windows behave.
+--
+--   KEYS[i]          counter of window i
+--   ARGV[1]          permits wanted (the lease size)
+--   ARGV[1 + i]      limit of window i
+--   ARGV[1 + n + i]  length of window i, in milliseconds
+--
+-- Returns {granted, ms}:
+--   granted > 0  → permits leased; valid for ms (until the first window resets,
+--                  after which unused permits would count against the wrong window)
+--   granted = 0  → budget spent; retry in ms (when the exhausted window resets)
+-- =============================================================================
+
+local n = #KEYS
+local granted = tonumber(ARGV[1])
+local wait = 0
+
+-- 1. What every window can still give: the lease is the minimum
+for i = 1, n do
+    local used = tonumber(redis.call('GET', KEYS[i]) or '0')
+    local free = tonumber(ARGV[1 + i]) - used
+    if free < granted then
+        granted = free
+    end
+    if free <= 0 then
+        local ttl = redis.call('PTTL', KEYS[i])
+        if ttl < 0 then
+            ttl = tonumber(ARGV[1 + n + i])
+        end
+        if ttl > wait then
+            wait = ttl
+        end
+    end
+end
+
+if granted <= 0 then
+    return {0, wait}
+end
+
+-- 2. Take the permits in every window; start the window on its first permit
+local valid = -1
+for i = 1, n do
+    redis.call('INCRBY', KEYS[i], granted)
+    local ttl = redis.call('PTTL', KEYS[i])
+    if ttl < 0 then
+        ttl = tonumber(ARGV[1 + n + i])
+        redis.call('PEXPIRE', KEYS[i], ttl)
+    end
+    if valid < 0 or ttl < valid then
+        valid = ttl
+    end
+end
+
+return {granted, valid}
@@ -0,0 +1,93 @@
+package com.coachdiff.application.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ReadCache}: hits, bounds, and race-safe eviction.
+ *
+ * <p>
+ * Pure Java: no Spring context, no containers.
+ * </p>
+ */
+class ReadCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return key + "-v" + loads.get();
+    }
+
+    @Test
+    void loadsOnceUntilEvicted() {
+        ReadCache<String, String> cache = new ReadCache<>(10, 1, TimeUnit.HOURS, true);
+
+        assertThat(cache.get("a", this::load)).isEqualTo("a-v1");
+        assertThat(cache.get("a", this::load)).isEqualTo("a-v1");
+        cache.evict("a");
+        assertThat(cache.get("a", this::load)).isEqualTo("a-v2");
+    }
+
+    @Test
+    void doesNotStoreAValueLoadedBeforeAnEviction() {
+        ReadCache<String, String> cache = new ReadCache<>(10, 1, TimeUnit.HOURS, true);
+
+        // The row changes (and is evicted) while the old version is being loaded
+        String stale = cache.get("a", key -> {
+            cache.evict(key);
+            return "old";
+        });
+
+        assertThat(stale).isEqualTo("old");
+        assertThat(cache.get("a", this::load)).isEqualTo("a-v1");
+    }
+
+    @Test
+    void dropsLeastRecentlyUsedEntries() {
+        ReadCache<String, String> cache = new ReadCache<>(2, 1, TimeUnit.HOURS, true);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", this::load)).isEqualTo("a-v1");
+        assertThat(cache.get("b", this::load)).isEqualTo("b-v4");
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() throws InterruptedException {
+        ReadCache<String, String> cache = new ReadCache<>(10, 20, TimeUnit.MILLISECONDS, true);
+        cache.get("a", this::load);
+        TimeUnit.MILLISECONDS.sleep(40);
+
+        assertThat(cache.get("a", this::load)).isEqualTo("a-v2");
+    }
+
+    @Test
+    void readsThroughWhileDisabled() {
+        ReadCache<String, String> cache = new ReadCache<>(10, 1, TimeUnit.HOURS, false);
+        cache.get("a", this::load);
+        cache.get("a", this::load);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+
+        cache.reset(true);
+        cache.get("a", this::load);
+        cache.get("a", this::load);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotCacheNull() {
+        ReadCache<String, String> cache = new ReadCache<>(10, 1, TimeUnit.HOURS, true);
+        cache.get("a", key -> null);
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,116 @@
+package com.coachdiff.application.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TaskScope}: fail-fast join, deadlines, per-subtask
+ * delivery and cancellation on close.
+ *
+ * <p>
+ * Pure Java: no Spring context. Subtasks that should be cancelled block
+ * for an hour; each test asserts they were interrupted.
+ * </p>
+ */
+class TaskScopeTest {
+
+    private static final Duration LONG = Duration.ofHours(1);
+
+    @Test
+    void joinFailsFastAndCancelsTheOtherSubtasks() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (TaskScope scope = new TaskScope()) {
+            Future<String> ok = scope.fork(() -> "done");
+            Future<String> slow = scope.fork(() -> blockUntilInterrupted(interrupted));
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> scope.join(Instant.now().plus(LONG)))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.state()).isEqualTo(Future.State.CANCELLED);
+            assertThat(ok.resultNow()).isEqualTo("done");
+        }
+    }
+
+    @Test
+    void joinTimesOutAtTheDeadlineAndCancelsWhatIsStillRunning() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (TaskScope scope = new TaskScope()) {
+            Future<String> fast = scope.fork(() -> "done");
+            Future<String> slow = scope.fork(() -> blockUntilInterrupted(interrupted));
+
+            assertThatThrownBy(() -> scope.join(Instant.now().plusMillis(100)))
+                    .isInstanceOf(TimeoutException.class)
+                    .hasMessageContaining("1 subtasks still running");
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.state()).isEqualTo(Future.State.CANCELLED);
+            assertThat(fast.resultNow()).isEqualTo("done");
+        }
+    }
+
+    @Test
+    void joinEachDeliversFailuresWithoutStoppingTheOthersUntilTheDeadline() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Future.State> delivered = new ArrayList<>();
+        try (TaskScope scope = new TaskScope()) {
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+            scope.fork(() -> "done");
+            Future<String> slow = scope.fork(() -> blockUntilInterrupted(interrupted));
+
+            boolean completed = scope.joinEach(Instant.now().plusMillis(200), done -> delivered.add(done.state()));
+
+            assertThat(completed).isFalse();
+            assertThat(delivered).containsExactlyInAnyOrder(Future.State.FAILED, Future.State.SUCCESS);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.state()).isEqualTo(Future.State.CANCELLED);
+        }
+    }
+
+    @Test
+    void closeInterruptsRunningSubtasksAndWaitsForThem() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<String> slow;
+        try (TaskScope scope = new TaskScope()) {
+            slow = scope.fork(() -> {
+                started.countDown();
+                return blockUntilInterrupted(interrupted);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        // close() returned: the subtask has already been interrupted and has finished
+        assertThat(interrupted.getCount()).isZero();
+        assertThat(slow.state()).isEqualTo(Future.State.CANCELLED);
+    }
+
+    private static String blockUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(LONG);
+            return "not cancelled";
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            return "interrupted";
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.coachdiff.application.diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the pipeline events: fields written, threshold honored.
+ *
+ * <p>
+ * Pure Java: a JFR recording in the test JVM, no Spring context.
+ * </p>
+ */
+class PipelineEventTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writesStageFieldsOnlyForEventsOverTheThreshold() throws Exception {
+        Path file = dir.resolve("pipeline.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RiotCallEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(PersistEvent.class).withThreshold(Duration.ofHours(1));
+            recording.start();
+
+            RiotCallEvent call = new RiotCallEvent("match-ids");
+            call.begin();
+            call.attempt(1_000);
+            call.attempt(2_000);
+            call.commit("p1", 20);
+
+            PersistEvent persist = new PersistEvent("flush", 3);
+            persist.begin();
+            persist.commit(null, 60);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("com.coachdiff."))
+                .toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent call = events.getFirst();
+        assertThat(call.getEventType().getName()).isEqualTo("com.coachdiff.RiotCall");
+        assertThat(call.getString("endpoint")).isEqualTo("match-ids");
+        assertThat(call.getString("puuid")).isEqualTo("p1");
+        assertThat(call.getInt("matchCount")).isEqualTo(20);
+        assertThat(call.getInt("attempts")).isEqualTo(2);
+        assertThat(call.getDuration("rateLimitWait")).isEqualTo(Duration.ofNanos(3_000));
+    }
+}
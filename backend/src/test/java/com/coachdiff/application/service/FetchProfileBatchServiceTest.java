@@ -0,0 +1,76 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.exception.PlayerNotFoundException;
+import com.coachdiff.domain.model.ProfileBatchResult;
+import com.coachdiff.domain.model.ProfileBatchResult.Status;
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.in.FetchProfilePort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link FetchProfileBatchService}: one result per player,
+ * failures isolated, stragglers reported as TIMEOUT at the deadline.
+ *
+ * <p>
+ * Stubbed {@code FetchProfilePort}: no Spring context, no Riot calls.
+ * </p>
+ */
+class FetchProfileBatchServiceTest {
+
+    @Test
+    void reportsEachPlayerOnceWithStragglersAsTimeout() {
+        FetchProfileBatchService batch = new FetchProfileBatchService(new FetchProfilePort() {
+            @Override
+            public SummonerProfile fetchProfile(String gameName, String tagLine, String region) {
+                return switch (gameName) {
+                    case "ok" -> new SummonerProfile("p-ok", gameName, tagLine, region, "s1", null, null,
+                            ProfileMetrics.EMPTY, Instant.now());
+                    case "missing" -> throw new PlayerNotFoundException("No such player");
+                    case "broken" -> throw new IllegalStateException("Riot API down");
+                    default -> {
+                        try {
+                            Thread.sleep(Duration.ofHours(1));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new IllegalStateException("Still running after cancellation");
+                    }
+                };
+            }
+
+            @Override
+            public SummonerProfile fetchProfileByPuuid(String puuid, String region) {
+                throw new UnsupportedOperationException("Batches fetch by Riot ID");
+            }
+        }, Duration.ofMillis(300));
+
+        List<ProfileBatchResult> results = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+        batch.fetchProfiles(List.of(player("ok"), player("missing"), player("broken"), player("slow"),
+                player("ok")), results::add);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        Map<String, Status> statuses = results.stream()
+                .collect(Collectors.toMap(r -> r.riotId().gameName(), ProfileBatchResult::status));
+        assertThat(results).hasSize(4);
+        assertThat(statuses).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "ok", Status.OK, "missing", Status.NOT_FOUND, "broken", Status.FAILED, "slow", Status.TIMEOUT));
+        // The straggler comes last: reported once the deadline has expired
+        assertThat(results.getLast().riotId().gameName()).isEqualTo("slow");
+    }
+
+    private static RiotId player(String gameName) {
+        return new RiotId(gameName, "euw", "euw1");
+    }
+}
@@ -0,0 +1,290 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.IngestionJob;
+import com.coachdiff.domain.model.LadderEntry;
+import com.coachdiff.domain.model.LeagueEntry;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.model.RiotAccount;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.Summoner;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.in.FetchProfilePort;
+import com.coachdiff.domain.port.in.GetProfilePort;
+import com.coachdiff.domain.port.out.IngestionQueuePort;
+import com.coachdiff.domain.port.out.MatchCachePort;
+import com.coachdiff.domain.port.out.MatchStoreRepository;
+import com.coachdiff.domain.port.out.RiotApiPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link IngestionService}: a deferred refresh only runs once
+ * its match fetches are done.
+ *
+ * <p>
+ * In-memory ports. Each "poll" runs every queued job in parallel, like
+ * {@code IngestionStreamWorker} does with a batch.
+ * </p>
+ */
+class IngestionServiceTest {
+
+    private static final String PUUID = "p1";
+    private static final List<String> MATCH_IDS = List.of("EUW1_1", "EUW1_2", "EUW1_3", "EUW1_4");
+
+    private final Map<String, MatchDetails> cache = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> riotFetches = new ConcurrentHashMap<>();
+    private final Set<String> broken = ConcurrentHashMap.newKeySet();
+    private final InMemoryQueue queue = new InMemoryQueue();
+    private final List<Boolean> refreshedWithWarmCache = new ArrayList<>();
+
+    @Test
+    void deferredRefreshRunsAfterItsMatchFetches() throws Exception {
+        IngestionService service = service();
+        cache.put("EUW1_1", match("EUW1_1"));
+
+        service.process(IngestionJob.profileRefresh(PUUID, "euw1"));
+
+        // The refresh is held back: only the three cache misses are queued
+        List<IngestionJob> fetches = queue.poll();
+        assertThat(fetches).extracting(IngestionJob::type).containsOnly(IngestionJob.Type.MATCH_FETCH);
+        assertThat(fetches).extracting(IngestionJob::key).containsExactlyInAnyOrder("EUW1_2", "EUW1_3", "EUW1_4");
+
+        runInParallel(service, fetches);
+
+        // Released by the last fetch, alone in the next poll
+        List<IngestionJob> refresh = queue.poll();
+        assertThat(refresh).containsExactly(IngestionJob.profileRefresh(PUUID, "euw1").defer());
+        runInParallel(service, refresh);
+
+        assertThat(refreshedWithWarmCache).containsExactly(true);
+        assertThat(riotFetches).containsOnlyKeys("EUW1_2", "EUW1_3", "EUW1_4");
+        assertThat(riotFetches.values()).allSatisfy(calls -> assertThat(calls.get()).isEqualTo(1));
+        assertThat(queue.poll()).isEmpty();
+    }
+
+    @Test
+    void failedFetchKeepsTheRefreshWaiting() throws Exception {
+        IngestionService service = service();
+        broken.add("EUW1_4");
+
+        service.process(IngestionJob.profileRefresh(PUUID, "euw1"));
+        runInParallel(service, queue.poll());
+
+        // Not completed: retried by the worker, the refresh is not released yet
+        assertThat(queue.poll()).isEmpty();
+        assertThat(refreshedWithWarmCache).isEmpty();
+
+        broken.clear();
+        runInParallel(service, List.of(IngestionJob.matchFetch("EUW1_4", "euw1").withBarrier("b1")));
+        assertThat(queue.poll()).extracting(IngestionJob::type).containsExactly(IngestionJob.Type.PROFILE_REFRESH);
+    }
+
+    private IngestionService service() {
+        SummonerProfile stored = new SummonerProfile(PUUID, "Player", "EUW", "euw1", "s1", null, null,
+                ProfileMetrics.EMPTY, Instant.now());
+        MatchHistoryLoader loader = new MatchHistoryLoader(riotApi(), matchCache(), matchStore(),
+                new SimpleMeterRegistry());
+        FetchProfilePort fetchProfile = new FetchProfilePort() {
+            @Override
+            public SummonerProfile fetchProfile(String gameName, String tagLine, String region) {
+                throw new UnsupportedOperationException("Jobs fetch by PUUID");
+            }
+
+            @Override
+            public SummonerProfile fetchProfileByPuuid(String puuid, String region) {
+                // What FetchProfileService would fetch: cache misses go to Riot
+                synchronized (refreshedWithWarmCache) {
+                    refreshedWithWarmCache.add(cache.keySet().containsAll(MATCH_IDS));
+                }
+                try {
+                    loader.load(MATCH_IDS, region, Instant.now().plusSeconds(5));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return stored;
+            }
+        };
+        return new IngestionService(riotApi(), profiles(stored), matchCache(), loader, fetchProfile,
+                queue, MATCH_IDS.size(), Duration.ofSeconds(5));
+    }
+
+    private static void runInParallel(IngestionService service, List<IngestionJob> batch) {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            batch.forEach(job -> executor.submit(() -> service.process(job)));
+        }
+    }
+
+    /**
+     * Queue with in-memory barriers: same contract as the Redis Stream one.
+     */
+    private static final class InMemoryQueue implements IngestionQueuePort {
+
+        private final List<IngestionJob> jobs = new ArrayList<>();
+        private final Map<String, Set<String>> pending = new HashMap<>();
+        private final Map<String, IngestionJob> then = new HashMap<>();
+        private int barriers;
+
+        @Override
+        public synchronized void enqueue(IngestionJob job) {
+            jobs.add(job);
+        }
+
+        @Override
+        public synchronized void enqueueAll(Collection<IngestionJob> added) {
+            jobs.addAll(added);
+        }
+
+        @Override
+        public synchronized void enqueueThen(Collection<IngestionJob> added, IngestionJob next) {
+            String barrier = "b" + ++barriers;
+            Set<String> keys = new HashSet<>();
+            added.forEach(job -> keys.add(job.key()));
+            pending.put(barrier, keys);
+            then.put(barrier, next);
+            added.forEach(job -> jobs.add(job.withBarrier(barrier)));
+        }
+
+        @Override
+        public synchronized void complete(IngestionJob job) {
+            Set<String> keys = job.barrier() == null ? null : pending.get(job.barrier());
+            if (keys != null && keys.remove(job.key()) && keys.isEmpty()) {
+                pending.remove(job.barrier());
+                jobs.add(then.remove(job.barrier()));
+            }
+        }
+
+        synchronized List<IngestionJob> poll() {
+            List<IngestionJob> batch = List.copyOf(jobs);
+            jobs.clear();
+            return batch;
+        }
+    }
+
+    private RiotApiPort riotApi() {
+        return new RiotApiPort() {
+            @Override
+            public List<String> getMatchIds(String puuid, String region, int count) {
+                return MATCH_IDS.subList(0, count);
+            }
+
+            @Override
+            public MatchDetails getMatch(String matchId, String region) {
+                riotFetches.computeIfAbsent(matchId, id -> new AtomicInteger()).incrementAndGet();
+                if (broken.contains(matchId)) {
+                    throw new IllegalStateException("Riot 503");
+                }
+                try {
+                    // Long enough for the jobs of a batch to overlap
+                    TimeUnit.MILLISECONDS.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return match(matchId);
+            }
+
+            @Override
+            public RiotAccount getAccountByRiotId(String gameName, String tagLine, String region) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public RiotAccount getAccountByPuuid(String puuid, String region) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Summoner getSummonerByPuuid(String puuid, String region) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<LeagueEntry> getLeagueEntries(String summonerId, String region) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<LadderEntry> getLadderPage(String region, String queue, String tier, String division,
+                                                   int page) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<LadderEntry> getApexLadder(String region, String queue, String tier) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private MatchCachePort matchCache() {
+        return new MatchCachePort() {
+            @Override
+            public Map<String, MatchDetails> getAll(Collection<String> matchIds) {
+                Map<String, MatchDetails> found = new HashMap<>();
+                matchIds.forEach(id -> Optional.ofNullable(cache.get(id)).ifPresent(m -> found.put(id, m)));
+                return found;
+            }
+
+            @Override
+            public void putAll(Collection<MatchDetails> matches) {
+                matches.forEach(m -> cache.put(m.matchId(), m));
+            }
+        };
+    }
+
+    private static MatchStoreRepository matchStore() {
+        return new MatchStoreRepository() {
+            @Override
+            public Map<String, MatchDetails> findAll(Collection<String> matchIds) {
+                return Map.of();
+            }
+
+            @Override
+            public int saveAll(Collection<MatchDetails> matches) {
+                return 0;
+            }
+        };
+    }
+
+    private static GetProfilePort profiles(SummonerProfile stored) {
+        return new GetProfilePort() {
+            @Override
+            public Optional<ProfileVersion> findProfileVersion(RiotId riotId) {
+                return Optional.of(ProfileVersion.of(stored));
+            }
+
+            @Override
+            public SummonerProfile getProfile(RiotId riotId) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static MatchDetails match(String matchId) {
+        List<MatchParticipant> participants = new ArrayList<>();
+        for (int p = 0; p < 10; p++) {
+            participants.add(new MatchParticipant(p == 0 ? PUUID : "other" + p, "n" + p, "Ahri", 103, "MIDDLE",
+                    p < 5, 2, 3, 2, 150, 0, 30, 10_000, 100_000));
+        }
+        return new MatchDetails(matchId, Instant.parse("2026-01-01T00:00:00Z"), 1800, participants);
+    }
+}
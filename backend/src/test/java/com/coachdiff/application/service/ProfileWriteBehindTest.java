@@ -0,0 +1,243 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.model.MatchSummary;
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.ProfileVersion;
+import com.coachdiff.domain.model.ProfileWrite;
+import com.coachdiff.domain.model.RiotId;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import com.coachdiff.domain.port.out.MatchStoreRepository;
+import com.coachdiff.domain.port.out.SummonerProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ProfileWriteBehind}: coalescing, batching,
+ * backpressure, per-player ordering, retry backoff and the shutdown drain.
+ *
+ * <p>
+ * In-memory repositories: no Spring context, no containers.
+ * </p>
+ */
+class ProfileWriteBehindTest {
+
+    private final List<List<SummonerProfile>> profileBatches = new CopyOnWriteArrayList<>();
+    private final List<List<MatchAnalysis>> matchBatches = new CopyOnWriteArrayList<>();
+    private final List<List<MatchDetails>> storedBatches = new CopyOnWriteArrayList<>();
+    /** nanoTime of every profile batch write, failed or not. */
+    private final List<Long> attempts = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failingSaves = new AtomicInteger();
+    private final CountDownLatch flushStarted = new CountDownLatch(1);
+    private volatile CountDownLatch flushGate = new CountDownLatch(0);
+
+    private ProfileWriteBehind writeBehind;
+
+    @AfterEach
+    void stop() {
+        writeBehind.stop();
+    }
+
+    @Test
+    void coalescesWritesOfAPlayerAndFlushesFullBatches() throws InterruptedException {
+        writeBehind = start(10, 2, Duration.ofHours(1), Duration.ofSeconds(1));
+
+        writeBehind.submit(write("a", "v1", "M1"));
+        writeBehind.submit(write("a", "v2", "M2"));
+        assertThat(writeBehind.pending(new RiotId("A", "V2", "euw1")))
+                .map(SummonerProfile::summonerId).contains("v2");
+        assertThat(profileBatches).isEmpty();
+
+        writeBehind.submit(write("b", "v1", "M3"));
+        awaitFlushed();
+
+        assertThat(profileBatches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(SummonerProfile::summonerId).containsExactly("v2", "v1"));
+        assertThat(matchBatches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(MatchAnalysis::matchId).containsExactly("M1", "M2", "M3"));
+        // Fetched matches go to the match store in the same flush, not on the caller's thread
+        assertThat(storedBatches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(MatchDetails::matchId).containsExactly("M1", "M2", "M3"));
+        assertThat(writeBehind.pending(new RiotId("a", "v2", "euw1"))).isEmpty();
+    }
+
+    @Test
+    void fullBufferMakesTheCallerWaitThenWriteItselfAndStopDrains() {
+        writeBehind = start(1, 10, Duration.ofHours(1), Duration.ofMillis(50));
+
+        writeBehind.submit(write("a", "v1", "M1"));
+        writeBehind.submit(write("b", "v1", "M2"));
+
+        // b found no room within the offer timeout: written by the caller
+        assertThat(profileBatches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(SummonerProfile::puuid).containsExactly("b"));
+
+        writeBehind.stop();
+
+        assertThat(profileBatches).hasSize(2);
+        assertThat(profileBatches.get(1)).extracting(SummonerProfile::puuid).containsExactly("a");
+        assertThat(writeBehind.size()).isZero();
+    }
+
+    @Test
+    void writeOfAPlayerBeingFlushedCommitsAfterTheFlush() throws InterruptedException {
+        writeBehind = start(1, 1, Duration.ofHours(1), Duration.ofMillis(50));
+        flushGate = new CountDownLatch(1);
+
+        writeBehind.submit(write("a", "v1", "M1"));
+        flushStarted.await();
+        writeBehind.submit(write("b", "v1", "M2"));
+        // Buffer full and "a" v1 in flight: a direct write would commit first
+        writeBehind.submit(write("a", "v2", "M3"));
+        assertThat(profileBatches).isEmpty();
+
+        flushGate.countDown();
+        awaitFlushed();
+
+        assertThat(profileBatches.stream().flatMap(List::stream).filter(p -> p.puuid().equals("a")))
+                .extracting(SummonerProfile::summonerId).containsExactly("v1", "v2");
+    }
+
+    @Test
+    void failedFlushesBackOffBeforeRetrying() throws InterruptedException {
+        Duration interval = Duration.ofMillis(40);
+        writeBehind = start(10, 1, interval, Duration.ofSeconds(1));
+        failingSaves.set(2);
+
+        writeBehind.submit(write("a", "v1", "M1"));
+        awaitFlushed();
+
+        assertThat(attempts).hasSize(3);
+        assertThat(attempts.get(1) - attempts.get(0)).isGreaterThanOrEqualTo(interval.toNanos());
+        assertThat(attempts.get(2) - attempts.get(1)).isGreaterThanOrEqualTo(2 * interval.toNanos());
+        assertThat(profileBatches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(SummonerProfile::summonerId).containsExactly("v1"));
+    }
+
+    private ProfileWriteBehind start(int capacity, int batchSize, Duration flushInterval, Duration offerTimeout) {
+        ProfileWriteBehind buffer = new ProfileWriteBehind(profiles(), matches(), matchStore(),
+                new SimpleMeterRegistry(),
+                true, capacity, batchSize, flushInterval, offerTimeout, Duration.ofSeconds(5));
+        buffer.start();
+        return buffer;
+    }
+
+    private void awaitFlushed() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while ((matchBatches.isEmpty() || writeBehind.size() > 0) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Profile named after its puuid, summoner ID used as the version.
+     */
+    private static ProfileWrite write(String puuid, String version, String matchId) {
+        SummonerProfile profile = new SummonerProfile(puuid, puuid, version, "euw1", version, null, null,
+                ProfileMetrics.EMPTY, Instant.now());
+        MatchAnalysis match = new MatchAnalysis(matchId, puuid, Instant.parse("2026-01-01T00:00:00Z"), "Ahri",
+                true, 3, 2, 5, 180, 1800, 30, null);
+        List<MatchParticipant> participants = new ArrayList<>();
+        for (int p = 0; p < 10; p++) {
+            participants.add(new MatchParticipant(p == 0 ? puuid : "other" + p, "n" + p, "Ahri", 103, "MIDDLE",
+                    p < 5, 3, 2, 5, 180, 0, 30, 10_000, 100_000));
+        }
+        MatchDetails details = new MatchDetails(matchId, match.playedAt(), 1800, participants);
+        return new ProfileWrite(profile, List.of(match), List.of(details));
+    }
+
+    private MatchStoreRepository matchStore() {
+        return new MatchStoreRepository() {
+            @Override
+            public Map<String, MatchDetails> findAll(Collection<String> matchIds) {
+                return Map.of();
+            }
+
+            @Override
+            public int saveAll(Collection<MatchDetails> batch) {
+                storedBatches.add(List.copyOf(batch));
+                return 0;
+            }
+        };
+    }
+
+    private SummonerProfileRepository profiles() {
+        return new SummonerProfileRepository() {
+            @Override
+            public Optional<SummonerProfile> findByPuuid(String puuid) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<ProfileVersion> findVersion(String gameName, String tagLine, String region) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void save(SummonerProfile profile) {
+                saveAll(List.of(profile));
+            }
+
+            @Override
+            public void saveAll(Collection<SummonerProfile> batch) {
+                attempts.add(System.nanoTime());
+                flushStarted.countDown();
+                try {
+                    // Bounded: a write that should not get here fails the test instead of hanging it
+                    flushGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failingSaves.getAndDecrement() > 0) {
+                    throw new IllegalStateException("Database unavailable");
+                }
+                profileBatches.add(List.copyOf(batch));
+            }
+        };
+    }
+
+    private MatchAnalysisRepository matches() {
+        return new MatchAnalysisRepository() {
+            @Override
+            public int saveAll(Collection<MatchAnalysis> batch) {
+                matchBatches.add(List.copyOf(batch));
+                return batch.size();
+            }
+
+            @Override
+            public List<MatchSummary> findHistory(String puuid, MatchCursor after, int limit) {
+                return List.of();
+            }
+
+            @Override
+            public int countHistory(String puuid) {
+                return 0;
+            }
+
+            @Override
+            public int streamAll(String puuid, Consumer<MatchAnalysis> sink) {
+                return 0;
+            }
+        };
+    }
+}
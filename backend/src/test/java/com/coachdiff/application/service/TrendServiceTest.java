@@ -0,0 +1,91 @@
+package com.coachdiff.application.service;
+
+import com.coachdiff.domain.model.MatchAnalysis;
+import com.coachdiff.domain.model.MatchCursor;
+import com.coachdiff.domain.model.MatchSummary;
+import com.coachdiff.domain.port.out.MatchAnalysisRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TrendService}: catching up on games stored since
+ * the sums were cached, including games older than the cached newest one.
+ *
+ * <p>
+ * In-memory history: no Spring context, no database.
+ * </p>
+ */
+class TrendServiceTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final List<MatchSummary> stored = new ArrayList<>();
+    private final AtomicInteger fullReads = new AtomicInteger();
+
+    @Test
+    void appendsNewerGamesAndRebuildsForGamesStoredBelowTheTip() {
+        TrendService trends = new TrendService(repository(), 100, Duration.ofHours(6), 20);
+        trends.reset(true);
+        for (int hour = 0; hour < 10; hour += 2) {
+            stored.add(game(hour));
+        }
+        assertThat(trends.getTrends("p1", List.of(1), 1).games()).isEqualTo(5);
+
+        // Newer game: appended from the catch-up page
+        stored.add(game(20));
+        trends.profileChanged("p1");
+        assertThat(trends.getTrends("p1", List.of(1), 1).games()).isEqualTo(6);
+        assertThat(fullReads.get()).isEqualTo(1);
+
+        // Older than the cached newest game (e.g., shared from a teammate's refresh)
+        stored.add(game(3));
+        trends.profileChanged("p1");
+        assertThat(trends.getTrends("p1", List.of(1), 1).games()).isEqualTo(7);
+        assertThat(fullReads.get()).isEqualTo(2);
+    }
+
+    private MatchAnalysisRepository repository() {
+        return new MatchAnalysisRepository() {
+            @Override
+            public int saveAll(Collection<MatchAnalysis> matches) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<MatchSummary> findHistory(String puuid, MatchCursor after, int limit) {
+                if (limit > 20) {
+                    fullReads.incrementAndGet();
+                }
+                return stored.stream()
+                        .sorted(Comparator.comparing(MatchSummary::playedAt).reversed())
+                        .limit(limit)
+                        .toList();
+            }
+
+            @Override
+            public int countHistory(String puuid) {
+                return stored.size();
+            }
+
+            @Override
+            public int streamAll(String puuid, Consumer<MatchAnalysis> sink) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static MatchSummary game(int hour) {
+        return new MatchSummary("EUW1_" + hour, START.plus(Duration.ofHours(hour)), "Ahri", true,
+                3, 2, 5, 180, 1800, 30);
+    }
+}
@@ -0,0 +1,81 @@
+package com.coachdiff.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link BenchmarkTable}: lookup and fallback rules.
+ *
+ * <p>
+ * Pure domain logic: no Spring context, no containers.
+ * </p>
+ */
+class BenchmarkTableTest {
+
+    private static final int THRESH = 412;
+    private static final int LUX = 99;
+
+    /**
+     * Every level has its own KDA and gold diff, so a value tells which level answered.
+     */
+    private static RankBenchmark row(Tier tier, Role role, int championId, int players, double vision,
+                                     double kda, Double goldDiff) {
+        return new RankBenchmark(tier, role, championId, players, 6.0, kda, vision, 55.0, 5.0, goldDiff);
+    }
+
+    private final BenchmarkTable table = BenchmarkTable.build(List.of(
+            row(Tier.GOLD, null, 0, 10_000, 1.0, 2.0, 100.0),
+            row(Tier.GOLD, Role.SUPPORT, 0, 500, 2.0, 2.2, 150.0),
+            row(Tier.GOLD, Role.SUPPORT, THRESH, 40, 2.5, 2.5, null),
+            row(Tier.GOLD, Role.SUPPORT, LUX, 5, 9.9, 9.9, 999.0),
+            row(Tier.GOLD, Role.TOP, 0, 10, 0.7, 0.7, 700.0),
+            row(Tier.GOLD, Role.JUNGLE, 0, 500, 1.5, 3.0, null),
+            row(Tier.SILVER, null, 0, 10_000, 1.0, 1.8, null),
+            row(Tier.SILVER, Role.JUNGLE, 0, 500, 1.2, 2.1, null)
+    ), 50, 30);
+
+    @Test
+    void usesChampionKeyWhenSampleIsLargeEnough() {
+        assertThat(table.median(Tier.GOLD, Role.SUPPORT, THRESH, BenchmarkMetric.VISION_PER_MIN)).isEqualTo(2.5);
+        assertThat(table.level(Tier.GOLD, Role.SUPPORT, THRESH)).isEqualTo(BenchmarkTable.Level.CHAMPION);
+    }
+
+    @Test
+    void fallsBackToRoleWhenChampionSampleIsThin() {
+        assertThat(table.median(Tier.GOLD, Role.SUPPORT, LUX, BenchmarkMetric.VISION_PER_MIN)).isEqualTo(2.0);
+        assertThat(table.level(Tier.GOLD, Role.SUPPORT, LUX)).isEqualTo(BenchmarkTable.Level.ROLE);
+    }
+
+    @Test
+    void fallsBackToTierWhenRoleSampleIsThin() {
+        assertThat(table.median(Tier.GOLD, Role.TOP, THRESH, BenchmarkMetric.VISION_PER_MIN)).isEqualTo(1.0);
+        assertThat(table.level(Tier.GOLD, Role.TOP, 0)).isEqualTo(BenchmarkTable.Level.TIER);
+    }
+
+    @Test
+    void fallsBackPerMetricWhenValueIsMissing() {
+        // Champion row has no gold diff: the role answers that metric, the champion the others
+        assertThat(table.level(Tier.GOLD, Role.SUPPORT, THRESH)).isEqualTo(BenchmarkTable.Level.CHAMPION);
+        assertThat(table.median(Tier.GOLD, Role.SUPPORT, THRESH, BenchmarkMetric.KDA)).isEqualTo(2.5);
+        assertThat(table.median(Tier.GOLD, Role.SUPPORT, THRESH, BenchmarkMetric.GOLD_DIFF_AT_15)).isEqualTo(150.0);
+
+        // Role row without gold diff: the tier answers it
+        assertThat(table.median(Tier.GOLD, Role.JUNGLE, 0, BenchmarkMetric.KDA)).isEqualTo(3.0);
+        assertThat(table.median(Tier.GOLD, Role.JUNGLE, 0, BenchmarkMetric.GOLD_DIFF_AT_15)).isEqualTo(100.0);
+
+        // Neither the role nor the tier has a gold diff: NaN all the way down
+        assertThat(table.level(Tier.SILVER, Role.JUNGLE, 0)).isEqualTo(BenchmarkTable.Level.ROLE);
+        assertThat(table.median(Tier.SILVER, Role.JUNGLE, 0, BenchmarkMetric.KDA)).isEqualTo(2.1);
+        assertThat(table.median(Tier.SILVER, Role.JUNGLE, 0, BenchmarkMetric.GOLD_DIFF_AT_15)).isNaN();
+    }
+
+    @Test
+    void unknownTierAndChampionAreSafe() {
+        assertThat(table.median(Tier.IRON, Role.MID, 12345, BenchmarkMetric.KDA)).isNaN();
+        assertThat(table.level(Tier.IRON, Role.MID, 0)).isEqualTo(BenchmarkTable.Level.NONE);
+        assertThat(table.championCount()).isEqualTo(2);
+    }
+}
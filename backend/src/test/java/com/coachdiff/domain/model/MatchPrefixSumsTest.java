@@ -0,0 +1,87 @@
+package com.coachdiff.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link MatchPrefixSums}: rolling averages against the
+ * profile formulas, incremental appends and the capacity bound.
+ *
+ * <p>
+ * Pure Java: no Spring context, no containers.
+ * </p>
+ */
+class MatchPrefixSumsTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void lastTwentyGameAverageIsTheProfileMetric() {
+        List<MatchSummary> games = games(0, 57);
+
+        TrendSeries series = MatchPrefixSums.of(games, PlayerTrends.HISTORY).series(ProfileMetrics.WINDOW_SIZE, 5);
+
+        List<MatchAnalysis> analyses = games.stream().map(MatchPrefixSumsTest::analysis).toList();
+        ProfileMetrics profile = ProfileMetrics.of(analyses);
+        TrendSeries.Point last = series.points().getLast();
+        assertThat(series.points()).hasSize(5);
+        assertThat(last.matchId()).isEqualTo("M56");
+        assertThat(last.csPerMin()).isEqualTo(profile.csPerMin());
+        assertThat(last.kda()).isEqualTo(profile.kda());
+        assertThat(last.visionPerMin()).isEqualTo(profile.visionPerMin());
+
+        // One game earlier: the window slid back by one
+        ProfileMetrics previous = ProfileMetrics.of(analyses.subList(0, 56));
+        assertThat(series.points().get(3).csPerMin()).isEqualTo(previous.csPerMin());
+    }
+
+    @Test
+    void appendingNewGamesEqualsRebuildingWithinTheCapacity() {
+        MatchPrefixSums built = MatchPrefixSums.of(games(0, 30), 40);
+
+        MatchPrefixSums appended = built.append(games(30, 25));
+        MatchPrefixSums rebuilt = MatchPrefixSums.of(games(15, 40), 40);
+
+        assertThat(appended.size()).isEqualTo(40);
+        assertThat(appended.tip()).isEqualTo(rebuilt.tip());
+        assertThat(appended.series(10, 40)).isEqualTo(rebuilt.series(10, 40));
+        assertThat(appended.series(50, 10).points()).isEmpty();
+    }
+
+    @Test
+    void rejectsGamesThatAreNotNewer() {
+        MatchPrefixSums sums = MatchPrefixSums.of(games(0, 5), 10);
+
+        assertThat(sums.isNewer(game(4))).isFalse();
+        assertThat(sums.isNewer(game(5))).isTrue();
+        assertThatThrownBy(() -> sums.append(games(3, 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Games {@code from} to {@code from + count - 1}, oldest first, with varied values.
+     */
+    private static List<MatchSummary> games(int from, int count) {
+        List<MatchSummary> games = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            games.add(game(i));
+        }
+        return games;
+    }
+
+    private static MatchSummary game(int i) {
+        return new MatchSummary("M" + i, START.plusSeconds(3600L * i), "Ahri", i % 3 != 0,
+                i % 11, i % 7, (i * 5) % 13, 120 + (i * 37) % 140, 1300 + (i * 53) % 900, 10 + (i * 17) % 50);
+    }
+
+    private static MatchAnalysis analysis(MatchSummary m) {
+        return new MatchAnalysis(m.matchId(), "p", m.playedAt(), m.championName(), m.win(), m.kills(),
+                m.deaths(), m.assists(), m.cs(), m.gameDurationSeconds(), m.visionScore(), null);
+    }
+}
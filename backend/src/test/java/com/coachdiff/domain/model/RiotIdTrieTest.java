@@ -0,0 +1,71 @@
+package com.coachdiff.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RiotIdTrie}: prefix lookups, renames, removals
+ * and the capacity bound.
+ *
+ * <p>
+ * Pure Java: no Spring context, no containers.
+ * </p>
+ */
+class RiotIdTrieTest {
+
+    @Test
+    void findsPlayersByCaseInsensitivePrefixInKeyOrder() {
+        RiotIdTrie trie = new RiotIdTrie(10);
+        trie.add(player("p1", "Faker", "KR1"));
+        trie.add(player("p2", "FakeGuy", "EUW"));
+        trie.add(player("p3", "Fantasy", "NA1"));
+        trie.add(player("p4", "Fake", "EUW"));
+
+        assertThat(ids(trie.startingWith(KnownRiotId.searchKey(" FAK "), 10))).containsExactly("p4", "p2", "p1");
+        assertThat(ids(trie.startingWith("fa", 2))).containsExactly("p4", "p2");
+        assertThat(ids(trie.startingWith("fakeguy#euw", 10))).containsExactly("p2");
+        assertThat(trie.startingWith("fakeguy#euw1", 10)).isEmpty();
+        assertThat(trie.startingWith("x", 10)).isEmpty();
+    }
+
+    @Test
+    void renamesAndRemovalsKeepTheOtherKeysReachable() {
+        RiotIdTrie trie = new RiotIdTrie(10);
+        trie.add(player("p1", "Faker", "KR1"));
+        trie.add(player("p2", "FakeGuy", "EUW"));
+        trie.add(player("p3", "Fake", "EUW"));
+
+        trie.add(player("p2", "Zeus", "KR1"));
+        assertThat(ids(trie.startingWith("fake", 10))).containsExactly("p3", "p1");
+        assertThat(ids(trie.startingWith("z", 10))).containsExactly("p2");
+
+        assertThat(trie.remove("p3")).isTrue();
+        assertThat(trie.remove("p3")).isFalse();
+        assertThat(ids(trie.startingWith("fa", 10))).containsExactly("p1");
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    void dropsTheLeastRecentlyAddedPlayerBeyondCapacity() {
+        RiotIdTrie trie = new RiotIdTrie(2);
+        trie.add(player("p1", "Alpha", "EUW"));
+        trie.add(player("p2", "Bravo", "EUW"));
+        trie.add(player("p1", "Alpha", "EUW"));
+        trie.add(player("p3", "Charlie", "EUW"));
+
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.startingWith("b", 10)).isEmpty();
+        assertThat(ids(trie.startingWith("", 10))).containsExactly("p1", "p3");
+    }
+
+    private static KnownRiotId player(String puuid, String gameName, String tagLine) {
+        return new KnownRiotId(puuid, new RiotId(gameName, tagLine, "euw1"));
+    }
+
+    private static List<String> ids(List<KnownRiotId> players) {
+        return players.stream().map(KnownRiotId::puuid).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.coachdiff.domain.service;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.BenchmarkTable;
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.ProfileMetricColumns;
+import com.coachdiff.domain.model.RankBenchmark;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Tier;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link BulkRankComparator}: gap formulas, chunking, changed-only output.
+ *
+ * <p>
+ * Pure domain logic: no Spring context, no containers.
+ * </p>
+ */
+class BulkRankComparatorTest {
+
+    private static final int METRICS = BenchmarkMetric.values().length;
+
+    private final BenchmarkTable table = BenchmarkTable.build(List.of(
+            // Tier level: cs 6, kda 2.5, vision 1, kp 50, deaths 5, gold 0
+            new RankBenchmark(Tier.GOLD, null, 0, 10_000, 6.0, 2.5, 1.0, 50.0, 5.0, 0.0),
+            new RankBenchmark(Tier.PLATINUM, null, 0, 10_000, 7.5, 3.0, 1.2, 55.0, 4.0, 200.0)
+    ), 50, 30);
+
+    private final BulkRankComparator comparator = new BulkRankComparator(ForkJoinPool.commonPool());
+
+    @Test
+    void computesGapsAgainstCurrentAndNextTier() {
+        ProfileMetricColumns columns = ProfileMetricColumns.builder()
+                .add("p1", Tier.GOLD, Role.MID, new float[]{7.5f, 2.5f, 0.5f, Float.NaN, 4f, 300f}, null)
+                .build();
+
+        ProfileGaps gaps = comparator.compare(columns, table).changed().getFirst();
+        float[] g = gaps.gaps();
+
+        assertThat(g[BenchmarkMetric.CS_PER_MIN.ordinal()]).isCloseTo(0.25f, within(1e-6f));
+        assertThat(g[BenchmarkMetric.KDA.ordinal()]).isZero();
+        assertThat(g[BenchmarkMetric.VISION_PER_MIN.ordinal()]).isCloseTo(-0.5f, within(1e-6f));
+        assertThat(g[BenchmarkMetric.KILL_PARTICIPATION.ordinal()]).isNaN();
+        // Fewer deaths than the median is better: positive
+        assertThat(g[BenchmarkMetric.DEATHS.ordinal()]).isCloseTo(0.2f, within(1e-6f));
+        assertThat(g[BenchmarkMetric.GOLD_DIFF_AT_15.ordinal()]).isCloseTo(0.3f, within(1e-6f));
+        // vs Platinum
+        assertThat(g[METRICS + BenchmarkMetric.CS_PER_MIN.ordinal()]).isZero();
+        assertThat(g[METRICS + BenchmarkMetric.DEATHS.ordinal()]).isZero();
+        assertThat(g[METRICS + BenchmarkMetric.GOLD_DIFF_AT_15.ordinal()]).isCloseTo(0.1f, within(1e-6f));
+    }
+
+    @Test
+    void returnsOnlyProfilesWhoseHashChanged() {
+        ProfileMetricColumns.Builder first = ProfileMetricColumns.builder();
+        int n = 3 * BulkRankComparator.CHUNK_ROWS + 17;
+        for (int i = 0; i < n; i++) {
+            first.add("p" + i, Tier.GOLD, i % 2 == 0 ? null : Role.TOP,
+                    new float[]{5f + i % 10 * 0.1f, 2f, 1f, 50f, 5f, 0f}, null);
+        }
+        List<ProfileGaps> computed = comparator.compare(first.build(), table).changed();
+        assertThat(computed).hasSize(n);
+
+        // Same metrics, previous hashes known, except for one row
+        ProfileMetricColumns.Builder second = ProfileMetricColumns.builder();
+        for (int i = 0; i < n; i++) {
+            String previous = i == 42 ? "stale" : computed.get(i).profileHash();
+            second.add("p" + i, Tier.GOLD, i % 2 == 0 ? null : Role.TOP,
+                    new float[]{5f + i % 10 * 0.1f, 2f, 1f, 50f, 5f, 0f}, previous);
+        }
+        BulkRankComparator.Result result = comparator.compare(second.build(), table);
+
+        assertThat(result.profiles()).isEqualTo(n);
+        assertThat(result.changed()).extracting(ProfileGaps::puuid).containsExactly("p42");
+    }
+}
@@ -0,0 +1,86 @@
+package com.coachdiff.domain.service;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.BenchmarkTable;
+import com.coachdiff.domain.model.MatchDetails;
+import com.coachdiff.domain.model.MatchParticipant;
+import com.coachdiff.domain.model.MatchSamplingPolicy;
+import com.coachdiff.domain.model.RankBenchmark;
+import com.coachdiff.domain.model.Tier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link GapConvergence}: gap estimates and the stopping rule.
+ *
+ * <p>
+ * Pure domain logic: no Spring context, no containers.
+ * </p>
+ */
+class GapConvergenceTest {
+
+    private final BenchmarkTable table = BenchmarkTable.build(List.of(
+            // cs 6, kda 2.5, vision 1, kp 50, deaths 5
+            new RankBenchmark(Tier.GOLD, null, 0, 10_000, 6.0, 2.5, 1.0, 50.0, 5.0, null)
+    ), 50, 30);
+
+    private final MatchSamplingPolicy policy = new MatchSamplingPolicy(8, 20, 4, 3, 0.15);
+
+    private final GapConvergence convergence = new GapConvergence();
+
+    @Test
+    void consistentPlayerIsSettledAfterTheFirstWave() {
+        // 30-minute games: 150 CS = 5/min, every game the same
+        List<MatchDetails> matches = IntStream.range(0, 8).mapToObj(i -> match(i, 150, 2)).toList();
+
+        List<GapConvergence.GapEstimate> gaps = convergence.estimate(matches, "p1", Tier.GOLD, null, table);
+
+        assertThat(gaps.getFirst().metric()).isEqualTo(BenchmarkMetric.CS_PER_MIN);
+        assertThat(gaps.getFirst().gap()).isCloseTo(-1.0 / 6, within(1e-6));
+        assertThat(gaps.getFirst().halfWidth()).isZero();
+        assertThat(gaps).extracting(GapConvergence.GapEstimate::metric)
+                .doesNotContain(BenchmarkMetric.GOLD_DIFF_AT_15);
+        assertThat(convergence.settled(gaps, policy)).isTrue();
+    }
+
+    @Test
+    void noisyGapNearTheThresholdNeedsMoreMatches() {
+        // Deaths alternate 0 and 10: mean on the median, wide interval
+        List<MatchDetails> matches = new ArrayList<>();
+        IntStream.range(0, 8).forEach(i -> matches.add(match(i, 180, i % 2 == 0 ? 0 : 10)));
+
+        List<GapConvergence.GapEstimate> gaps = convergence.estimate(matches, "p1", Tier.GOLD, null, table);
+
+        GapConvergence.GapEstimate deaths = gaps.stream()
+                .filter(g -> g.metric() == BenchmarkMetric.DEATHS).findFirst().orElseThrow();
+        assertThat(deaths.gap()).isCloseTo(0, within(1e-9));
+        assertThat(deaths.settled(policy.tolerance())).isFalse();
+        assertThat(convergence.settled(gaps, policy)).isFalse();
+    }
+
+    private static MatchDetails match(int i, int cs, int deaths) {
+        List<MatchParticipant> participants = new ArrayList<>();
+        participants.add(participant("p1", true, 3, deaths, 5, cs));
+        for (int p = 0; p < 4; p++) {
+            participants.add(participant("ally" + p, true, 2, 3, 2, 150));
+        }
+        for (int p = 0; p < 5; p++) {
+            participants.add(participant("enemy" + p, false, 2, 3, 2, 150));
+        }
+        return new MatchDetails("EUW1_" + i, Instant.parse("2026-01-01T00:00:00Z").plusSeconds(3600L * i),
+                1800, participants);
+    }
+
+    private static MatchParticipant participant(String puuid, boolean win, int kills, int deaths, int assists,
+                                                int cs) {
+        return new MatchParticipant(puuid, puuid, "Ahri", 103, "MIDDLE", win, kills, deaths, assists,
+                cs, 0, 30, 10_000, 100_000);
+    }
+}
@@ -0,0 +1,83 @@
+package com.coachdiff.domain.service;
+
+import com.coachdiff.domain.model.BenchmarkMetric;
+import com.coachdiff.domain.model.ProfileGaps;
+import com.coachdiff.domain.model.Role;
+import com.coachdiff.domain.model.Suggestion;
+import com.coachdiff.domain.model.Tier;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link SuggestionTemplateMatcher}: weakness ordering, role
+ * templates, confidence.
+ *
+ * <p>
+ * Pure domain logic: no Spring context, no containers.
+ * </p>
+ */
+class SuggestionTemplateMatcherTest {
+
+    private static final int METRICS = BenchmarkMetric.values().length;
+
+    private final SuggestionTemplateMatcher matcher = new SuggestionTemplateMatcher();
+
+    @Test
+    void clearWeaknessesAreAnsweredWithConfidence() {
+        float[] gaps = gaps(0.1f, 0.1f);
+        gaps[BenchmarkMetric.VISION_PER_MIN.ordinal()] = -0.4f;
+        gaps[BenchmarkMetric.DEATHS.ordinal()] = -0.1f;
+
+        SuggestionTemplateMatcher.Match match = matcher.match(profile(gaps), Role.SUPPORT);
+
+        assertThat(match.suggestions()).extracting(Suggestion::title)
+                .containsExactly("Own the vision game", "Die less");
+        assertThat(match.suggestions().getFirst().reason())
+                .isEqualTo("Your vision score per minute is 40% below the Gold median for supports");
+        assertThat(match.confidence()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    void smallOrMissingGapsLowerTheConfidence() {
+        float[] gaps = gaps(Float.NaN, 0.1f);
+        gaps[BenchmarkMetric.CS_PER_MIN.ordinal()] = -0.1f;
+        gaps[BenchmarkMetric.KDA.ordinal()] = 0.02f;
+        gaps[BenchmarkMetric.DEATHS.ordinal()] = 0f;
+
+        SuggestionTemplateMatcher.Match match = matcher.match(profile(gaps), Role.MID);
+
+        assertThat(match.suggestions()).extracting(Suggestion::title).containsExactly("Improve CS/min");
+        // Half the worst gap needed, half the metrics known
+        assertThat(match.confidence()).isCloseTo(0.5 * 3 / METRICS, within(1e-6));
+    }
+
+    @Test
+    void fallsBackToTheTierAboveThenToNothing() {
+        float[] gaps = gaps(0.1f, 0.1f);
+        gaps[METRICS + BenchmarkMetric.GOLD_DIFF_AT_15.ordinal()] = -0.3f;
+
+        SuggestionTemplateMatcher.Match above = matcher.match(profile(gaps), null);
+        SuggestionTemplateMatcher.Match none = matcher.match(profile(gaps(0.1f, 0.1f)), null);
+
+        assertThat(above.suggestions().getFirst().reason())
+                .isEqualTo("Your gold difference at 15 minutes is 300 gold below the Platinum median");
+        assertThat(above.confidence()).isCloseTo(SuggestionTemplateMatcher.ABOVE_TIER_FACTOR, within(1e-9));
+        assertThat(none.suggestions()).isEmpty();
+        assertThat(none.confidence()).isZero();
+    }
+
+    private static float[] gaps(float current, float above) {
+        float[] gaps = new float[2 * METRICS];
+        Arrays.fill(gaps, 0, METRICS, current);
+        Arrays.fill(gaps, METRICS, 2 * METRICS, above);
+        return gaps;
+    }
+
+    private static ProfileGaps profile(float[] gaps) {
+        return new ProfileGaps("p1", Tier.GOLD, gaps, "hash");
+    }
+}
@@ -0,0 +1,215 @@
+package com.coachdiff.infrastructure.adapter.in.queue;
+
+import com.coachdiff.domain.model.IngestionJob;
+import com.coachdiff.domain.port.in.ProcessIngestionJobPort;
+import com.coachdiff.infrastructure.adapter.out.queue.RedisStreamIngestionQueue;
+import com.coachdiff.infrastructure.config.IngestionProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link IngestionStreamWorker} against a real Redis (Testcontainers).
+ *
+ * <p>
+ * Several workers in one JVM stand in for several nodes: each gets its own
+ * consumer name in the shared group. Skipped without Docker.
+ * </p>
+ */
+class IngestionStreamWorkerTest {
+
+    private static GenericContainer<?> container;
+    private static LettuceConnectionFactory factory;
+    private static StringRedisTemplate redis;
+
+    private final List<IngestionStreamWorker> workers = new ArrayList<>();
+    private IngestionProperties properties;
+
+    @BeforeAll
+    static void startRedis() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+        container = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        container.start();
+        factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(container.getHost(), container.getMappedPort(6379)));
+        factory.afterPropertiesSet();
+        factory.start();
+        redis = new StringRedisTemplate(factory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (factory != null) {
+            factory.destroy();
+        }
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @AfterEach
+    void stopWorkers() {
+        workers.forEach(IngestionStreamWorker::stop);
+        redis.delete(Set.of(properties.getStream(), properties.getDeadLetterStream()));
+    }
+
+    @Test
+    void nodesShareJobsAndRunEachOnce() throws Exception {
+        properties = properties();
+        Map<String, String> ranBy = new ConcurrentHashMap<>();
+        AtomicInteger runs = new AtomicInteger();
+        for (String node : List.of("node-a", "node-b", "node-c")) {
+            start(node, job -> {
+                runs.incrementAndGet();
+                ranBy.put(job.key(), node);
+                sleep(5);
+            });
+        }
+
+        new RedisStreamIngestionQueue(redis, properties).enqueueAll(IntStream.range(0, 300)
+                .mapToObj(i -> IngestionJob.matchFetch("EUW1_" + i, "euw1"))
+                .toList());
+
+        await(() -> ranBy.size() == 300);
+        assertThat(runs.get()).isEqualTo(300);
+        assertThat(Set.copyOf(ranBy.values())).hasSize(3);
+        await(() -> pendingCount() == 0);
+    }
+
+    @Test
+    void retriesFailedJobsThenDeadLettersThem() throws Exception {
+        properties = properties();
+        AtomicInteger flakyRuns = new AtomicInteger();
+        AtomicInteger brokenRuns = new AtomicInteger();
+        start("node-a", job -> {
+            if (job.key().equals("flaky") && flakyRuns.incrementAndGet() < 3) {
+                throw new IllegalStateException("Riot 503");
+            }
+            if (job.key().equals("broken")) {
+                brokenRuns.incrementAndGet();
+                throw new IllegalStateException("Always fails");
+            }
+        });
+
+        RedisStreamIngestionQueue queue = new RedisStreamIngestionQueue(redis, properties);
+        queue.enqueue(IngestionJob.matchFetch("flaky", "euw1"));
+        queue.enqueue(IngestionJob.matchFetch("broken", "euw1"));
+
+        await(() -> redis.opsForStream().size(properties.getDeadLetterStream()) == 1);
+        assertThat(flakyRuns.get()).isEqualTo(3);
+        assertThat(brokenRuns.get()).isEqualTo(properties.getMaxDeliveries());
+        assertThat(redis.opsForStream().range(properties.getDeadLetterStream(),
+                Range.unbounded()).getFirst().getValue())
+                .containsEntry("key", "broken");
+        await(() -> pendingCount() == 0);
+    }
+
+    @Test
+    void followUpRunsOnceAfterAllItsJobs() throws Exception {
+        properties = properties();
+        properties.setBatchSize(32);
+        List<String> order = new CopyOnWriteArrayList<>();
+        RedisStreamIngestionQueue queue = new RedisStreamIngestionQueue(redis, properties);
+        start("node-a", job -> {
+            if (job.key().equals("broken")) {
+                throw new IllegalStateException("Always fails");
+            }
+            sleep(20);
+            order.add(job.key());
+            queue.complete(job);
+        });
+
+        queue.enqueueThen(IntStream.range(0, 8).mapToObj(i -> IngestionJob.matchFetch("EUW1_" + i, "euw1"))
+                .toList(), IngestionJob.profileRefresh("puuid-1", "euw1").defer());
+        // Released by dead-lettering, the failing job does not hold it back forever
+        queue.enqueueThen(List.of(IngestionJob.matchFetch("broken", "euw1")),
+                IngestionJob.profileRefresh("puuid-2", "euw1").defer());
+
+        await(() -> order.contains("puuid-1") && order.contains("puuid-2"));
+        assertThat(order.indexOf("puuid-1")).isEqualTo(8);
+        assertThat(order).containsOnlyOnce("puuid-1", "puuid-2");
+        assertThat(redis.keys("{" + properties.getStream() + "}:barrier:*")).isEmpty();
+    }
+
+    @Test
+    void reclaimsJobsOfACrashedNode() throws Exception {
+        properties = properties();
+        RedisStreamIngestionQueue queue = new RedisStreamIngestionQueue(redis, properties);
+        redis.opsForStream().createGroup(properties.getStream(), properties.getGroup());
+        queue.enqueue(IngestionJob.profileRefresh("puuid-1", "euw1"));
+
+        // "Crashed" node: reads the job, never acknowledges it
+        redis.opsForStream().read(
+                Consumer.from(properties.getGroup(), "crashed"),
+                IngestionStreamWorker.offsets(properties.getStream(), ReadOffset.lastConsumed()));
+
+        Set<String> ran = ConcurrentHashMap.newKeySet();
+        start("node-b", job -> ran.add(job.key()));
+
+        await(() -> ran.contains("puuid-1"));
+        await(() -> pendingCount() == 0);
+    }
+
+    private IngestionProperties properties() {
+        IngestionProperties p = new IngestionProperties();
+        p.setStream("test:ingest:" + System.nanoTime());
+        p.setDeadLetterStream(p.getStream() + ":dead");
+        p.setPollTimeout(Duration.ofMillis(100));
+        p.setClaimIdle(Duration.ofMillis(200));
+        p.setClaimInterval(Duration.ofMillis(100));
+        p.setMaxDeliveries(4);
+        return p;
+    }
+
+    private void start(String node, ProcessIngestionJobPort process) {
+        IngestionStreamWorker worker = new IngestionStreamWorker(redis, process,
+                new RedisStreamIngestionQueue(redis, properties), properties, node);
+        worker.start();
+        workers.add(worker);
+    }
+
+    private long pendingCount() {
+        return redis.opsForStream().pending(properties.getStream(), properties.getGroup()).getTotalPendingMessages();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
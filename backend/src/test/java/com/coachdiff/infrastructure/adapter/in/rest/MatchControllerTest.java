@@ -0,0 +1,28 @@
+package com.coachdiff.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MatchController#acceptsGzip}: whole tokens and
+ * q-values, not a substring match.
+ */
+class MatchControllerTest {
+
+    @Test
+    void gzipsOnlyWhenAcceptedWithNonZeroQuality() {
+        assertThat(MatchController.acceptsGzip("gzip")).isTrue();
+        assertThat(MatchController.acceptsGzip("deflate, GZIP")).isTrue();
+        assertThat(MatchController.acceptsGzip("br;q=1, gzip ; q=0.5")).isTrue();
+        assertThat(MatchController.acceptsGzip("*")).isTrue();
+
+        assertThat(MatchController.acceptsGzip(null)).isFalse();
+        assertThat(MatchController.acceptsGzip("identity")).isFalse();
+        assertThat(MatchController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(MatchController.acceptsGzip("gzip;q=0.000, *")).isFalse();
+        assertThat(MatchController.acceptsGzip("*;q=0")).isFalse();
+        assertThat(MatchController.acceptsGzip("x-gzip")).isFalse();
+        assertThat(MatchController.acceptsGzip("gzip;q=high")).isFalse();
+    }
+}
@@ -0,0 +1,176 @@
+package com.coachdiff.infrastructure.adapter.in.rest.cbor;
+
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.RankInfo;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.MatchHistoryResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.ProfileResponse;
+import com.coachdiff.infrastructure.adapter.in.rest.dto.SuggestionsResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CBOR writers vs Jackson JSON: same content, smaller payloads, and
+ * serialization time.
+ *
+ * <p>
+ * Content and size are asserted. The timings depend on the machine: they
+ * are logged, not asserted, by a {@code benchmark}-tagged test that only
+ * runs with {@code mvn -Pbenchmark test -Dtest=ResponseCborWritersTest}.
+ * </p>
+ */
+class ResponseCborWritersTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCborWritersTest.class);
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final JsonMapper json = JsonMapper.builder().build();
+    private final ObjectMapper cborReader = CBORMapper.builder().build();
+    private final CborResponseConverter converter = new CborResponseConverter();
+    // What Spring uses for JSON: both formats measured through their HTTP converter
+    private final JacksonJsonHttpMessageConverter jsonConverter = new JacksonJsonHttpMessageConverter(json);
+
+    private final ProfileResponse profile = new ProfileResponse(
+            "Faker#KR1", "kr",
+            new RankInfo("CHALLENGER", "I", 1432, 312, 201),
+            "MID",
+            new ProfileMetrics(20, 13, 9.5, 4.25, 1.1, 62.5, 2.4, null),
+            Instant.parse("2026-10-18T12:34:56.789Z"));
+
+    private final SuggestionsResponse suggestions = new SuggestionsResponse(List.of(
+            new SuggestionsResponse.Item(1, "Farm more between fights",
+                    "Your CS/min is 5.8, the Gold median is 6.4",
+                    "Keep a wave pushed before joining a fight"),
+            new SuggestionsResponse.Item(2, "Ward before objectives",
+                    "Your vision score per minute is below the Gold median",
+                    "Place a control ward 60 seconds before dragon"),
+            new SuggestionsResponse.Item(3, "Die less in the mid game",
+                    "You average 6.1 deaths, the Gold median is 5.0",
+                    "Check the minimap before crossing the river")),
+            Instant.parse("2026-10-18T12:00:00Z"));
+
+    // The bulky one: a full page of GET /api/matches
+    private final MatchHistoryResponse matchHistory = new MatchHistoryResponse(
+            IntStream.range(0, 20)
+                    .mapToObj(i -> new MatchHistoryResponse.Item("EUW1_70" + (12_345_678 - i),
+                            Instant.parse("2026-10-18T12:00:00Z").minusSeconds(3_600L * i),
+                            i % 3 == 0 ? "Ahri" : "Syndra", i % 2 == 0,
+                            i % 11, i % 7, i % 13, 150 + i * 7, 1_500 + i * 31, 10 + i))
+                    .toList(),
+            "MjAyNi0xMC0xN1QxNzowMDowMFp8RVVXMV83MDEyMzQ1NTk");
+
+    @Test
+    void profileDecodesToTheSameContentAsJson() throws Exception {
+        JsonNode fromJson = json.readTree(json.writeValueAsBytes(profile));
+        JsonNode fromCbor = cborReader.readTree(cbor(profile));
+
+        assertThat(fromCbor.get("riotId")).isEqualTo(fromJson.get("riotId"));
+        assertThat(fromCbor.get("rank")).isEqualTo(fromJson.get("rank"));
+        assertThat(fromCbor.get("metrics").get("kda").asDouble())
+                .isEqualTo(fromJson.get("metrics").get("kda").asDouble());
+        assertThat(fromCbor.get("metrics").get("goldDiffAt15").isNull()).isTrue();
+        // Tag 1: epoch seconds with milliseconds
+        assertThat(fromCbor.get("updatedAt").asDouble())
+                .isEqualTo(profile.updatedAt().toEpochMilli() / 1000.0);
+    }
+
+    @Test
+    void suggestionsDecodeToTheSameContentAsJson() throws Exception {
+        JsonNode fromJson = json.readTree(json.writeValueAsBytes(suggestions));
+        JsonNode fromCbor = cborReader.readTree(cbor(suggestions));
+
+        assertThat(fromCbor.get("suggestions")).isEqualTo(fromJson.get("suggestions"));
+    }
+
+    @Test
+    void matchHistoryDecodesToTheSameContentAsJson() throws Exception {
+        JsonNode fromJson = json.readTree(json.writeValueAsBytes(matchHistory));
+        JsonNode fromCbor = cborReader.readTree(cbor(matchHistory));
+
+        assertThat(fromCbor.get("nextCursor")).isEqualTo(fromJson.get("nextCursor"));
+        assertThat(fromCbor.get("matches").size()).isEqualTo(fromJson.get("matches").size());
+        for (int i = 0; i < matchHistory.matches().size(); i++) {
+            JsonNode cborMatch = fromCbor.get("matches").get(i);
+            JsonNode jsonMatch = fromJson.get("matches").get(i);
+            for (String field : List.of("matchId", "championName", "win", "kills", "deaths", "assists", "cs",
+                    "gameDurationSeconds", "visionScore")) {
+                assertThat(cborMatch.get(field)).as(field).isEqualTo(jsonMatch.get(field));
+            }
+            assertThat(cborMatch.get("playedAt").asDouble())
+                    .isEqualTo(matchHistory.matches().get(i).playedAt().toEpochMilli() / 1000.0);
+        }
+    }
+
+    @Test
+    void cborIsSmallerThanJson() throws Exception {
+        for (Object response : List.of(profile, suggestions, matchHistory)) {
+            assertThat(cbor(response).length)
+                    .as(response.getClass().getSimpleName())
+                    .isLessThan(json(response).length);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void reportsWriteTimeAgainstJson() throws Exception {
+        for (Object response : List.of(profile, suggestions, matchHistory)) {
+            int jsonSize = json(response).length;
+            int cborSize = cbor(response).length;
+
+            double jsonNanos = nanosPerOp(() -> json(response));
+            double cborNanos = nanosPerOp(() -> cbor(response));
+
+            log.info(String.format("%-20s JSON %5d B %8.0f ns/op | CBOR %5d B %8.0f ns/op (%.0f%% size, %.0f%% time)",
+                    response.getClass().getSimpleName(), jsonSize, jsonNanos, cborSize, cborNanos,
+                    cborSize * 100.0 / jsonSize, cborNanos * 100.0 / jsonNanos));
+        }
+    }
+
+    private byte[] cbor(Object value) throws Exception {
+        return write(converter, value, MediaType.APPLICATION_CBOR);
+    }
+
+    private byte[] json(Object value) throws Exception {
+        return write(jsonConverter, value, MediaType.APPLICATION_JSON);
+    }
+
+    private static byte[] write(HttpMessageConverter<Object> converter, Object value, MediaType type)
+            throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(value, type, message);
+        return message.getBodyAsBytes();
+    }
+
+    private static double nanosPerOp(ThrowingRunnable op) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            op.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            op.run();
+        }
+        return (System.nanoTime() - start) / (double) ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,59 @@
+package com.coachdiff.infrastructure.adapter.out.external.datadragon;
+
+import com.coachdiff.domain.model.Champion;
+import com.coachdiff.domain.model.ChampionCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DataDragonStaticData}: snapshot loading and canonical strings.
+ *
+ * <p>
+ * Reads the committed snapshot: no Spring context, no network.
+ * </p>
+ */
+class DataDragonStaticDataTest {
+
+    private final DataDragonStaticData staticData = new DataDragonStaticData(
+            JsonMapper.builder().build(), new ClassPathResource("static-data/champion.json"));
+
+    @Test
+    void loadsChampionsFromSnapshot() {
+        ChampionCatalog champions = staticData.champions();
+
+        assertThat(champions.size()).isGreaterThan(160);
+        assertThat(champions.byId(412)).contains(new Champion(412, "Thresh", "Thresh"));
+        assertThat(champions.byKey("MonkeyKing")).map(Champion::name).contains("Wukong");
+        assertThat(champions.byId(99_999)).isEmpty();
+    }
+
+    @Test
+    void returnsOneInstancePerLowCardinalityValue() {
+        // new String(...): a distinct copy, like each value parsed from a response
+        String parsedTier = new String("GOLD");
+        String parsedChampion = new String("MonkeyKing");
+
+        assertThat(staticData.canonical(parsedTier)).isEqualTo("GOLD").isNotSameAs(parsedTier);
+        assertThat(staticData.canonical(parsedTier)).isSameAs(staticData.canonical(new String("GOLD")));
+        assertThat(staticData.canonical(parsedChampion))
+                .isSameAs(staticData.champions().byId(62).orElseThrow().key());
+    }
+
+    @Test
+    void poolsUnknownValuesUpToTheCap() {
+        String newChampion = staticData.canonical(new String("Yunara"));
+        assertThat(staticData.canonical(new String("Yunara"))).isSameAs(newChampion);
+        assertThat(staticData.canonical(null)).isNull();
+
+        // A high-cardinality value passed by mistake fills the pool, then is returned as is
+        for (int i = 0; i < DataDragonStaticData.MAX_POOL_SIZE; i++) {
+            staticData.canonical("value-" + i);
+        }
+        String overflow = new String("puuid-123");
+        assertThat(staticData.canonical(overflow)).isSameAs(overflow);
+        assertThat(staticData.canonical(new String("Yunara"))).isSameAs(newChampion);
+    }
+}
@@ -0,0 +1,108 @@
+package com.coachdiff.infrastructure.adapter.out.external.riot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link RedisRiotRateLimiter}: shared budget and local fallback.
+ *
+ * <p>
+ * The shared-budget test runs against a real Redis (Testcontainers) and is
+ * skipped without Docker. The fallback test needs no Redis at all: its
+ * template fails every script call at once, so only the fallback window is
+ * timed (a real connection attempt would add its own, variable, timeout).
+ * </p>
+ */
+class RedisRiotRateLimiterTest {
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void close() throws Exception {
+        for (AutoCloseable resource : resources.reversed()) {
+            resource.close();
+        }
+    }
+
+    @Test
+    void replicasShareOneBudget() throws Exception {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+        GenericContainer<?> container = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(6379);
+        container.start();
+        resources.add(container);
+        StringRedisTemplate redis = redis(container.getHost(), container.getMappedPort(6379));
+
+        // Two "replicas", 10 permits per 2 s between them, leased 3 at a time
+        RiotRateLimiter first = new RedisRiotRateLimiter(redis, "10:2", 3, "1:1");
+        RiotRateLimiter second = new RedisRiotRateLimiter(redis, "10:2", 3, "1:1");
+
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < 40; i++) {
+            RiotRateLimiter limiter = i % 2 == 0 ? first : second;
+            callers.submit(() -> {
+                limiter.acquire();
+                return granted.incrementAndGet();
+            });
+        }
+        // Well inside the first 2 s window
+        TimeUnit.MILLISECONDS.sleep(1000);
+        int inFirstWindow = granted.get();
+        callers.shutdownNow();
+
+        assertThat(inFirstWindow).isBetween(1, 10);
+    }
+
+    @Test
+    void fallsBackToLocalBudgetWhenRedisIsDown() throws Exception {
+        AtomicInteger scriptCalls = new AtomicInteger();
+        StringRedisTemplate redis = new StringRedisTemplate() {
+            @Override
+            public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+                scriptCalls.incrementAndGet();
+                throw new RedisConnectionFailureException("Redis is down");
+            }
+        };
+        RiotRateLimiter limiter = new RedisRiotRateLimiter(redis, "100:1", 5, "2:1");
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        long afterBudget = System.nanoTime();
+        limiter.acquire();
+        long afterWait = System.nanoTime();
+
+        // Calls still go through, at the fallback rate: the 3rd waits for the 1 s window
+        assertThat(TimeUnit.NANOSECONDS.toMillis(afterBudget - start)).isLessThan(900);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(afterWait - start)).isGreaterThanOrEqualTo(900);
+        // Redis is not retried before RETRY_REDIS_NANOS
+        assertThat(scriptCalls).hasValue(1);
+    }
+
+    private StringRedisTemplate redis(String host, int port) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        factory.afterPropertiesSet();
+        factory.start();
+        resources.add(factory::destroy);
+        return new StringRedisTemplate(factory);
+    }
+}
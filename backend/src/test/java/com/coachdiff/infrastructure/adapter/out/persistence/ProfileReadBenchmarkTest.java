@@ -0,0 +1,213 @@
+package com.coachdiff.infrastructure.adapter.out.persistence;
+
+import com.coachdiff.domain.model.ProfileMetrics;
+import com.coachdiff.domain.model.RankInfo;
+import com.coachdiff.domain.model.SummonerProfile;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceConfiguration;
+import jakarta.persistence.Table;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Profile read path: JDBC row mapper ({@link SummonerProfilePersistenceAdapter})
+ * vs a JPA entity read of the same row.
+ *
+ * <h2>What each read does</h2>
+ * <pre>
+ * row mapper   SELECT by PK → SummonerProfile                      (no persistence context)
+ * entity       EntityManager.find → managed entity + dirty-checking snapshot
+ *              → mapped to SummonerProfile, then the context is closed
+ * </pre>
+ * <p>
+ * Both go through the same Hikari pool and PgJDBC settings as production
+ * (server-side prepared statements from the first use). The two reads
+ * must return the same profile; timings are logged, not asserted, by a
+ * {@code benchmark}-tagged test:
+ * {@code mvn -Pbenchmark test -Dtest=ProfileReadBenchmarkTest}.
+ * Needs Docker (Testcontainers), skipped otherwise.
+ * </p>
+ */
+class ProfileReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileReadBenchmarkTest.class);
+
+    private static final int PROFILES = 1_000;
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    private static PostgreSQLContainer<?> postgres;
+    private static HikariDataSource dataSource;
+    private static EntityManagerFactory entityManagers;
+    private static SummonerProfilePersistenceAdapter adapter;
+
+    @BeforeAll
+    static void start() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+        postgres.start();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        // Same as spring.datasource.hikari.data-source-properties
+        dataSource.addDataSourceProperty("prepareThreshold", "1");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("""
+                INSERT INTO summoner_profiles (puuid, game_name, tag_line, region, summoner_id,
+                    tier, division, league_points, wins, losses, main_role,
+                    window_games, window_wins, cs_per_min, kda, vision_per_min, avg_deaths)
+                SELECT 'p' || i, 'Player' || i, 'EUW', 'euw1', 's' || i,
+                       'GOLD', 'II', i % 100, 40, 35, 'MID',
+                       20, 11, 6.40, 3.25, 0.95, 4.60
+                FROM generate_series(0, ? - 1) AS i
+                """, PROFILES);
+
+        adapter = new SummonerProfilePersistenceAdapter(jdbc);
+        entityManagers = new PersistenceConfiguration("profile-read-benchmark")
+                .managedClass(ProfileEntity.class)
+                .property("jakarta.persistence.nonJtaDataSource", dataSource)
+                // Fails the test if the entity no longer matches the schema
+                .property("hibernate.hbm2ddl.auto", "validate")
+                .createEntityManagerFactory();
+    }
+
+    @AfterAll
+    static void stop() {
+        if (entityManagers != null) {
+            entityManagers.close();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Test
+    void rowMapperReadsTheSameProfileWithoutAPersistenceContext() {
+        SummonerProfile mapped = adapter.findByPuuid("p42").orElseThrow();
+        SummonerProfile viaEntity = readEntity("p42");
+
+        assertThat(viaEntity).usingRecursiveComparison().ignoringFields("updatedAt").isEqualTo(mapped);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void reportsReadTimeAgainstEntities() {
+        long rowMapper = measure(i -> adapter.findByPuuid("p" + i % PROFILES));
+        long entity = measure(i -> readEntity("p" + i % PROFILES));
+
+        log.info(String.format("Profile read (%d reads): row mapper %.1f us/read, JPA entity %.1f us/read (%.2fx)",
+                ITERATIONS, rowMapper / 1000.0 / ITERATIONS, entity / 1000.0 / ITERATIONS,
+                (double) entity / rowMapper));
+    }
+
+    /**
+     * The read a repository method returning an entity would do.
+     */
+    private static SummonerProfile readEntity(String puuid) {
+        EntityManager em = entityManagers.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            SummonerProfile profile = em.find(ProfileEntity.class, puuid).toDomain();
+            em.getTransaction().commit();
+            return profile;
+        } finally {
+            em.close();
+        }
+    }
+
+    private static long measure(IntConsumer read) {
+        for (int i = 0; i < WARMUP; i++) {
+            read.accept(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.accept(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * summoner_profiles as a JPA entity (only the columns the read path uses).
+     */
+    @Entity
+    @Table(name = "summoner_profiles")
+    static class ProfileEntity {
+
+        @Id
+        private String puuid;
+        @Column(name = "game_name")
+        private String gameName;
+        @Column(name = "tag_line")
+        private String tagLine;
+        private String region;
+        @Column(name = "summoner_id")
+        private String summonerId;
+        private String tier;
+        private String division;
+        @Column(name = "league_points")
+        private Integer leaguePoints;
+        private int wins;
+        private int losses;
+        @Column(name = "main_role")
+        private String mainRole;
+        @Column(name = "window_games")
+        private int windowGames;
+        @Column(name = "window_wins")
+        private int windowWins;
+        @Column(name = "cs_per_min", precision = 4, scale = 2)
+        private BigDecimal csPerMin;
+        @Column(precision = 4, scale = 2)
+        private BigDecimal kda;
+        @Column(name = "vision_per_min", precision = 4, scale = 2)
+        private BigDecimal visionPerMin;
+        @Column(name = "kill_participation", precision = 5, scale = 2)
+        private BigDecimal killParticipation;
+        @Column(name = "avg_deaths", precision = 4, scale = 2)
+        private BigDecimal avgDeaths;
+        @Column(name = "gold_diff_at_15")
+        private Integer goldDiffAt15;
+        @Column(name = "updated_at")
+        private LocalDateTime updatedAt;
+
+        SummonerProfile toDomain() {
+            RankInfo rank = tier == null ? null
+                    : new RankInfo(tier, division, leaguePoints == null ? 0 : leaguePoints, wins, losses);
+            ProfileMetrics metrics = windowGames == 0 ? ProfileMetrics.EMPTY : new ProfileMetrics(
+                    windowGames, windowWins, csPerMin.doubleValue(), kda.doubleValue(),
+                    visionPerMin.doubleValue(),
+                    killParticipation == null ? null : killParticipation.doubleValue(),
+                    avgDeaths.doubleValue(), goldDiffAt15);
+            return new SummonerProfile(puuid, gameName, tagLine, region, summonerId, rank, mainRole, metrics,
+                    null);
+        }
+    }
+}